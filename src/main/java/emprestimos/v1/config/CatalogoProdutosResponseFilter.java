@@ -0,0 +1,42 @@
+package emprestimos.v1.config;
+
+import emprestimos.v1.resource.SimulacaoResource;
+import emprestimos.v1.service.CatalogoProdutosService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Filtro JAX-RS que informa, nas respostas de simulação, a versão e a idade do catálogo de
+ * produtos usado, e se ele está desatualizado por falhas na recarga.
+ */
+@Provider
+public class CatalogoProdutosResponseFilter implements ContainerResponseFilter {
+
+    static final String HEADER_VERSAO = "X-Catalogo-Versao";
+    static final String HEADER_IDADE = "X-Catalogo-Idade";
+    static final String HEADER_DESATUALIZADO = "X-Catalogo-Desatualizado";
+
+    @Inject
+    CatalogoProdutosService catalogoProdutos;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (resourceInfo == null || resourceInfo.getResourceClass() != SimulacaoResource.class) {
+            return;
+        }
+        // Idade em segundos, como no cabeçalho Age do HTTP
+        catalogoProdutos.versao().ifPresent(versao -> responseContext.getHeaders().putSingle(HEADER_VERSAO, versao));
+        catalogoProdutos.idade().ifPresent(idade -> {
+            responseContext.getHeaders().putSingle(HEADER_IDADE, idade.toSeconds());
+            responseContext.getHeaders().putSingle(HEADER_DESATUALIZADO, catalogoProdutos.isDesatualizado());
+        });
+    }
+}
@@ -1,47 +1,70 @@
 package emprestimos.v1.config;
 
+import emprestimos.v1.domain.service.CalculadoraFinanceiraService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness;
-import emprestimos.v1.repository.ProdutoRepository;
 import emprestimos.v1.repository.SimulacaoRepository;
+import emprestimos.v1.service.CatalogoProdutosService;
 
 /**
  * Health Check personalizado para verificar a saúde do serviço de simulação.
- * Verifica conectividade com o banco de dados e disponibilidade dos repositórios.
+ * Verifica conectividade com o banco de dados local e a disponibilidade do catálogo de
+ * produtos, e publica a versão e a idade do catálogo e as métricas do cache de cronogramas.
+ *
+ * O SQL Server de produtos não é consultado aqui: enquanto houver um catálogo em memória as
+ * simulações são atendidas, mesmo desatualizado, e a indisponibilidade do banco remoto aparece
+ * apenas nos dados do catálogo (idade, desatualização e estado do disjuntor).
  */
 @ApplicationScoped
 @Readiness
 public class SimulacaoHealthCheck implements HealthCheck {
 
     @Inject
-    @io.quarkus.hibernate.orm.PersistenceUnit("produtos")
-    ProdutoRepository produtoRepository;
+    SimulacaoRepository simulacaoRepository;
 
     @Inject
-    SimulacaoRepository simulacaoRepository;
+    CalculadoraFinanceiraService calculadoraFinanceira;
+
+    @Inject
+    CatalogoProdutosService catalogoProdutos;
 
     @Override
     public HealthCheckResponse call() {
         try {
-            // Testa conectividade com o banco através dos repositórios
-            long countProdutos = produtoRepository.count();
+            // Testa conectividade com o banco local e obtém o catálogo em memória
             long countSimulacoes = simulacaoRepository.count();
+            var catalogo = catalogoProdutos.obter();
 
-            return HealthCheckResponse.named("simulacao-service")
+            HealthCheckResponseBuilder resposta = HealthCheckResponse.named("simulacao-service")
                 .status(true)
-                .withData("produtos-disponíveis", countProdutos)
+                .withData("produtos-disponíveis", catalogo.produtos().size())
                 .withData("simulações-registradas", countSimulacoes)
-                .withData("status", "Serviço operacional")
-                .build();
+                .withData("status", catalogoProdutos.isDesatualizado()
+                    ? "Serviço operacional com catálogo de produtos desatualizado"
+                    : "Serviço operacional")
+                .withData("catalogo-produtos-versao", catalogo.versao())
+                .withData("catalogo-produtos-idade-segundos", catalogoProdutos.idade().orElseThrow().toSeconds())
+                .withData("catalogo-produtos-desatualizado", catalogoProdutos.isDesatualizado())
+                .withData("catalogo-produtos-disjuntor", catalogoProdutos.getEstadoDisjuntor().name());
+
+            calculadoraFinanceira.obterEstatisticasCache().ifPresent(cache -> resposta
+                .withData("cache-cronogramas-acertos", cache.acertos())
+                .withData("cache-cronogramas-falhas", cache.falhas())
+                .withData("cache-cronogramas-remocoes", cache.remocoes())
+                .withData("cache-cronogramas-entradas", cache.entradas())
+                .withData("cache-cronogramas-parcelas", cache.parcelas()));
+
+            return resposta.build();
 
         } catch (Exception e) {
             return HealthCheckResponse.named("simulacao-service")
                 .status(false)
                 .withData("erro", e.getMessage())
-                .withData("status", "Falha na conectividade com banco de dados")
+                .withData("status", "Falha na conectividade com banco de dados ou catálogo de produtos indisponível")
                 .build();
         }
     }
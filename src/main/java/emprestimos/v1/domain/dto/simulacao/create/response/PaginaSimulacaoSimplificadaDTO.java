@@ -1,9 +1,11 @@
 package emprestimos.v1.domain.dto.simulacao.create.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import emprestimos.v1.domain.dto.simulacao.list.response.SimulacaoResumoSimplificadoDTO;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlElementWrapper;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import lombok.Data;
@@ -24,7 +26,7 @@ public class PaginaSimulacaoSimplificadaDTO {
     private Integer pagina;
 
     @XmlElement(name = "qtdRegistros")
-    @Schema(description = "Quantidade total de registros encontrados", example = "150", required = true)
+    @Schema(description = "Quantidade total de registros encontrados, atualizada periodicamente (aproximada)", example = "150", required = true)
     private Long qtdRegistros;
 
     @XmlElement(name = "qtdRegistrosPagina")
@@ -40,6 +42,14 @@ public class PaginaSimulacaoSimplificadaDTO {
     @Schema(description = "Links Hypermidia")
     public Map<String, String> links = new HashMap<>();
 
+    /**
+     * Token da página seguinte, usado apenas para montar o link {@code proximaPagina}; nulo na
+     * última página.
+     */
+    @JsonIgnore
+    @XmlTransient
+    private String cursorProximaPagina;
+
     public void addLink(String rel, String href) {
         this.links.put(rel, href);
     }
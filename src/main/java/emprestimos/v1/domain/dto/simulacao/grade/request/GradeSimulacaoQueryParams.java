@@ -0,0 +1,61 @@
+package emprestimos.v1.domain.dto.simulacao.grade.request;
+
+import emprestimos.v1.domain.dto.common.BaseQueryParams;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.QueryParam;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para parâmetros de consulta do endpoint /grade: faixas de valores e de prazos.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "Faixas de valores e prazos para a grade de simulações")
+public class GradeSimulacaoQueryParams extends BaseQueryParams {
+
+    @QueryParam("valorMinimo")
+    @NotNull(message = "O parâmetro 'valorMinimo' é obrigatório.")
+    @Positive(message = "O valor mínimo deve ser maior que zero.")
+    @Schema(description = "Primeiro valor da grade, em reais", examples = {"5000.00"}, required = true)
+    private BigDecimal valorMinimo;
+
+    @QueryParam("valorMaximo")
+    @NotNull(message = "O parâmetro 'valorMaximo' é obrigatório.")
+    @Positive(message = "O valor máximo deve ser maior que zero.")
+    @Schema(description = "Último valor da grade, em reais (inclusivo)", examples = {"50000.00"}, required = true)
+    private BigDecimal valorMaximo;
+
+    @QueryParam("valorPasso")
+    @NotNull(message = "O parâmetro 'valorPasso' é obrigatório.")
+    @Positive(message = "O passo de valor deve ser maior que zero.")
+    @Schema(description = "Incremento entre valores consecutivos, em reais", examples = {"5000.00"}, required = true)
+    private BigDecimal valorPasso;
+
+    @QueryParam("prazoMinimo")
+    @NotNull(message = "O parâmetro 'prazoMinimo' é obrigatório.")
+    @Positive(message = "O prazo mínimo deve ser maior que zero.")
+    @Max(value = 600, message = "O prazo mínimo deve ser de no máximo 600 meses.")
+    @Schema(description = "Primeiro prazo da grade, em meses", examples = {"12"}, required = true)
+    private Integer prazoMinimo;
+
+    @QueryParam("prazoMaximo")
+    @NotNull(message = "O parâmetro 'prazoMaximo' é obrigatório.")
+    @Positive(message = "O prazo máximo deve ser maior que zero.")
+    @Max(value = 600, message = "O prazo máximo deve ser de no máximo 600 meses.")
+    @Schema(description = "Último prazo da grade, em meses (inclusivo)", examples = {"48"}, required = true)
+    private Integer prazoMaximo;
+
+    @QueryParam("prazoPasso")
+    @DefaultValue("1")
+    @Positive(message = "O passo de prazo deve ser maior que zero.")
+    @Max(value = 600, message = "O passo de prazo deve ser de no máximo 600 meses.")
+    @Schema(description = "Incremento entre prazos consecutivos, em meses", examples = {"12"}, defaultValue = "1")
+    private Integer prazoPasso = 1;
+}
@@ -0,0 +1,47 @@
+package emprestimos.v1.domain.dto.simulacao.grade.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@XmlRootElement(name = "celula")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Cotação de um par valor × prazo. Sem produto elegível, traz apenas o prazo e elegivel=false")
+public class CelulaGradeSimulacaoDTO {
+
+    @XmlElement(name = "prazo")
+    @Schema(description = "Prazo da cotação, em meses", example = "24", required = true)
+    private Integer prazo;
+
+    @XmlElement(name = "elegivel")
+    @Schema(description = "Indica se há produto elegível para o valor e o prazo", example = "true", required = true)
+    private boolean elegivel;
+
+    @XmlElement(name = "codigoProduto")
+    @Schema(description = "Código do produto de menor taxa elegível", example = "1")
+    private Integer codigoProduto;
+
+    @XmlElement(name = "descricaoProduto")
+    @Schema(description = "Nome do produto", example = "Produto 1")
+    private String descricaoProduto;
+
+    @XmlElement(name = "taxaJuros")
+    @Schema(description = "Taxa de juros mensal do produto", example = "0.0179")
+    private BigDecimal taxaJuros;
+
+    @XmlElement(name = "sac")
+    @Schema(description = "Resumo das prestações pelo Sistema de Amortização Constante")
+    private ResumoPrestacoesDTO sac;
+
+    @XmlElement(name = "price")
+    @Schema(description = "Resumo das prestações pelo Sistema Price")
+    private ResumoPrestacoesDTO price;
+}
@@ -0,0 +1,44 @@
+package emprestimos.v1.domain.dto.simulacao.grade.response;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@XmlRootElement(name = "gradeSimulacao")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Grade de cotações valor × prazo, calculada sem persistir simulações")
+public class GradeSimulacaoResponseDTO {
+
+    @XmlElementWrapper(name = "valores")
+    @XmlElement(name = "valor")
+    @Schema(description = "Valores da grade, em ordem crescente (uma linha por valor)", required = true)
+    private List<BigDecimal> valores;
+
+    @XmlElementWrapper(name = "prazos")
+    @XmlElement(name = "prazo")
+    @Schema(description = "Prazos da grade, em ordem crescente (uma célula por prazo em cada linha)", required = true)
+    private List<Integer> prazos;
+
+    @XmlElementWrapper(name = "linhas")
+    @XmlElement(name = "linha")
+    @Schema(description = "Linhas da grade, na ordem dos valores", required = true)
+    private List<LinhaGradeSimulacaoDTO> linhas;
+
+    @XmlElement(name = "links")
+    @Schema(description = "Links HATEOAS relacionados à grade")
+    private Map<String, String> links = new HashMap<>();
+
+    public void addLink(String rel, String href) {
+        links.put(rel, href);
+    }
+}
@@ -0,0 +1,28 @@
+package emprestimos.v1.domain.dto.simulacao.grade.response;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@XmlRootElement(name = "linha")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Cotações de um valor para todos os prazos da grade")
+public class LinhaGradeSimulacaoDTO {
+
+    @XmlElement(name = "valorDesejado")
+    @Schema(description = "Valor da linha, em reais", example = "10000.00", required = true)
+    private BigDecimal valorDesejado;
+
+    @XmlElementWrapper(name = "celulas")
+    @XmlElement(name = "celula")
+    @Schema(description = "Uma cotação por prazo, na ordem dos prazos da grade", required = true)
+    private List<CelulaGradeSimulacaoDTO> celulas;
+}
@@ -0,0 +1,33 @@
+package emprestimos.v1.domain.dto.simulacao.grade.response;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@XmlRootElement(name = "resumoPrestacoes")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Resumo das prestações de um tipo de amortização, sem o cronograma")
+public class ResumoPrestacoesDTO {
+
+    @XmlElement(name = "primeiraPrestacao")
+    @Schema(description = "Valor da primeira prestação", example = "1012.50", required = true)
+    private BigDecimal primeiraPrestacao;
+
+    @XmlElement(name = "prestacaoMedia")
+    @Schema(description = "Valor médio das prestações", example = "948.75", required = true)
+    private BigDecimal prestacaoMedia;
+
+    @XmlElement(name = "valorTotal")
+    @Schema(description = "Soma de todas as prestações", example = "11385.00", required = true)
+    private BigDecimal valorTotal;
+}
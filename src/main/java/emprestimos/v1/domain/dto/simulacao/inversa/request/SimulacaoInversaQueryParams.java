@@ -0,0 +1,50 @@
+package emprestimos.v1.domain.dto.simulacao.inversa.request;
+
+import emprestimos.v1.domain.dto.common.BaseQueryParams;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.QueryParam;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para parâmetros de consulta do endpoint /inversa. Informe o prazo para obter o maior
+ * valor, ou o valor desejado para obter o menor prazo.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "Parâmetros do cálculo inverso: prestação máxima e prazo ou valor desejado")
+public class SimulacaoInversaQueryParams extends BaseQueryParams {
+
+    @QueryParam("prestacaoMaxima")
+    @NotNull(message = "O parâmetro 'prestacaoMaxima' é obrigatório.")
+    @Positive(message = "A prestação máxima deve ser maior que zero.")
+    @DecimalMax(value = "9999999999999999.99", message = "A prestação máxima deve ser de no máximo 9999999999999999.99.")
+    @Schema(description = "Maior prestação aceita, em reais", examples = {"1500.00"}, required = true)
+    private BigDecimal prestacaoMaxima;
+
+    @QueryParam("tipoAmortizacao")
+    @DefaultValue("PRICE")
+    @Pattern(regexp = "(?i)SAC|PRICE", message = "Tipo de amortização deve ser SAC ou PRICE.")
+    @Schema(description = "Sistema de amortização; no SAC a maior prestação é a primeira", examples = {"PRICE"}, defaultValue = "PRICE")
+    private String tipoAmortizacao = "PRICE";
+
+    @QueryParam("prazo")
+    @Positive(message = "O prazo deve ser maior que zero.")
+    @Max(value = 600, message = "O prazo deve ser de no máximo 600 meses.")
+    @Schema(description = "Prazo em meses; retorna o maior valor financiável nesse prazo", examples = {"36"})
+    private Integer prazo;
+
+    @QueryParam("valorDesejado")
+    @Positive(message = "O valor desejado deve ser maior que zero.")
+    @DecimalMax(value = "9999999999999999.99", message = "O valor desejado deve ser de no máximo 9999999999999999.99.")
+    @Schema(description = "Valor em reais; retorna o menor prazo para esse valor", examples = {"20000.00"})
+    private BigDecimal valorDesejado;
+}
@@ -0,0 +1,72 @@
+package emprestimos.v1.domain.dto.simulacao.inversa.response;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@XmlRootElement(name = "simulacaoInversa")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Resultado do cálculo inverso, sem persistir simulação")
+public class SimulacaoInversaResponseDTO {
+
+    public static final String OBJETIVO_VALOR_MAXIMO = "VALOR_MAXIMO";
+    public static final String OBJETIVO_PRAZO_MINIMO = "PRAZO_MINIMO";
+
+    @XmlElement(name = "objetivo")
+    @Schema(description = "Grandeza calculada: VALOR_MAXIMO (prazo informado) ou PRAZO_MINIMO (valor informado)",
+            example = "VALOR_MAXIMO", required = true)
+    private String objetivo;
+
+    @XmlElement(name = "tipoAmortizacao")
+    @Schema(description = "Sistema de amortização considerado", example = "PRICE", required = true)
+    private String tipoAmortizacao;
+
+    @XmlElement(name = "prestacaoMaxima")
+    @Schema(description = "Prestação máxima informada", example = "1500.00", required = true)
+    private BigDecimal prestacaoMaxima;
+
+    @XmlElement(name = "valorDesejado")
+    @Schema(description = "Valor da solução (calculado ou informado)", example = "38472.15", required = true)
+    private BigDecimal valorDesejado;
+
+    @XmlElement(name = "prazo")
+    @Schema(description = "Prazo da solução em meses (calculado ou informado)", example = "36", required = true)
+    private Integer prazo;
+
+    @XmlElement(name = "codigoProduto")
+    @Schema(description = "Código do produto de menor taxa elegível para a solução", example = "2", required = true)
+    private Integer codigoProduto;
+
+    @XmlElement(name = "descricaoProduto")
+    @Schema(description = "Nome do produto", example = "Produto 2", required = true)
+    private String descricaoProduto;
+
+    @XmlElement(name = "taxaJuros")
+    @Schema(description = "Taxa de juros mensal do produto", example = "0.0175", required = true)
+    private BigDecimal taxaJuros;
+
+    @XmlElement(name = "maiorPrestacao")
+    @Schema(description = "Maior prestação do cronograma (primeira no SAC, constante no PRICE), até a prestação máxima",
+            example = "1499.98", required = true)
+    private BigDecimal maiorPrestacao;
+
+    @XmlElement(name = "valorTotal")
+    @Schema(description = "Soma de todas as prestações", example = "53999.28", required = true)
+    private BigDecimal valorTotal;
+
+    @XmlElement(name = "links")
+    @Schema(description = "Links HATEOAS relacionados ao cálculo")
+    private Map<String, String> links = new HashMap<>();
+
+    public void addLink(String rel, String href) {
+        links.put(rel, href);
+    }
+}
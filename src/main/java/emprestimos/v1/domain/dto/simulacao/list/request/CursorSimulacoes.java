@@ -0,0 +1,50 @@
+package emprestimos.v1.domain.dto.simulacao.list.request;
+
+import emprestimos.v1.domain.exception.ParametroInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de continuação da listagem de simulações, entregue ao cliente como um token opaco no
+ * link {@code proximaPagina}: o número da página seguinte e a {@code (dataSimulacao, id)} da
+ * última simulação da página atual, a partir da qual a próxima página é lida.
+ *
+ * O token é o texto {@code versão|página|data|id} em Base64 sem preenchimento, seguro para URL.
+ */
+public record CursorSimulacoes(int pagina, LocalDateTime dataSimulacao, Long id) {
+
+    private static final String VERSAO = "1";
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        var texto = String.join(SEPARADOR, VERSAO, String.valueOf(pagina), dataSimulacao.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ParametroInvalidoException se o token não foi gerado pela listagem ou está corrompido
+     */
+    public static CursorSimulacoes decodificar(String token) {
+        try {
+            var partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (partes.length != 4 || !VERSAO.equals(partes[0])) {
+                throw cursorInvalido(token);
+            }
+            int pagina = Integer.parseInt(partes[1]);
+            if (pagina < 2) {
+                throw cursorInvalido(token);
+            }
+            return new CursorSimulacoes(pagina, LocalDateTime.parse(partes[2]), Long.valueOf(partes[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw cursorInvalido(token);
+        }
+    }
+
+    private static ParametroInvalidoException cursorInvalido(String token) {
+        return ParametroInvalidoException.parametrosInvalidos("Cursor de paginação inválido: " + token);
+    }
+}
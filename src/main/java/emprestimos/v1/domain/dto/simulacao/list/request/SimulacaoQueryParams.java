@@ -42,4 +42,13 @@ public class SimulacaoQueryParams extends BaseQueryParams {
         defaultValue = "10"
     )
     private Integer qtdRegistrosPagina = 10;
+
+    /**
+     * Token de continuação do link {@code proximaPagina}; quando informado, prevalece sobre a página.
+     */
+    @QueryParam("cursor")
+    @Schema(
+        description = "Token opaco de continuação, retornado no link proximaPagina; substitui o parâmetro pagina"
+    )
+    private String cursor;
 }
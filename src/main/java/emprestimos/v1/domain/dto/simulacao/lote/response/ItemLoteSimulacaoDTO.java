@@ -0,0 +1,54 @@
+package emprestimos.v1.domain.dto.simulacao.lote.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import emprestimos.v1.domain.dto.common.ErrorResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.create.response.SimulacaoResponseDTO;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@XmlRootElement(name = "item")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Resultado de uma simulação do lote, na mesma posição da solicitação")
+public class ItemLoteSimulacaoDTO {
+
+    public static final String STATUS_SUCESSO = "SUCESSO";
+    public static final String STATUS_ERRO = "ERRO";
+
+    @XmlElement(name = "indice")
+    @Schema(description = "Posição da solicitação no lote (base 0)", example = "0", required = true)
+    private Integer indice;
+
+    @XmlElement(name = "status")
+    @Schema(description = "Situação do item: SUCESSO ou ERRO", example = "SUCESSO", required = true)
+    private String status;
+
+    @XmlElement(name = "simulacao")
+    @Schema(description = "Simulação criada, presente quando o status é SUCESSO")
+    private SimulacaoResponseDTO simulacao;
+
+    @XmlElement(name = "erro")
+    @Schema(description = "Erro do item, presente quando o status é ERRO")
+    private ErrorResponseDTO erro;
+
+    public static ItemLoteSimulacaoDTO sucesso(int indice, SimulacaoResponseDTO simulacao) {
+        var item = new ItemLoteSimulacaoDTO();
+        item.setIndice(indice);
+        item.setStatus(STATUS_SUCESSO);
+        item.setSimulacao(simulacao);
+        return item;
+    }
+
+    public static ItemLoteSimulacaoDTO erro(int indice, ErrorResponseDTO erro) {
+        var item = new ItemLoteSimulacaoDTO();
+        item.setIndice(indice);
+        item.setStatus(STATUS_ERRO);
+        item.setErro(erro);
+        return item;
+    }
+}
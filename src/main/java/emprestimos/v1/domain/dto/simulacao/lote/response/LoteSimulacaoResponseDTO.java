@@ -0,0 +1,35 @@
+package emprestimos.v1.domain.dto.simulacao.lote.response;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import lombok.Data;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+@Data
+@XmlRootElement(name = "loteSimulacao")
+@XmlAccessorType(XmlAccessType.FIELD)
+@Schema(description = "Resposta da criação de simulações em lote, com um item por solicitação na ordem de entrada")
+public class LoteSimulacaoResponseDTO {
+
+    @XmlElement(name = "quantidadeTotal")
+    @Schema(description = "Quantidade de solicitações recebidas", example = "3", required = true)
+    private int quantidadeTotal;
+
+    @XmlElement(name = "quantidadeSucesso")
+    @Schema(description = "Quantidade de simulações criadas", example = "2", required = true)
+    private int quantidadeSucesso;
+
+    @XmlElement(name = "quantidadeErro")
+    @Schema(description = "Quantidade de solicitações rejeitadas", example = "1", required = true)
+    private int quantidadeErro;
+
+    @XmlElementWrapper(name = "itens")
+    @XmlElement(name = "item")
+    @Schema(description = "Resultados individuais, na mesma ordem das solicitações", required = true)
+    private List<ItemLoteSimulacaoDTO> itens;
+}
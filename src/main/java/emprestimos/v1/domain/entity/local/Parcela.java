@@ -8,8 +8,13 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "parcela")
 public class Parcela {
+    /**
+     * Identificador reservado em blocos da sequência, sem ida ao banco por parcela, o que permite
+     * gravar as parcelas em lotes JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parcela_seq")
+    @SequenceGenerator(name = "parcela_seq", sequenceName = "parcela_seq", allocationSize = 1000)
     private Long id;
 
     @Column(nullable = false)
@@ -24,7 +29,7 @@ public class Parcela {
     @Column(nullable = false, precision = 18, scale = 2)
     private BigDecimal valorPrestacao;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resultado_simulacao_id")
     private ResultadoSimulacao resultadoSimulacao;
 }
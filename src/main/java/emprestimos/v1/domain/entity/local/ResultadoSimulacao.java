@@ -3,6 +3,7 @@ package emprestimos.v1.domain.entity.local;
 import emprestimos.v1.domain.enums.TipoAmortizacao;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -11,8 +12,12 @@ import java.util.List;
 @Entity
 @Table(name = "resultado_simulacao")
 public class ResultadoSimulacao {
+    /**
+     * Identificador reservado em blocos da sequência, como em {@link Parcela}.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resultado_simulacao_seq")
+    @SequenceGenerator(name = "resultado_simulacao_seq", sequenceName = "resultado_simulacao_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,9 +28,23 @@ public class ResultadoSimulacao {
     @JoinColumn(name = "simulacao_id")
     private Simulacao simulacao;
 
-    @OneToMany(mappedBy = "resultadoSimulacao", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * Carregadas no primeiro acesso, em uma única consulta para os resultados já carregados na sessão
+     * (os dois tipos de amortização de uma simulação, ou uma página delas).
+     */
+    @OneToMany(mappedBy = "resultadoSimulacao", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 32)
     private List<Parcela> parcelas;
 
+    /**
+     * Cronograma codificado por {@link emprestimos.v1.domain.service.strategy.CronogramaCompactado},
+     * quando gravado nesse modo; nesse caso não há linhas em {@link #parcelas}. Carregado apenas
+     * quando acessado.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "cronograma_compactado", length = 1_000_000)
+    private byte[] cronogramaCompactado;
+
     @Column(precision = 10, scale = 4)
     private BigDecimal taxaMediaJuros;
 
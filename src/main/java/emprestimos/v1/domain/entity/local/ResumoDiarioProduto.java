@@ -0,0 +1,63 @@
+package emprestimos.v1.domain.entity.local;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totais das simulações de um produto em um dia, mantidos a cada simulação gravada. As médias
+ * são obtidas dividindo as somas pela quantidade.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@IdClass(ResumoDiarioProduto.Chave.class)
+@Table(name = "resumo_diario_produto")
+public class ResumoDiarioProduto {
+
+    @Id
+    @Column(name = "data_referencia")
+    private LocalDate dataReferencia;
+
+    @Id
+    @Column(name = "co_produto")
+    private Integer coProduto;
+
+    @Column(nullable = false)
+    private Long quantidade;
+
+    @Column(nullable = false, precision = 22, scale = 4)
+    private BigDecimal somaTaxaJuros;
+
+    @Column(nullable = false, precision = 22, scale = 2)
+    private BigDecimal somaValorMedioPrestacao;
+
+    @Column(nullable = false, precision = 22, scale = 2)
+    private BigDecimal somaValorDesejado;
+
+    @Column(nullable = false, precision = 22, scale = 2)
+    private BigDecimal somaValorTotalCredito;
+
+    public ResumoDiarioProduto(LocalDate dataReferencia, Integer coProduto) {
+        this.dataReferencia = dataReferencia;
+        this.coProduto = coProduto;
+        this.quantidade = 0L;
+        this.somaTaxaJuros = BigDecimal.ZERO;
+        this.somaValorMedioPrestacao = BigDecimal.ZERO;
+        this.somaValorDesejado = BigDecimal.ZERO;
+        this.somaValorTotalCredito = BigDecimal.ZERO;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private LocalDate dataReferencia;
+        private Integer coProduto;
+    }
+}
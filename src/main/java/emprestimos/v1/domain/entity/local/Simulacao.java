@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,8 +15,19 @@ import java.util.List;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "simulacao")
+@Table(name = "simulacao", indexes = {
+    @Index(name = "idx_simulacao_data_produto", columnList = "data_referencia, co_produto"),
+    @Index(name = "idx_simulacao_produto_data", columnList = "co_produto, data_referencia"),
+    @Index(name = "idx_simulacao_data_id", columnList = "data_simulacao, id")
+})
+@NamedEntityGraph(name = Simulacao.GRAFO_RESULTADOS, attributeNodes = @NamedAttributeNode("resultadosSimulacao"))
 public class Simulacao {
+
+    /**
+     * Grafo de busca com os resultados (SAC e PRICE) da simulação, para os caminhos de detalhe.
+     */
+    public static final String GRAFO_RESULTADOS = "Simulacao.resultados";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,7 +41,17 @@ public class Simulacao {
     @Transient
     private Produto produto;
 
-    @OneToMany(mappedBy = "simulacao", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * Produto escolhido na criação; nulo em simulações anteriores ainda não preenchidas.
+     */
+    @Column(name = "co_produto")
+    private Integer coProduto;
+
+    /**
+     * Carregados apenas quando pedidos, pelo grafo {@link #GRAFO_RESULTADOS}; listagens leem só a
+     * tabela {@code simulacao}.
+     */
+    @OneToMany(mappedBy = "simulacao", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ResultadoSimulacao> resultadosSimulacao;
 
     @Column(precision = 10, scale = 4)
@@ -46,4 +68,10 @@ public class Simulacao {
 
     @Column(nullable = false)
     private LocalDateTime dataSimulacao;
+
+    /**
+     * Dia de {@code dataSimulacao}, indexado para as consultas por dia.
+     */
+    @Column(name = "data_referencia", nullable = false)
+    private LocalDate dataReferencia;
 }
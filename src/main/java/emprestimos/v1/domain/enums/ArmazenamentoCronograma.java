@@ -0,0 +1,19 @@
+package emprestimos.v1.domain.enums;
+
+/**
+ * Enum para as formas de gravar o cronograma de parcelas de um resultado de simulação.
+ */
+public enum ArmazenamentoCronograma {
+    LINHAS("Uma linha na tabela parcela por mês de prazo"),
+    COMPACTADO("Cronograma codificado em uma coluna binária de resultado_simulacao");
+
+    private final String descricao;
+
+    ArmazenamentoCronograma(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
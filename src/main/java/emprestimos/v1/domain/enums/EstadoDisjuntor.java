@@ -0,0 +1,19 @@
+package emprestimos.v1.domain.enums;
+
+/**
+ * Estados do disjuntor que protege chamadas a dependências remotas.
+ */
+public enum EstadoDisjuntor {
+    /**
+     * Chamadas liberadas; falhas consecutivas são contadas.
+     */
+    FECHADO,
+    /**
+     * Chamadas recusadas sem acionar a dependência até o fim da espera.
+     */
+    ABERTO,
+    /**
+     * Espera encerrada: uma única chamada de sonda decide entre fechar e reabrir.
+     */
+    MEIO_ABERTO
+}
@@ -0,0 +1,19 @@
+package emprestimos.v1.domain.enums;
+
+/**
+ * Enum para as origens dos cronogramas devolvidos nas consultas de detalhe de uma simulação.
+ */
+public enum FonteDetalheSimulacao {
+    GRAVADO("Resultados e parcelas gravados na criação da simulação"),
+    RECALCULADO("Cronogramas recalculados a partir do valor, do prazo e do produto da simulação");
+
+    private final String descricao;
+
+    FonteDetalheSimulacao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
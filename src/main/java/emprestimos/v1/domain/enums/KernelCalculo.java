@@ -0,0 +1,19 @@
+package emprestimos.v1.domain.enums;
+
+/**
+ * Enum para os núcleos (kernels) de cálculo disponíveis nas estratégias de amortização.
+ */
+public enum KernelCalculo {
+    BIG_DECIMAL("Aritmética BigDecimal imutável por parcela"),
+    PONTO_FIXO("Aritmética de ponto fixo em centavos (long), sem alocação por parcela");
+
+    private final String descricao;
+
+    KernelCalculo(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
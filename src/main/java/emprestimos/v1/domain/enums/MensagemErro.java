@@ -11,10 +11,12 @@ public enum MensagemErro {
     ERRO_PROCESSAMENTO("PROCESSING_ERROR", "Erro no processamento da solicitação.", 500),
     ERRO_CONEXAO_BANCO("DATABASE_CONNECTION_ERROR", "Erro de conexão com o banco de dados.", 500),
     ERRO_EVENT_HUB("EVENT_HUB_ERROR", "Erro no envio de mensagem para Event Hub.", 500),
+    CATALOGO_INDISPONIVEL("PRODUCT_CATALOG_UNAVAILABLE", "Catálogo de produtos temporariamente indisponível. Tente novamente mais tarde.", 503),
     
     // Erros de produtos
     PRODUTO_NAO_ENCONTRADO("PRODUCT_NOT_FOUND", "Produto não encontrado para o ID informado.", 404),
     PRODUTOS_NAO_ELEGIVEIS("PRODUCTS_NOT_ELIGIBLE", "Nenhum produto elegível para o valor e prazo informados.", 400),
+    PRESTACAO_NAO_ATENDIDA("INSTALLMENT_NOT_ATTAINABLE", "Nenhum produto elegível atende à prestação máxima informada.", 400),
     
     // Erros de simulação
     SIMULACAO_INVALIDA("INVALID_SIMULATION", "Dados da simulação são inválidos.", 400),
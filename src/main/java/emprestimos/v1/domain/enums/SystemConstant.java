@@ -11,9 +11,6 @@ public enum SystemConstant {
     MAX_RETRY_ATTEMPTS(3),
     RETRY_DELAY_MS(1000),
 
-    // Configurações de cache
-    CACHE_TIMEOUT_MS(300000), // 5 minutos
-
     // Telemetria
     TELEMETRY_START_TIME("telemetryStartTime");
 
@@ -30,6 +30,13 @@ public class ProdutoException extends BusinessException {
         return new ProdutoException(MensagemErro.PRODUTOS_NAO_ELEGIVEIS);
     }
 
+    /**
+     * Factory method para criar exceção de catálogo de produtos ainda não carregado e indisponível.
+     */
+    public static ProdutoException catalogoIndisponivel(Throwable cause) {
+        return new ProdutoException(MensagemErro.CATALOGO_INDISPONIVEL, cause.getMessage(), cause);
+    }
+
     /**
      * Factory method para criar exceção de produto não encontrado.
      */
@@ -44,4 +51,12 @@ public class ProdutoException extends BusinessException {
         String detalhe = String.format("Valor: R$ %.2f, Prazo: %d meses", valor, prazo);
         return new ProdutoException(MensagemErro.PRODUTOS_NAO_ELEGIVEIS, detalhe);
     }
+
+    /**
+     * Factory method para criar exceção de prestação máxima não atendida no cálculo inverso.
+     */
+    public static ProdutoException prestacaoNaoAtendida(double prestacaoMaxima, String restricao) {
+        String detalhe = String.format("Prestação máxima: R$ %.2f, %s", prestacaoMaxima, restricao);
+        return new ProdutoException(MensagemErro.PRESTACAO_NAO_ATENDIDA, detalhe);
+    }
 }
@@ -0,0 +1,241 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Fotografia do catálogo de produtos gravada em arquivo local, para que uma nova instância
+ * responda com o último catálogo conhecido sem esperar o SQL Server.
+ *
+ * Formato binário (big-endian): cabeçalho com identificador e versão do formato; versão, momento
+ * da carga e assinatura do catálogo; os produtos na ordem do banco; a estrutura pronta do
+ * {@link IndiceElegibilidade}; e, ao final, o CRC32 de tudo o que o precede. Decimais são
+ * gravados como escala e valor não escalado. A gravação usa um arquivo temporário no mesmo
+ * diretório, movido sobre o anterior de forma atômica: um leitor nunca encontra um arquivo pela
+ * metade. A leitura mapeia o arquivo em memória e rejeita arquivos truncados, corrompidos ou de
+ * outra versão do formato.
+ */
+public final class ArquivoCatalogo {
+
+    /**
+     * "CATP" em ASCII.
+     */
+    private static final int IDENTIFICADOR = 0x43415450;
+
+    private static final int FORMATO = 1;
+
+    private static final int TAMANHO_CRC = Long.BYTES;
+
+    private ArquivoCatalogo() {
+    }
+
+    /**
+     * Conteúdo do arquivo.
+     *
+     * @param versao Versão do catálogo gravado
+     * @param carregadoEm Momento em que os produtos foram lidos do banco
+     * @param assinatura Assinatura da tabela no momento da leitura
+     * @param indice Produtos na ordem do banco, já indexados
+     */
+    public record Conteudo(long versao, Instant carregadoEm, String assinatura, IndiceElegibilidade indice) {
+    }
+
+    /**
+     * Grava o conteúdo, substituindo atomicamente o arquivo existente; cria o diretório se necessário.
+     */
+    public static void gravar(Path arquivo, Conteudo conteudo) throws IOException {
+        var diretorio = arquivo.toAbsolutePath().getParent();
+        Files.createDirectories(diretorio);
+        var temporario = Files.createTempFile(diretorio, arquivo.getFileName().toString(), ".tmp");
+        try {
+            try (var checado = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario)), new CRC32());
+                 var saida = new DataOutputStream(checado)) {
+                saida.writeInt(IDENTIFICADOR);
+                saida.writeInt(FORMATO);
+                saida.writeLong(conteudo.versao());
+                saida.writeLong(conteudo.carregadoEm().getEpochSecond());
+                saida.writeInt(conteudo.carregadoEm().getNano());
+                gravarTexto(saida, conteudo.assinatura());
+
+                var produtos = conteudo.indice().getProdutos();
+                saida.writeInt(produtos.size());
+                for (var produto : produtos) {
+                    gravarProduto(saida, produto);
+                }
+                conteudo.indice().gravar(saida);
+                saida.writeLong(checado.getChecksum().getValue());
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    /**
+     * Lê o arquivo mapeado em memória, ou retorna vazio se ele não existir.
+     *
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se o conteúdo for inválido
+     */
+    public static Optional<Conteudo> ler(Path arquivo) throws IOException {
+        ByteBuffer entrada;
+        try (var canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            entrada = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        // O mapeamento continua válido depois de fechado o canal
+        validarCrc(entrada);
+        try {
+            if (entrada.getInt() != IDENTIFICADOR) {
+                throw new IllegalArgumentException("Arquivo não é um catálogo de produtos");
+            }
+            int formato = entrada.getInt();
+            if (formato != FORMATO) {
+                throw new IllegalArgumentException("Formato de catálogo não suportado: " + formato);
+            }
+            long versao = entrada.getLong();
+            var carregadoEm = Instant.ofEpochSecond(entrada.getLong(), entrada.getInt());
+            var assinatura = lerTexto(entrada);
+
+            int quantidade = lerTamanho(entrada);
+            var produtos = new ArrayList<Produto>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                produtos.add(lerProduto(entrada));
+            }
+            var indice = IndiceElegibilidade.ler(entrada, produtos);
+            if (entrada.remaining() != TAMANHO_CRC) {
+                throw new IllegalArgumentException("Conteúdo inesperado ao final do catálogo");
+            }
+            return Optional.of(new Conteudo(versao, carregadoEm, assinatura, indice));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Catálogo truncado", e);
+        }
+    }
+
+    private static void validarCrc(ByteBuffer entrada) {
+        int tamanho = entrada.limit() - TAMANHO_CRC;
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Catálogo truncado");
+        }
+        var crc = new CRC32();
+        crc.update(entrada.slice(0, tamanho));
+        if (crc.getValue() != entrada.getLong(tamanho)) {
+            throw new IllegalArgumentException("CRC do catálogo não confere");
+        }
+    }
+
+    private static void gravarProduto(DataOutput saida, Produto produto) throws IOException {
+        saida.writeInt(produto.getCoProduto());
+        gravarTexto(saida, produto.getNoProduto());
+        gravarDecimal(saida, produto.getPcTaxaJuros());
+        gravarMeses(saida, produto.getNuMinimoMeses());
+        gravarMeses(saida, produto.getNuMaximoMeses());
+        saida.writeBoolean(produto.getVrMinimo() != null);
+        if (produto.getVrMinimo() != null) {
+            gravarDecimal(saida, produto.getVrMinimo());
+        }
+        saida.writeBoolean(produto.getVrMaximo() != null);
+        if (produto.getVrMaximo() != null) {
+            gravarDecimal(saida, produto.getVrMaximo());
+        }
+    }
+
+    private static Produto lerProduto(ByteBuffer entrada) {
+        var produto = new Produto();
+        produto.setCoProduto(entrada.getInt());
+        produto.setNoProduto(lerTexto(entrada));
+        produto.setPcTaxaJuros(lerDecimal(entrada));
+        produto.setNuMinimoMeses(lerMeses(entrada));
+        produto.setNuMaximoMeses(lerMeses(entrada));
+        produto.setVrMinimo(entrada.get() != 0 ? lerDecimal(entrada) : null);
+        produto.setVrMaximo(entrada.get() != 0 ? lerDecimal(entrada) : null);
+        return produto;
+    }
+
+    private static void gravarMeses(DataOutput saida, Short meses) throws IOException {
+        saida.writeBoolean(meses != null);
+        if (meses != null) {
+            saida.writeShort(meses);
+        }
+    }
+
+    private static Short lerMeses(ByteBuffer entrada) {
+        return entrada.get() != 0 ? entrada.getShort() : null;
+    }
+
+    private static void gravarTexto(DataOutput saida, String texto) throws IOException {
+        saida.writeBoolean(texto != null);
+        if (texto != null) {
+            var bytes = texto.getBytes(StandardCharsets.UTF_8);
+            saida.writeInt(bytes.length);
+            saida.write(bytes);
+        }
+    }
+
+    private static String lerTexto(ByteBuffer entrada) {
+        if (entrada.get() == 0) {
+            return null;
+        }
+        var bytes = new byte[lerTamanho(entrada)];
+        entrada.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void gravarDecimal(DataOutput saida, BigDecimal valor) throws IOException {
+        var naoEscalado = valor.unscaledValue().toByteArray();
+        saida.writeShort(valor.scale());
+        saida.writeByte(naoEscalado.length);
+        saida.write(naoEscalado);
+    }
+
+    static BigDecimal lerDecimal(ByteBuffer entrada) {
+        int escala = entrada.getShort();
+        var naoEscalado = new byte[Byte.toUnsignedInt(entrada.get())];
+        if (naoEscalado.length == 0) {
+            throw new IllegalArgumentException("Decimal sem dígitos");
+        }
+        entrada.get(naoEscalado);
+        return new BigDecimal(new BigInteger(naoEscalado), escala);
+    }
+
+    /**
+     * Lê um tamanho de vetor, rejeitando valores que não caberiam no restante do arquivo.
+     */
+    static int lerTamanho(ByteBuffer entrada) {
+        int tamanho = entrada.getInt();
+        if (tamanho < 0 || tamanho > entrada.remaining()) {
+            throw new IllegalArgumentException("Tamanho inválido no catálogo: " + tamanho);
+        }
+        return tamanho;
+    }
+
+    static int lerPosicao(ByteBuffer entrada, int quantidade) {
+        int posicao = entrada.getInt();
+        if (posicao < 0 || posicao >= quantidade) {
+            throw new IllegalArgumentException("Posição fora do catálogo: " + posicao);
+        }
+        return posicao;
+    }
+}
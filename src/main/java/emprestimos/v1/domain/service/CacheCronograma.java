@@ -0,0 +1,102 @@
+package emprestimos.v1.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache limitado de cronogramas de amortização já calculados.
+ *
+ * A chave é formada pelas entradas canônicas do cálculo (valor, prazo, taxa mensal e tipo);
+ * valores numericamente iguais com escalas diferentes compartilham a mesma entrada. O limite
+ * é medido em parcelas, e não em entradas, de modo que um cronograma de 420 meses pesa 35 vezes
+ * mais que um de 12. As listas armazenadas são imutáveis e compartilhadas entre requisições:
+ * quem as recebe não deve alterar as parcelas. Cronogramas colunares ({@link CronogramaColunar})
+ * são armazenados como estão, sem materializar as parcelas.
+ */
+public final class CacheCronograma {
+
+    private final Cache<Chave, List<ParcelaDTO>> cronogramas;
+
+    public CacheCronograma(long maximoParcelas) {
+        this.cronogramas = Caffeine.newBuilder()
+                .maximumWeight(maximoParcelas)
+                .weigher((Chave chave, List<ParcelaDTO> parcelas) -> Math.max(1, parcelas.size()))
+                // Manutenção no próprio thread chamador: remoções previsíveis e sem pool extra
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retorna o cronograma em cache ou o calcula, uma única vez por chave, com o fornecedor informado.
+     */
+    public List<ParcelaDTO> obter(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal,
+                                  TipoAmortizacao tipo, Supplier<List<ParcelaDTO>> calculo) {
+        return cronogramas.get(chave(valorFinanciado, prazoMeses, taxaMensal, tipo), ignorada -> imutavel(calculo.get()));
+    }
+
+    /**
+     * Retorna o cronograma em cache, ou {@code null} quando ainda não foi calculado.
+     */
+    public List<ParcelaDTO> buscar(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal, TipoAmortizacao tipo) {
+        return cronogramas.getIfPresent(chave(valorFinanciado, prazoMeses, taxaMensal, tipo));
+    }
+
+    /**
+     * Armazena um cronograma calculado fora do cache e retorna a instância imutável armazenada.
+     */
+    public List<ParcelaDTO> armazenar(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal,
+                                      TipoAmortizacao tipo, List<ParcelaDTO> parcelas) {
+        List<ParcelaDTO> armazenado = imutavel(parcelas);
+        cronogramas.put(chave(valorFinanciado, prazoMeses, taxaMensal, tipo), armazenado);
+        return armazenado;
+    }
+
+    public Estatisticas estatisticas() {
+        CacheStats stats = cronogramas.stats();
+        return new Estatisticas(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                cronogramas.estimatedSize(),
+                cronogramas.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L)
+        );
+    }
+
+    public void limpar() {
+        cronogramas.invalidateAll();
+        cronogramas.cleanUp();
+    }
+
+    private static List<ParcelaDTO> imutavel(List<ParcelaDTO> parcelas) {
+        // O cronograma colunar já é imutável; copiá-lo criaria um ParcelaDTO por mês
+        return parcelas instanceof CronogramaColunar ? parcelas : List.copyOf(parcelas);
+    }
+
+    private static Chave chave(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal, TipoAmortizacao tipo) {
+        return new Chave(valorFinanciado.stripTrailingZeros(), prazoMeses, taxaMensal.stripTrailingZeros(), tipo);
+    }
+
+    private record Chave(BigDecimal valor, int prazo, BigDecimal taxa, TipoAmortizacao tipo) {
+    }
+
+    /**
+     * Contadores acumulados do cache de cronogramas.
+     *
+     * @param acertos Leituras atendidas pelo cache
+     * @param falhas Leituras que exigiram cálculo
+     * @param remocoes Cronogramas removidos por exceder o limite de parcelas
+     * @param entradas Quantidade aproximada de cronogramas armazenados
+     * @param parcelas Quantidade de parcelas armazenadas (peso atual)
+     */
+    public record Estatisticas(long acertos, long falhas, long remocoes, long entradas, long parcelas) {
+    }
+}
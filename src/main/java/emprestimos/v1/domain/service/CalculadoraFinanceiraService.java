@@ -7,17 +7,22 @@ import emprestimos.v1.domain.entity.remote.Produto;
 import emprestimos.v1.domain.enums.TipoAmortizacao;
 import emprestimos.v1.domain.enums.FinanceiroConstant;
 import emprestimos.v1.domain.exception.SimulacaoException;
+import emprestimos.v1.domain.service.strategy.AmortizacaoCombinada;
 import emprestimos.v1.domain.service.strategy.CalculadoraParcelasStrategy;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
+import emprestimos.v1.domain.service.strategy.CronogramaParcelas;
 import emprestimos.v1.domain.qualifier.Price;
 import emprestimos.v1.domain.qualifier.Sac;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Serviço responsável pelos cálculos financeiros das simulações de empréstimo.
@@ -26,6 +31,10 @@ import java.util.Objects;
  * - Cálculo de parcelas para diferentes tipos de amortização (SAC e PRICE)
  * - Conversão de taxas anuais para mensais
  * - Cálculo de valores totais e médios das prestações
+ * - Memorização dos cronogramas calculados ({@link CacheCronograma})
+ *
+ * Cronogramas calculados em ponto fixo circulam no formato colunar ({@link CronogramaColunar});
+ * objetos {@link ParcelaDTO} só são criados quando a resposta é serializada.
  *
  * @author Sistema de Empréstimos
  * @since 1.0
@@ -41,13 +50,17 @@ public class CalculadoraFinanceiraService {
 
     private final CalculadoraParcelasStrategy estrategiaSac;
     private final CalculadoraParcelasStrategy estrategiaPrice;
+    private final CacheCronograma cacheCronograma;
 
     @Inject
     public CalculadoraFinanceiraService(
             @Sac CalculadoraParcelasStrategy estrategiaSac,
-            @Price CalculadoraParcelasStrategy estrategiaPrice) {
+            @Price CalculadoraParcelasStrategy estrategiaPrice,
+            @ConfigProperty(name = "emprestimos.calculo.cache.habilitado", defaultValue = "true") boolean cacheHabilitado,
+            @ConfigProperty(name = "emprestimos.calculo.cache.maximo-parcelas", defaultValue = "200000") long maximoParcelas) {
         this.estrategiaSac = estrategiaSac;
         this.estrategiaPrice = estrategiaPrice;
+        this.cacheCronograma = cacheHabilitado ? new CacheCronograma(maximoParcelas) : null;
     }
 
     /**
@@ -70,9 +83,7 @@ public class CalculadoraFinanceiraService {
 
         final BigDecimal valorFinanciado = simulacao.getValorDesejado();
         final int prazoEmMeses = simulacao.getPrazo();
-        // A taxa já vem como mensal do produto (ex: 0.0179 = 1,79% ao mês)
-        final BigDecimal taxaMensalJuros = produto.getPcTaxaJuros()
-            .setScale(FinanceiroConstant.TAXA_SCALE.getValor(), RoundingMode.HALF_UP);
+        final BigDecimal taxaMensalJuros = obterTaxaMensal(produto);
 
         final TipoAmortizacao tipoAmortizacaoEnum = obterTipoAmortizacao(tipoAmortizacao);
         final List<ParcelaDTO> parcelasCalculadas = calcularParcelasPorTipo(
@@ -87,6 +98,143 @@ public class CalculadoraFinanceiraService {
         return construirResultadoSimulacao(tipoAmortizacaoEnum.getCodigo(), parcelasCalculadas);
     }
 
+    /**
+     * Calcula a simulação nos sistemas SAC e PRICE, com os valores total e médio de cada um.
+     *
+     * Valida os parâmetros e normaliza a taxa uma única vez. Quando as duas estratégias usam
+     * o kernel de ponto fixo, os dois cronogramas e seus totais saem de um único laço
+     * ({@link AmortizacaoCombinada}); cronogramas já presentes no cache são reaproveitados.
+     *
+     * @param simulacao Dados da simulação contendo valor desejado e prazo
+     * @param produto Produto financeiro com informações de taxa de juros
+     * @return Cronogramas e agregados dos dois sistemas
+     */
+    public SimulacaoCalculada calcularSimulacaoCompleta(SimulacaoCreateDTO simulacao, Produto produto) {
+        validarParametrosEntrada(simulacao, produto, TipoAmortizacao.SAC.getCodigo());
+
+        final BigDecimal valorFinanciado = simulacao.getValorDesejado();
+        final int prazoEmMeses = simulacao.getPrazo();
+        final BigDecimal taxaMensalJuros = obterTaxaMensal(produto);
+
+        List<ParcelaDTO> parcelasSac = buscarNoCache(valorFinanciado, prazoEmMeses, taxaMensalJuros, TipoAmortizacao.SAC);
+        List<ParcelaDTO> parcelasPrice = buscarNoCache(valorFinanciado, prazoEmMeses, taxaMensalJuros, TipoAmortizacao.PRICE);
+
+        if (parcelasSac == null && parcelasPrice == null
+                && estrategiaSac.usaPontoFixo(valorFinanciado, taxaMensalJuros)
+                && estrategiaPrice.usaPontoFixo(valorFinanciado, taxaMensalJuros)) {
+            log.debug("Utilizando cálculo combinado SAC e PRICE");
+            var combinado = AmortizacaoCombinada.calcular(valorFinanciado, taxaMensalJuros, prazoEmMeses);
+            return new SimulacaoCalculada(
+                    construirAmortizacao(TipoAmortizacao.SAC,
+                            armazenarNoCache(valorFinanciado, prazoEmMeses, taxaMensalJuros, TipoAmortizacao.SAC, combinado.parcelasSac()),
+                            combinado.valorTotalSac()),
+                    construirAmortizacao(TipoAmortizacao.PRICE,
+                            armazenarNoCache(valorFinanciado, prazoEmMeses, taxaMensalJuros, TipoAmortizacao.PRICE, combinado.parcelasPrice()),
+                            combinado.valorTotalPrice()));
+        }
+
+        if (parcelasSac == null) {
+            parcelasSac = calcularParcelasPorTipo(valorFinanciado, taxaMensalJuros, prazoEmMeses, TipoAmortizacao.SAC);
+        }
+        if (parcelasPrice == null) {
+            parcelasPrice = calcularParcelasPorTipo(valorFinanciado, taxaMensalJuros, prazoEmMeses, TipoAmortizacao.PRICE);
+        }
+        return new SimulacaoCalculada(
+                construirAmortizacao(TipoAmortizacao.SAC, parcelasSac, calcularValorTotalPrestacoes(parcelasSac)),
+                construirAmortizacao(TipoAmortizacao.PRICE, parcelasPrice, calcularValorTotalPrestacoes(parcelasPrice)));
+    }
+
+    /**
+     * Calcula o resultado de um tipo de amortização com as parcelas geradas sob demanda.
+     *
+     * Usa o cronograma do cache quando já calculado; caso contrário retorna um
+     * {@link CronogramaParcelas}, que cria cada parcela apenas quando percorrida e não é
+     * armazenado no cache. Indicado para respostas que serializam o cronograma uma única vez.
+     *
+     * @throws SimulacaoException Quando há erro na validação dos parâmetros ou tipo de amortização inválido
+     */
+    public ResultadoSimulacaoDTO calcularResultadoSobDemanda(
+            SimulacaoCreateDTO simulacao,
+            Produto produto,
+            String tipoAmortizacao) {
+
+        validarParametrosEntrada(simulacao, produto, tipoAmortizacao);
+
+        final BigDecimal valorFinanciado = simulacao.getValorDesejado();
+        final int prazoEmMeses = simulacao.getPrazo();
+        final BigDecimal taxaMensalJuros = obterTaxaMensal(produto);
+        final TipoAmortizacao tipoAmortizacaoEnum = obterTipoAmortizacao(tipoAmortizacao);
+
+        List<ParcelaDTO> parcelas = buscarNoCache(valorFinanciado, prazoEmMeses, taxaMensalJuros, tipoAmortizacaoEnum);
+        if (parcelas == null) {
+            parcelas = obterEstrategia(tipoAmortizacaoEnum)
+                    .calcularParcelasSobDemanda(valorFinanciado, taxaMensalJuros, prazoEmMeses);
+        }
+        return construirResultadoSimulacao(tipoAmortizacaoEnum.getCodigo(), parcelas);
+    }
+
+    /**
+     * Calcula uma única parcela da simulação sem gerar o cronograma completo.
+     *
+     * @param simulacao Dados da simulação contendo valor desejado e prazo
+     * @param produto Produto financeiro com informações de taxa de juros
+     * @param tipoAmortizacao Código do tipo de amortização (SAC ou PRICE)
+     * @param numeroParcela Número da parcela, entre 1 e o prazo
+     * @return Parcela idêntica à de mesmo número no cronograma completo
+     * @throws SimulacaoException Quando o tipo de amortização é inválido
+     * @throws IllegalArgumentException Quando o número da parcela está fora do prazo
+     */
+    public ParcelaDTO calcularParcela(
+            SimulacaoCreateDTO simulacao,
+            Produto produto,
+            String tipoAmortizacao,
+            int numeroParcela) {
+
+        validarParametrosEntrada(simulacao, produto, tipoAmortizacao);
+
+        return obterEstrategia(obterTipoAmortizacao(tipoAmortizacao))
+                .calcularParcela(simulacao.getValorDesejado(), obterTaxaMensal(produto), simulacao.getPrazo(), numeroParcela);
+    }
+
+    /**
+     * Calcula o saldo devedor após o pagamento de uma parcela, como a soma das amortizações
+     * das parcelas seguintes, sem gerar o cronograma completo.
+     *
+     * @param numeroParcela Quantidade de parcelas pagas, entre 0 e o prazo
+     * @return Saldo devedor com escala correta
+     * @throws SimulacaoException Quando o tipo de amortização é inválido
+     * @throws IllegalArgumentException Quando o número da parcela está fora do prazo
+     */
+    public BigDecimal calcularSaldoDevedor(
+            SimulacaoCreateDTO simulacao,
+            Produto produto,
+            String tipoAmortizacao,
+            int numeroParcela) {
+
+        validarParametrosEntrada(simulacao, produto, tipoAmortizacao);
+
+        // O resíduo de arredondamento ao fim do prazo não compõe o saldo devedor
+        return obterEstrategia(obterTipoAmortizacao(tipoAmortizacao))
+                .calcularSaldoDevedor(simulacao.getValorDesejado(), obterTaxaMensal(produto), simulacao.getPrazo(), numeroParcela);
+    }
+
+    /**
+     * Calcula o valor total das prestações da simulação sem gerar o cronograma completo.
+     *
+     * @return Valor total das prestações com escala correta
+     * @throws SimulacaoException Quando o tipo de amortização é inválido
+     */
+    public BigDecimal calcularValorTotalPrestacoes(
+            SimulacaoCreateDTO simulacao,
+            Produto produto,
+            String tipoAmortizacao) {
+
+        validarParametrosEntrada(simulacao, produto, tipoAmortizacao);
+
+        return obterEstrategia(obterTipoAmortizacao(tipoAmortizacao))
+                .calcularValorTotalPrestacoes(simulacao.getValorDesejado(), obterTaxaMensal(produto), simulacao.getPrazo());
+    }
+
     /**
      * Calcula o valor total de todas as prestações do empréstimo.
      *
@@ -97,6 +245,14 @@ public class CalculadoraFinanceiraService {
     public BigDecimal calcularValorTotalPrestacoes(List<ParcelaDTO> parcelas) {
         validarListaParcelas(parcelas);
 
+        if (parcelas instanceof CronogramaParcelas cronograma) {
+            // Soma em forma fechada, sem gerar as parcelas
+            return cronograma.valorTotalPrestacoes();
+        }
+        if (parcelas instanceof CronogramaColunar colunar) {
+            return colunar.valorTotalPrestacoes();
+        }
+
         final BigDecimal valorTotal = parcelas.stream()
                 .map(ParcelaDTO::getValorPrestacao)
                 .filter(Objects::nonNull)
@@ -131,7 +287,25 @@ public class CalculadoraFinanceiraService {
     }
 
     /**
-     * Calcula as parcelas usando a estratégia apropriada para o tipo de amortização.
+     * Inicia o cálculo de uma grade valor × prazo, sem gerar cronogramas nem usar o cache.
+     *
+     * @param prazos Prazos da grade em ordem estritamente crescente
+     * @return Cálculo de uso exclusivo da requisição corrente
+     */
+    public CalculoGrade iniciarGrade(int[] prazos) {
+        return new CalculoGrade(estrategiaSac, prazos);
+    }
+
+    /**
+     * Retorna as estatísticas do cache de cronogramas, ou vazio quando o cache está desabilitado.
+     */
+    public Optional<CacheCronograma.Estatisticas> obterEstatisticasCache() {
+        return Optional.ofNullable(cacheCronograma).map(CacheCronograma::estatisticas);
+    }
+
+    /**
+     * Obtém as parcelas do cache de cronogramas, calculando-as na primeira solicitação.
+     * A lista retornada é imutável e pode ser compartilhada entre simulações idênticas.
      */
     private List<ParcelaDTO> calcularParcelasPorTipo(
             BigDecimal valorFinanciado,
@@ -139,18 +313,66 @@ public class CalculadoraFinanceiraService {
             int prazoMeses,
             TipoAmortizacao tipo) {
 
+        if (cacheCronograma == null) {
+            return calcularParcelasPorEstrategia(valorFinanciado, taxaMensal, prazoMeses, tipo);
+        }
+        return cacheCronograma.obter(valorFinanciado, prazoMeses, taxaMensal, tipo,
+                () -> calcularParcelasPorEstrategia(valorFinanciado, taxaMensal, prazoMeses, tipo));
+    }
+
+    /**
+     * Calcula as parcelas usando a estratégia apropriada para o tipo de amortização.
+     */
+    private List<ParcelaDTO> calcularParcelasPorEstrategia(
+            BigDecimal valorFinanciado,
+            BigDecimal taxaMensal,
+            int prazoMeses,
+            TipoAmortizacao tipo) {
+
+        log.debug("Utilizando estratégia {} para cálculo das parcelas", tipo.getCodigo());
+        return obterEstrategia(tipo).calcularParcelas(valorFinanciado, taxaMensal, prazoMeses);
+    }
+
+    private List<ParcelaDTO> buscarNoCache(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal, TipoAmortizacao tipo) {
+        return cacheCronograma == null ? null : cacheCronograma.buscar(valorFinanciado, prazoMeses, taxaMensal, tipo);
+    }
+
+    private List<ParcelaDTO> armazenarNoCache(BigDecimal valorFinanciado, int prazoMeses, BigDecimal taxaMensal,
+                                              TipoAmortizacao tipo, List<ParcelaDTO> parcelas) {
+        return cacheCronograma == null ? parcelas : cacheCronograma.armazenar(valorFinanciado, prazoMeses, taxaMensal, tipo, parcelas);
+    }
+
+    /**
+     * Monta o cronograma de um sistema com os agregados, derivando a média do total já apurado.
+     */
+    private SimulacaoCalculada.Amortizacao construirAmortizacao(TipoAmortizacao tipo, List<ParcelaDTO> parcelas, BigDecimal valorTotal) {
+        final BigDecimal valorMedio = parcelas.isEmpty() ? BigDecimal.ZERO : valorTotal.divide(
+                BigDecimal.valueOf(parcelas.size()),
+                FinanceiroConstant.DECIMAL_SCALE.getValor(),
+                RoundingMode.HALF_UP
+        );
+        return new SimulacaoCalculada.Amortizacao(
+                construirResultadoSimulacao(tipo.getCodigo(), parcelas), valorTotal, valorMedio);
+    }
+
+    /**
+     * Seleciona a estratégia de cálculo do tipo de amortização.
+     */
+    private CalculadoraParcelasStrategy obterEstrategia(TipoAmortizacao tipo) {
         return switch (tipo) {
-            case SAC -> {
-                log.debug("Utilizando estratégia SAC para cálculo das parcelas");
-                yield estrategiaSac.calcularParcelas(valorFinanciado, taxaMensal, prazoMeses);
-            }
-            case PRICE -> {
-                log.debug("Utilizando estratégia PRICE para cálculo das parcelas");
-                yield estrategiaPrice.calcularParcelas(valorFinanciado, taxaMensal, prazoMeses);
-            }
+            case SAC -> estrategiaSac;
+            case PRICE -> estrategiaPrice;
         };
     }
 
+    /**
+     * Obtém a taxa mensal do produto na escala de cálculo.
+     * A taxa já vem como mensal do produto (ex: 0.0179 = 1,79% ao mês).
+     */
+    private BigDecimal obterTaxaMensal(Produto produto) {
+        return produto.getPcTaxaJuros().setScale(FinanceiroConstant.TAXA_SCALE.getValor(), RoundingMode.HALF_UP);
+    }
+
     /**
      * Constrói o objeto de resultado da simulação com os dados calculados.
      */
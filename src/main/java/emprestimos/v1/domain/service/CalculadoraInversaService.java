@@ -0,0 +1,337 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.FinanceiroConstant;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.qualifier.Price;
+import emprestimos.v1.domain.qualifier.Sac;
+import emprestimos.v1.domain.service.strategy.CalculadoraParcelasStrategy;
+import emprestimos.v1.domain.service.strategy.SequenciaCoeficientePrice;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cálculo inverso das simulações: o maior valor financiável em um prazo, ou o menor prazo para um
+ * valor, cuja maior prestação não ultrapassa um limite.
+ *
+ * A maior prestação é a primeira no SAC e a prestação constante no PRICE, e é monótona tanto no
+ * valor (não decrescente) quanto no prazo (não crescente). O eixo de busca é dividido nos
+ * intervalos em que o conjunto de produtos elegíveis não muda, de modo que o produto escolhido
+ * (o de menor taxa, como na criação da simulação) é constante em cada um. Em cada intervalo a
+ * fronteira parte da inversão analítica da fórmula da prestação e é refinada por busca
+ * exponencial e bisseção sobre centavos ou meses, avaliando a prestação exatamente como as
+ * estratégias de cálculo. O resultado coincide com o de uma simulação criada com os mesmos
+ * parâmetros.
+ */
+@ApplicationScoped
+public class CalculadoraInversaService {
+
+    private static final int ESCALA_VALOR = FinanceiroConstant.DECIMAL_SCALE.getValor();
+    private static final int ESCALA_TAXA = FinanceiroConstant.TAXA_SCALE.getValor();
+
+    /**
+     * Maior valor, em centavos, representável em {@code simulacao.valor_desejado} (NUMERIC(18,2)).
+     */
+    private static final long VALOR_MAXIMO_CENTAVOS = 999_999_999_999_999_999L;
+
+    private final CalculadoraParcelasStrategy estrategiaSac;
+    private final CalculadoraParcelasStrategy estrategiaPrice;
+    private final ProdutoElegibilidadeService produtoElegibilidade;
+    private final int prazoMaximo;
+
+    @Inject
+    public CalculadoraInversaService(
+            @Sac CalculadoraParcelasStrategy estrategiaSac,
+            @Price CalculadoraParcelasStrategy estrategiaPrice,
+            ProdutoElegibilidadeService produtoElegibilidade,
+            @ConfigProperty(name = "emprestimos.simulacao.inversa.prazo-maximo", defaultValue = "600") int prazoMaximo) {
+        this.estrategiaSac = estrategiaSac;
+        this.estrategiaPrice = estrategiaPrice;
+        this.produtoElegibilidade = produtoElegibilidade;
+        this.prazoMaximo = prazoMaximo;
+    }
+
+    /**
+     * Solução do cálculo inverso.
+     *
+     * @param valorFinanciado Valor da solução
+     * @param prazoMeses Prazo da solução
+     * @param produto Produto de menor taxa elegível para o valor e o prazo
+     * @param maiorPrestacao Maior prestação do cronograma (primeira no SAC, constante no PRICE)
+     * @param valorTotal Soma de todas as prestações
+     */
+    public record Solucao(BigDecimal valorFinanciado, int prazoMeses, Produto produto,
+                          BigDecimal maiorPrestacao, BigDecimal valorTotal) {
+    }
+
+    /**
+     * Maior valor, em centavos inteiros, cuja maior prestação no prazo informado não ultrapassa
+     * {@code prestacaoMaxima}, ou vazio se nenhum valor elegível atende. Prazos acima do prazo
+     * máximo configurado não têm solução, como no cálculo do prazo mínimo.
+     */
+    public Optional<Solucao> calcularValorMaximo(List<Produto> produtos, TipoAmortizacao tipo,
+                                                 BigDecimal prestacaoMaxima, int prazoMeses) {
+        if (prazoMeses > prazoMaximo) {
+            return Optional.empty();
+        }
+        var produtosDoPrazo = produtos.stream()
+                .filter(produto -> prazoDentroDoLimite(produto, prazoMeses))
+                .toList();
+        if (produtosDoPrazo.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var fronteiras = new TreeSet<Long>();
+        long limiteSuperior = 0L;
+        for (var produto : produtosDoPrazo) {
+            long minimo = produto.getVrMinimo() == null ? 1L : paraCentavosAcima(produto.getVrMinimo());
+            long maximo = produto.getVrMaximo() == null
+                    ? limiteValor(prestacaoMaxima, prazoMeses)
+                    : paraCentavosAbaixo(produto.getVrMaximo());
+            if (minimo <= maximo) {
+                fronteiras.add(minimo);
+                fronteiras.add(maximo + 1);
+                limiteSuperior = Math.max(limiteSuperior, maximo);
+            }
+        }
+
+        // Do intervalo mais alto para o mais baixo: o primeiro com solução contém o valor máximo
+        Long fim = null;
+        for (long inicio : fronteiras.descendingSet()) {
+            if (fim == null) {
+                fim = inicio - 1;
+                continue;
+            }
+            long ultimo = Math.min(fim, limiteSuperior);
+            fim = inicio - 1;
+            if (inicio > ultimo) {
+                continue;
+            }
+
+            var valorInicial = paraDecimal(inicio);
+            var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(produtosDoPrazo, valorInicial, prazoMeses);
+            if (produtoOpt.isEmpty()) {
+                continue;
+            }
+            var produto = produtoOpt.get();
+            var taxa = taxaMensal(produto);
+            var maiorPrestacaoNoPrazo = maiorPrestacaoPorValor(tipo, taxa, prazoMeses);
+            LongPredicate atende = centavos -> maiorPrestacaoNoPrazo.apply(paraDecimal(centavos)).compareTo(prestacaoMaxima) <= 0;
+            if (!atende.test(inicio)) {
+                continue;
+            }
+
+            long estimativa = estimarValor(tipo, prestacaoMaxima, taxa, prazoMeses);
+            long valorMaximo = maiorQueAtende(inicio, ultimo, estimativa, atende);
+            return Optional.of(criarSolucao(tipo, paraDecimal(valorMaximo), prazoMeses, produto));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Menor prazo cuja maior prestação para o valor informado não ultrapassa
+     * {@code prestacaoMaxima}, ou vazio se nenhum prazo elegível atende.
+     */
+    public Optional<Solucao> calcularPrazoMinimo(List<Produto> produtos, TipoAmortizacao tipo,
+                                                 BigDecimal prestacaoMaxima, BigDecimal valorFinanciado) {
+        var produtosDoValor = produtos.stream()
+                .filter(produto -> valorDentroDoLimite(produto, valorFinanciado))
+                .toList();
+
+        var fronteiras = new TreeSet<Integer>();
+        for (var produto : produtosDoValor) {
+            int minimo = produto.getNuMinimoMeses() == null ? 1 : Math.max(1, produto.getNuMinimoMeses().intValue());
+            int maximo = produto.getNuMaximoMeses() == null ? prazoMaximo : Math.min(prazoMaximo, produto.getNuMaximoMeses().intValue());
+            if (minimo <= maximo) {
+                fronteiras.add(minimo);
+                fronteiras.add(maximo + 1);
+            }
+        }
+
+        // Do intervalo mais curto para o mais longo: o primeiro com solução contém o prazo mínimo
+        Integer inicio = null;
+        for (int proximo : fronteiras) {
+            if (inicio == null) {
+                inicio = proximo;
+                continue;
+            }
+            int primeiro = inicio;
+            int ultimo = proximo - 1;
+            inicio = proximo;
+
+            var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(produtosDoValor, valorFinanciado, primeiro);
+            if (produtoOpt.isEmpty()) {
+                continue;
+            }
+            var produto = produtoOpt.get();
+            var taxa = taxaMensal(produto);
+            // Prazo n é representado por -n para reaproveitar a busca do maior ponto que atende
+            LongPredicate atende = menosPrazo -> maiorPrestacao(tipo, valorFinanciado, taxa, (int) -menosPrazo)
+                    .compareTo(prestacaoMaxima) <= 0;
+            if (!atende.test(-ultimo)) {
+                continue;
+            }
+
+            long estimativa = -estimarPrazo(tipo, prestacaoMaxima, valorFinanciado, taxa);
+            int prazoMinimo = (int) -maiorQueAtende(-ultimo, -primeiro, estimativa, atende);
+            return Optional.of(criarSolucao(tipo, valorFinanciado, prazoMinimo, produto));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Maior x em [inicio, fim] que atende, dado que {@code atende(inicio)} e que o predicado é
+     * verdadeiro até a fronteira e falso depois dela. Parte da estimativa, dobra o passo até
+     * cercar a fronteira e conclui por bisseção: O(log d) avaliações, sendo d a distância entre a
+     * estimativa e a fronteira.
+     */
+    static long maiorQueAtende(long inicio, long fim, long estimativa, LongPredicate atende) {
+        long palpite = Math.max(inicio, Math.min(fim, estimativa));
+        long abaixo;
+        long acima;
+        if (atende.test(palpite)) {
+            abaixo = palpite;
+            acima = fim + 1;
+            for (long passo = 1; abaixo < fim; passo <<= 1) {
+                long candidato = Math.min(fim, abaixo + passo);
+                if (!atende.test(candidato)) {
+                    acima = candidato;
+                    break;
+                }
+                abaixo = candidato;
+            }
+        } else {
+            abaixo = inicio;
+            acima = palpite;
+            for (long passo = 1; acima > inicio + 1; passo <<= 1) {
+                long candidato = Math.max(inicio, acima - passo);
+                if (atende.test(candidato)) {
+                    abaixo = candidato;
+                    break;
+                }
+                acima = candidato;
+            }
+        }
+
+        while (acima - abaixo > 1) {
+            long meio = abaixo + (acima - abaixo) / 2;
+            if (atende.test(meio)) {
+                abaixo = meio;
+            } else {
+                acima = meio;
+            }
+        }
+        return abaixo;
+    }
+
+    private Solucao criarSolucao(TipoAmortizacao tipo, BigDecimal valorFinanciado, int prazoMeses, Produto produto) {
+        var taxa = taxaMensal(produto);
+        return new Solucao(valorFinanciado, prazoMeses, produto,
+                maiorPrestacao(tipo, valorFinanciado, taxa, prazoMeses),
+                estrategia(tipo).calcularValorTotalPrestacoes(valorFinanciado, taxa, prazoMeses));
+    }
+
+    /**
+     * Maior prestação em função do valor, com taxa e prazo fixos. No PRICE o coeficiente
+     * {@code (1 + i)^n} é calculado uma única vez para toda a busca.
+     */
+    private UnaryOperator<BigDecimal> maiorPrestacaoPorValor(TipoAmortizacao tipo, BigDecimal taxa, int prazoMeses) {
+        if (tipo == TipoAmortizacao.PRICE) {
+            var coeficiente = new SequenciaCoeficientePrice(taxa, new int[]{prazoMeses});
+            return valor -> coeficiente.calcularPrestacao(valor, 0);
+        }
+        return valor -> maiorPrestacao(tipo, valor, taxa, prazoMeses);
+    }
+
+    private BigDecimal maiorPrestacao(TipoAmortizacao tipo, BigDecimal valorFinanciado, BigDecimal taxa, int prazoMeses) {
+        return estrategia(tipo).calcularParcela(valorFinanciado, taxa, prazoMeses, 1).getValorPrestacao();
+    }
+
+    /**
+     * Inversão analítica no valor: {@code V = P / (1/n + i)} no SAC e {@code V = P·(c - 1) / (i·c)} no PRICE.
+     */
+    private static long estimarValor(TipoAmortizacao tipo, BigDecimal prestacaoMaxima, BigDecimal taxa, int prazoMeses) {
+        double prestacao = prestacaoMaxima.doubleValue();
+        double i = taxa.doubleValue();
+        double fator = switch (tipo) {
+            case SAC -> 1.0 / prazoMeses + i;
+            case PRICE -> i <= 0.0 ? 1.0 / prazoMeses : i / (1.0 - Math.pow(1.0 + i, -prazoMeses));
+        };
+        return (long) Math.min(Long.MAX_VALUE / 4, prestacao / fator * 100.0);
+    }
+
+    /**
+     * Inversão analítica no prazo: {@code n = V / (P - V·i)} no SAC e
+     * {@code n = -ln(1 - V·i/P) / ln(1 + i)} no PRICE.
+     */
+    private long estimarPrazo(TipoAmortizacao tipo, BigDecimal prestacaoMaxima, BigDecimal valorFinanciado, BigDecimal taxa) {
+        double prestacao = prestacaoMaxima.doubleValue();
+        double valor = valorFinanciado.doubleValue();
+        double i = taxa.doubleValue();
+        double juros = valor * i;
+        if (prestacao <= juros) {
+            return prazoMaximo;
+        }
+        double prazo = switch (tipo) {
+            case SAC -> valor / (prestacao - juros);
+            case PRICE -> i <= 0.0 ? valor / prestacao : -Math.log(1.0 - juros / prestacao) / Math.log(1.0 + i);
+        };
+        return (long) Math.min(prazoMaximo, Math.ceil(prazo));
+    }
+
+    /**
+     * Limite para produtos sem valor máximo: as prestações somam ao menos o valor financiado e a
+     * maior delas é arredondada em no máximo meio centavo, logo nenhum valor acima de
+     * {@code (P + 1 centavo) · n} atende, qualquer que seja a taxa. Limitado ao maior valor gravável.
+     */
+    private static long limiteValor(BigDecimal prestacaoMaxima, int prazoMeses) {
+        return prestacaoMaxima.add(BigDecimal.ONE.movePointLeft(ESCALA_VALOR))
+                .multiply(BigDecimal.valueOf(prazoMeses))
+                .setScale(ESCALA_VALOR, RoundingMode.UP)
+                .movePointRight(ESCALA_VALOR)
+                .min(BigDecimal.valueOf(VALOR_MAXIMO_CENTAVOS))
+                .longValueExact();
+    }
+
+    private CalculadoraParcelasStrategy estrategia(TipoAmortizacao tipo) {
+        return switch (tipo) {
+            case SAC -> estrategiaSac;
+            case PRICE -> estrategiaPrice;
+        };
+    }
+
+    private static boolean prazoDentroDoLimite(Produto produto, int prazo) {
+        return (produto.getNuMinimoMeses() == null || produto.getNuMinimoMeses() <= prazo)
+                && (produto.getNuMaximoMeses() == null || produto.getNuMaximoMeses() >= prazo);
+    }
+
+    private static boolean valorDentroDoLimite(Produto produto, BigDecimal valor) {
+        return (produto.getVrMinimo() == null || produto.getVrMinimo().compareTo(valor) <= 0)
+                && (produto.getVrMaximo() == null || produto.getVrMaximo().compareTo(valor) >= 0);
+    }
+
+    private static BigDecimal taxaMensal(Produto produto) {
+        return produto.getPcTaxaJuros().setScale(ESCALA_TAXA, RoundingMode.HALF_UP);
+    }
+
+    private static long paraCentavosAcima(BigDecimal valor) {
+        return valor.setScale(ESCALA_VALOR, RoundingMode.CEILING).movePointRight(ESCALA_VALOR).longValueExact();
+    }
+
+    private static long paraCentavosAbaixo(BigDecimal valor) {
+        return valor.setScale(ESCALA_VALOR, RoundingMode.FLOOR).movePointRight(ESCALA_VALOR).longValueExact();
+    }
+
+    private static BigDecimal paraDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, ESCALA_VALOR);
+    }
+}
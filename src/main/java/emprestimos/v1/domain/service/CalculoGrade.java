@@ -0,0 +1,72 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.dto.simulacao.grade.response.ResumoPrestacoesDTO;
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.FinanceiroConstant;
+import emprestimos.v1.domain.service.strategy.CalculadoraParcelasStrategy;
+import emprestimos.v1.domain.service.strategy.SequenciaCoeficientePrice;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cálculo dos resumos de prestações (primeira, média e total) de uma grade valor × prazo.
+ *
+ * Criado por {@link CalculadoraFinanceiraService#iniciarGrade(int[])} para uma requisição, com
+ * os prazos da grade em ordem crescente. Nenhum cronograma é gerado: o SAC usa as formas
+ * fechadas da estratégia, e o PRICE usa uma {@link SequenciaCoeficientePrice} por taxa,
+ * calculada na primeira célula que a utiliza e reaproveitada por todos os valores e prazos da
+ * grade. Os valores são idênticos aos das simulações criadas com os mesmos parâmetros.
+ *
+ * Não é thread-safe; cada requisição usa sua própria instância.
+ */
+public final class CalculoGrade {
+
+    private static final int ESCALA_VALOR = FinanceiroConstant.DECIMAL_SCALE.getValor();
+    private static final int ESCALA_TAXA = FinanceiroConstant.TAXA_SCALE.getValor();
+
+    private final CalculadoraParcelasStrategy estrategiaSac;
+    private final int[] prazos;
+    private final Map<BigDecimal, SequenciaCoeficientePrice> coeficientesPorTaxa = new HashMap<>();
+
+    CalculoGrade(CalculadoraParcelasStrategy estrategiaSac, int[] prazos) {
+        this.estrategiaSac = estrategiaSac;
+        this.prazos = prazos.clone();
+    }
+
+    /**
+     * Resumo SAC do valor com o produto informado, no prazo de índice {@code indicePrazo}.
+     */
+    public ResumoPrestacoesDTO resumirSac(BigDecimal valorFinanciado, Produto produto, int indicePrazo) {
+        int prazoMeses = prazos[indicePrazo];
+        BigDecimal taxaMensal = obterTaxaMensal(produto);
+
+        BigDecimal primeira = estrategiaSac.calcularParcela(valorFinanciado, taxaMensal, prazoMeses, 1).getValorPrestacao();
+        BigDecimal total = estrategiaSac.calcularValorTotalPrestacoes(valorFinanciado, taxaMensal, prazoMeses);
+        return new ResumoPrestacoesDTO(primeira, calcularMedia(total, prazoMeses), total);
+    }
+
+    /**
+     * Resumo PRICE do valor com o produto informado, no prazo de índice {@code indicePrazo}.
+     */
+    public ResumoPrestacoesDTO resumirPrice(BigDecimal valorFinanciado, Produto produto, int indicePrazo) {
+        int prazoMeses = prazos[indicePrazo];
+        BigDecimal taxaMensal = obterTaxaMensal(produto);
+
+        BigDecimal prestacao = coeficientesPorTaxa
+                .computeIfAbsent(taxaMensal, taxa -> new SequenciaCoeficientePrice(taxa, prazos))
+                .calcularPrestacao(valorFinanciado, indicePrazo);
+        BigDecimal total = prestacao.multiply(BigDecimal.valueOf(prazoMeses)).setScale(ESCALA_VALOR, RoundingMode.HALF_UP);
+        return new ResumoPrestacoesDTO(prestacao, calcularMedia(total, prazoMeses), total);
+    }
+
+    private static BigDecimal calcularMedia(BigDecimal total, int prazoMeses) {
+        return total.divide(BigDecimal.valueOf(prazoMeses), ESCALA_VALOR, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal obterTaxaMensal(Produto produto) {
+        return produto.getPcTaxaJuros().setScale(ESCALA_TAXA, RoundingMode.HALF_UP);
+    }
+}
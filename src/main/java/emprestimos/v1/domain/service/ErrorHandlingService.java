@@ -7,6 +7,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import emprestimos.v1.service.EventHubService;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Serviço responsável pelo tratamento centralizado de erros e logging.
  */
@@ -35,6 +38,24 @@ public class ErrorHandlingService {
         }
     }
 
+    /**
+     * Envia várias mensagens ao Event Hub agrupadas em lotes, com o mesmo tratamento de erro
+     * do envio individual.
+     */
+    public void enviarMensagensEventHub(List<?> mensagens) {
+        try {
+            List<String> jsons = new ArrayList<>(mensagens.size());
+            for (Object mensagem : mensagens) {
+                jsons.add(objectMapper.writeValueAsString(mensagem));
+            }
+            eventHubService.sendMessages(jsons);
+            LOG.info("{} mensagens enviadas ao Event Hub com sucesso", jsons.size());
+        } catch (Exception exception) {
+            LOG.error("Falha ao enviar mensagens ao Event Hub: {}", exception.getMessage(), exception);
+            // Não propaga a exceção para não afetar a resposta ao cliente
+        }
+    }
+
     /**
      * Loga erro de forma padronizada.
      */
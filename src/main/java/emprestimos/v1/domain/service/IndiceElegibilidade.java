@@ -0,0 +1,360 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Índice imutável de elegibilidade do catálogo de produtos sobre (prazo, valor).
+ *
+ * Cada produto é um retângulo {@code [nuMinimoMeses, nuMaximoMeses] × [vrMinimo, vrMaximo]},
+ * com limites nulos tratados como abertos. Os prazos são divididos nas faixas em que o conjunto
+ * de produtos não muda e organizados em uma árvore de segmentos; cada produto é registrado nos
+ * O(log n) nós que cobrem sua faixa de prazos, e cada nó guarda, ordenado por valor, o produto
+ * de menor taxa em cada trecho (o envelope inferior dos intervalos de valor do nó).
+ *
+ * A consulta percorre o caminho da folha do prazo até a raiz com uma busca binária por nó:
+ * O(log² n) comparações, sem alocação, contra a varredura O(n) de
+ * {@link ProdutoElegibilidadeService#filtrarProdutosElegiveis}. A construção custa O(n log² n)
+ * e o índice ocupa O(n log n). O resultado é o mesmo da varredura: menor taxa e, no empate, o
+ * produto que aparece primeiro no catálogo.
+ *
+ * A estrutura pode ser gravada e relida já pronta ({@link ArquivoCatalogo}), sem repetir a
+ * construção.
+ */
+public final class IndiceElegibilidade {
+
+    private static final IndiceElegibilidade VAZIO = new IndiceElegibilidade(List.of());
+
+    private static final int NENHUM = Integer.MAX_VALUE;
+
+    private final List<Produto> produtos;
+
+    /**
+     * Produtos ordenados por taxa e posição no catálogo; o índice nesse vetor é a prioridade.
+     */
+    private final Produto[] porPrioridade;
+
+    /**
+     * Limites finitos de prazo, ordenados e distintos, que separam as faixas da árvore.
+     */
+    private final int[] cortesPrazo;
+
+    private final int folhas;
+
+    private final Envelope[] nos;
+
+    private IndiceElegibilidade(List<Produto> produtos) {
+        this.produtos = List.copyOf(produtos);
+
+        Integer[] ordem = new Integer[this.produtos.size()];
+        Arrays.setAll(ordem, i -> i);
+        Arrays.sort(ordem, Comparator.<Integer, BigDecimal>comparing(i -> this.produtos.get(i).getPcTaxaJuros())
+                .thenComparingInt(i -> i));
+        this.porPrioridade = new Produto[ordem.length];
+        for (int prioridade = 0; prioridade < ordem.length; prioridade++) {
+            porPrioridade[prioridade] = this.produtos.get(ordem[prioridade]);
+        }
+
+        this.cortesPrazo = cortesPrazo(porPrioridade);
+        int faixas = cortesPrazo.length + 1;
+        this.folhas = Integer.highestOneBit(Math.max(1, faixas - 1)) << 1;
+
+        List<List<Integer>> registrados = new ArrayList<>(2 * folhas);
+        for (int no = 0; no < 2 * folhas; no++) {
+            registrados.add(null);
+        }
+        for (int prioridade = 0; prioridade < porPrioridade.length; prioridade++) {
+            var produto = porPrioridade[prioridade];
+            int inicio = produto.getNuMinimoMeses() == null ? 0 : faixa(produto.getNuMinimoMeses());
+            int fim = produto.getNuMaximoMeses() == null ? faixas : faixa(produto.getNuMaximoMeses() + 1);
+            // Decomposição canônica de [inicio, fim) nos nós da árvore
+            for (int esquerda = inicio + folhas, direita = fim + folhas; esquerda < direita; esquerda >>= 1, direita >>= 1) {
+                if ((esquerda & 1) == 1) {
+                    registrar(registrados, esquerda++, prioridade);
+                }
+                if ((direita & 1) == 1) {
+                    registrar(registrados, --direita, prioridade);
+                }
+            }
+        }
+
+        this.nos = new Envelope[2 * folhas];
+        for (int no = 1; no < nos.length; no++) {
+            if (registrados.get(no) != null) {
+                nos[no] = Envelope.construir(registrados.get(no), porPrioridade);
+            }
+        }
+    }
+
+    private IndiceElegibilidade(List<Produto> produtos, Produto[] porPrioridade, int[] cortesPrazo, Envelope[] nos) {
+        this.produtos = produtos;
+        this.porPrioridade = porPrioridade;
+        this.cortesPrazo = cortesPrazo;
+        this.folhas = nos.length / 2;
+        this.nos = nos;
+    }
+
+    /**
+     * Indexa o catálogo informado, que é copiado; o índice não acompanha alterações na lista.
+     */
+    public static IndiceElegibilidade criar(List<Produto> produtos) {
+        return produtos == null || produtos.isEmpty() ? VAZIO : new IndiceElegibilidade(produtos);
+    }
+
+    /**
+     * Produto de menor taxa elegível para o valor e o prazo, ou vazio se nenhum for elegível.
+     */
+    public Optional<Produto> encontrarMelhorProduto(BigDecimal valor, int prazo) {
+        int melhor = NENHUM;
+        for (int no = faixa(prazo) + folhas; no >= 1; no >>= 1) {
+            if (nos[no] != null) {
+                melhor = Math.min(melhor, nos[no].consultar(valor));
+            }
+        }
+        return melhor == NENHUM ? Optional.empty() : Optional.of(porPrioridade[melhor]);
+    }
+
+    /**
+     * Catálogo indexado, na ordem original.
+     */
+    public List<Produto> getProdutos() {
+        return produtos;
+    }
+
+    public boolean isEmpty() {
+        return produtos.isEmpty();
+    }
+
+    /**
+     * Grava a estrutura do índice; os produtos são referenciados pela posição no catálogo, que
+     * deve ser gravado à parte e na mesma ordem de {@link #getProdutos()}.
+     */
+    void gravar(DataOutput saida) throws IOException {
+        var posicoes = new IdentityHashMap<Produto, Integer>();
+        for (int posicao = 0; posicao < produtos.size(); posicao++) {
+            posicoes.put(produtos.get(posicao), posicao);
+        }
+        for (var produto : porPrioridade) {
+            saida.writeInt(posicoes.get(produto));
+        }
+        saida.writeInt(cortesPrazo.length);
+        for (int corte : cortesPrazo) {
+            saida.writeInt(corte);
+        }
+        saida.writeInt(nos.length);
+        for (var envelope : nos) {
+            if (envelope == null) {
+                saida.writeInt(-1);
+                continue;
+            }
+            saida.writeInt(envelope.limites.length);
+            saida.writeInt(envelope.inicial);
+            for (int i = 0; i < envelope.limites.length; i++) {
+                ArquivoCatalogo.gravarDecimal(saida, envelope.limites[i]);
+                saida.writeBoolean(envelope.depois[i]);
+                saida.writeInt(envelope.prioridades[i]);
+            }
+        }
+    }
+
+    /**
+     * Lê a estrutura gravada por {@link #gravar} sobre o catálogo já lido, na mesma ordem.
+     *
+     * @throws IllegalArgumentException se a estrutura não corresponder ao catálogo
+     */
+    static IndiceElegibilidade ler(ByteBuffer entrada, List<Produto> produtos) {
+        var porPrioridade = new Produto[produtos.size()];
+        for (int prioridade = 0; prioridade < porPrioridade.length; prioridade++) {
+            porPrioridade[prioridade] = produtos.get(ArquivoCatalogo.lerPosicao(entrada, produtos.size()));
+        }
+        var cortesPrazo = new int[ArquivoCatalogo.lerTamanho(entrada)];
+        for (int i = 0; i < cortesPrazo.length; i++) {
+            cortesPrazo[i] = entrada.getInt();
+        }
+        int quantidadeNos = ArquivoCatalogo.lerTamanho(entrada);
+        if (quantidadeNos < 2 || Integer.bitCount(quantidadeNos) != 1 || quantidadeNos / 2 < cortesPrazo.length + 1) {
+            throw new IllegalArgumentException("Árvore de prazos inválida: " + quantidadeNos + " nós");
+        }
+        var nos = new Envelope[quantidadeNos];
+        for (int no = 0; no < nos.length; no++) {
+            int quantidadeLimites = entrada.getInt();
+            if (quantidadeLimites < 0) {
+                continue;
+            }
+            int inicial = lerPrioridade(entrada, porPrioridade.length);
+            var limites = new BigDecimal[quantidadeLimites];
+            var depois = new boolean[quantidadeLimites];
+            var prioridades = new int[quantidadeLimites];
+            for (int i = 0; i < quantidadeLimites; i++) {
+                limites[i] = ArquivoCatalogo.lerDecimal(entrada);
+                depois[i] = entrada.get() != 0;
+                prioridades[i] = lerPrioridade(entrada, porPrioridade.length);
+            }
+            nos[no] = new Envelope(inicial, limites, depois, prioridades);
+        }
+        return produtos.isEmpty() ? VAZIO : new IndiceElegibilidade(List.copyOf(produtos), porPrioridade, cortesPrazo, nos);
+    }
+
+    private static int lerPrioridade(ByteBuffer entrada, int quantidade) {
+        int prioridade = entrada.getInt();
+        if (prioridade != NENHUM && (prioridade < 0 || prioridade >= quantidade)) {
+            throw new IllegalArgumentException("Prioridade fora do catálogo: " + prioridade);
+        }
+        return prioridade;
+    }
+
+    /**
+     * Faixa de prazos que contém o prazo informado: quantidade de cortes menores ou iguais a ele.
+     */
+    private int faixa(int prazo) {
+        int posicao = Arrays.binarySearch(cortesPrazo, prazo);
+        return posicao >= 0 ? posicao + 1 : -posicao - 1;
+    }
+
+    private static int[] cortesPrazo(Produto[] produtos) {
+        return Arrays.stream(produtos)
+                .flatMapToInt(produto -> IntStream.of(
+                        produto.getNuMinimoMeses() == null ? Integer.MIN_VALUE : produto.getNuMinimoMeses(),
+                        produto.getNuMaximoMeses() == null ? Integer.MIN_VALUE : produto.getNuMaximoMeses() + 1))
+                .filter(prazo -> prazo != Integer.MIN_VALUE)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static void registrar(List<List<Integer>> registrados, int no, int prioridade) {
+        if (registrados.get(no) == null) {
+            registrados.set(no, new ArrayList<>());
+        }
+        registrados.get(no).add(prioridade);
+    }
+
+    /**
+     * Produto de menor prioridade em cada trecho de valor de um nó. O trecho {@code k} começa no
+     * limite {@code k} e vai até o próximo; antes do primeiro limite vale {@code inicial}. Um
+     * limite é o próprio valor ({@code depois = false}, início de um intervalo fechado) ou o
+     * ponto imediatamente após ele ({@code depois = true}, fim de um intervalo fechado).
+     */
+    private static final class Envelope {
+
+        private final int inicial;
+        private final BigDecimal[] limites;
+        private final boolean[] depois;
+        private final int[] prioridades;
+
+        private Envelope(int inicial, BigDecimal[] limites, boolean[] depois, int[] prioridades) {
+            this.inicial = inicial;
+            this.limites = limites;
+            this.depois = depois;
+            this.prioridades = prioridades;
+        }
+
+        int consultar(BigDecimal valor) {
+            // Último limite menor ou igual ao valor consultado
+            int baixo = 0;
+            int alto = limites.length;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                int comparacao = limites[meio].compareTo(valor);
+                if (comparacao < 0 || (comparacao == 0 && !depois[meio])) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo == 0 ? inicial : prioridades[baixo - 1];
+        }
+
+        /**
+         * Varre os limites em ordem mantendo os produtos ativos em uma fila de prioridade; os que
+         * já terminaram são descartados quando chegam ao topo.
+         */
+        static Envelope construir(List<Integer> registrados, Produto[] porPrioridade) {
+            record Limite(BigDecimal valor, boolean depois) implements Comparable<Limite> {
+                @Override
+                public int compareTo(Limite outro) {
+                    int comparacao = valor.compareTo(outro.valor);
+                    return comparacao != 0 ? comparacao : Boolean.compare(depois, outro.depois);
+                }
+            }
+
+            var ativos = new PriorityQueue<Integer>();
+            var inicios = new ArrayList<Integer>();
+            var pontos = new ArrayList<Limite>();
+            for (int prioridade : registrados) {
+                var produto = porPrioridade[prioridade];
+                if (produto.getVrMinimo() == null) {
+                    ativos.add(prioridade);
+                } else {
+                    inicios.add(prioridade);
+                    pontos.add(new Limite(produto.getVrMinimo(), false));
+                }
+                if (produto.getVrMaximo() != null) {
+                    pontos.add(new Limite(produto.getVrMaximo(), true));
+                }
+            }
+            inicios.sort(Comparator.comparing(prioridade -> porPrioridade[prioridade].getVrMinimo()));
+            pontos.sort(null);
+
+            int inicial = ativos.isEmpty() ? NENHUM : ativos.peek();
+            var limites = new ArrayList<BigDecimal>();
+            var depois = new ArrayList<Boolean>();
+            var prioridades = new ArrayList<Integer>();
+            int anterior = inicial;
+            int proximoInicio = 0;
+            Limite ultimo = null;
+            for (var ponto : pontos) {
+                if (ultimo != null && ultimo.compareTo(ponto) == 0) {
+                    continue;
+                }
+                ultimo = ponto;
+                while (proximoInicio < inicios.size()
+                        && porPrioridade[inicios.get(proximoInicio)].getVrMinimo().compareTo(ponto.valor()) <= 0
+                        && !ponto.depois()) {
+                    ativos.add(inicios.get(proximoInicio++));
+                }
+                while (!ativos.isEmpty() && terminou(porPrioridade[ativos.peek()], ponto.valor(), ponto.depois())) {
+                    ativos.poll();
+                }
+
+                int atual = ativos.isEmpty() ? NENHUM : ativos.peek();
+                if (atual != anterior) {
+                    limites.add(ponto.valor());
+                    depois.add(ponto.depois());
+                    prioridades.add(atual);
+                    anterior = atual;
+                }
+            }
+
+            boolean[] depoisVetor = new boolean[depois.size()];
+            for (int i = 0; i < depoisVetor.length; i++) {
+                depoisVetor[i] = depois.get(i);
+            }
+            return new Envelope(inicial, limites.toArray(BigDecimal[]::new), depoisVetor,
+                    prioridades.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * Um produto deixa de ser elegível no ponto imediatamente após {@code vrMaximo}.
+         */
+        private static boolean terminou(Produto produto, BigDecimal valor, boolean depois) {
+            if (produto.getVrMaximo() == null) {
+                return false;
+            }
+            int comparacao = produto.getVrMaximo().compareTo(valor);
+            return comparacao < 0 || (comparacao == 0 && depois);
+        }
+    }
+}
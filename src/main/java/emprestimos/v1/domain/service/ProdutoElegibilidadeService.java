@@ -58,6 +58,36 @@ public class ProdutoElegibilidadeService {
             .min(Comparator.comparing(Produto::getPcTaxaJuros));
     }
 
+    /**
+     * Mesma escolha de {@link #encontrarMelhorProdutoOptional(List, BigDecimal, int)} sobre o catálogo
+     * indexado, sem percorrer todos os produtos.
+     */
+    public Optional<Produto> encontrarMelhorProdutoOptional(IndiceElegibilidade indice, BigDecimal valorDesejado, int prazo) {
+        if (indice == null || indice.isEmpty()) {
+            throw ProdutoException.produtosNaoDisponiveis();
+        }
+
+        Optional<Produto> melhorProduto = indice.encontrarMelhorProduto(valorDesejado, prazo);
+
+        if (melhorProduto.isEmpty()) {
+            throw ProdutoException.produtosNaoElegiveis(valorDesejado.doubleValue(), prazo);
+        }
+
+        return melhorProduto;
+    }
+
+    /**
+     * Mesma escolha de {@link #encontrarProdutoPorSimulacao(List, BigDecimal, int)} sobre o catálogo
+     * indexado, sem percorrer todos os produtos.
+     */
+    public Optional<Produto> encontrarProdutoPorSimulacao(IndiceElegibilidade indice, BigDecimal valorDesejado, int prazo) {
+        if (indice == null) {
+            return Optional.empty();
+        }
+
+        return indice.encontrarMelhorProduto(valorDesejado, prazo);
+    }
+
     /**
      * Verifica se um produto é elegível para o valor e prazo especificados.
      */
@@ -0,0 +1,294 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Simulações de um dia em memória, em colunas de tipos primitivos e com um índice de linhas por
+ * produto, para as consultas por produto e dia sem acesso ao banco.
+ *
+ * Os valores monetários e a taxa ficam como inteiros na escala das colunas de {@code simulacao}
+ * (2 e 4 casas), com {@link Long#MIN_VALUE} no lugar de nulo. O segmento só cresce: a escrita é
+ * serializada e publica a nova linha ao atualizar o tamanho, de modo que a leitura não bloqueia e
+ * vê um prefixo consistente das linhas. As consultas entregam as simulações na ordem do id, como
+ * a consulta ao banco: os índices de linhas (o geral e os por produto) são mantidos ordenados na
+ * escrita, acrescentando no fim quando o id é o maior e, quando chega fora de ordem, publicando
+ * uma cópia com a linha inserida na posição, de modo que a leitura nunca ordena nem copia.
+ *
+ * Durante a carga inicial ({@link #concluirCarga}) os ids são conferidos, porque a mesma simulação
+ * pode ser lida do banco e registrada pela criação; depois dela, cada simulação é adicionada uma
+ * única vez. Ao atingir o limite de linhas o segmento deixa de aceitar simulações e deixa de estar
+ * {@linkplain #disponivel() disponível}.
+ */
+public final class SegmentoSimulacoesDia {
+
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    private static final long NULO = Long.MIN_VALUE;
+
+    private static final int SEM_PRODUTO = Integer.MIN_VALUE;
+
+    private static final int ESCALA_VALOR = 2;
+
+    private static final int ESCALA_TAXA = 4;
+
+    private final LocalDate dia;
+
+    private final int limite;
+
+    private volatile Colunas colunas;
+
+    private volatile int tamanho;
+
+    private final Linhas todas = new Linhas();
+
+    private final Map<Integer, Linhas> linhasPorProduto = new ConcurrentHashMap<>();
+
+    /**
+     * Ids adicionados enquanto a carga não termina; nulo depois dela.
+     */
+    private Set<Long> idsDaCarga = new HashSet<>();
+
+    private volatile boolean carregado;
+
+    private volatile boolean esgotado;
+
+    public SegmentoSimulacoesDia(LocalDate dia, int limite) {
+        this.dia = dia;
+        this.limite = limite;
+        this.colunas = new Colunas(Math.min(CAPACIDADE_INICIAL, Math.max(1, limite)));
+    }
+
+    public LocalDate dia() {
+        return dia;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Carga concluída e limite não atingido: o segmento contém todas as simulações do dia.
+     */
+    public boolean disponivel() {
+        return carregado && !esgotado;
+    }
+
+    /**
+     * @return falso se a simulação já estava no segmento ou se o limite foi atingido
+     */
+    public synchronized boolean adicionar(SimulacaoDoDia simulacao) {
+        if (esgotado || (idsDaCarga != null && !idsDaCarga.add(simulacao.id()))) {
+            return false;
+        }
+        int linha = tamanho;
+        if (linha == limite) {
+            esgotado = true;
+            return false;
+        }
+        var atuais = colunas;
+        if (linha == atuais.id.length) {
+            atuais = atuais.ampliar((int) Math.min(limite, 2L * linha));
+            colunas = atuais;
+        }
+        atuais.gravar(linha, simulacao);
+
+        todas.adicionar(linha, atuais.id);
+        if (simulacao.coProduto() != null) {
+            linhasPorProduto.computeIfAbsent(simulacao.coProduto(), codigo -> new Linhas()).adicionar(linha, atuais.id);
+        }
+        tamanho = linha + 1;
+        return true;
+    }
+
+    /**
+     * Marca o fim da carga inicial; a partir daqui o segmento responde pelas consultas do dia.
+     */
+    public synchronized void concluirCarga() {
+        idsDaCarga = null;
+        carregado = true;
+    }
+
+    /**
+     * Entrega ao consumidor, na ordem do id, as simulações do dia de todos os produtos ou de um só.
+     */
+    public void percorrer(Integer coProduto, Consumer<SimulacaoDoDia> consumidor) {
+        var indice = coProduto == null ? todas : linhasPorProduto.get(coProduto);
+        if (indice == null) {
+            return;
+        }
+        var linhas = indice.atual;
+        var atuais = colunas;
+        for (int posicao = 0; posicao < linhas.tamanho(); posicao++) {
+            consumidor.accept(atuais.ler(linhas.itens()[posicao]));
+        }
+    }
+
+    /**
+     * Totais do dia por produto, na ordem do código, no formato do resumo diário gravado.
+     */
+    public List<ResumoDiarioProduto> resumir(Integer coProduto) {
+        var codigos = coProduto == null ? new TreeSet<>(linhasPorProduto.keySet()) : Set.of(coProduto);
+        var resumos = new ArrayList<ResumoDiarioProduto>(codigos.size());
+        for (var codigo : codigos) {
+            var doProduto = linhasPorProduto.get(codigo);
+            if (doProduto == null) {
+                continue;
+            }
+            var linhas = doProduto.atual;
+            var atuais = colunas;
+            long taxa = 0;
+            long prestacao = 0;
+            long desejado = 0;
+            long credito = 0;
+            for (int posicao = 0; posicao < linhas.tamanho(); posicao++) {
+                int linha = linhas.itens()[posicao];
+                taxa = somar(taxa, atuais.taxaMediaJuros[linha]);
+                prestacao = somar(prestacao, atuais.valorMedioPrestacao[linha]);
+                desejado = somar(desejado, atuais.valorDesejado[linha]);
+                credito = somar(credito, atuais.valorTotalCredito[linha]);
+            }
+            var resumo = new ResumoDiarioProduto(dia, codigo);
+            resumo.setQuantidade((long) linhas.tamanho());
+            resumo.setSomaTaxaJuros(BigDecimal.valueOf(taxa, ESCALA_TAXA));
+            resumo.setSomaValorMedioPrestacao(BigDecimal.valueOf(prestacao, ESCALA_VALOR));
+            resumo.setSomaValorDesejado(BigDecimal.valueOf(desejado, ESCALA_VALOR));
+            resumo.setSomaValorTotalCredito(BigDecimal.valueOf(credito, ESCALA_VALOR));
+            resumos.add(resumo);
+        }
+        return resumos;
+    }
+
+    private static long somar(long soma, long valor) {
+        return valor == NULO ? soma : Math.addExact(soma, valor);
+    }
+
+    private static long paraInteiro(BigDecimal valor, int escala) {
+        return valor == null ? NULO : valor.setScale(escala, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal paraDecimal(long valor, int escala) {
+        return valor == NULO ? null : BigDecimal.valueOf(valor, escala);
+    }
+
+    /**
+     * Uma coluna por campo de {@link SimulacaoDoDia}; ampliar copia as linhas para vetores maiores.
+     */
+    private static final class Colunas {
+
+        final long[] id;
+        final int[] coProduto;
+        final long[] valorDesejado;
+        final long[] prazo;
+        final long[] taxaMediaJuros;
+        final long[] valorMedioPrestacao;
+        final long[] valorTotalDesejado;
+        final long[] valorTotalCredito;
+
+        Colunas(int capacidade) {
+            this(new long[capacidade], new int[capacidade], new long[capacidade], new long[capacidade],
+                    new long[capacidade], new long[capacidade], new long[capacidade], new long[capacidade]);
+        }
+
+        private Colunas(long[] id, int[] coProduto, long[] valorDesejado, long[] prazo, long[] taxaMediaJuros,
+                        long[] valorMedioPrestacao, long[] valorTotalDesejado, long[] valorTotalCredito) {
+            this.id = id;
+            this.coProduto = coProduto;
+            this.valorDesejado = valorDesejado;
+            this.prazo = prazo;
+            this.taxaMediaJuros = taxaMediaJuros;
+            this.valorMedioPrestacao = valorMedioPrestacao;
+            this.valorTotalDesejado = valorTotalDesejado;
+            this.valorTotalCredito = valorTotalCredito;
+        }
+
+        Colunas ampliar(int capacidade) {
+            return new Colunas(Arrays.copyOf(id, capacidade), Arrays.copyOf(coProduto, capacidade),
+                    Arrays.copyOf(valorDesejado, capacidade), Arrays.copyOf(prazo, capacidade),
+                    Arrays.copyOf(taxaMediaJuros, capacidade), Arrays.copyOf(valorMedioPrestacao, capacidade),
+                    Arrays.copyOf(valorTotalDesejado, capacidade), Arrays.copyOf(valorTotalCredito, capacidade));
+        }
+
+        void gravar(int linha, SimulacaoDoDia simulacao) {
+            id[linha] = simulacao.id();
+            coProduto[linha] = simulacao.coProduto() == null ? SEM_PRODUTO : simulacao.coProduto();
+            valorDesejado[linha] = paraInteiro(simulacao.valorDesejado(), ESCALA_VALOR);
+            prazo[linha] = simulacao.prazo();
+            taxaMediaJuros[linha] = paraInteiro(simulacao.taxaMediaJuros(), ESCALA_TAXA);
+            valorMedioPrestacao[linha] = paraInteiro(simulacao.valorMedioPrestacao(), ESCALA_VALOR);
+            valorTotalDesejado[linha] = paraInteiro(simulacao.valorTotalDesejado(), ESCALA_VALOR);
+            valorTotalCredito[linha] = paraInteiro(simulacao.valorTotalCredito(), ESCALA_VALOR);
+        }
+
+        SimulacaoDoDia ler(int linha) {
+            return new SimulacaoDoDia(id[linha], coProduto[linha] == SEM_PRODUTO ? null : coProduto[linha],
+                    paraDecimal(valorDesejado[linha], ESCALA_VALOR), prazo[linha],
+                    paraDecimal(taxaMediaJuros[linha], ESCALA_TAXA), paraDecimal(valorMedioPrestacao[linha], ESCALA_VALOR),
+                    paraDecimal(valorTotalDesejado[linha], ESCALA_VALOR), paraDecimal(valorTotalCredito[linha], ESCALA_VALOR));
+        }
+    }
+
+    /**
+     * Índice de linhas em ordem de id. Cada escrita publica um {@link Visao} novo; as posições
+     * abaixo do tamanho de uma visão publicada nunca mudam, porque o acréscimo no fim só escreve
+     * além delas e a inserção no meio grava em um vetor novo.
+     */
+    private static final class Linhas {
+
+        private volatile Visao atual = new Visao(new int[64], 0);
+
+        void adicionar(int linha, long[] ids) {
+            var visao = atual;
+            int[] itens = visao.itens();
+            int quantidade = visao.tamanho();
+            long id = ids[linha];
+            if (quantidade == 0 || ids[itens[quantidade - 1]] < id) {
+                if (quantidade == itens.length) {
+                    itens = Arrays.copyOf(itens, 2 * itens.length);
+                }
+                itens[quantidade] = linha;
+            } else {
+                int posicao = posicao(itens, quantidade, ids, id);
+                int[] novos = new int[Math.max(itens.length, quantidade + 1)];
+                System.arraycopy(itens, 0, novos, 0, posicao);
+                novos[posicao] = linha;
+                System.arraycopy(itens, posicao, novos, posicao + 1, quantidade - posicao);
+                itens = novos;
+            }
+            atual = new Visao(itens, quantidade + 1);
+        }
+
+        /**
+         * Primeira posição cujo id é maior que o informado.
+         */
+        private static int posicao(int[] itens, int quantidade, long[] ids, long id) {
+            int inicio = 0;
+            int fim = quantidade;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (ids[itens[meio]] <= id) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+    }
+
+    private record Visao(int[] itens, int tamanho) {
+    }
+}
@@ -0,0 +1,41 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ResultadoSimulacaoDTO;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Resultado do cálculo de uma simulação nos sistemas SAC e PRICE, com os valores
+ * total e médio das prestações de cada sistema já apurados.
+ *
+ * É produzido uma única vez por {@link CalculadoraFinanceiraService#calcularSimulacaoCompleta}
+ * e percorre todo o fluxo de criação (resposta, persistência e eventos) sem novo cálculo.
+ */
+public record SimulacaoCalculada(Amortizacao sac, Amortizacao price) {
+
+    /**
+     * Resultados na ordem de apresentação da API: SAC e depois PRICE.
+     */
+    public List<ResultadoSimulacaoDTO> resultados() {
+        return List.of(sac.resultado(), price.resultado());
+    }
+
+    public Amortizacao porTipo(TipoAmortizacao tipo) {
+        return switch (tipo) {
+            case SAC -> sac;
+            case PRICE -> price;
+        };
+    }
+
+    /**
+     * Cronograma de um sistema de amortização e seus agregados.
+     *
+     * @param resultado Tipo e parcelas do sistema
+     * @param valorTotal Soma das prestações, na escala monetária
+     * @param valorMedio Média das prestações, na escala monetária
+     */
+    public record Amortizacao(ResultadoSimulacaoDTO resultado, BigDecimal valorTotal, BigDecimal valorMedio) {
+    }
+}
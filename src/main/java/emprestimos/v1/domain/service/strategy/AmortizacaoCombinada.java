@@ -0,0 +1,58 @@
+package emprestimos.v1.domain.service.strategy;
+
+import java.math.BigDecimal;
+
+/**
+ * Cálculo combinado dos sistemas SAC e PRICE para os mesmos parâmetros.
+ *
+ * Os dois cronogramas são gerados em um único laço de ponto fixo
+ * ({@link AmortizacaoPontoFixo#calcularSacEPrice}), que também acumula o valor total
+ * das prestações. O resultado é idêntico ao das estratégias executadas separadamente e
+ * os cronogramas ficam no formato colunar ({@link CronogramaColunar}).
+ */
+public final class AmortizacaoCombinada {
+
+    private AmortizacaoCombinada() {
+
+    }
+
+    /**
+     * Calcula os cronogramas SAC e PRICE e seus totais.
+     * Exige que {@link AmortizacaoPontoFixo#suporta(BigDecimal, BigDecimal)} seja verdadeiro.
+     */
+    public static Resultado calcular(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal amortizacaoConstante = SacCalculadoraStrategy.calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
+        BigDecimal prestacaoConstante = CoeficientePrice.calcularPrestacao(valorFinanciado, taxaMensal, prazoMeses);
+
+        long amortizacao = AmortizacaoPontoFixo.escalar(amortizacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR);
+        long prestacao = AmortizacaoPontoFixo.escalar(prestacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR);
+
+        long[] amortizacaoSac = new long[prazoMeses];
+        long[] jurosSac = new long[prazoMeses];
+        long[] prestacaoSac = new long[prazoMeses];
+        long[] amortizacaoPrice = new long[prazoMeses];
+        long[] jurosPrice = new long[prazoMeses];
+        long[] prestacaoPrice = new long[prazoMeses];
+
+        long totalSac = AmortizacaoPontoFixo.calcularSacEPrice(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                amortizacao, prestacao, prazoMeses,
+                amortizacaoSac, jurosSac, prestacaoSac,
+                amortizacaoPrice, jurosPrice, prestacaoPrice);
+        long totalPrice = Math.multiplyExact(prestacao, (long) prazoMeses);
+
+        return new Resultado(
+                new CronogramaColunar(amortizacaoSac, jurosSac, prestacaoSac, prazoMeses),
+                new CronogramaColunar(amortizacaoPrice, jurosPrice, prestacaoPrice, prazoMeses),
+                AmortizacaoPontoFixo.paraDecimal(totalSac),
+                AmortizacaoPontoFixo.paraDecimal(totalPrice));
+    }
+
+    /**
+     * Cronogramas SAC e PRICE com a soma das prestações de cada sistema.
+     */
+    public record Resultado(CronogramaColunar parcelasSac, CronogramaColunar parcelasPrice,
+                            BigDecimal valorTotalSac, BigDecimal valorTotalPrice) {
+    }
+}
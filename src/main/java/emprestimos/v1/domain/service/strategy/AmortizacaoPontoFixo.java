@@ -0,0 +1,325 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.enums.FinanceiroConstant;
+
+import java.math.BigDecimal;
+
+/**
+ * Núcleo de cálculo em ponto fixo para os sistemas SAC e PRICE.
+ *
+ * Valores monetários são representados em centavos ({@code long} na escala
+ * {@link FinanceiroConstant#DECIMAL_SCALE}) e a taxa mensal em unidades da escala
+ * {@link FinanceiroConstant#TAXA_SCALE}. O laço de parcelas não aloca objetos: os
+ * resultados são escritos em vetores primitivos fornecidos pelo chamador e o
+ * arredondamento HALF_UP é reproduzido em aritmética inteira, de modo que o resultado
+ * é idêntico, bit a bit, ao cálculo com {@link BigDecimal}.
+ */
+public final class AmortizacaoPontoFixo {
+
+    static final int ESCALA_VALOR = FinanceiroConstant.DECIMAL_SCALE.getValor();
+    static final int ESCALA_TAXA = FinanceiroConstant.TAXA_SCALE.getValor();
+
+    /**
+     * Limite para o produto saldo × taxa, com folga para o saldo residual negativo
+     * que o arredondamento pode produzir nas últimas parcelas.
+     */
+    private static final long LIMITE_PRODUTO = Long.MAX_VALUE / 4;
+
+    static final long FATOR_TAXA = BigDecimal.ONE.movePointRight(ESCALA_TAXA).longValueExact();
+
+    /**
+     * Quantidade de simulações intercaladas no cálculo em lote; limita o número de vetores de
+     * saída escritos simultaneamente e mantém os saldos do bloco em cache L1.
+     */
+    static final int RAIAS_POR_BLOCO = 8;
+
+    private AmortizacaoPontoFixo() {
+
+    }
+
+    /**
+     * Indica se os parâmetros podem ser representados em ponto fixo sem perda.
+     * Quando não podem, o chamador deve usar o cálculo com BigDecimal.
+     */
+    public static boolean suporta(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+        if (!representavel(valorFinanciado, ESCALA_VALOR) || !representavel(taxaMensal, ESCALA_TAXA)) {
+            return false;
+        }
+        long valor = Math.abs(escalar(valorFinanciado, ESCALA_VALOR));
+        long taxa = Math.max(1L, Math.abs(escalar(taxaMensal, ESCALA_TAXA)));
+        return valor <= LIMITE_PRODUTO / taxa;
+    }
+
+    /**
+     * Calcula o cronograma SAC escrevendo amortização, juros e prestação de cada mês,
+     * em centavos, nos vetores informados (índice 0 corresponde à parcela 1).
+     *
+     * @param amortizacaoConstante Amortização mensal já arredondada, em centavos
+     */
+    public static void calcularSac(long valorCentavos, long taxa, long amortizacaoConstante, int prazoMeses,
+                                   long[] amortizacao, long[] juros, long[] prestacao) {
+        long saldoDevedor = valorCentavos;
+
+        for (int i = 0; i < prazoMeses; i++) {
+            long jurosParcela = arredondarHalfUp(saldoDevedor * taxa, FATOR_TAXA);
+            amortizacao[i] = amortizacaoConstante;
+            juros[i] = jurosParcela;
+            prestacao[i] = amortizacaoConstante + jurosParcela;
+            saldoDevedor -= amortizacaoConstante;
+        }
+    }
+
+    /**
+     * Calcula o cronograma PRICE escrevendo amortização, juros e prestação de cada mês,
+     * em centavos, nos vetores informados (índice 0 corresponde à parcela 1).
+     *
+     * @param prestacaoConstante Prestação constante já arredondada, em centavos
+     */
+    public static void calcularPrice(long valorCentavos, long taxa, long prestacaoConstante, int prazoMeses,
+                                     long[] amortizacao, long[] juros, long[] prestacao) {
+        long saldoDevedor = valorCentavos;
+
+        for (int i = 0; i < prazoMeses; i++) {
+            long jurosParcela = arredondarHalfUp(saldoDevedor * taxa, FATOR_TAXA);
+            long amortizacaoParcela = prestacaoConstante - jurosParcela;
+            amortizacao[i] = amortizacaoParcela;
+            juros[i] = jurosParcela;
+            prestacao[i] = prestacaoConstante;
+            saldoDevedor -= amortizacaoParcela;
+        }
+    }
+
+    /**
+     * Calcula os cronogramas SAC e PRICE em um único laço, escrevendo cada sistema nos seus
+     * vetores (índice 0 corresponde à parcela 1), e acumula a soma das prestações SAC.
+     * No PRICE a soma é {@code prazoMeses × prestacaoConstante} e dispensa acumulação.
+     *
+     * @return Soma das prestações SAC, em centavos
+     */
+    public static long calcularSacEPrice(long valorCentavos, long taxa, long amortizacaoConstante, long prestacaoConstante,
+                                         int prazoMeses,
+                                         long[] amortizacaoSac, long[] jurosSac, long[] prestacaoSac,
+                                         long[] amortizacaoPrice, long[] jurosPrice, long[] prestacaoPrice) {
+        long saldoSac = valorCentavos;
+        long saldoPrice = valorCentavos;
+        long totalSac = 0L;
+
+        for (int i = 0; i < prazoMeses; i++) {
+            long jurosParcelaSac = arredondarHalfUp(saldoSac * taxa, FATOR_TAXA);
+            long jurosParcelaPrice = arredondarHalfUp(saldoPrice * taxa, FATOR_TAXA);
+            long amortizacaoParcelaPrice = prestacaoConstante - jurosParcelaPrice;
+
+            amortizacaoSac[i] = amortizacaoConstante;
+            jurosSac[i] = jurosParcelaSac;
+            prestacaoSac[i] = amortizacaoConstante + jurosParcelaSac;
+            totalSac += prestacaoSac[i];
+
+            amortizacaoPrice[i] = amortizacaoParcelaPrice;
+            jurosPrice[i] = jurosParcelaPrice;
+            prestacaoPrice[i] = prestacaoConstante;
+
+            saldoSac -= amortizacaoConstante;
+            saldoPrice -= amortizacaoParcelaPrice;
+        }
+        return totalSac;
+    }
+
+    /**
+     * Calcula cronogramas SAC de várias simulações com o mesmo prazo; cada simulação ocupa uma
+     * raia (posição nos vetores de entrada e primeira dimensão das matrizes de saída). No SAC o
+     * saldo não depende dos juros, então o laço de uma única raia já não espera a divisão de um
+     * mês para iniciar o seguinte: as raias são calculadas uma a uma por {@link #calcularSac}.
+     */
+    public static void calcularSacEmLote(long[] valoresCentavos, long[] taxas, long[] amortizacoesConstantes, int prazoMeses,
+                                         long[][] amortizacao, long[][] juros, long[][] prestacao) {
+        for (int raia = 0; raia < valoresCentavos.length; raia++) {
+            calcularSac(valoresCentavos[raia], taxas[raia], amortizacoesConstantes[raia], prazoMeses,
+                    amortizacao[raia], juros[raia], prestacao[raia]);
+        }
+    }
+
+    /**
+     * Calcula cronogramas PRICE de várias simulações com o mesmo prazo. No PRICE o saldo do mês
+     * seguinte depende dos juros do mês corrente, e cada parcela espera a latência da divisão
+     * da anterior; como as recorrências de simulações diferentes são independentes, o laço
+     * intercala as raias mês a mês, em blocos de {@link #RAIAS_POR_BLOCO}, e o processador
+     * sobrepõe as divisões de raias diferentes. O resultado de cada raia é idêntico a
+     * {@link #calcularPrice}.
+     */
+    public static void calcularPriceEmLote(long[] valoresCentavos, long[] taxas, long[] prestacoesConstantes, int prazoMeses,
+                                           long[][] amortizacao, long[][] juros, long[][] prestacao) {
+        long[] saldos = new long[RAIAS_POR_BLOCO];
+
+        for (int inicio = 0; inicio < valoresCentavos.length; inicio += RAIAS_POR_BLOCO) {
+            int raias = Math.min(RAIAS_POR_BLOCO, valoresCentavos.length - inicio);
+            System.arraycopy(valoresCentavos, inicio, saldos, 0, raias);
+
+            for (int i = 0; i < prazoMeses; i++) {
+                for (int r = 0; r < raias; r++) {
+                    int raia = inicio + r;
+                    long prestacaoConstante = prestacoesConstantes[raia];
+                    long jurosParcela = arredondarHalfUp(saldos[r] * taxas[raia], FATOR_TAXA);
+                    long amortizacaoParcela = prestacaoConstante - jurosParcela;
+                    amortizacao[raia][i] = amortizacaoParcela;
+                    juros[raia][i] = jurosParcela;
+                    prestacao[raia][i] = prestacaoConstante;
+                    saldos[r] -= amortizacaoParcela;
+                }
+            }
+        }
+    }
+
+    /**
+     * Saldo devedor SAC após {@code numeroParcela} pagamentos, em forma fechada.
+     */
+    public static long saldoSac(long valorCentavos, long amortizacaoConstante, int numeroParcela) {
+        return valorCentavos - numeroParcela * amortizacaoConstante;
+    }
+
+    /**
+     * Juros SAC da parcela informada (base 1), em forma fechada: incidem sobre o saldo após
+     * a parcela anterior, com o mesmo arredondamento do cronograma iterativo.
+     */
+    public static long jurosSac(long valorCentavos, long taxa, long amortizacaoConstante, int numeroParcela) {
+        return arredondarHalfUp(saldoSac(valorCentavos, amortizacaoConstante, numeroParcela - 1) * taxa, FATOR_TAXA);
+    }
+
+    /**
+     * Soma dos juros de todas as parcelas SAC.
+     *
+     * Os juros formam o arredondamento de uma progressão aritmética, cuja soma é obtida em
+     * O(log n) pela soma de pisos ({@link #somarPisos}). Se algum saldo intermediário for
+     * negativo (arredondamento da amortização em prazos muito longos) ou se os produtos
+     * excederem {@code long}, soma-se parcela a parcela.
+     */
+    public static long somarJurosSac(long valorCentavos, long taxa, long amortizacaoConstante, int prazoMeses) {
+        if (prazoMeses <= 0) {
+            return 0L;
+        }
+        long menorSaldo = saldoSac(valorCentavos, amortizacaoConstante, prazoMeses - 1);
+        if (menorSaldo >= 0 && amortizacaoConstante >= 0 && taxa >= 0) {
+            try {
+                // Para x >= 0, HALF_UP(x / M) = piso((2x + M) / 2M); percorre os saldos do menor para o maior
+                long passo = Math.multiplyExact(2L * taxa, amortizacaoConstante);
+                long inicio = Math.addExact(Math.multiplyExact(2L * taxa, menorSaldo), FATOR_TAXA);
+                return somarPisos(prazoMeses, 2L * FATOR_TAXA, passo, inicio);
+            } catch (ArithmeticException e) {
+                // Fora da faixa segura da soma de pisos: soma direta abaixo
+            }
+        }
+
+        long soma = 0L;
+        for (int parcela = 1; parcela <= prazoMeses; parcela++) {
+            soma += jurosSac(valorCentavos, taxa, amortizacaoConstante, parcela);
+        }
+        return soma;
+    }
+
+    /**
+     * Saldo devedor PRICE após {@code numeroParcela} pagamentos.
+     *
+     * O arredondamento dos juros a cada mês torna o saldo dependente do caminho, e a forma
+     * fechada da série contínua diverge dele em alguns centavos. Para manter o resultado
+     * idêntico ao cronograma, a recorrência é percorrida em aritmética inteira, sem alocação.
+     */
+    public static long saldoPrice(long valorCentavos, long taxa, long prestacaoConstante, int numeroParcela) {
+        long saldoDevedor = valorCentavos;
+        for (int i = 0; i < numeroParcela; i++) {
+            saldoDevedor -= prestacaoConstante - arredondarHalfUp(saldoDevedor * taxa, FATOR_TAXA);
+        }
+        return saldoDevedor;
+    }
+
+    /**
+     * Saldo devedor PRICE após {@code numeroParcela} pagamentos menos o resíduo que resta após
+     * {@code prazoMeses}, em uma única passagem pela recorrência.
+     */
+    public static long saldoPriceSemResiduo(long valorCentavos, long taxa, long prestacaoConstante,
+                                            int numeroParcela, int prazoMeses) {
+        long saldoDevedor = valorCentavos;
+        long saldoNaParcela = saldoDevedor;
+        for (int i = 1; i <= prazoMeses; i++) {
+            saldoDevedor -= prestacaoConstante - arredondarHalfUp(saldoDevedor * taxa, FATOR_TAXA);
+            if (i == numeroParcela) {
+                saldoNaParcela = saldoDevedor;
+            }
+        }
+        return saldoNaParcela - saldoDevedor;
+    }
+
+    /**
+     * Juros PRICE da parcela informada (base 1), calculados sobre o saldo após a parcela anterior,
+     * percorrendo a recorrência: O(k).
+     */
+    public static long jurosPrice(long valorCentavos, long taxa, long prestacaoConstante, int numeroParcela) {
+        return arredondarHalfUp(saldoPrice(valorCentavos, taxa, prestacaoConstante, numeroParcela - 1) * taxa, FATOR_TAXA);
+    }
+
+    /**
+     * Soma de pisos {@code Σ floor((a·i + b) / m)} para {@code i} em {@code [0, n)}, com
+     * {@code a, b >= 0} e {@code m > 0}, em O(log m). Lança ArithmeticException em caso de estouro.
+     */
+    static long somarPisos(long n, long m, long a, long b) {
+        long soma = 0L;
+        while (true) {
+            if (a >= m) {
+                soma = Math.addExact(soma, Math.multiplyExact(n * (n - 1) / 2, a / m));
+                a %= m;
+            }
+            if (b >= m) {
+                soma = Math.addExact(soma, Math.multiplyExact(n, b / m));
+                b %= m;
+            }
+            long yMaximo = Math.addExact(Math.multiplyExact(a, n), b);
+            if (yMaximo < m) {
+                return soma;
+            }
+            n = yMaximo / m;
+            b = yMaximo % m;
+            long troca = m;
+            m = a;
+            a = troca;
+        }
+    }
+
+    /**
+     * Divide com arredondamento HALF_UP (metade se afasta de zero), como
+     * {@link java.math.RoundingMode#HALF_UP}.
+     */
+    public static long arredondarHalfUp(long dividendo, long divisor) {
+        long dividendoAbs = Math.abs(dividendo);
+        long divisorAbs = Math.abs(divisor);
+        long quociente = dividendoAbs / divisorAbs;
+        long resto = dividendoAbs % divisorAbs;
+        if (resto >= divisorAbs - resto) {
+            quociente++;
+        }
+        return (dividendo < 0) != (divisor < 0) ? -quociente : quociente;
+    }
+
+    /**
+     * Converte um valor para a representação inteira na escala informada.
+     */
+    public static long escalar(BigDecimal valor, int escala) {
+        return valor.movePointRight(escala).longValueExact();
+    }
+
+    /**
+     * Converte um valor em centavos para BigDecimal na escala monetária.
+     */
+    public static BigDecimal paraDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, ESCALA_VALOR);
+    }
+
+    private static boolean representavel(BigDecimal valor, int escala) {
+        if (valor == null) {
+            return false;
+        }
+        try {
+            escalar(valor, escala);
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+}
@@ -19,4 +19,85 @@ public interface CalculadoraParcelasStrategy {
      * @return Lista de parcelas calculadas
      */
     List<ParcelaDTO> calcularParcelas(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses);
+
+    /**
+     * Retorna o cronograma como lista gerada sob demanda ({@link CronogramaParcelas}) quando o
+     * kernel de ponto fixo suporta os parâmetros; caso contrário, o cronograma materializado.
+     *
+     * @return Parcelas com o mesmo conteúdo de {@link #calcularParcelas}
+     */
+    List<ParcelaDTO> calcularParcelasSobDemanda(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses);
+
+    /**
+     * Calcula os cronogramas de várias simulações com o mesmo prazo em uma única chamada.
+     * O cronograma na posição {@code i} é idêntico a
+     * {@code calcularParcelas(valoresFinanciados.get(i), taxasMensais.get(i), prazoMeses)}.
+     *
+     * @param valoresFinanciados Valor financiado de cada simulação
+     * @param taxasMensais Taxa mensal de cada simulação, na mesma ordem dos valores
+     * @return Cronogramas na ordem da entrada
+     * @throws IllegalArgumentException Quando as listas têm tamanhos diferentes
+     */
+    default List<List<ParcelaDTO>> calcularParcelasEmLote(List<BigDecimal> valoresFinanciados,
+                                                          List<BigDecimal> taxasMensais,
+                                                          int prazoMeses) {
+        return CalculoEmLote.calcularIndividualmente(this, valoresFinanciados, taxasMensais, prazoMeses);
+    }
+
+    /**
+     * Calcula uma única parcela sem gerar o cronograma completo. O resultado é idêntico
+     * ao da parcela de mesmo número retornada por {@link #calcularParcelas}.
+     *
+     * @param numeroParcela Número da parcela, entre 1 e o prazo
+     * @return Parcela calculada
+     * @throws IllegalArgumentException Quando o número da parcela está fora do prazo
+     */
+    ParcelaDTO calcularParcela(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela);
+
+    /**
+     * Calcula o saldo devedor após o pagamento de {@code numeroParcela} parcelas, com o mesmo
+     * arredondamento do cronograma (valor financiado menos as amortizações pagas).
+     *
+     * @param numeroParcela Quantidade de parcelas pagas, entre 0 e o prazo
+     * @return Saldo devedor remanescente
+     * @throws IllegalArgumentException Quando o número da parcela está fora do prazo
+     */
+    BigDecimal calcularSaldoApos(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela);
+
+    /**
+     * Calcula o saldo devedor após o pagamento de {@code numeroParcela} parcelas sem o resíduo de
+     * arredondamento que sobra ao fim do prazo, isto é, {@code calcularSaldoApos(k)} menos
+     * {@code calcularSaldoApos(prazoMeses)}.
+     *
+     * @param numeroParcela Quantidade de parcelas pagas, entre 0 e o prazo
+     * @return Soma das amortizações das parcelas seguintes
+     * @throws IllegalArgumentException Quando o número da parcela está fora do prazo
+     */
+    default BigDecimal calcularSaldoDevedor(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        return calcularSaldoApos(valorFinanciado, taxaMensal, prazoMeses, numeroParcela)
+                .subtract(calcularSaldoApos(valorFinanciado, taxaMensal, prazoMeses, prazoMeses));
+    }
+
+    /**
+     * Calcula a soma das prestações do cronograma sem materializá-lo.
+     *
+     * @return Valor total das prestações
+     */
+    BigDecimal calcularValorTotalPrestacoes(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses);
+
+    /**
+     * Indica se o cálculo destes parâmetros usa o kernel de ponto fixo
+     * (kernel configurado e valores representáveis em centavos).
+     */
+    boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal);
+
+    /**
+     * Valida o número de parcela recebido pelos métodos de acesso direto.
+     */
+    static void validarNumeroParcela(int numeroParcela, int minimo, int prazoMeses) {
+        if (numeroParcela < minimo || numeroParcela > prazoMeses) {
+            throw new IllegalArgumentException(String.format(
+                    "Parcela %d fora do intervalo [%d, %d]", numeroParcela, minimo, prazoMeses));
+        }
+    }
 }
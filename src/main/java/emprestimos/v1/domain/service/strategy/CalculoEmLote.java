@@ -0,0 +1,113 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Distribui um lote de simulações com o mesmo prazo entre o kernel de ponto fixo em lote e o
+ * cálculo individual da estratégia.
+ *
+ * As simulações que o kernel de ponto fixo suporta são calculadas juntas, uma raia por
+ * simulação; as demais (valores fora da faixa de ponto fixo ou kernel BigDecimal configurado)
+ * seguem o cálculo individual. A ordem da entrada é preservada no resultado.
+ */
+final class CalculoEmLote {
+
+    private CalculoEmLote() {
+
+    }
+
+    /**
+     * Kernel de ponto fixo em lote ({@link AmortizacaoPontoFixo#calcularSacEmLote} ou
+     * {@link AmortizacaoPontoFixo#calcularPriceEmLote}).
+     */
+    @FunctionalInterface
+    interface KernelLote {
+        void calcular(long[] valoresCentavos, long[] taxas, long[] constantes, int prazoMeses,
+                      long[][] amortizacao, long[][] juros, long[][] prestacao);
+    }
+
+    /**
+     * @param constante Amortização (SAC) ou prestação (PRICE) constante de uma simulação
+     */
+    static List<List<ParcelaDTO>> calcular(CalculadoraParcelasStrategy estrategia,
+                                           List<BigDecimal> valoresFinanciados,
+                                           List<BigDecimal> taxasMensais,
+                                           int prazoMeses,
+                                           BiFunction<BigDecimal, BigDecimal, BigDecimal> constante,
+                                           KernelLote kernel) {
+        validar(valoresFinanciados, taxasMensais);
+        int quantidade = valoresFinanciados.size();
+        List<ParcelaDTO>[] resultado = novoResultado(quantidade);
+
+        int[] posicoes = new int[quantidade];
+        int raias = 0;
+        for (int i = 0; i < quantidade; i++) {
+            BigDecimal valor = valoresFinanciados.get(i);
+            BigDecimal taxa = taxasMensais.get(i);
+            if (estrategia.usaPontoFixo(valor, taxa)) {
+                posicoes[raias++] = i;
+            } else {
+                resultado[i] = estrategia.calcularParcelas(valor, taxa, prazoMeses);
+            }
+        }
+
+        if (raias > 0) {
+            int tamanho = Math.max(prazoMeses, 0);
+            long[] valores = new long[raias];
+            long[] taxas = new long[raias];
+            long[] constantes = new long[raias];
+            long[][] amortizacao = new long[raias][tamanho];
+            long[][] juros = new long[raias][tamanho];
+            long[][] prestacao = new long[raias][tamanho];
+
+            for (int r = 0; r < raias; r++) {
+                BigDecimal valor = valoresFinanciados.get(posicoes[r]);
+                BigDecimal taxa = taxasMensais.get(posicoes[r]);
+                valores[r] = AmortizacaoPontoFixo.escalar(valor, AmortizacaoPontoFixo.ESCALA_VALOR);
+                taxas[r] = AmortizacaoPontoFixo.escalar(taxa, AmortizacaoPontoFixo.ESCALA_TAXA);
+                constantes[r] = AmortizacaoPontoFixo.escalar(constante.apply(valor, taxa), AmortizacaoPontoFixo.ESCALA_VALOR);
+            }
+
+            kernel.calcular(valores, taxas, constantes, prazoMeses, amortizacao, juros, prestacao);
+
+            for (int r = 0; r < raias; r++) {
+                resultado[posicoes[r]] = new CronogramaColunar(amortizacao[r], juros[r], prestacao[r], prazoMeses);
+            }
+        }
+        return Arrays.asList(resultado);
+    }
+
+    /**
+     * Cálculo individual de cada simulação, usado quando a estratégia não tem kernel em lote.
+     */
+    static List<List<ParcelaDTO>> calcularIndividualmente(CalculadoraParcelasStrategy estrategia,
+                                                          List<BigDecimal> valoresFinanciados,
+                                                          List<BigDecimal> taxasMensais,
+                                                          int prazoMeses) {
+        validar(valoresFinanciados, taxasMensais);
+        List<List<ParcelaDTO>> resultado = new ArrayList<>(valoresFinanciados.size());
+        for (int i = 0; i < valoresFinanciados.size(); i++) {
+            resultado.add(estrategia.calcularParcelas(valoresFinanciados.get(i), taxasMensais.get(i), prazoMeses));
+        }
+        return resultado;
+    }
+
+    private static void validar(List<BigDecimal> valoresFinanciados, List<BigDecimal> taxasMensais) {
+        if (valoresFinanciados.size() != taxasMensais.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Quantidade de valores (%d) diferente da quantidade de taxas (%d)",
+                    valoresFinanciados.size(), taxasMensais.size()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ParcelaDTO>[] novoResultado(int quantidade) {
+        return (List<ParcelaDTO>[]) new List<?>[quantidade];
+    }
+}
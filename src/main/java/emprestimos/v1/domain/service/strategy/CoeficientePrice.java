@@ -0,0 +1,171 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.enums.FinanceiroConstant;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Cálculo da prestação constante do Sistema Price com precisão limitada.
+ *
+ * O cálculo exato de {@code (1 + i)^n} faz a escala crescer {@code TAXA_SCALE} dígitos por
+ * mês (um prazo de 360 meses gera um coeficiente com milhares de dígitos). Aqui a potência é
+ * obtida por quadrados sucessivos sob um {@link MathContext} de precisão p, e o erro acumulado
+ * é limitado de forma rigorosa:
+ * <ul>
+ *   <li>cada operação arredondada tem erro relativo de no máximo {@code u = 5 × 10^-p};</li>
+ *   <li>a potência por quadrados acumula no máximo {@code (1 + u)^n - 1 <= 2nu};</li>
+ *   <li>a subtração {@code c - 1} é exata, mas amplia o erro do coeficiente por {@code c / (c - 1)};</li>
+ *   <li>o numerador e a divisão final acrescentam {@code u} cada.</li>
+ * </ul>
+ * A primeira tentativa usa 18 dígitos, que cabem em {@code long} e dispensam BigInteger. Com
+ * n <= 600 e {@code c / (c - 1) <= 100}, o erro relativo fica abaixo de 1,3 × 10^-12, ou seja,
+ * menos de 10^-3 centavo para prestações de até R$ 10^7. Se o intervalo de erro contiver uma
+ * fronteira de arredondamento (meio centavo), repete-se com 34 dígitos (erro relativo abaixo de
+ * 10^-27) e, por fim, com o coeficiente exato. O resultado é, portanto, sempre idêntico ao de
+ * {@link #calcularPrestacaoExata}.
+ */
+public final class CoeficientePrice {
+
+    /**
+     * Precisões de trabalho, da mais barata para a mais precisa.
+     */
+    static final MathContext[] PRECISOES = {
+        new MathContext(18, RoundingMode.HALF_EVEN),
+        MathContext.DECIMAL128
+    };
+
+    private static final int ESCALA_PRESTACAO = FinanceiroConstant.DECIMAL_SCALE.getValor();
+
+    private static final double ERRO_RELATIVO_MAXIMO = 0.1;
+
+    private static final double MEIO_CENTAVO = 0.5 * Math.pow(10, -ESCALA_PRESTACAO);
+
+    /**
+     * Margem para o erro de representação das próprias estimativas em double.
+     */
+    private static final double FOLGA_DOUBLE = 1e-15;
+
+    private static final MathContext PRECISAO_ESTIMATIVA = new MathContext(15, RoundingMode.HALF_EVEN);
+
+    private CoeficientePrice() {
+
+    }
+
+    /**
+     * Calcula a prestação constante {@code V · i · c / (c - 1)}, com {@code c = (1 + i)^n},
+     * arredondada HALF_UP na escala monetária.
+     */
+    public static BigDecimal calcularPrestacao(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal umMaisTaxa = BigDecimal.ONE.add(taxaMensal);
+        if (prazoMeses <= 0 || taxaMensal.signum() <= 0
+                || (long) prazoMeses * umMaisTaxa.precision() <= PRECISOES[0].getPrecision()) {
+            // Parâmetros degenerados, ou coeficiente exato já cabe na menor precisão de trabalho
+            return calcularPrestacaoExata(valorFinanciado, taxaMensal, prazoMeses);
+        }
+
+        for (MathContext precisao : PRECISOES) {
+            BigDecimal prestacao = calcularPrestacaoLimitada(valorFinanciado, taxaMensal, umMaisTaxa, prazoMeses, precisao);
+            if (prestacao != null) {
+                return prestacao;
+            }
+        }
+        return calcularPrestacaoExata(valorFinanciado, taxaMensal, prazoMeses);
+    }
+
+    /**
+     * Cálculo de referência com o coeficiente exato {@code (1 + i)^n}.
+     */
+    public static BigDecimal calcularPrestacaoExata(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal um = BigDecimal.ONE;
+        BigDecimal umMaisTaxa = um.add(taxaMensal);
+        BigDecimal coeficiente = umMaisTaxa.pow(prazoMeses);
+        return valorFinanciado
+                .multiply(taxaMensal)
+                .multiply(coeficiente)
+                .divide(coeficiente.subtract(um), ESCALA_PRESTACAO, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calcula a prestação na precisão informada, ou retorna {@code null} quando o limite de erro
+     * não permite decidir o arredondamento com segurança.
+     */
+    static BigDecimal calcularPrestacaoLimitada(BigDecimal valorFinanciado, BigDecimal taxaMensal,
+                                                BigDecimal umMaisTaxa, int prazoMeses, MathContext precisao) {
+        BigDecimal coeficiente = potencia(umMaisTaxa, prazoMeses, precisao);
+        return calcularPrestacaoComCoeficiente(valorFinanciado, taxaMensal, coeficiente,
+                erroPorOperacao(precisao) * 2.0 * prazoMeses, precisao);
+    }
+
+    /**
+     * Calcula a prestação a partir de um coeficiente {@code (1 + i)^n} já obtido na precisão
+     * informada, com erro relativo de no máximo {@code erroCoeficiente}, ou retorna {@code null}
+     * quando o limite de erro não permite decidir o arredondamento com segurança.
+     */
+    static BigDecimal calcularPrestacaoComCoeficiente(BigDecimal valorFinanciado, BigDecimal taxaMensal,
+                                                      BigDecimal coeficiente, double erroCoeficiente,
+                                                      MathContext precisao) {
+        BigDecimal coeficienteMenosUm = coeficiente.subtract(BigDecimal.ONE);
+        if (coeficienteMenosUm.signum() <= 0) {
+            return null;
+        }
+
+        BigDecimal prestacao = valorFinanciado
+                .multiply(taxaMensal)
+                .multiply(coeficiente, precisao)
+                .divide(coeficienteMenosUm, precisao);
+
+        double erroPorOperacao = erroPorOperacao(precisao);
+        double erroDenominador = erroCoeficiente * (estimar(coeficiente) / estimar(coeficienteMenosUm));
+        if (erroCoeficiente > ERRO_RELATIVO_MAXIMO || !(erroDenominador <= ERRO_RELATIVO_MAXIMO)) {
+            return null;
+        }
+
+        // Termos de segunda ordem são cobertos pelos fatores 2
+        double erroRelativo = 2.0 * (erroCoeficiente + erroDenominador + 2.0 * erroPorOperacao);
+        double erroAbsoluto = 2.0 * erroRelativo * Math.abs(estimar(prestacao));
+
+        BigDecimal arredondada = prestacao.setScale(ESCALA_PRESTACAO, RoundingMode.HALF_UP);
+        double distanciaFronteira = MEIO_CENTAVO - Math.abs(estimar(prestacao.subtract(arredondada)));
+        if (distanciaFronteira <= erroAbsoluto + FOLGA_DOUBLE) {
+            return null;
+        }
+        return arredondada;
+    }
+
+    /**
+     * Exponenciação por quadrados sucessivos, arredondando cada produto no contexto informado.
+     */
+    static BigDecimal potencia(BigDecimal base, int expoente, MathContext contexto) {
+        BigDecimal resultado = BigDecimal.ONE;
+        BigDecimal fator = base;
+        int restante = expoente;
+
+        while (restante > 0) {
+            if ((restante & 1) == 1) {
+                resultado = resultado.multiply(fator, contexto);
+            }
+            restante >>= 1;
+            if (restante > 0) {
+                fator = fator.multiply(fator, contexto);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Meio ulp relativo da precisão de trabalho: 5 × 10^-p.
+     */
+    static double erroPorOperacao(MathContext precisao) {
+        return 5.0 * Math.pow(10, -precisao.getPrecision());
+    }
+
+    /**
+     * Estimativa em double usada apenas nos limites de erro; arredondar para 15 dígitos antes
+     * mantém a conversão no caminho rápido do BigDecimal.
+     */
+    private static double estimar(BigDecimal valor) {
+        return valor.round(PRECISAO_ESTIMATIVA).doubleValue();
+    }
+}
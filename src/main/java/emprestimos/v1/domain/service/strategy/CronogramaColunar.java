@@ -0,0 +1,156 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Cronograma de amortização em formato colunar: amortização, juros e prestação de cada
+ * parcela em vetores paralelos de centavos ({@code long}), indexados por {@code numero - 1}.
+ *
+ * É a representação interna do cronograma calculado em ponto fixo. Ocupa 24 bytes por mês
+ * de prazo, contra algumas centenas de um {@link ParcelaDTO} com três {@link BigDecimal} e o
+ * mapa de links, e é o que fica retido no cache de cronogramas. Cálculos de total, saldo
+ * devedor e a persistência leem os vetores diretamente.
+ *
+ * Como {@code List<ParcelaDTO>}, cada {@link #get(int)} cria uma parcela nova: os objetos só
+ * existem na fronteira da API, quando a resposta é serializada. Os vetores não são expostos
+ * e a instância é imutável, podendo ser compartilhada entre requisições.
+ */
+public final class CronogramaColunar extends AbstractList<ParcelaDTO> implements RandomAccess {
+
+    private final long[] amortizacao;
+    private final long[] juros;
+    private final long[] prestacao;
+    private final int prazoMeses;
+
+    /**
+     * Assume a posse dos vetores informados, que não devem ser alterados depois.
+     */
+    public CronogramaColunar(long[] amortizacao, long[] juros, long[] prestacao, int prazoMeses) {
+        int tamanho = Math.max(prazoMeses, 0);
+        if (amortizacao.length < tamanho || juros.length < tamanho || prestacao.length < tamanho) {
+            throw new IllegalArgumentException("Vetores menores que o prazo de " + tamanho + " parcelas");
+        }
+        this.amortizacao = amortizacao;
+        this.juros = juros;
+        this.prestacao = prestacao;
+        this.prazoMeses = tamanho;
+    }
+
+    @Override
+    public int size() {
+        return prazoMeses;
+    }
+
+    @Override
+    public ParcelaDTO get(int indice) {
+        validarIndice(indice);
+        ParcelaDTO parcela = new ParcelaDTO();
+        parcela.setNumero((long) indice + 1);
+        parcela.setValorAmortizacao(AmortizacaoPontoFixo.paraDecimal(amortizacao[indice]));
+        parcela.setValorJuros(AmortizacaoPontoFixo.paraDecimal(juros[indice]));
+        parcela.setValorPrestacao(AmortizacaoPontoFixo.paraDecimal(prestacao[indice]));
+        return parcela;
+    }
+
+    /**
+     * Amortização da parcela no índice informado (base 0), em centavos.
+     */
+    public long amortizacaoCentavos(int indice) {
+        validarIndice(indice);
+        return amortizacao[indice];
+    }
+
+    /**
+     * Juros da parcela no índice informado (base 0), em centavos.
+     */
+    public long jurosCentavos(int indice) {
+        validarIndice(indice);
+        return juros[indice];
+    }
+
+    /**
+     * Prestação da parcela no índice informado (base 0), em centavos.
+     */
+    public long prestacaoCentavos(int indice) {
+        validarIndice(indice);
+        return prestacao[indice];
+    }
+
+    public BigDecimal valorAmortizacao(int indice) {
+        return AmortizacaoPontoFixo.paraDecimal(amortizacaoCentavos(indice));
+    }
+
+    public BigDecimal valorJuros(int indice) {
+        return AmortizacaoPontoFixo.paraDecimal(jurosCentavos(indice));
+    }
+
+    public BigDecimal valorPrestacao(int indice) {
+        return AmortizacaoPontoFixo.paraDecimal(prestacaoCentavos(indice));
+    }
+
+    /**
+     * Soma das prestações na escala monetária, sem criar parcelas.
+     */
+    public BigDecimal valorTotalPrestacoes() {
+        long total = 0L;
+        for (int i = 0; i < prazoMeses; i++) {
+            total = Math.addExact(total, prestacao[i]);
+        }
+        return AmortizacaoPontoFixo.paraDecimal(total);
+    }
+
+    /**
+     * Saldo devedor após o pagamento da parcela informada: soma das amortizações seguintes.
+     *
+     * @param numeroParcela Quantidade de parcelas pagas, entre 0 e o prazo
+     */
+    public BigDecimal saldoDevedorApos(int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 0, prazoMeses);
+        long saldo = 0L;
+        for (int i = numeroParcela; i < prazoMeses; i++) {
+            saldo += amortizacao[i];
+        }
+        return AmortizacaoPontoFixo.paraDecimal(saldo);
+    }
+
+    /**
+     * Retorna uma visão em que cada parcela gerada é processada pelo decorador (por exemplo,
+     * para incluir links HATEOAS). As parcelas já são instâncias novas, dispensando cópia.
+     */
+    List<ParcelaDTO> decorar(Consumer<ParcelaDTO> decorador) {
+        return new VisaoDecorada(decorador);
+    }
+
+    private void validarIndice(int indice) {
+        if (indice < 0 || indice >= prazoMeses) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cronograma de " + prazoMeses + " parcelas");
+        }
+    }
+
+    private final class VisaoDecorada extends AbstractList<ParcelaDTO> implements RandomAccess {
+
+        private final Consumer<ParcelaDTO> decorador;
+
+        private VisaoDecorada(Consumer<ParcelaDTO> decorador) {
+            this.decorador = decorador;
+        }
+
+        @Override
+        public ParcelaDTO get(int indice) {
+            ParcelaDTO parcela = CronogramaColunar.this.get(indice);
+            decorador.accept(parcela);
+            return parcela;
+        }
+
+        @Override
+        public int size() {
+            return prazoMeses;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Cronograma de amortização serializado em uma única coluna binária, alternativa a uma linha de
+ * {@code parcela} por mês de prazo.
+ *
+ * Formato: versão do formato e indicadores (um byte cada), quantidade de parcelas e, coluna a
+ * coluna (amortização, juros e prestação), a segunda diferença em centavos: quanto a variação de
+ * cada parcela para a anterior difere da variação anterior. Os inteiros são gravados em varint
+ * com codificação zigue-zague, de modo que valores pequenos ocupam um byte. Nos cronogramas
+ * calculados essas segundas diferenças ficam perto de zero: a amortização do SAC é constante e
+ * seus juros caem linearmente, e no PRICE amortização e juros variam em progressão geométrica
+ * lenta. Quando toda prestação é a soma de amortização e juros, o que vale para os cronogramas
+ * calculados, a coluna de prestação é omitida. Fica em torno de 2 bytes por parcela em 360 meses.
+ * As parcelas são numeradas de 1 ao prazo, sem lacunas.
+ *
+ * A decodificação devolve um {@link CronogramaColunar}: os vetores são reconstruídos uma vez e
+ * cada {@link ParcelaDTO} só é criada quando acessada.
+ */
+public final class CronogramaCompactado {
+
+    private static final int FORMATO = 1;
+
+    private static final int PRESTACAO_DERIVADA = 0x01;
+
+    private CronogramaCompactado() {
+    }
+
+    /**
+     * Codifica as parcelas informadas; cronogramas colunares são lidos direto dos vetores.
+     *
+     * @throws IllegalArgumentException se as parcelas não estiverem numeradas de 1 em diante ou
+     *         tiverem valores fora da escala monetária
+     */
+    public static byte[] codificar(List<ParcelaDTO> parcelas) {
+        int quantidade = parcelas.size();
+        var amortizacao = new long[quantidade];
+        var juros = new long[quantidade];
+        var prestacao = new long[quantidade];
+        if (parcelas instanceof CronogramaColunar colunar) {
+            for (int i = 0; i < quantidade; i++) {
+                amortizacao[i] = colunar.amortizacaoCentavos(i);
+                juros[i] = colunar.jurosCentavos(i);
+                prestacao[i] = colunar.prestacaoCentavos(i);
+            }
+        } else {
+            for (int i = 0; i < quantidade; i++) {
+                var parcela = parcelas.get(i);
+                if (parcela.getNumero() == null || parcela.getNumero() != i + 1) {
+                    throw new IllegalArgumentException("Parcela " + parcela.getNumero() + " fora de ordem na posição " + (i + 1));
+                }
+                try {
+                    amortizacao[i] = AmortizacaoPontoFixo.escalar(parcela.getValorAmortizacao(), 2);
+                    juros[i] = AmortizacaoPontoFixo.escalar(parcela.getValorJuros(), 2);
+                    prestacao[i] = AmortizacaoPontoFixo.escalar(parcela.getValorPrestacao(), 2);
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException("Parcela " + (i + 1) + " com valor fora da escala monetária", e);
+                }
+            }
+        }
+        return codificar(amortizacao, juros, prestacao, quantidade);
+    }
+
+    /**
+     * Codifica as primeiras {@code quantidade} posições dos vetores, em centavos.
+     */
+    public static byte[] codificar(long[] amortizacao, long[] juros, long[] prestacao, int quantidade) {
+        boolean prestacaoDerivada = true;
+        for (int i = 0; i < quantidade && prestacaoDerivada; i++) {
+            prestacaoDerivada = prestacao[i] == amortizacao[i] + juros[i];
+        }
+
+        // Pior caso de 10 bytes por valor; o usual fica entre 1 e 2
+        var saida = new ByteArrayOutputStream(8 + quantidade * 3);
+        saida.write(FORMATO);
+        saida.write(prestacaoDerivada ? PRESTACAO_DERIVADA : 0);
+        gravarVarint(saida, quantidade);
+        gravarDiferencas(saida, amortizacao, quantidade);
+        gravarDiferencas(saida, juros, quantidade);
+        if (!prestacaoDerivada) {
+            gravarDiferencas(saida, prestacao, quantidade);
+        }
+        return saida.toByteArray();
+    }
+
+    /**
+     * Reconstrói o cronograma.
+     *
+     * @throws IllegalArgumentException se o conteúdo estiver truncado, corrompido ou em outro formato
+     */
+    public static CronogramaColunar decodificar(byte[] dados) {
+        var entrada = ByteBuffer.wrap(dados);
+        try {
+            int formato = entrada.get();
+            if (formato != FORMATO) {
+                throw new IllegalArgumentException("Formato de cronograma compactado não suportado: " + formato);
+            }
+            int indicadores = entrada.get();
+            long quantidade = lerVarint(entrada);
+            // Cada valor ocupa ao menos um byte
+            if (quantidade < 0 || quantidade > entrada.remaining()) {
+                throw new IllegalArgumentException("Quantidade de parcelas inválida: " + quantidade);
+            }
+            int tamanho = (int) quantidade;
+            var amortizacao = lerDiferencas(entrada, tamanho);
+            var juros = lerDiferencas(entrada, tamanho);
+            long[] prestacao;
+            if ((indicadores & PRESTACAO_DERIVADA) != 0) {
+                prestacao = new long[tamanho];
+                for (int i = 0; i < tamanho; i++) {
+                    prestacao[i] = amortizacao[i] + juros[i];
+                }
+            } else {
+                prestacao = lerDiferencas(entrada, tamanho);
+            }
+            if (entrada.hasRemaining()) {
+                throw new IllegalArgumentException("Conteúdo inesperado ao final do cronograma compactado");
+            }
+            return new CronogramaColunar(amortizacao, juros, prestacao, tamanho);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Cronograma compactado truncado", e);
+        }
+    }
+
+    /**
+     * Grava a segunda diferença de cada valor; antes da primeira parcela valor e variação são zero.
+     */
+    private static void gravarDiferencas(ByteArrayOutputStream saida, long[] valores, int quantidade) {
+        long anterior = 0L;
+        long diferencaAnterior = 0L;
+        for (int i = 0; i < quantidade; i++) {
+            long diferenca = valores[i] - anterior;
+            long variacao = diferenca - diferencaAnterior;
+            gravarVarint(saida, (variacao << 1) ^ (variacao >> 63));
+            anterior = valores[i];
+            diferencaAnterior = diferenca;
+        }
+    }
+
+    private static long[] lerDiferencas(ByteBuffer entrada, int quantidade) {
+        var valores = new long[quantidade];
+        long anterior = 0L;
+        long diferenca = 0L;
+        for (int i = 0; i < quantidade; i++) {
+            long zigueZague = lerVarint(entrada);
+            diferenca += (zigueZague >>> 1) ^ -(zigueZague & 1);
+            anterior += diferenca;
+            valores[i] = anterior;
+        }
+        return valores;
+    }
+
+    private static void gravarVarint(ByteArrayOutputStream saida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            saida.write((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        saida.write((int) valor);
+    }
+
+    private static long lerVarint(ByteBuffer entrada) {
+        long valor = 0L;
+        for (int deslocamento = 0; deslocamento < Long.SIZE; deslocamento += 7) {
+            int atual = entrada.get();
+            valor |= (long) (atual & 0x7F) << deslocamento;
+            if ((atual & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Inteiro inválido no cronograma compactado");
+    }
+}
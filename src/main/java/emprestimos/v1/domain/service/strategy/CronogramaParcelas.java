@@ -0,0 +1,232 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Cronograma de parcelas gerado sob demanda a partir do kernel de ponto fixo.
+ *
+ * Guarda apenas os parâmetros do cálculo (valor, taxa, amortização ou prestação constante e
+ * prazo) e cria cada {@link ParcelaDTO} no momento em que é percorrida, de modo que os
+ * serializadores JSON/XML escrevem a resposta sem manter o cronograma inteiro em memória.
+ * Cada acesso devolve uma instância nova; alterações nas parcelas não afetam o cronograma.
+ *
+ * O iterador custa O(1) por parcela, e {@link #iteradorAPartirDe(int)} posiciona diretamente
+ * na parcela desejada (forma fechada no SAC; recorrência inteira sem alocação no PRICE). O
+ * acesso por índice ({@link #get(int)}), usado por serializadores de listas, guarda a posição
+ * da última parcela gerada, de forma que percorrer os índices em ordem também custa O(1) por
+ * parcela.
+ */
+public final class CronogramaParcelas extends AbstractList<ParcelaDTO> {
+
+    private final TipoAmortizacao tipo;
+    private final long valorCentavos;
+    private final long taxa;
+    private final long valorConstante;
+    private final int prazoMeses;
+    private final Consumer<ParcelaDTO> decorador;
+    private final BigDecimal valorConstanteDecimal;
+
+    /**
+     * Posição após a última parcela obtida por índice; substituída de forma atômica.
+     */
+    private volatile Posicao ultimaPosicao;
+
+    private CronogramaParcelas(TipoAmortizacao tipo, long valorCentavos, long taxa, long valorConstante,
+                               int prazoMeses, Consumer<ParcelaDTO> decorador) {
+        this.tipo = tipo;
+        this.valorCentavos = valorCentavos;
+        this.taxa = taxa;
+        this.valorConstante = valorConstante;
+        this.prazoMeses = Math.max(prazoMeses, 0);
+        this.decorador = decorador;
+        this.valorConstanteDecimal = AmortizacaoPontoFixo.paraDecimal(valorConstante);
+    }
+
+    /**
+     * Cronograma SAC; valores em centavos e taxa na escala {@code TAXA_SCALE}.
+     */
+    public static CronogramaParcelas sac(long valorCentavos, long taxa, long amortizacaoConstante, int prazoMeses) {
+        return new CronogramaParcelas(TipoAmortizacao.SAC, valorCentavos, taxa, amortizacaoConstante, prazoMeses, null);
+    }
+
+    /**
+     * Cronograma PRICE; valores em centavos e taxa na escala {@code TAXA_SCALE}.
+     */
+    public static CronogramaParcelas price(long valorCentavos, long taxa, long prestacaoConstante, int prazoMeses) {
+        return new CronogramaParcelas(TipoAmortizacao.PRICE, valorCentavos, taxa, prestacaoConstante, prazoMeses, null);
+    }
+
+    /**
+     * Retorna uma visão das parcelas em que cada elemento é uma instância própria, já
+     * processada pelo decorador (por exemplo, para incluir links HATEOAS).
+     *
+     * Cronogramas sob demanda e colunares aplicam o decorador às parcelas geradas; listas
+     * materializadas, que podem ser compartilhadas pelo cache de cronogramas, têm cada parcela
+     * copiada antes da decoração. Em todos os casos a lista original não é alterada.
+     */
+    public static List<ParcelaDTO> decorar(List<ParcelaDTO> parcelas, Consumer<ParcelaDTO> decorador) {
+        if (parcelas instanceof CronogramaParcelas cronograma) {
+            Consumer<ParcelaDTO> combinado = cronograma.decorador == null ? decorador : cronograma.decorador.andThen(decorador);
+            return new CronogramaParcelas(cronograma.tipo, cronograma.valorCentavos, cronograma.taxa,
+                    cronograma.valorConstante, cronograma.prazoMeses, combinado);
+        }
+        if (parcelas instanceof CronogramaColunar colunar) {
+            return colunar.decorar(decorador);
+        }
+        return new AbstractList<>() {
+            @Override
+            public ParcelaDTO get(int indice) {
+                ParcelaDTO copia = copiar(parcelas.get(indice));
+                decorador.accept(copia);
+                return copia;
+            }
+
+            @Override
+            public int size() {
+                return parcelas.size();
+            }
+        };
+    }
+
+    public TipoAmortizacao getTipo() {
+        return tipo;
+    }
+
+    @Override
+    public int size() {
+        return prazoMeses;
+    }
+
+    @Override
+    public ParcelaDTO get(int indice) {
+        if (indice < 0 || indice >= prazoMeses) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cronograma de " + prazoMeses + " parcelas");
+        }
+        int numeroParcela = indice + 1;
+        Posicao posicao = ultimaPosicao;
+        long saldoAnterior;
+        if (tipo == TipoAmortizacao.PRICE && posicao != null && posicao.numeroParcela() <= numeroParcela) {
+            // Avança a partir da última posição em vez de refazer a recorrência desde o início
+            saldoAnterior = AmortizacaoPontoFixo.saldoPrice(posicao.saldoDevedor(), taxa, valorConstante,
+                    numeroParcela - posicao.numeroParcela());
+        } else {
+            saldoAnterior = saldoApos(numeroParcela - 1);
+        }
+
+        Iterador iterador = new Iterador(numeroParcela, saldoAnterior);
+        ParcelaDTO parcela = iterador.next();
+        ultimaPosicao = new Posicao(iterador.numeroParcela, iterador.saldoDevedor);
+        return parcela;
+    }
+
+    @Override
+    public Iterator<ParcelaDTO> iterator() {
+        return iteradorAPartirDe(1);
+    }
+
+    /**
+     * Iterador que começa na parcela informada (base 1) sem gerar as anteriores.
+     * {@code prazo + 1} produz um iterador vazio.
+     */
+    public Iterator<ParcelaDTO> iteradorAPartirDe(int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 1, prazoMeses + 1);
+        return new Iterador(numeroParcela, saldoApos(numeroParcela - 1));
+    }
+
+    @Override
+    public Spliterator<ParcelaDTO> spliterator() {
+        return Spliterators.spliterator(iterator(), prazoMeses,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Soma das prestações sem percorrer o cronograma, idêntica à soma das parcelas geradas.
+     */
+    public BigDecimal valorTotalPrestacoes() {
+        long total = switch (tipo) {
+            case SAC -> Math.addExact(Math.multiplyExact(valorConstante, (long) prazoMeses),
+                    AmortizacaoPontoFixo.somarJurosSac(valorCentavos, taxa, valorConstante, prazoMeses));
+            case PRICE -> Math.multiplyExact(valorConstante, (long) prazoMeses);
+        };
+        return AmortizacaoPontoFixo.paraDecimal(total);
+    }
+
+    private long saldoApos(int parcelasPagas) {
+        return switch (tipo) {
+            case SAC -> AmortizacaoPontoFixo.saldoSac(valorCentavos, valorConstante, parcelasPagas);
+            case PRICE -> AmortizacaoPontoFixo.saldoPrice(valorCentavos, taxa, valorConstante, parcelasPagas);
+        };
+    }
+
+    private static ParcelaDTO copiar(ParcelaDTO origem) {
+        ParcelaDTO copia = new ParcelaDTO();
+        copia.setNumero(origem.getNumero());
+        copia.setValorAmortizacao(origem.getValorAmortizacao());
+        copia.setValorJuros(origem.getValorJuros());
+        copia.setValorPrestacao(origem.getValorPrestacao());
+        copia.getLinks().putAll(origem.getLinks());
+        return copia;
+    }
+
+    /**
+     * Próxima parcela a gerar e saldo devedor antes dela.
+     */
+    private record Posicao(int numeroParcela, long saldoDevedor) {
+    }
+
+    /**
+     * Percorre a recorrência do saldo devedor criando uma parcela por chamada a {@link #next()}.
+     */
+    private final class Iterador implements Iterator<ParcelaDTO> {
+
+        private int numeroParcela;
+        private long saldoDevedor;
+
+        private Iterador(int numeroParcela, long saldoDevedor) {
+            this.numeroParcela = numeroParcela;
+            this.saldoDevedor = saldoDevedor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return numeroParcela <= prazoMeses;
+        }
+
+        @Override
+        public ParcelaDTO next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long juros = AmortizacaoPontoFixo.arredondarHalfUp(saldoDevedor * taxa, AmortizacaoPontoFixo.FATOR_TAXA);
+
+            ParcelaDTO parcela = new ParcelaDTO();
+            parcela.setNumero((long) numeroParcela);
+            parcela.setValorJuros(AmortizacaoPontoFixo.paraDecimal(juros));
+            if (tipo == TipoAmortizacao.SAC) {
+                parcela.setValorAmortizacao(valorConstanteDecimal);
+                parcela.setValorPrestacao(AmortizacaoPontoFixo.paraDecimal(valorConstante + juros));
+                saldoDevedor -= valorConstante;
+            } else {
+                parcela.setValorAmortizacao(AmortizacaoPontoFixo.paraDecimal(valorConstante - juros));
+                parcela.setValorPrestacao(valorConstanteDecimal);
+                saldoDevedor -= valorConstante - juros;
+            }
+            numeroParcela++;
+
+            if (decorador != null) {
+                decorador.accept(parcela);
+            }
+            return parcela;
+        }
+    }
+}
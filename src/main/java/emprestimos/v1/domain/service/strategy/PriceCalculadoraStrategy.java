@@ -1,9 +1,11 @@
 package emprestimos.v1.domain.service.strategy;
 
     import emprestimos.v1.domain.enums.FinanceiroConstant;
+import emprestimos.v1.domain.enums.KernelCalculo;
 import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
 import emprestimos.v1.domain.qualifier.Price;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,18 +19,23 @@ import java.util.List;
 @Price
 public class PriceCalculadoraStrategy implements CalculadoraParcelasStrategy {
 
+    @ConfigProperty(name = "emprestimos.calculo.kernel.price", defaultValue = "PONTO_FIXO")
+    KernelCalculo kernel;
+
     @Override
     public List<ParcelaDTO> calcularParcelas(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
-        List<ParcelaDTO> parcelas = new ArrayList<>();
+        if (usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasPontoFixo(valorFinanciado, taxaMensal, prazoMeses);
+        }
+        return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses);
+    }
 
-        // Cálculo do coeficiente de financiamento (Price)
-        BigDecimal um = BigDecimal.ONE;
-        BigDecimal umMaisTaxa = um.add(taxaMensal);
-        BigDecimal coeficiente = umMaisTaxa.pow(prazoMeses);
-        BigDecimal prestacaoConstante = valorFinanciado
-                .multiply(taxaMensal)
-                .multiply(coeficiente)
-                .divide(coeficiente.subtract(um), FinanceiroConstant.DECIMAL_SCALE.getValor(), RoundingMode.HALF_UP);
+    /**
+     * Cálculo de referência com BigDecimal imutável a cada parcela.
+     */
+    public List<ParcelaDTO> calcularParcelasBigDecimal(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        List<ParcelaDTO> parcelas = new ArrayList<>();
+        BigDecimal prestacaoConstante = calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses);
 
         BigDecimal saldoDevedor = valorFinanciado;
 
@@ -44,6 +51,143 @@ public class PriceCalculadoraStrategy implements CalculadoraParcelasStrategy {
         return parcelas;
     }
 
+    /**
+     * Cálculo em ponto fixo (centavos em long), com o mesmo arredondamento do cálculo de referência.
+     * Exige que {@link AmortizacaoPontoFixo#suporta(BigDecimal, BigDecimal)} seja verdadeiro.
+     */
+    public CronogramaColunar calcularParcelasPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal prestacaoConstante = calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses);
+        long[] amortizacao = new long[prazoMeses];
+        long[] juros = new long[prazoMeses];
+        long[] prestacao = new long[prazoMeses];
+
+        AmortizacaoPontoFixo.calcularPrice(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(prestacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR),
+                prazoMeses, amortizacao, juros, prestacao);
+
+        return new CronogramaColunar(amortizacao, juros, prestacao, prazoMeses);
+    }
+
+    @Override
+    public List<ParcelaDTO> calcularParcelasSobDemanda(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses);
+        }
+        return CronogramaParcelas.price(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses), AmortizacaoPontoFixo.ESCALA_VALOR),
+                prazoMeses);
+    }
+
+    /**
+     * Simulações suportadas pelo ponto fixo são calculadas juntas por
+     * {@link AmortizacaoPontoFixo#calcularPriceEmLote}; as demais, individualmente.
+     */
+    @Override
+    public List<List<ParcelaDTO>> calcularParcelasEmLote(List<BigDecimal> valoresFinanciados,
+                                                         List<BigDecimal> taxasMensais,
+                                                         int prazoMeses) {
+        return CalculoEmLote.calcular(this, valoresFinanciados, taxasMensais, prazoMeses,
+                (valor, taxa) -> calcularPrestacaoConstante(valor, taxa, prazoMeses),
+                AmortizacaoPontoFixo::calcularPriceEmLote);
+    }
+
+    /**
+     * Parcela PRICE: prestação constante, com juros sobre o saldo após a parcela anterior. A
+     * prestação sai da fórmula fechada, mas o saldo depende do arredondamento de cada mês e é
+     * obtido pela recorrência até a parcela anterior: O(k) em aritmética inteira, sem alocação.
+     */
+    @Override
+    public ParcelaDTO calcularParcela(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 1, prazoMeses);
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses).get(numeroParcela - 1);
+        }
+
+        BigDecimal prestacaoConstante = calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses);
+        long prestacao = AmortizacaoPontoFixo.escalar(prestacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR);
+        long juros = AmortizacaoPontoFixo.jurosPrice(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                prestacao, numeroParcela);
+
+        return criarParcela(numeroParcela, prestacaoConstante,
+                AmortizacaoPontoFixo.paraDecimal(juros), AmortizacaoPontoFixo.paraDecimal(prestacao - juros));
+    }
+
+    @Override
+    public BigDecimal calcularSaldoApos(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 0, prazoMeses);
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses).stream()
+                    .limit(numeroParcela)
+                    .map(ParcelaDTO::getValorAmortizacao)
+                    .reduce(valorFinanciado, BigDecimal::subtract);
+        }
+
+        BigDecimal prestacaoConstante = calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses);
+        long saldo = AmortizacaoPontoFixo.saldoPrice(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(prestacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR),
+                numeroParcela);
+        return AmortizacaoPontoFixo.paraDecimal(saldo);
+    }
+
+    /**
+     * Saldo na parcela informada e resíduo final em uma única passagem pela recorrência até o prazo.
+     */
+    @Override
+    public BigDecimal calcularSaldoDevedor(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 0, prazoMeses);
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            List<ParcelaDTO> parcelas = calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses);
+            BigDecimal saldo = valorFinanciado;
+            BigDecimal saldoNaParcela = saldo;
+            for (int parcela = 1; parcela <= prazoMeses; parcela++) {
+                saldo = saldo.subtract(parcelas.get(parcela - 1).getValorAmortizacao());
+                if (parcela == numeroParcela) {
+                    saldoNaParcela = saldo;
+                }
+            }
+            return saldoNaParcela.subtract(saldo);
+        }
+
+        BigDecimal prestacaoConstante = calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses);
+        long saldo = AmortizacaoPontoFixo.saldoPriceSemResiduo(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(prestacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR),
+                numeroParcela, prazoMeses);
+        return AmortizacaoPontoFixo.paraDecimal(saldo);
+    }
+
+    /**
+     * Soma das prestações PRICE: {@code n·P}.
+     */
+    @Override
+    public BigDecimal calcularValorTotalPrestacoes(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        return calcularPrestacaoConstante(valorFinanciado, taxaMensal, prazoMeses)
+                .multiply(BigDecimal.valueOf(prazoMeses))
+                .setScale(FinanceiroConstant.DECIMAL_SCALE.getValor(), RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+        return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+    }
+
+    /**
+     * Cálculo do coeficiente de financiamento (Price) e da prestação constante,
+     * com potência de precisão limitada (ver {@link CoeficientePrice}).
+     */
+    private BigDecimal calcularPrestacaoConstante(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        return CoeficientePrice.calcularPrestacao(valorFinanciado, taxaMensal, prazoMeses);
+    }
+
     /**
      * Cria um objeto ParcelaDTO com os valores calculados.
      */
@@ -1,9 +1,11 @@
 package emprestimos.v1.domain.service.strategy;
 
 import emprestimos.v1.domain.enums.FinanceiroConstant;
+import emprestimos.v1.domain.enums.KernelCalculo;
 import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
 import emprestimos.v1.domain.qualifier.Sac;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,11 +19,23 @@ import java.util.List;
 @Sac
 public class SacCalculadoraStrategy implements CalculadoraParcelasStrategy {
 
+    @ConfigProperty(name = "emprestimos.calculo.kernel.sac", defaultValue = "PONTO_FIXO")
+    KernelCalculo kernel;
+
     @Override
     public List<ParcelaDTO> calcularParcelas(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        if (usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasPontoFixo(valorFinanciado, taxaMensal, prazoMeses);
+        }
+        return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses);
+    }
+
+    /**
+     * Cálculo de referência com BigDecimal imutável a cada parcela.
+     */
+    public List<ParcelaDTO> calcularParcelasBigDecimal(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
         List<ParcelaDTO> parcelas = new ArrayList<>();
-        BigDecimal amortizacaoConstante = valorFinanciado.divide(BigDecimal.valueOf(prazoMeses),
-                FinanceiroConstant.DECIMAL_SCALE.getValor(), RoundingMode.HALF_UP);
+        BigDecimal amortizacaoConstante = calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
         BigDecimal saldoDevedor = valorFinanciado;
 
         for (int parcela = 1; parcela <= prazoMeses; parcela++) {
@@ -36,6 +50,113 @@ public class SacCalculadoraStrategy implements CalculadoraParcelasStrategy {
         return parcelas;
     }
 
+    /**
+     * Cálculo em ponto fixo (centavos em long), com o mesmo arredondamento do cálculo de referência.
+     * Exige que {@link AmortizacaoPontoFixo#suporta(BigDecimal, BigDecimal)} seja verdadeiro.
+     */
+    public CronogramaColunar calcularParcelasPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal amortizacaoConstante = calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
+        int tamanho = Math.max(prazoMeses, 0);
+        long[] amortizacao = new long[tamanho];
+        long[] juros = new long[tamanho];
+        long[] prestacao = new long[tamanho];
+
+        AmortizacaoPontoFixo.calcularSac(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(amortizacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR),
+                prazoMeses, amortizacao, juros, prestacao);
+
+        return new CronogramaColunar(amortizacao, juros, prestacao, prazoMeses);
+    }
+
+    @Override
+    public List<ParcelaDTO> calcularParcelasSobDemanda(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses);
+        }
+        return CronogramaParcelas.sac(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(calcularAmortizacaoConstante(valorFinanciado, prazoMeses), AmortizacaoPontoFixo.ESCALA_VALOR),
+                prazoMeses);
+    }
+
+    /**
+     * Simulações suportadas pelo ponto fixo são calculadas juntas por
+     * {@link AmortizacaoPontoFixo#calcularSacEmLote}; as demais, individualmente.
+     */
+    @Override
+    public List<List<ParcelaDTO>> calcularParcelasEmLote(List<BigDecimal> valoresFinanciados,
+                                                         List<BigDecimal> taxasMensais,
+                                                         int prazoMeses) {
+        return CalculoEmLote.calcular(this, valoresFinanciados, taxasMensais, prazoMeses,
+                (valor, taxa) -> calcularAmortizacaoConstante(valor, prazoMeses),
+                AmortizacaoPontoFixo::calcularSacEmLote);
+    }
+
+    /**
+     * Parcela SAC em forma fechada: amortização constante e juros sobre {@code V - (k - 1)·A}.
+     */
+    @Override
+    public ParcelaDTO calcularParcela(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 1, prazoMeses);
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses).get(numeroParcela - 1);
+        }
+
+        BigDecimal amortizacaoConstante = calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
+        long juros = AmortizacaoPontoFixo.jurosSac(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                AmortizacaoPontoFixo.escalar(amortizacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR),
+                numeroParcela);
+        BigDecimal valorJuros = AmortizacaoPontoFixo.paraDecimal(juros);
+
+        return criarParcela(numeroParcela, amortizacaoConstante.add(valorJuros), valorJuros, amortizacaoConstante);
+    }
+
+    /**
+     * Saldo SAC em forma fechada: {@code V - k·A}.
+     */
+    @Override
+    public BigDecimal calcularSaldoApos(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses, int numeroParcela) {
+        CalculadoraParcelasStrategy.validarNumeroParcela(numeroParcela, 0, prazoMeses);
+        BigDecimal amortizacaoConstante = calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
+        return valorFinanciado.subtract(amortizacaoConstante.multiply(BigDecimal.valueOf(numeroParcela)));
+    }
+
+    /**
+     * Soma das prestações SAC: {@code n·A} mais a soma dos juros, obtida em O(log n).
+     */
+    @Override
+    public BigDecimal calcularValorTotalPrestacoes(BigDecimal valorFinanciado, BigDecimal taxaMensal, int prazoMeses) {
+        BigDecimal amortizacaoConstante = calcularAmortizacaoConstante(valorFinanciado, prazoMeses);
+        if (!usaPontoFixo(valorFinanciado, taxaMensal)) {
+            return calcularParcelasBigDecimal(valorFinanciado, taxaMensal, prazoMeses).stream()
+                    .map(ParcelaDTO::getValorPrestacao)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)
+                    .setScale(FinanceiroConstant.DECIMAL_SCALE.getValor(), RoundingMode.HALF_UP);
+        }
+
+        long amortizacao = AmortizacaoPontoFixo.escalar(amortizacaoConstante, AmortizacaoPontoFixo.ESCALA_VALOR);
+        long juros = AmortizacaoPontoFixo.somarJurosSac(
+                AmortizacaoPontoFixo.escalar(valorFinanciado, AmortizacaoPontoFixo.ESCALA_VALOR),
+                AmortizacaoPontoFixo.escalar(taxaMensal, AmortizacaoPontoFixo.ESCALA_TAXA),
+                amortizacao, prazoMeses);
+        return AmortizacaoPontoFixo.paraDecimal(Math.addExact(Math.multiplyExact(amortizacao, (long) prazoMeses), juros));
+    }
+
+    @Override
+    public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+        return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+    }
+
+    static BigDecimal calcularAmortizacaoConstante(BigDecimal valorFinanciado, int prazoMeses) {
+        return valorFinanciado.divide(BigDecimal.valueOf(prazoMeses),
+                FinanceiroConstant.DECIMAL_SCALE.getValor(), RoundingMode.HALF_UP);
+    }
+
     /**
      * Cria um objeto ParcelaDTO com os valores calculados.
      */
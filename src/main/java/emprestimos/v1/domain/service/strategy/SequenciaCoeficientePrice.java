@@ -0,0 +1,96 @@
+package emprestimos.v1.domain.service.strategy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Coeficientes {@code (1 + i)^n} de uma taxa para uma sequência crescente de prazos, obtidos de
+ * forma incremental: o coeficiente de cada prazo é o do prazo anterior multiplicado por
+ * {@code (1 + i)^d}, sendo {@code d} a diferença entre os prazos. Uma grade com P prazos custa
+ * uma potência e P - 1 multiplicações, em vez de uma potência por prazo.
+ *
+ * Os coeficientes usam a menor precisão de trabalho de {@link CoeficientePrice}, e o erro
+ * relativo de cada um é acompanhado ao longo da sequência: ao do coeficiente anterior somam-se
+ * o do fator e o da multiplicação. A prestação é então arredondada com a mesma verificação de
+ * fronteira de {@link CoeficientePrice}; quando ela não decide, ou em parâmetros degenerados,
+ * usa-se {@link CoeficientePrice#calcularPrestacao}. O resultado é sempre idêntico ao de
+ * {@link CoeficientePrice#calcularPrestacaoExata}.
+ *
+ * Instâncias são imutáveis e o coeficiente independe do valor financiado, de modo que a mesma
+ * sequência atende todos os valores calculados com a taxa.
+ */
+public final class SequenciaCoeficientePrice {
+
+    private static final MathContext PRECISAO = CoeficientePrice.PRECISOES[0];
+
+    private final BigDecimal taxaMensal;
+    private final int[] prazos;
+    private final BigDecimal[] coeficientes;
+    private final double[] errosCoeficiente;
+
+    /**
+     * @param prazos Prazos em meses, em ordem estritamente crescente
+     * @throws IllegalArgumentException Quando os prazos não estão em ordem estritamente crescente
+     */
+    public SequenciaCoeficientePrice(BigDecimal taxaMensal, int[] prazos) {
+        for (int k = 1; k < prazos.length; k++) {
+            if (prazos[k] <= prazos[k - 1]) {
+                throw new IllegalArgumentException("Prazos devem estar em ordem estritamente crescente");
+            }
+        }
+        this.taxaMensal = taxaMensal;
+        this.prazos = prazos.clone();
+        this.coeficientes = new BigDecimal[prazos.length];
+        this.errosCoeficiente = new double[prazos.length];
+
+        if (taxaMensal.signum() > 0 && prazos.length > 0 && prazos[0] > 0) {
+            calcularCoeficientes(BigDecimal.ONE.add(taxaMensal));
+        }
+    }
+
+    public int quantidadePrazos() {
+        return prazos.length;
+    }
+
+    public int prazo(int indice) {
+        return prazos[indice];
+    }
+
+    /**
+     * Prestação constante {@code V · i · c / (c - 1)} do prazo no índice informado, arredondada
+     * HALF_UP na escala monetária.
+     */
+    public BigDecimal calcularPrestacao(BigDecimal valorFinanciado, int indicePrazo) {
+        BigDecimal coeficiente = coeficientes[indicePrazo];
+        if (coeficiente != null) {
+            BigDecimal prestacao = CoeficientePrice.calcularPrestacaoComCoeficiente(
+                    valorFinanciado, taxaMensal, coeficiente, errosCoeficiente[indicePrazo], PRECISAO);
+            if (prestacao != null) {
+                return prestacao;
+            }
+        }
+        return CoeficientePrice.calcularPrestacao(valorFinanciado, taxaMensal, prazos[indicePrazo]);
+    }
+
+    private void calcularCoeficientes(BigDecimal umMaisTaxa) {
+        double erroPorOperacao = CoeficientePrice.erroPorOperacao(PRECISAO);
+
+        coeficientes[0] = CoeficientePrice.potencia(umMaisTaxa, prazos[0], PRECISAO);
+        errosCoeficiente[0] = erroPorOperacao * 2.0 * prazos[0];
+
+        BigDecimal fator = null;
+        double erroFator = 0.0;
+        int diferencaFator = 0;
+        for (int k = 1; k < prazos.length; k++) {
+            int diferenca = prazos[k] - prazos[k - 1];
+            if (diferenca != diferencaFator) {
+                // Passo constante (caso usual da grade) reaproveita o mesmo fator
+                fator = CoeficientePrice.potencia(umMaisTaxa, diferenca, PRECISAO);
+                erroFator = erroPorOperacao * 2.0 * diferenca;
+                diferencaFator = diferenca;
+            }
+            coeficientes[k] = coeficientes[k - 1].multiply(fator, PRECISAO);
+            errosCoeficiente[k] = errosCoeficiente[k - 1] + erroFator + erroPorOperacao;
+        }
+    }
+}
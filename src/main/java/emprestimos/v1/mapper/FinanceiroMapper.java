@@ -1,6 +1,7 @@
 package emprestimos.v1.mapper;
 
 import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -16,17 +17,25 @@ public final class FinanceiroMapper {
     }
 
     /**
-     * Calcula o saldo devedor após o pagamento de uma parcela específica.
+     * Calcula o saldo devedor após o pagamento de uma parcela específica, a partir de um
+     * cronograma já materializado, em uma única passagem.
+     * Sem o cronograma, use {@code CalculadoraFinanceiraService#calcularSaldoDevedor}.
      */
     public static BigDecimal calcularSaldoDevedor(List<ParcelaDTO> parcelas, int numeroParcela) {
-        var saldoInicial = parcelas.stream()
-            .map(ParcelaDTO::getValorAmortizacao)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        var amortizacaoAcumulada = parcelas.stream()
-            .filter(parcela -> parcela.getNumero() <= numeroParcela)
-            .map(ParcelaDTO::getValorAmortizacao)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (parcelas instanceof CronogramaColunar colunar) {
+            // Soma direta sobre a coluna de amortizações, sem criar parcelas
+            return colunar.saldoDevedorApos(Math.max(0, Math.min(numeroParcela, colunar.size())));
+        }
+
+        var saldoInicial = BigDecimal.ZERO;
+        var amortizacaoAcumulada = BigDecimal.ZERO;
+
+        for (ParcelaDTO parcela : parcelas) {
+            saldoInicial = saldoInicial.add(parcela.getValorAmortizacao());
+            if (parcela.getNumero() <= numeroParcela) {
+                amortizacaoAcumulada = amortizacaoAcumulada.add(parcela.getValorAmortizacao());
+            }
+        }
 
         return saldoInicial.subtract(amortizacaoAcumulada);
     }
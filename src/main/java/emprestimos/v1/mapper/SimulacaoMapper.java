@@ -1,6 +1,7 @@
 package emprestimos.v1.mapper;
 
 import emprestimos.v1.domain.dto.simulacao.buscar.response.SimulacaoDetalhesDTO;
+import emprestimos.v1.domain.dto.simulacao.create.request.SimulacaoCreateDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.PaginaSimulacaoSimplificadaDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.SimulacaoResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.list.response.SimulacaoResumoSimplificadoDTO;
@@ -9,15 +10,20 @@ import emprestimos.v1.domain.dto.simulacao.parcela.response.ParcelaEspecificaDTO
 import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.ResultadoSimulacaoDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
 import emprestimos.v1.domain.entity.local.Simulacao;
 import emprestimos.v1.domain.entity.remote.Produto;
 import emprestimos.v1.domain.enums.FinanceiroConstant;
 import emprestimos.v1.domain.enums.TipoAmortizacao;
 import emprestimos.v1.domain.service.CalculadoraFinanceiraService;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.math.RoundingMode;
+import java.util.Comparator;
 import java.util.List;
 
 @ApplicationScoped
@@ -73,10 +79,42 @@ public class SimulacaoMapper {
     }
 
     /**
-     * Converte Simulacao, Produto e ParcelaDTO para ParcelaEspecificaDTO
+     * Converte o resultado gravado para o mesmo ResultadoSimulacaoDTO devolvido na criação.
+     */
+    public ResultadoSimulacaoDTO toResultadoSimulacaoDTO(ResultadoSimulacao resultado) {
+        var dto = new ResultadoSimulacaoDTO();
+        dto.setTipo(resultado.getTipo().getCodigo());
+        dto.setParcelas(toParcelasDTO(resultado));
+        return dto;
+    }
+
+    /**
+     * Parcelas gravadas de um resultado, em linhas ou compactadas. O cronograma compactado só é
+     * decodificado aqui, quando as parcelas são pedidas, e cada ParcelaDTO é criada no acesso.
+     */
+    public List<ParcelaDTO> toParcelasDTO(ResultadoSimulacao resultado) {
+        if (resultado.getCronogramaCompactado() != null) {
+            return CronogramaCompactado.decodificar(resultado.getCronogramaCompactado());
+        }
+        return resultado.getParcelas().stream()
+            .sorted(Comparator.comparing(Parcela::getNumero))
+            .map(parcela -> {
+                var dto = new ParcelaDTO();
+                dto.setNumero(parcela.getNumero());
+                dto.setValorAmortizacao(parcela.getValorAmortizacao());
+                dto.setValorJuros(parcela.getValorJuros());
+                dto.setValorPrestacao(parcela.getValorPrestacao());
+                return dto;
+            })
+            .toList();
+    }
+
+    /**
+     * Converte Simulacao, Produto e ParcelaDTO para ParcelaEspecificaDTO.
+     * Total e saldo devedor são obtidos diretamente das estratégias, sem o cronograma completo.
      */
     public ParcelaEspecificaDTO toParcelaEspecificaDTO(Simulacao simulacao, Produto produto, TipoAmortizacao tipo,
-                                                      ParcelaDTO parcelaEspecifica, ResultadoSimulacaoDTO resultado) {
+                                                      ParcelaDTO parcelaEspecifica, SimulacaoCreateDTO solicitacaoSimulacao) {
         var dto = new ParcelaEspecificaDTO();
 
         // Informações básicas
@@ -96,11 +134,12 @@ public class SimulacaoMapper {
         dto.setValorPrestacao(parcelaEspecifica.getValorPrestacao());
 
         // Dados do financiamento
-        var valorTotalFinanciamento = calculadoraFinanceira.calcularValorTotalParcelas(resultado.getParcelas());
+        var valorTotalFinanciamento = calculadoraFinanceira.calcularValorTotalPrestacoes(solicitacaoSimulacao, produto, tipo.getCodigo());
         dto.setValorTotalFinanciamento(valorTotalFinanciamento);
-        dto.setQuantidadeTotalParcelas(resultado.getParcelas().size());
+        dto.setQuantidadeTotalParcelas(solicitacaoSimulacao.getPrazo());
 
-        var saldoDevedor = FinanceiroMapper.calcularSaldoDevedor(resultado.getParcelas(), parcelaEspecifica.getNumero().intValue());
+        var saldoDevedor = calculadoraFinanceira.calcularSaldoDevedor(
+            solicitacaoSimulacao, produto, tipo.getCodigo(), parcelaEspecifica.getNumero().intValue());
         dto.setSaldoDevedor(saldoDevedor);
 
         // Percentuais
@@ -111,22 +150,22 @@ public class SimulacaoMapper {
     }
 
     /**
-     * Converte Simulacao e Produto para SimulacaoPorProdutoDiaDTO
+     * Converte a simulação do dia e o seu produto para SimulacaoPorProdutoDiaDTO
      */
-    public SimulacaoPorProdutoDiaDTO toSimulacaoPorProdutoDiaDTO(Simulacao simulacao, Produto produto) {
+    public SimulacaoPorProdutoDiaDTO toSimulacaoPorProdutoDiaDTO(SimulacaoDoDia simulacao, Produto produto) {
         var dto = new SimulacaoPorProdutoDiaDTO();
         dto.setCodigoProduto(produto.getCoProduto());
         dto.setDescricaoProduto(produto.getNoProduto());
 
         // Dados individuais da simulação (não agregados)
-        dto.setTaxaMediaJuro(simulacao.getTaxaMediaJuros() != null ?
-            simulacao.getTaxaMediaJuros().doubleValue() : null);
-        dto.setValorMedioPrestacao(simulacao.getValorMedioPrestacao() != null ?
-            simulacao.getValorMedioPrestacao().doubleValue() : null);
-        dto.setValorTotalDesejado(simulacao.getValorTotalDesejado() != null ?
-            simulacao.getValorTotalDesejado().doubleValue() : null);
-        dto.setValorTotalCredito(simulacao.getValorTotalCredito() != null ?
-            simulacao.getValorTotalCredito().doubleValue() : null);
+        dto.setTaxaMediaJuro(simulacao.taxaMediaJuros() != null ?
+            simulacao.taxaMediaJuros().doubleValue() : null);
+        dto.setValorMedioPrestacao(simulacao.valorMedioPrestacao() != null ?
+            simulacao.valorMedioPrestacao().doubleValue() : null);
+        dto.setValorTotalDesejado(simulacao.valorTotalDesejado() != null ?
+            simulacao.valorTotalDesejado().doubleValue() : null);
+        dto.setValorTotalCredito(simulacao.valorTotalCredito() != null ?
+            simulacao.valorTotalCredito().doubleValue() : null);
 
         return dto;
     }
@@ -4,6 +4,32 @@ import emprestimos.v1.domain.entity.local.Parcela;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @ApplicationScoped
 public class ParcelaRepository implements PanacheRepository<Parcela> {
+
+    /**
+     * Parcelas dos resultados informados, sem carregar as entidades, ordenadas por resultado e número.
+     */
+    public List<ParcelaGravada> listarPorResultados(List<Long> idsResultado) {
+        return getEntityManager()
+                .createQuery("select p.resultadoSimulacao.id, p.numero, p.valorAmortizacao, p.valorJuros, p.valorPrestacao "
+                        + "from Parcela p where p.resultadoSimulacao.id in :ids "
+                        + "order by p.resultadoSimulacao.id, p.numero", Object[].class)
+                .setParameter("ids", idsResultado)
+                .getResultStream()
+                .map(linha -> new ParcelaGravada((Long) linha[0], (Long) linha[1],
+                        (BigDecimal) linha[2], (BigDecimal) linha[3], (BigDecimal) linha[4]))
+                .toList();
+    }
+
+    public long removerPorResultados(List<Long> idsResultado) {
+        return delete("resultadoSimulacao.id in ?1", idsResultado);
+    }
+
+    public record ParcelaGravada(Long idResultado, Long numero, BigDecimal valorAmortizacao,
+                                 BigDecimal valorJuros, BigDecimal valorPrestacao) {
+    }
 }
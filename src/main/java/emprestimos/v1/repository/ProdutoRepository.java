@@ -4,15 +4,51 @@ import emprestimos.v1.domain.entity.remote.Produto;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
-import io.quarkus.cache.CacheResult;
 
-import java.util.List;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
+/**
+ * Acesso ao catálogo de produtos no SQL Server. As leituras do catálogo passam pelo
+ * {@link emprestimos.v1.service.CatalogoProdutosService}, que mantém os produtos em memória.
+ */
 @ApplicationScoped
 @PersistenceUnit("produtos")
 public class ProdutoRepository implements PanacheRepository<Produto> {
-    @CacheResult(cacheName = "produtos")
-    public List<Produto> getAllProdutos() {
-        return listAll();
+
+    /**
+     * Agregados de todas as colunas usadas pelo catálogo, cada uma ponderada pelo código do
+     * produto para que trocas de valores entre produtos também alterem o resultado. O nome entra
+     * pela soma de um hash SHA-256 ({@code HASHBYTES} do SQL Server, truncado a 32 bits) de código
+     * e nome de cada linha, de modo que renomear um produto muda a assinatura mesmo sem mudar o
+     * tamanho do nome.
+     */
+    private static final String CONSULTA_ASSINATURA = """
+            select count(p),
+                   coalesce(sum(cast(p.coProduto as Long)), 0),
+                   coalesce(sum(p.pcTaxaJuros), 0),
+                   coalesce(sum(p.coProduto * p.pcTaxaJuros), 0),
+                   coalesce(sum(cast(p.coProduto as Long) * coalesce(p.nuMinimoMeses, -1)), 0),
+                   coalesce(sum(cast(p.coProduto as Long) * coalesce(p.nuMaximoMeses, -1)), 0),
+                   coalesce(sum(p.coProduto * coalesce(p.vrMinimo, -1)), 0),
+                   coalesce(sum(p.coProduto * coalesce(p.vrMaximo, -1)), 0),
+                   coalesce(sum(cast(cast(function('HASHBYTES', 'SHA2_256', concat(cast(p.coProduto as String), ':', p.noProduto)) as Integer) as Long)), 0)
+            from Produto p
+            """;
+
+    /**
+     * Assinatura do conteúdo da tabela PRODUTO, obtida com uma única consulta agregada sem
+     * transferir as linhas. Assinaturas diferentes indicam que o catálogo mudou; iguais indicam,
+     * com alta probabilidade, que não mudou: alterações que preservem todas as somas, ou colisões
+     * do hash dos nomes, só são lidas na recarga completa periódica.
+     */
+    public String calcularAssinatura() {
+        Object[] agregados = getEntityManager()
+                .createQuery(CONSULTA_ASSINATURA, Object[].class)
+                .getSingleResult();
+        return Arrays.stream(agregados)
+                .map(agregado -> agregado instanceof BigDecimal decimal ? decimal.stripTrailingZeros().toPlainString() : String.valueOf(agregado))
+                .collect(Collectors.joining("|"));
     }
 }
@@ -1,9 +1,37 @@
 package emprestimos.v1.repository;
 
 import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
+import java.util.Optional;
+
 @ApplicationScoped
 public class ResultadoSimulacaoRepository implements PanacheRepository<ResultadoSimulacao> {
+
+    /**
+     * Resultado gravado de um tipo de amortização da simulação, sem carregar a simulação nem o
+     * resultado do outro tipo; as parcelas são lidas no primeiro acesso.
+     */
+    public Optional<ResultadoSimulacao> buscarPorSimulacaoETipo(Long idSimulacao, TipoAmortizacao tipo) {
+        return find("simulacao.id = ?1 and tipo = ?2", idSimulacao, tipo).firstResultOptional();
+    }
+
+    /**
+     * Próximos resultados, após o id informado, cujo cronograma ainda está em linhas de parcela.
+     */
+    public List<Long> listarIdsSemCronogramaCompactado(long aposId, int limite) {
+        return getEntityManager()
+                .createQuery("select r.id from ResultadoSimulacao r "
+                        + "where r.cronogramaCompactado is null and r.id > :aposId order by r.id", Long.class)
+                .setParameter("aposId", aposId)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    public int gravarCronogramaCompactado(Long id, byte[] cronograma) {
+        return update("cronogramaCompactado = ?1 where id = ?2", cronograma, id);
+    }
 }
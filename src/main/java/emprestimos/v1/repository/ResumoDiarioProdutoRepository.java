@@ -0,0 +1,72 @@
+package emprestimos.v1.repository;
+
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ApplicationScoped
+public class ResumoDiarioProdutoRepository implements PanacheRepositoryBase<ResumoDiarioProduto, ResumoDiarioProduto.Chave> {
+
+    private static final String RECONSTRUCAO = """
+            insert into ResumoDiarioProduto (dataReferencia, coProduto, quantidade, somaTaxaJuros,
+                                             somaValorMedioPrestacao, somaValorDesejado, somaValorTotalCredito)
+            select s.dataReferencia, s.coProduto, count(s),
+                   coalesce(sum(s.taxaMediaJuros), 0), coalesce(sum(s.valorMedioPrestacao), 0),
+                   coalesce(sum(s.valorDesejado), 0), coalesce(sum(s.valorTotalCredito), 0)
+            from Simulacao s
+            where s.coProduto is not null and s.dataReferencia between :inicio and :fim
+            group by s.dataReferencia, s.coProduto
+            """;
+
+    /**
+     * Soma os valores informados à linha de mesmo dia e produto com um único UPDATE, que mantém a
+     * linha bloqueada até o fim da transação: atualizações concorrentes se acumulam.
+     *
+     * @return 1 se a linha existia, 0 caso contrário
+     */
+    public int acumular(ResumoDiarioProduto parcial) {
+        return update("quantidade = quantidade + ?3, somaTaxaJuros = somaTaxaJuros + ?4, "
+                        + "somaValorMedioPrestacao = somaValorMedioPrestacao + ?5, somaValorDesejado = somaValorDesejado + ?6, "
+                        + "somaValorTotalCredito = somaValorTotalCredito + ?7 where dataReferencia = ?1 and coProduto = ?2",
+                parcial.getDataReferencia(), parcial.getCoProduto(), parcial.getQuantidade(), parcial.getSomaTaxaJuros(),
+                parcial.getSomaValorMedioPrestacao(), parcial.getSomaValorDesejado(), parcial.getSomaValorTotalCredito());
+    }
+
+    /**
+     * Cria a linha zerada do dia e produto, se ainda não existir, em uma transação própria.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void criarSeAusente(LocalDate dataReferencia, Integer coProduto) {
+        if (findById(new ResumoDiarioProduto.Chave(dataReferencia, coProduto)) == null) {
+            persist(new ResumoDiarioProduto(dataReferencia, coProduto));
+        }
+    }
+
+    /**
+     * Linhas de um dia, de todos os produtos ou de um só.
+     */
+    public List<ResumoDiarioProduto> listarPorData(LocalDate dataReferencia, Integer coProduto) {
+        if (coProduto == null) {
+            return list("dataReferencia = ?1 and quantidade > 0", Sort.by("coProduto"), dataReferencia);
+        }
+        return list("dataReferencia = ?1 and coProduto = ?2 and quantidade > 0", Sort.by("coProduto"), dataReferencia, coProduto);
+    }
+
+    /**
+     * Recalcula as linhas do período a partir das simulações gravadas, substituindo as existentes.
+     *
+     * @return Quantidade de linhas gravadas
+     */
+    public int reconstruir(LocalDate inicio, LocalDate fim) {
+        delete("dataReferencia between ?1 and ?2", inicio, fim);
+        return getEntityManager().createQuery(RECONSTRUCAO)
+                .setParameter("inicio", inicio)
+                .setParameter("fim", fim)
+                .executeUpdate();
+    }
+}
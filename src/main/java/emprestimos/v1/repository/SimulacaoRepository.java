@@ -3,7 +3,120 @@ package emprestimos.v1.repository;
 import emprestimos.v1.domain.entity.local.Simulacao;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class SimulacaoRepository implements PanacheRepository<Simulacao> {
+
+    private static final int TAMANHO_BLOCO_LEITURA = 500;
+
+    private static final String SELECAO_RESUMO =
+            "select s.id, s.dataSimulacao, s.valorDesejado, s.prazo, s.valorTotalCredito from Simulacao s ";
+
+    /**
+     * Simulações de um dia, de todos os produtos ou de um só, em ordem de id, pelo índice
+     * {@code (data_referencia, co_produto)}. As linhas são lidas sob demanda de um cursor do banco,
+     * em blocos de {@value #TAMANHO_BLOCO_LEITURA}, e só com as colunas do item da consulta por
+     * produto e dia, sem entidades na sessão: a memória não cresce com o volume do dia. O stream
+     * deve ser consumido e fechado dentro da transação.
+     */
+    public Stream<SimulacaoDoDia> percorrerPorDataEProduto(LocalDate data, Integer coProduto) {
+        var filtro = coProduto == null ? "where s.dataReferencia = :data " : "where s.dataReferencia = :data and s.coProduto = :coProduto ";
+        var consulta = getEntityManager()
+                .createQuery("select s.id, s.coProduto, s.valorDesejado, s.prazo, s.taxaMediaJuros, s.valorMedioPrestacao, "
+                        + "s.valorTotalDesejado, s.valorTotalCredito from Simulacao s " + filtro + "order by s.id", Object[].class)
+                .setParameter("data", data)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_BLOCO_LEITURA);
+        if (coProduto != null) {
+            consulta.setParameter("coProduto", coProduto);
+        }
+        return consulta.getResultStream()
+                .map(linha -> new SimulacaoDoDia((Long) linha[0], (Integer) linha[1], (BigDecimal) linha[2], (Long) linha[3],
+                        (BigDecimal) linha[4], (BigDecimal) linha[5], (BigDecimal) linha[6], (BigDecimal) linha[7]));
+    }
+
+    /**
+     * Página da listagem de simulações, na ordem de {@code (dataSimulacao, id)}, apenas com as colunas
+     * do resumo: a consulta lê só a tabela {@code simulacao}, sem resultados nem parcelas. O banco
+     * percorre e descarta as páginas anteriores; para páginas profundas, use {@link #listarResumosApos}.
+     */
+    public List<ResumoSimulacao> listarResumos(int indicePagina, int quantidadePorPagina) {
+        return getEntityManager()
+                .createQuery(SELECAO_RESUMO + "order by s.dataSimulacao, s.id", Object[].class)
+                .setFirstResult(indicePagina * quantidadePorPagina)
+                .setMaxResults(quantidadePorPagina)
+                .getResultStream()
+                .map(SimulacaoRepository::paraResumo)
+                .toList();
+    }
+
+    /**
+     * Próximos resumos na ordem da listagem, após a simulação de data e id informados. A condição
+     * começa pela data para que o banco busque a posição no índice {@code idx_simulacao_data_id} e
+     * leia só as linhas da página, com custo igual em qualquer profundidade.
+     */
+    public List<ResumoSimulacao> listarResumosApos(LocalDateTime dataSimulacao, Long id, int quantidadePorPagina) {
+        return getEntityManager()
+                .createQuery(SELECAO_RESUMO
+                        + "where s.dataSimulacao >= :data and (s.dataSimulacao > :data or s.id > :id) "
+                        + "order by s.dataSimulacao, s.id", Object[].class)
+                .setParameter("data", dataSimulacao)
+                .setParameter("id", id)
+                .setMaxResults(quantidadePorPagina)
+                .getResultStream()
+                .map(SimulacaoRepository::paraResumo)
+                .toList();
+    }
+
+    /**
+     * Simulação com seus resultados carregados pelo grafo {@link Simulacao#GRAFO_RESULTADOS}; as
+     * parcelas dos resultados vêm em uma segunda consulta, no primeiro acesso.
+     */
+    public Optional<Simulacao> buscarComResultados(Long id) {
+        var grafo = getEntityManager().getEntityGraph(Simulacao.GRAFO_RESULTADOS);
+        return Optional.ofNullable(getEntityManager().find(Simulacao.class, id, Map.of("jakarta.persistence.fetchgraph", grafo)));
+    }
+
+    /**
+     * Próximas simulações sem produto persistido, após o id informado, apenas com os campos que
+     * determinam o produto.
+     */
+    public List<SimulacaoSemProduto> listarSemProduto(long aposId, int limite) {
+        return getEntityManager()
+                .createQuery("select s.id, s.valorDesejado, s.prazo, s.dataReferencia from Simulacao s "
+                        + "where s.coProduto is null and s.id > :aposId order by s.id", Object[].class)
+                .setParameter("aposId", aposId)
+                .setMaxResults(limite)
+                .getResultStream()
+                .map(linha -> new SimulacaoSemProduto((Long) linha[0], (BigDecimal) linha[1], (Long) linha[2], (LocalDate) linha[3]))
+                .toList();
+    }
+
+    public int atualizarProduto(Integer coProduto, List<Long> ids) {
+        return update("coProduto = ?1 where id in ?2", coProduto, ids);
+    }
+
+    private static ResumoSimulacao paraResumo(Object[] linha) {
+        return new ResumoSimulacao((Long) linha[0], (LocalDateTime) linha[1], (BigDecimal) linha[2],
+                (Long) linha[3], (BigDecimal) linha[4]);
+    }
+
+    public record SimulacaoSemProduto(Long id, BigDecimal valorDesejado, Long prazo, LocalDate dataReferencia) {
+    }
+
+    public record SimulacaoDoDia(Long id, Integer coProduto, BigDecimal valorDesejado, Long prazo, BigDecimal taxaMediaJuros,
+                                 BigDecimal valorMedioPrestacao, BigDecimal valorTotalDesejado, BigDecimal valorTotalCredito) {
+    }
+
+    public record ResumoSimulacao(Long id, LocalDateTime dataSimulacao, BigDecimal valorDesejado, Long prazo,
+                                  BigDecimal valorTotalCredito) {
+    }
 }
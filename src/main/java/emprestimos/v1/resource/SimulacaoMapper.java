@@ -1,17 +1,17 @@
 package emprestimos.v1.resource;
 
 import emprestimos.v1.domain.dto.simulacao.list.response.SimulacaoResumoSimplificadoDTO;
-import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.repository.SimulacaoRepository.ResumoSimulacao;
 
 public class SimulacaoMapper {
 
 
-    public static SimulacaoResumoSimplificadoDTO toSimulacaoResumoSimplificadoDTO(Simulacao simulacao) {
+    public static SimulacaoResumoSimplificadoDTO toSimulacaoResumoSimplificadoDTO(ResumoSimulacao resumo) {
         SimulacaoResumoSimplificadoDTO dto = new SimulacaoResumoSimplificadoDTO();
-        dto.setIdSimulacao(simulacao.getId());
-        dto.setValorDesejado(simulacao.getValorDesejado());
-        dto.setPrazo(simulacao.getPrazo().intValue());
-        dto.setValorTotalParcelas(simulacao.getValorTotalCredito());
+        dto.setIdSimulacao(resumo.id());
+        dto.setValorDesejado(resumo.valorDesejado());
+        dto.setPrazo(resumo.prazo().intValue());
+        dto.setValorTotalParcelas(resumo.valorTotalCredito());
         return dto;
     }
 
@@ -4,14 +4,23 @@ import emprestimos.v1.config.RateLimited;
 import emprestimos.v1.config.Auditado;
 import emprestimos.v1.domain.dto.simulacao.por_produto_dia.request.SimulacaoPorProdutoDiaQueryParams;
 import emprestimos.v1.domain.dto.simulacao.buscar.response.SimulacaoDetalhesDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import emprestimos.v1.domain.dto.simulacao.create.request.SimulacaoCreateDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.SimulacaoResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.PaginaSimulacaoSimplificadaDTO;
 import emprestimos.v1.domain.dto.simulacao.list.request.SimulacaoQueryParams;
 import emprestimos.v1.domain.dto.common.ErrorResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaDTO;
+import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.parcelas.response.ParcelasSimulacaoDTO;
 import emprestimos.v1.domain.dto.simulacao.parcela.response.ParcelaEspecificaDTO;
+import emprestimos.v1.domain.dto.simulacao.lote.response.LoteSimulacaoResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.grade.request.GradeSimulacaoQueryParams;
+import emprestimos.v1.domain.dto.simulacao.grade.response.GradeSimulacaoResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.inversa.request.SimulacaoInversaQueryParams;
+import emprestimos.v1.domain.dto.simulacao.inversa.response.SimulacaoInversaResponseDTO;
+import emprestimos.v1.domain.service.strategy.CronogramaParcelas;
 import emprestimos.v1.util.FieldFilterUtil;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -31,6 +40,14 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @OpenAPIDefinition(
@@ -56,12 +73,17 @@ public class SimulacaoResource {
 
     private static final Logger logger = LoggerFactory.getLogger(SimulacaoResource.class);
 
+    static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+
     @Inject
     SimulacaoService simulacaoService;
 
     @Inject
     FieldFilterUtil fieldFilterUtil;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     @POST
     @RateLimited(maxRequests = 10, timeWindowSeconds = 60)
     @Auditado(acao = "CRIAR_SIMULACAO", recurso = "SIMULACAO", capturarDadosNovos = true)
@@ -89,38 +111,75 @@ public class SimulacaoResource {
 
         var respostaSimulacao = simulacaoService.simularEmprestimo(solicitacaoSimulacao, requestId);
 
-        // Adicionar links "detalhe" para todas as parcelas nos resultados da simulação
-        respostaSimulacao.getResultadoSimulacao().forEach(resultado -> {
-            resultado.getParcelas().forEach(parcela -> {
-                parcela.addLink("detalhe", uriInfo.getBaseUriBuilder()
-                    .path(SimulacaoResource.class)
-                    .path(String.valueOf(respostaSimulacao.getIdSimulacao()))
-                    .path(resultado.getTipo())
-                    .path(String.valueOf(parcela.getNumero()))
-                    .build().toString());
-            });
-        });
+        adicionarLinksSimulacaoCriada(respostaSimulacao, uriInfo);
 
         logger.info("[requestId={}] Simulação criada com sucesso - SimulacaoId: {}",
                     requestId, respostaSimulacao.getIdSimulacao());
 
-        respostaSimulacao.addLink("self", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).path(String.valueOf(respostaSimulacao.getIdSimulacao())).build().toString());
-
         var responseFiltered = fieldFilterUtil.filterFields(respostaSimulacao, campos);
 
         return Response.ok(responseFiltered).build();
     }
+
+    /**
+     * Cria várias simulações em uma única requisição, a partir de um array JSON.
+     */
+    @POST
+    @Path("/lote")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @RateLimited(maxRequests = 10, timeWindowSeconds = 60)
+    @Auditado(acao = "CRIAR_SIMULACAO_LOTE", recurso = "SIMULACAO")
+    @Operation(
+        summary = "Criar simulações em lote",
+        description = "Cria várias simulações em uma única requisição. Cada item é validado e calculado de forma independente; " +
+                      "a resposta traz um resultado ou erro por item, na mesma ordem das solicitações. " +
+                      "As simulações são gravadas em blocos, cada um em sua própria transação: uma falha de gravação " +
+                      "desfaz apenas o bloco, e os itens dele retornam com erro PROCESSING_ERROR. " +
+                      "Também aceita o corpo em NDJSON (application/x-ndjson), com uma simulação por linha."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Lote processado; consulte o status de cada item",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoteSimulacaoResponseDTO.class))),
+        @APIResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))),
+        @APIResponse(responseCode = "500", description = "Erro interno do servidor",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    public Response criarSimulacoesEmLote(List<SimulacaoCreateDTO> solicitacoes,
+                                          @Context HttpHeaders headers,
+                                          @Context UriInfo uriInfo) {
+        return processarLote(solicitacoes, headers, uriInfo);
+    }
+
+    /**
+     * Cria várias simulações em uma única requisição, a partir de um corpo NDJSON.
+     * Linhas mal formatadas tornam-se erros dos respectivos itens. A leitura para na primeira
+     * linha além do tamanho máximo do lote, que é então rejeitado sem ler o restante do corpo.
+     */
+    @POST
+    @Path("/lote")
+    @Consumes(MEDIA_TYPE_NDJSON)
+    @RateLimited(maxRequests = 10, timeWindowSeconds = 60)
+    @Auditado(acao = "CRIAR_SIMULACAO_LOTE", recurso = "SIMULACAO")
+    @Operation(hidden = true)
+    public Response criarSimulacoesEmLoteNdjson(InputStream corpo,
+                                                @Context HttpHeaders headers,
+                                                @Context UriInfo uriInfo) throws IOException {
+        return processarLote(lerSolicitacoesNdjson(corpo, simulacaoService.getTamanhoMaximoLote() + 1), headers, uriInfo);
+    }
+
     @GET
     @RateLimited(maxRequests = 50, timeWindowSeconds = 60)
     @Auditado(acao = "LISTAR_SIMULACOES", recurso = "SIMULACAO")
     @Operation(
         summary = "Listar simulações",
-        description = "Lista simulações com suporte a paginação. Retorna apenas os campos essenciais."
+        description = "Lista simulações com suporte a paginação. Retorna apenas os campos essenciais. "
+            + "O link proximaPagina continua a listagem por cursor, com o mesmo custo em qualquer página."
     )
     @APIResponses({
         @APIResponse(responseCode = "206", description = "Lista de simulações recuperada com sucesso",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginaSimulacaoSimplificadaDTO.class))),
-        @APIResponse(responseCode = "400", description = "Parâmetros de paginação inválidos",
+        @APIResponse(responseCode = "400", description = "Parâmetros de paginação ou cursor inválidos",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
 
@@ -132,14 +191,21 @@ public class SimulacaoResource {
 
         var paginaSimulacao = simulacaoService.listarSimulacoes(
             parametrosConsulta.getPagina(),
-            parametrosConsulta.getQtdRegistrosPagina()
+            parametrosConsulta.getQtdRegistrosPagina(),
+            parametrosConsulta.getCursor()
         );
 
         var simulacoes = paginaSimulacao.getRegistros();
         simulacoes.forEach(p -> p.addLink("detalhe", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).path(String.valueOf(p.getIdSimulacao())).build().toString()));
-        paginaSimulacao.addLink("proximaPagina", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).queryParam("pagina",paginaSimulacao.getPagina() + 1).build().toString());
+        if (paginaSimulacao.getCursorProximaPagina() != null) {
+            paginaSimulacao.addLink("proximaPagina", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class)
+                .queryParam("cursor", paginaSimulacao.getCursorProximaPagina())
+                .queryParam("qtdRegistrosPagina", paginaSimulacao.getQtdRegistrosPagina()).build().toString());
+        }
         if(paginaSimulacao.getPagina() > 1){
-            paginaSimulacao.addLink("paginaAnterior", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).queryParam("pagina",paginaSimulacao.getPagina() - 1).build().toString());
+            paginaSimulacao.addLink("paginaAnterior", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class)
+                .queryParam("pagina",paginaSimulacao.getPagina() - 1)
+                .queryParam("qtdRegistrosPagina", paginaSimulacao.getQtdRegistrosPagina()).build().toString());
 
         }
 
@@ -147,16 +213,109 @@ public class SimulacaoResource {
         return Response.status(206).entity(responseFiltered).build();
     }
 
+    /**
+     * Calcula uma grade de cotações valor × prazo sem criar simulações.
+     */
+    @GET
+    @Path("/grade")
+    @RateLimited(maxRequests = 60, timeWindowSeconds = 60)
+    @Operation(
+        summary = "Grade de cotações valor × prazo",
+        description = "Calcula, para cada combinação de valor e prazo das faixas informadas, o produto elegível de menor taxa " +
+                      "e a primeira prestação, a prestação média e o total pelos sistemas SAC e PRICE. " +
+                      "Nada é persistido e nenhum evento é publicado."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Grade calculada com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GradeSimulacaoResponseDTO.class))),
+        @APIResponse(responseCode = "400", description = "Faixas inválidas ou grade acima do máximo de células",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    public Response simularGrade(@Valid @BeanParam GradeSimulacaoQueryParams parametrosConsulta,
+                                 @Context HttpHeaders headers,
+                                 @Context UriInfo uriInfo) {
+        var requestId = getOrGenerateRequestId(headers);
+
+        logger.info("[requestId={}] Calculando grade - Valores: {} a {} (passo {}), Prazos: {} a {} (passo {})",
+                    requestId, parametrosConsulta.getValorMinimo(), parametrosConsulta.getValorMaximo(), parametrosConsulta.getValorPasso(),
+                    parametrosConsulta.getPrazoMinimo(), parametrosConsulta.getPrazoMaximo(), parametrosConsulta.getPrazoPasso());
+
+        var grade = simulacaoService.simularGrade(
+            parametrosConsulta.getValorMinimo(),
+            parametrosConsulta.getValorMaximo(),
+            parametrosConsulta.getValorPasso(),
+            parametrosConsulta.getPrazoMinimo(),
+            parametrosConsulta.getPrazoMaximo(),
+            parametrosConsulta.getPrazoPasso(),
+            requestId
+        );
+
+        grade.addLink("self", uriInfo.getRequestUri().toString());
+        grade.addLink("criarSimulacao", uriInfo.getBaseUriBuilder()
+            .path(SimulacaoResource.class)
+            .build().toString());
+
+        var responseFiltered = fieldFilterUtil.filterFields(grade, parametrosConsulta.getCampos());
+        return Response.ok(responseFiltered).build();
+    }
+
+    /**
+     * Calcula o maior valor (prazo informado) ou o menor prazo (valor informado) para uma
+     * prestação máxima, sem criar simulação.
+     */
+    @GET
+    @Path("/inversa")
+    @RateLimited(maxRequests = 60, timeWindowSeconds = 60)
+    @Operation(
+        summary = "Cálculo inverso por prestação máxima",
+        description = "Com o prazo informado, retorna o maior valor financiável cuja maior prestação não ultrapassa a prestação máxima; " +
+                      "com o valor informado, retorna o menor prazo. Considera o produto elegível de menor taxa, como na criação da simulação. " +
+                      "Nada é persistido e nenhum evento é publicado."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Solução encontrada",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SimulacaoInversaResponseDTO.class))),
+        @APIResponse(responseCode = "400", description = "Parâmetros inválidos ou nenhum produto elegível atende à prestação máxima",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    public Response calcularSimulacaoInversa(@Valid @BeanParam SimulacaoInversaQueryParams parametrosConsulta,
+                                             @Context HttpHeaders headers,
+                                             @Context UriInfo uriInfo) {
+        var requestId = getOrGenerateRequestId(headers);
+
+        logger.info("[requestId={}] Cálculo inverso - Prestação máxima: {}, Tipo: {}, Prazo: {}, Valor: {}",
+                    requestId, parametrosConsulta.getPrestacaoMaxima(), parametrosConsulta.getTipoAmortizacao(),
+                    parametrosConsulta.getPrazo(), parametrosConsulta.getValorDesejado());
+
+        var solucao = simulacaoService.calcularSimulacaoInversa(
+            parametrosConsulta.getPrestacaoMaxima(),
+            parametrosConsulta.getTipoAmortizacao(),
+            parametrosConsulta.getPrazo(),
+            parametrosConsulta.getValorDesejado(),
+            requestId
+        );
+
+        solucao.addLink("self", uriInfo.getRequestUri().toString());
+        solucao.addLink("criarSimulacao", uriInfo.getBaseUriBuilder()
+            .path(SimulacaoResource.class)
+            .build().toString());
+
+        var responseFiltered = fieldFilterUtil.filterFields(solucao, parametrosConsulta.getCampos());
+        return Response.ok(responseFiltered).build();
+    }
+
     /**
      * Busca simulações separadas por produto e/ou data sem paginação.
      */
     @GET
     @Path("/por-produto-dia")
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MEDIA_TYPE_NDJSON})
     @RateLimited(maxRequests = 30, timeWindowSeconds = 60)
     @Auditado(acao = "BUSCAR_SIMULACOES_PRODUTO_DATA", recurso = "SIMULACAO")
     @Operation(
         summary = "Buscar simulações por produto e data",
-        description = "Busca simulações filtradas por produto e/ou data. Suporta filtros opcionais de data e produto."
+        description = "Busca simulações filtradas por produto e/ou data. Suporta filtros opcionais de data e produto. "
+            + "Com Accept: application/x-ndjson, as simulações são devolvidas em fluxo, uma por linha."
     )
     @APIResponses({
         @APIResponse(responseCode = "200", description = "Simulações recuperadas com sucesso",
@@ -172,6 +331,10 @@ public class SimulacaoResource {
         logger.info("[requestId={}] Buscando simulações por produto e data - Data: {}, ProdutoId: {}",
                     requestId, parametrosConsulta.getData(), parametrosConsulta.getProdutoId());
 
+        if (MEDIA_TYPE_NDJSON.equals(headers.getHeaderString(HttpHeaders.ACCEPT))) {
+            return responderPorProdutoEDataEmFluxo(parametrosConsulta, requestId, uriInfo);
+        }
+
         var simulacoes = simulacaoService.buscarSimulacoesPorProdutoEData(
             parametrosConsulta.getData(),
             parametrosConsulta.getProdutoId(),
@@ -208,6 +371,83 @@ public class SimulacaoResource {
         return Response.ok(responseFiltered).build();
     }
 
+    /**
+     * Consulta por produto e dia em NDJSON: cada simulação é escrita em uma linha assim que é lida
+     * do banco, sem montar a lista do dia, com memória constante qualquer que seja o volume. Os
+     * filtros são validados antes do início da resposta; a data consultada segue no cabeçalho
+     * X-Data-Referencia.
+     */
+    private Response responderPorProdutoEDataEmFluxo(SimulacaoPorProdutoDiaQueryParams parametrosConsulta,
+                                                     String requestId, UriInfo uriInfo) {
+        var produtoId = parametrosConsulta.getProdutoId();
+        var campos = parametrosConsulta.getCampos();
+        var dataConsulta = simulacaoService.validarFiltrosPorProdutoEData(parametrosConsulta.getData(), produtoId);
+        var linkListarSimulacoes = uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).build().toString();
+        var escritor = objectMapper.writer();
+
+        StreamingOutput corpo = saida -> {
+            try {
+                var quantidade = simulacaoService.percorrerSimulacoesPorProdutoEData(dataConsulta, produtoId, simulacao -> {
+                    simulacao.addLink("listarSimulacoes", linkListarSimulacoes);
+                    try {
+                        saida.write(escritor.writeValueAsBytes(fieldFilterUtil.filterFields(simulacao, campos)));
+                        saida.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                logger.info("[requestId={}] Consulta em fluxo concluída - {} simulações escritas", requestId, quantidade);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return Response.ok(corpo, MEDIA_TYPE_NDJSON)
+            .header("X-Data-Referencia", dataConsulta.toString())
+            .build();
+    }
+
+    /**
+     * Totais e médias por produto das simulações de um dia, a partir do resumo diário.
+     */
+    @GET
+    @Path("/por-produto-dia/agregado")
+    @RateLimited(maxRequests = 30, timeWindowSeconds = 60)
+    @Auditado(acao = "BUSCAR_RESUMO_PRODUTO_DATA", recurso = "SIMULACAO")
+    @Operation(
+        summary = "Buscar totais das simulações por produto e data",
+        description = "Retorna um item por produto com a taxa média, a prestação média e os totais desejado e de crédito das simulações do dia. Suporta filtros opcionais de data e produto."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Totais recuperados com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SimulacaoPorProdutoDiaResponseDTO.class))),
+        @APIResponse(responseCode = "400", description = "Parâmetros de filtro inválidos",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    public Response buscarResumoPorProdutoEData(@Valid @BeanParam SimulacaoPorProdutoDiaQueryParams parametrosConsulta, @Context HttpHeaders headers, @Context UriInfo uriInfo) {
+        var requestId = getOrGenerateRequestId(headers);
+
+        logger.info("[requestId={}] Buscando totais por produto e data - Data: {}, ProdutoId: {}",
+                    requestId, parametrosConsulta.getData(), parametrosConsulta.getProdutoId());
+
+        var resumo = simulacaoService.buscarResumoPorProdutoEData(
+            parametrosConsulta.getData(),
+            parametrosConsulta.getProdutoId(),
+            requestId
+        );
+
+        resumo.addLink("self", uriInfo.getRequestUri().toString());
+        resumo.addLink("simulacoes", uriInfo.getBaseUriBuilder()
+            .path(SimulacaoResource.class)
+            .path("por-produto-dia")
+            .replaceQuery(uriInfo.getRequestUri().getRawQuery())
+            .build().toString());
+
+        var responseFiltered = fieldFilterUtil.filterFields(resumo, parametrosConsulta.getCampos());
+        return Response.ok(responseFiltered).build();
+    }
+
     /**
      * Busca uma simulação específica pelo seu ID.
      */
@@ -238,14 +478,14 @@ public class SimulacaoResource {
 
         // Adicionar links "detalhe" para todas as parcelas nos resultados da simulação
         simulacao.getResultadosSimulacao().forEach(resultado -> {
-            resultado.getParcelas().forEach(parcela -> {
+            resultado.setParcelas(CronogramaParcelas.decorar(resultado.getParcelas(), parcela -> {
                 parcela.addLink("detalhe", uriInfo.getBaseUriBuilder()
                     .path(SimulacaoResource.class)
                     .path(String.valueOf(id))
                     .path(resultado.getTipo())
                     .path(String.valueOf(parcela.getNumero()))
                     .build().toString());
-            });
+            }));
         });
 
         // Adicionar links HATEOAS
@@ -306,15 +546,16 @@ public class SimulacaoResource {
 
         var parcelas = simulacaoService.buscarParcelasPorTipoAmortizacao(id, tipoAmortizacao, requestId);
 
-        // Adicionar links HATEOAS para cada parcela individual
-        parcelas.getParcelas().forEach(parcela -> {
+        // Adicionar links HATEOAS para cada parcela individual, aplicados à medida que
+        // as parcelas são geradas na serialização
+        parcelas.setParcelas(CronogramaParcelas.decorar(parcelas.getParcelas(), parcela -> {
             parcela.addLink("detalhe", uriInfo.getBaseUriBuilder()
                 .path(SimulacaoResource.class)
                 .path(String.valueOf(id))
                 .path(tipoAmortizacao)
                 .path(String.valueOf(parcela.getNumero()))
                 .build().toString());
-        });
+        }));
 
         // Adicionar links HATEOAS para o objeto principal
         parcelas.addLink("self", uriInfo.getBaseUriBuilder()
@@ -435,6 +676,66 @@ public class SimulacaoResource {
         return Response.ok(responseFiltered).build();
     }
 
+    private Response processarLote(List<SimulacaoCreateDTO> solicitacoes, HttpHeaders headers, UriInfo uriInfo) {
+        var requestId = getOrGenerateRequestId(headers);
+
+        logger.info("[requestId={}] Iniciando criação de simulações em lote - Itens: {}",
+                    requestId, solicitacoes != null ? solicitacoes.size() : 0);
+
+        var lote = simulacaoService.simularEmprestimosEmLote(solicitacoes, requestId);
+        lote.getItens().stream()
+            .filter(item -> item.getSimulacao() != null)
+            .forEach(item -> adicionarLinksSimulacaoCriada(item.getSimulacao(), uriInfo));
+
+        logger.info("[requestId={}] Lote processado - Criadas: {}, Rejeitadas: {}",
+                    requestId, lote.getQuantidadeSucesso(), lote.getQuantidadeErro());
+
+        return Response.ok(lote).build();
+    }
+
+    /**
+     * Lê uma simulação por linha não vazia, até o limite de itens informado. Linhas que não
+     * representam uma simulação viram itens nulos, reportados como erro de validação na posição
+     * correspondente.
+     */
+    private List<SimulacaoCreateDTO> lerSolicitacoesNdjson(InputStream corpo, int limite) throws IOException {
+        var leitor = objectMapper.readerFor(SimulacaoCreateDTO.class);
+        var solicitacoes = new ArrayList<SimulacaoCreateDTO>();
+        try (var linhas = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8))) {
+            String linha;
+            while (solicitacoes.size() < limite && (linha = linhas.readLine()) != null) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    solicitacoes.add(leitor.readValue(linha));
+                } catch (JsonProcessingException e) {
+                    solicitacoes.add(null);
+                }
+            }
+        }
+        return solicitacoes;
+    }
+
+    /**
+     * Adiciona os links da simulação criada e o link "detalhe" de cada parcela
+     * (as parcelas podem ser compartilhadas pelo cache; a decoração é feita em cópias).
+     */
+    private void adicionarLinksSimulacaoCriada(SimulacaoResponseDTO respostaSimulacao, UriInfo uriInfo) {
+        respostaSimulacao.getResultadoSimulacao().forEach(resultado -> {
+            resultado.setParcelas(CronogramaParcelas.decorar(resultado.getParcelas(), parcela -> {
+                parcela.addLink("detalhe", uriInfo.getBaseUriBuilder()
+                    .path(SimulacaoResource.class)
+                    .path(String.valueOf(respostaSimulacao.getIdSimulacao()))
+                    .path(resultado.getTipo())
+                    .path(String.valueOf(parcela.getNumero()))
+                    .build().toString());
+            }));
+        });
+
+        respostaSimulacao.addLink("self", uriInfo.getBaseUriBuilder().path(SimulacaoResource.class).path(String.valueOf(respostaSimulacao.getIdSimulacao())).build().toString());
+    }
+
     private String getOrGenerateRequestId(HttpHeaders headers) {
         var headerId = headers.getHeaderString("X-Request-ID");
         return (headerId != null && !headerId.isBlank()) ? headerId : UUID.randomUUID().toString();
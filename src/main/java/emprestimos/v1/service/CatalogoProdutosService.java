@@ -0,0 +1,280 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.EstadoDisjuntor;
+import emprestimos.v1.domain.exception.ProdutoException;
+import emprestimos.v1.domain.service.ArquivoCatalogo;
+import emprestimos.v1.domain.service.IndiceElegibilidade;
+import emprestimos.v1.repository.ProdutoRepository;
+import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Catálogo de produtos em memória, lido do SQL Server fora do caminho das requisições.
+ *
+ * O catálogo é uma fotografia imutável (produtos, índice de elegibilidade e mapa por código)
+ * publicada em uma referência atômica: as requisições leem a fotografia corrente sem bloqueio e
+ * uma mesma requisição enxerga sempre um catálogo consistente. A recarga roda no agendador, em
+ * um único thread; só a primeira leitura, antes da carga inicial, consulta o banco no thread da
+ * requisição, e de forma serializada, sem que várias requisições disparem a mesma consulta.
+ *
+ * A cada verificação, uma consulta agregada ({@link ProdutoRepository#calcularAssinatura()})
+ * compara o conteúdo da tabela com a assinatura da fotografia; a leitura completa e a
+ * reconstrução do índice só acontecem quando a assinatura muda ou quando a última carga completa
+ * atinge o intervalo de recarga completa, salvaguarda contra alterações que não mudem a assinatura.
+ *
+ * As consultas ao SQL Server passam por um {@link Disjuntor}. Se a verificação falhar, a
+ * fotografia anterior continua em uso (desatualizada, mas disponível) e a verificação seguinte
+ * tenta de novo; com o disjuntor aberto, as tentativas são recusadas sem aguardar o banco até a
+ * sonda do estado meio aberto. A latência das simulações não depende, assim, da saúde do banco remoto.
+ *
+ * Cada carga bem-sucedida é gravada em arquivo local ({@link ArquivoCatalogo}), com o índice já
+ * construído. Na subida, esse arquivo é mapeado em memória e publicado como fotografia inicial:
+ * a primeira simulação não espera o SQL Server, e a verificação agendada decide pela assinatura
+ * gravada se é preciso recarregar. Um arquivo ausente, corrompido ou de outro formato é ignorado.
+ */
+@ApplicationScoped
+@Slf4j
+public class CatalogoProdutosService {
+
+    @Inject
+    @PersistenceUnit("produtos")
+    ProdutoRepository produtoRepository;
+
+    @ConfigProperty(name = "emprestimos.produtos.catalogo.intervalo-recarga-completa", defaultValue = "1h")
+    Duration intervaloRecargaCompleta;
+
+    @ConfigProperty(name = "emprestimos.produtos.catalogo.idade-maxima", defaultValue = "15m")
+    Duration idadeMaxima;
+
+    @ConfigProperty(name = "emprestimos.produtos.catalogo.disjuntor.limite-falhas", defaultValue = "3")
+    int limiteFalhas;
+
+    @ConfigProperty(name = "emprestimos.produtos.catalogo.disjuntor.espera", defaultValue = "30s")
+    Duration esperaDisjuntor;
+
+    @ConfigProperty(name = "emprestimos.produtos.catalogo.arquivo")
+    Optional<String> arquivo;
+
+    Clock relogio = Clock.systemUTC();
+
+    private final AtomicReference<Catalogo> atual = new AtomicReference<>();
+
+    private final Object cargaInicial = new Object();
+
+    private Disjuntor disjuntor;
+
+    /**
+     * Fotografia do catálogo.
+     *
+     * @param versao Número da carga, iniciado em 1 e incrementado a cada recarga
+     * @param carregadoEm Momento em que os produtos foram lidos do banco
+     * @param verificadoEm Momento da última confirmação de que o banco não mudou desde a leitura
+     * @param assinatura Assinatura da tabela no momento da leitura
+     * @param indice Produtos na ordem do banco, indexados por prazo e valor
+     * @param porCodigo Produtos por {@code coProduto}
+     */
+    public record Catalogo(long versao, Instant carregadoEm, Instant verificadoEm, String assinatura,
+                           IndiceElegibilidade indice, Map<Integer, Produto> porCodigo) {
+
+        public List<Produto> produtos() {
+            return indice.getProdutos();
+        }
+
+        public Optional<Produto> buscarProduto(Integer codigo) {
+            return Optional.ofNullable(porCodigo.get(codigo));
+        }
+
+        Catalogo verificado(Instant momento) {
+            return new Catalogo(versao, carregadoEm, momento, assinatura, indice, porCodigo);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        disjuntor = new Disjuntor("catalogo-produtos", limiteFalhas, esperaDisjuntor, () -> relogio.instant());
+    }
+
+    void iniciar(@Observes StartupEvent evento) {
+        restaurar();
+    }
+
+    /**
+     * Publica o catálogo gravado no arquivo local, se ainda não houver fotografia. A idade é
+     * contada a partir da carga gravada, de modo que um arquivo antigo aparece desatualizado até
+     * a próxima verificação com o banco.
+     */
+    void restaurar() {
+        if (arquivo.isEmpty() || atual.get() != null) {
+            return;
+        }
+        var caminho = Path.of(arquivo.get());
+        try {
+            ArquivoCatalogo.ler(caminho).ifPresent(conteudo -> {
+                var catalogo = new Catalogo(conteudo.versao(), conteudo.carregadoEm(), conteudo.carregadoEm(),
+                        conteudo.assinatura(), conteudo.indice(), porCodigo(conteudo.indice().getProdutos()));
+                if (atual.compareAndSet(null, catalogo)) {
+                    log.info("Catálogo de produtos restaurado de {}: versão {}, {} produtos, carregado em {}",
+                            caminho, catalogo.versao(), catalogo.produtos().size(), catalogo.carregadoEm());
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Arquivo do catálogo de produtos {} ignorado: {}", caminho, e.getMessage());
+        }
+    }
+
+    /**
+     * Fotografia corrente; na primeira chamada antes da carga agendada, carrega o catálogo.
+     *
+     * @throws ProdutoException se o catálogo ainda não foi carregado e o banco está indisponível
+     */
+    public Catalogo obter() {
+        var catalogo = atual.get();
+        if (catalogo != null) {
+            return catalogo;
+        }
+        synchronized (cargaInicial) {
+            catalogo = atual.get();
+            if (catalogo != null) {
+                return catalogo;
+            }
+            try {
+                return carregar();
+            } catch (RuntimeException e) {
+                throw ProdutoException.catalogoIndisponivel(e);
+            }
+        }
+    }
+
+    /**
+     * Verifica periodicamente se o catálogo mudou, recarregando-o apenas quando a assinatura da
+     * tabela difere da fotografia, na ausência de fotografia ou no intervalo de recarga completa.
+     * Execuções sobrepostas são descartadas.
+     */
+    @Scheduled(every = "${emprestimos.produtos.catalogo.intervalo-verificacao}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void atualizar() {
+        var catalogo = atual.get();
+        try {
+            if (catalogo == null
+                    || Duration.between(catalogo.carregadoEm(), relogio.instant()).compareTo(intervaloRecargaCompleta) >= 0) {
+                carregar();
+                return;
+            }
+
+            var assinatura = disjuntor.executar(produtoRepository::calcularAssinatura);
+            if (assinatura.equals(catalogo.assinatura())) {
+                // Sem mudança: apenas renova a confirmação, mantendo versão e índice
+                atual.compareAndSet(catalogo, catalogo.verificado(relogio.instant()));
+            } else {
+                log.info("Alteração detectada na tabela de produtos; recarregando o catálogo (versão {})", catalogo.versao());
+                carregar(assinatura);
+            }
+        } catch (Disjuntor.DisjuntorAbertoException e) {
+            log.debug("Recarga do catálogo de produtos adiada: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Falha ao recarregar o catálogo de produtos; mantida a versão {} (disjuntor {})",
+                    catalogo == null ? "nenhuma" : catalogo.versao(), disjuntor.getEstado(), e);
+        }
+    }
+
+    /**
+     * Versão do catálogo em uso, ou vazio antes da primeira carga.
+     */
+    public Optional<Long> versao() {
+        return Optional.ofNullable(atual.get()).map(Catalogo::versao);
+    }
+
+    /**
+     * Tempo desde a última confirmação do catálogo em uso com o banco (leitura ou verificação sem
+     * mudança), ou vazio antes da primeira carga.
+     */
+    public Optional<Duration> idade() {
+        return Optional.ofNullable(atual.get()).map(this::idade);
+    }
+
+    /**
+     * Indica se o catálogo em uso ultrapassou a idade máxima configurada, o que ocorre quando as
+     * recargas vêm falhando. Antes da primeira carga não há catálogo desatualizado.
+     */
+    public boolean isDesatualizado() {
+        return idade().map(idade -> idade.compareTo(idadeMaxima) > 0).orElse(false);
+    }
+
+    public EstadoDisjuntor getEstadoDisjuntor() {
+        return disjuntor.getEstado();
+    }
+
+    private Duration idade(Catalogo catalogo) {
+        return Duration.between(catalogo.verificadoEm(), relogio.instant());
+    }
+
+    private Catalogo carregar() {
+        return carregar(null);
+    }
+
+    /**
+     * Lê a assinatura antes dos produtos (ou reaproveita a recém-consultada): uma alteração entre
+     * as duas consultas deixa a assinatura guardada defasada, e a verificação seguinte recarrega
+     * o catálogo.
+     */
+    private Catalogo carregar(String assinaturaConsultada) {
+        var leitura = disjuntor.executar(() -> new Leitura(
+                assinaturaConsultada != null ? assinaturaConsultada : produtoRepository.calcularAssinatura(),
+                produtoRepository.listAll()));
+        var produtos = leitura.produtos();
+        var carregadoEm = relogio.instant();
+        var porCodigo = porCodigo(produtos);
+        var indice = IndiceElegibilidade.criar(produtos);
+
+        var novo = atual.updateAndGet(anterior ->
+                new Catalogo(anterior == null ? 1L : anterior.versao() + 1, carregadoEm, carregadoEm,
+                        leitura.assinatura(), indice, porCodigo));
+        log.info("Catálogo de produtos carregado: versão {}, {} produtos", novo.versao(), produtos.size());
+        gravar(novo);
+        return novo;
+    }
+
+    /**
+     * Grava a fotografia no arquivo local; uma falha não afeta o catálogo em memória.
+     */
+    private synchronized void gravar(Catalogo catalogo) {
+        if (arquivo.isEmpty()) {
+            return;
+        }
+        var caminho = Path.of(arquivo.get());
+        try {
+            ArquivoCatalogo.gravar(caminho, new ArquivoCatalogo.Conteudo(
+                    catalogo.versao(), catalogo.carregadoEm(), catalogo.assinatura(), catalogo.indice()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao gravar o catálogo de produtos em {}: {}", caminho, e.getMessage());
+        }
+    }
+
+    private static Map<Integer, Produto> porCodigo(List<Produto> produtos) {
+        return produtos.stream()
+                .collect(Collectors.toUnmodifiableMap(Produto::getCoProduto, Function.identity(), (primeiro, repetido) -> primeiro));
+    }
+
+    private record Leitura(String assinatura, List<Produto> produtos) {
+    }
+}
@@ -0,0 +1,113 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
+import emprestimos.v1.repository.ParcelaRepository;
+import emprestimos.v1.repository.ParcelaRepository.ParcelaGravada;
+import emprestimos.v1.repository.ResultadoSimulacaoRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converte para o cronograma compactado os resultados gravados com uma linha de {@code parcela}
+ * por mês, quando o armazenamento configurado é {@link ArmazenamentoCronograma#COMPACTADO}.
+ *
+ * Percorre os resultados em lotes pela ordem do id; em cada lote, em uma transação, grava a coluna
+ * compactada e remove as linhas de parcela convertidas. Resultados cujas parcelas não podem ser
+ * codificadas (numeração com lacunas ou valores fora da escala) ficam em linhas e continuam sendo
+ * lidos normalmente. Concluída a varredura, a tarefa não volta a consultar o banco até a próxima subida.
+ */
+@ApplicationScoped
+@Slf4j
+public class CompactacaoCronogramaService {
+
+    @Inject
+    ResultadoSimulacaoRepository resultadoSimulacaoRepository;
+
+    @Inject
+    ParcelaRepository parcelaRepository;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.cronograma.armazenamento", defaultValue = "LINHAS")
+    ArmazenamentoCronograma armazenamento;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.cronograma.compactacao.lote", defaultValue = "200")
+    int tamanhoLote;
+
+    private volatile boolean concluido;
+
+    private long ultimoId;
+
+    @Scheduled(every = "${emprestimos.simulacoes.cronograma.compactacao.intervalo}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void compactar() {
+        if (concluido || armazenamento != ArmazenamentoCronograma.COMPACTADO) {
+            return;
+        }
+        try {
+            int compactados = 0;
+            int lidos;
+            do {
+                var ids = resultadoSimulacaoRepository.listarIdsSemCronogramaCompactado(ultimoId, tamanhoLote);
+                lidos = ids.size();
+                if (lidos > 0) {
+                    compactados += compactarLote(ids);
+                    ultimoId = ids.get(lidos - 1);
+                }
+            } while (lidos == tamanhoLote);
+
+            concluido = true;
+            if (compactados > 0) {
+                log.info("Cronograma compactado em {} resultados de simulação anteriores", compactados);
+            }
+        } catch (Exception e) {
+            log.warn("Compactação dos cronogramas interrompida após o resultado {}: {}", ultimoId, e.getMessage());
+        }
+    }
+
+    /**
+     * Compacta o lote em uma transação, removendo de uma vez as parcelas dos resultados convertidos.
+     */
+    @Transactional
+    int compactarLote(List<Long> ids) {
+        Map<Long, List<ParcelaDTO>> parcelasPorResultado = new HashMap<>();
+        for (ParcelaGravada parcela : parcelaRepository.listarPorResultados(ids)) {
+            parcelasPorResultado.computeIfAbsent(parcela.idResultado(), ignorado -> new ArrayList<>()).add(paraDTO(parcela));
+        }
+
+        var compactados = new ArrayList<Long>(ids.size());
+        for (Long id : ids) {
+            byte[] cronograma;
+            try {
+                cronograma = CronogramaCompactado.codificar(parcelasPorResultado.getOrDefault(id, List.of()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Cronograma do resultado {} mantido em linhas: {}", id, e.getMessage());
+                continue;
+            }
+            resultadoSimulacaoRepository.gravarCronogramaCompactado(id, cronograma);
+            compactados.add(id);
+        }
+        if (!compactados.isEmpty()) {
+            parcelaRepository.removerPorResultados(compactados);
+        }
+        return compactados.size();
+    }
+
+    private static ParcelaDTO paraDTO(ParcelaGravada parcela) {
+        var dto = new ParcelaDTO();
+        dto.setNumero(parcela.numero());
+        dto.setValorAmortizacao(parcela.valorAmortizacao());
+        dto.setValorJuros(parcela.valorJuros());
+        dto.setValorPrestacao(parcela.valorPrestacao());
+        return dto;
+    }
+}
@@ -0,0 +1,72 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Total de simulações gravadas informado na listagem ({@code qtdRegistros}), mantido em memória
+ * para que nenhuma página precise de um {@code COUNT(*)} sobre a tabela inteira.
+ *
+ * A contagem é feita no banco na primeira consulta e refeita em segundo plano no intervalo
+ * configurado; entre uma contagem e outra, as simulações gravadas por esta instância são somadas
+ * ao total. O valor é aproximado: gravações de outras instâncias, ou concorrentes a uma recontagem,
+ * só aparecem na recontagem seguinte.
+ */
+@ApplicationScoped
+@Slf4j
+public class ContagemSimulacoesService {
+
+    private static final long DESCONHECIDO = -1L;
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    private final AtomicLong total = new AtomicLong(DESCONHECIDO);
+
+    private final Object contagemInicial = new Object();
+
+    /**
+     * Total corrente; na primeira chamada antes da contagem agendada, conta no banco.
+     */
+    public long total() {
+        long atual = total.get();
+        if (atual != DESCONHECIDO) {
+            return atual;
+        }
+        synchronized (contagemInicial) {
+            atual = total.get();
+            if (atual == DESCONHECIDO) {
+                atual = recontar();
+            }
+            return atual;
+        }
+    }
+
+    /**
+     * Soma ao total as simulações confirmadas por esta instância.
+     */
+    public void registrar(int quantidade) {
+        total.getAndUpdate(atual -> atual == DESCONHECIDO ? atual : atual + quantidade);
+    }
+
+    @Scheduled(every = "${emprestimos.simulacoes.listagem.contagem.intervalo}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void atualizar() {
+        try {
+            recontar();
+        } catch (Exception e) {
+            log.warn("Falha ao recontar as simulações; mantido o total {}: {}", total.get(), e.getMessage());
+        }
+    }
+
+    long recontar() {
+        long contagem = simulacaoRepository.count();
+        total.set(contagem);
+        return contagem;
+    }
+}
@@ -0,0 +1,99 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.enums.EstadoDisjuntor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Disjuntor (circuit breaker) para chamadas a uma dependência remota.
+ *
+ * Após {@code limiteFalhas} falhas consecutivas o disjuntor abre e recusa chamadas, sem acionar
+ * a dependência, durante {@code espera}. Encerrada a espera, a próxima chamada passa como sonda
+ * (meio aberto) enquanto as demais continuam recusadas; o sucesso da sonda fecha o disjuntor e a
+ * falha o reabre por mais uma espera.
+ */
+public final class Disjuntor {
+
+    private final String nome;
+    private final int limiteFalhas;
+    private final Duration espera;
+    private final Supplier<Instant> relogio;
+
+    private EstadoDisjuntor estado = EstadoDisjuntor.FECHADO;
+    private int falhasConsecutivas;
+    private Instant abertoEm;
+
+    public Disjuntor(String nome, int limiteFalhas, Duration espera, Supplier<Instant> relogio) {
+        if (limiteFalhas < 1) {
+            throw new IllegalArgumentException("O limite de falhas do disjuntor deve ser positivo: " + limiteFalhas);
+        }
+        this.nome = nome;
+        this.limiteFalhas = limiteFalhas;
+        this.espera = espera;
+        this.relogio = relogio;
+    }
+
+    /**
+     * Executa a chamada se o disjuntor permitir, registrando o resultado.
+     *
+     * @throws DisjuntorAbertoException se a chamada for recusada sem acionar a dependência
+     */
+    public <T> T executar(Supplier<T> chamada) {
+        if (!permitirChamada()) {
+            throw new DisjuntorAbertoException(nome);
+        }
+        T resultado;
+        try {
+            resultado = chamada.get();
+        } catch (RuntimeException | Error e) {
+            registrarFalha();
+            throw e;
+        }
+        registrarSucesso();
+        return resultado;
+    }
+
+    public synchronized EstadoDisjuntor getEstado() {
+        return estado;
+    }
+
+    private synchronized boolean permitirChamada() {
+        return switch (estado) {
+            case FECHADO -> true;
+            case MEIO_ABERTO -> false;
+            case ABERTO -> {
+                if (relogio.get().isBefore(abertoEm.plus(espera))) {
+                    yield false;
+                }
+                estado = EstadoDisjuntor.MEIO_ABERTO;
+                yield true;
+            }
+        };
+    }
+
+    private synchronized void registrarSucesso() {
+        estado = EstadoDisjuntor.FECHADO;
+        falhasConsecutivas = 0;
+        abertoEm = null;
+    }
+
+    private synchronized void registrarFalha() {
+        falhasConsecutivas++;
+        if (estado == EstadoDisjuntor.MEIO_ABERTO || falhasConsecutivas >= limiteFalhas) {
+            estado = EstadoDisjuntor.ABERTO;
+            abertoEm = relogio.get();
+        }
+    }
+
+    /**
+     * Chamada recusada porque o disjuntor está aberto ou aguardando o resultado da sonda.
+     */
+    public static final class DisjuntorAbertoException extends RuntimeException {
+
+        public DisjuntorAbertoException(String nome) {
+            super("Disjuntor '" + nome + "' aberto; chamada recusada");
+        }
+    }
+}
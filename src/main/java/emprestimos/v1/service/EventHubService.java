@@ -11,6 +11,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @ApplicationScoped
@@ -85,6 +86,45 @@ public class EventHubService {
         }
     }
 
+    /**
+     * Envia várias mensagens agrupadas no menor número de lotes do Event Hub: um novo lote
+     * só é aberto quando a próxima mensagem não cabe no atual.
+     */
+    public void sendMessages(List<String> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        if (initializationFailed || !initialized.get() || producerClient == null) {
+            LOG.debug("[EventHub] 🔇 EventHub não inicializado. {} mensagens não enviadas (aplicação continua funcionando).", messages.size());
+            return;
+        }
+
+        try {
+            EventDataBatch batch = producerClient.createBatch();
+            int enviadas = 0;
+            for (String message : messages) {
+                if (batch.tryAdd(new EventData(message))) {
+                    continue;
+                }
+                if (batch.getCount() > 0) {
+                    producerClient.send(batch);
+                    enviadas += batch.getCount();
+                    batch = producerClient.createBatch();
+                }
+                if (!batch.tryAdd(new EventData(message))) {
+                    LOG.debug("[EventHub] ⚠ Mensagem muito grande para o lote. Mensagem não enviada (aplicação continua funcionando).");
+                }
+            }
+            if (batch.getCount() > 0) {
+                producerClient.send(batch);
+                enviadas += batch.getCount();
+            }
+            LOG.debug("[EventHub]  {} de {} mensagens enviadas com sucesso.", enviadas, messages.size());
+        } catch (Exception e) {
+            LOG.debug("[EventHub] ⚠ Falha ao enviar lote de {} mensagens (aplicação continua funcionando).", messages.size(), e);
+        }
+    }
+
     @PreDestroy
     void close() {
         if (producerClient != null) {
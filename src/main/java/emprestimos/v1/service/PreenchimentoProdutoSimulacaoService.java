@@ -0,0 +1,106 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.service.IndiceElegibilidade;
+import emprestimos.v1.repository.SimulacaoRepository;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoSemProduto;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Preenche o produto das simulações gravadas antes de {@code co_produto} existir.
+ *
+ * O catálogo fica no SQL Server, então a migração não consegue preencher a coluna; o produto é
+ * determinado aqui pela mesma regra de elegibilidade usada na criação, em lotes pela ordem do id.
+ * As simulações sem produto elegível no catálogo atual são puladas e continuam nulas: aparecem
+ * nas consultas por dia, mas não nas consultas por produto. O resumo diário dos dias alterados é
+ * recalculado na mesma transação do lote. Concluída a varredura, a tarefa não volta a consultar
+ * o banco até a próxima subida.
+ */
+@ApplicationScoped
+@Slf4j
+public class PreenchimentoProdutoSimulacaoService {
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @Inject
+    CatalogoProdutosService catalogoProdutos;
+
+    @Inject
+    ResumoDiarioProdutoService resumoDiario;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.preenchimento-produto.lote", defaultValue = "500")
+    int tamanhoLote;
+
+    private volatile boolean concluido;
+
+    private long ultimoId;
+
+    @Scheduled(every = "${emprestimos.simulacoes.preenchimento-produto.intervalo}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void preencher() {
+        if (concluido) {
+            return;
+        }
+        try {
+            var indice = catalogoProdutos.obter().indice();
+            int preenchidas = 0;
+            int lidas;
+            do {
+                var pendentes = simulacaoRepository.listarSemProduto(ultimoId, tamanhoLote);
+                lidas = pendentes.size();
+                preenchidas += preencherLote(pendentes, indice);
+                if (lidas > 0) {
+                    ultimoId = pendentes.get(lidas - 1).id();
+                }
+            } while (lidas == tamanhoLote);
+
+            concluido = true;
+            if (preenchidas > 0) {
+                log.info("Produto preenchido em {} simulações anteriores", preenchidas);
+            }
+        } catch (Exception e) {
+            log.warn("Preenchimento do produto das simulações interrompido após o id {}: {}", ultimoId, e.getMessage());
+        }
+    }
+
+    /**
+     * Atualiza o lote em uma transação, com uma atualização por produto, e recalcula o resumo
+     * diário dos dias das simulações preenchidas.
+     */
+    @Transactional
+    int preencherLote(List<SimulacaoSemProduto> pendentes, IndiceElegibilidade indice) {
+        Map<Integer, List<Long>> idsPorProduto = new TreeMap<>();
+        Set<LocalDate> diasAlterados = new HashSet<>();
+        for (var pendente : pendentes) {
+            indice.encontrarMelhorProduto(pendente.valorDesejado(), pendente.prazo().intValue())
+                    .map(Produto::getCoProduto)
+                    .ifPresent(codigo -> {
+                        idsPorProduto.computeIfAbsent(codigo, ignorado -> new ArrayList<>()).add(pendente.id());
+                        diasAlterados.add(pendente.dataReferencia());
+                    });
+        }
+
+        int atualizadas = 0;
+        for (var entrada : idsPorProduto.entrySet()) {
+            atualizadas += simulacaoRepository.atualizarProduto(entrada.getKey(), entrada.getValue());
+        }
+        if (!diasAlterados.isEmpty()) {
+            resumoDiario.reconstruirDias(diasAlterados);
+        }
+        return atualizadas;
+    }
+}
@@ -0,0 +1,169 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.repository.ResumoDiarioProdutoRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resumo diário das simulações por produto ({@link ResumoDiarioProduto}).
+ *
+ * Cada simulação gravada soma seus valores à linha do seu dia e produto na mesma transação, de
+ * modo que o resumo nunca diverge das simulações confirmadas e as consultas diárias leem uma linha
+ * por produto. A linha é criada antes, em transação própria ({@link #prepararLinha}), e dentro da
+ * transação da simulação há apenas UPDATEs. Se a linha ainda não existir (a criação antecipada
+ * falhou, ou a simulação é de outro dia), ela é criada também em transação própria, onde uma
+ * inserção concorrente da mesma chave é inofensiva, e o UPDATE é repetido: a transação da
+ * simulação nunca insere linhas do resumo. Em lotes, as linhas são atualizadas em ordem de chave,
+ * evitando impasses entre transações.
+ *
+ * A carga do histórico é feita uma vez, pela migração que cria a tabela. Depois dela, a
+ * reconstrução agendada recalcula apenas o dia anterior, e os dias cujo produto é preenchido
+ * depois são recalculados pelo próprio preenchimento ({@link #reconstruirDias}).
+ */
+@ApplicationScoped
+@Slf4j
+public class ResumoDiarioProdutoService {
+
+    private static final Comparator<ResumoDiarioProduto.Chave> ORDEM_CHAVES =
+            Comparator.comparing(ResumoDiarioProduto.Chave::getDataReferencia)
+                    .thenComparing(ResumoDiarioProduto.Chave::getCoProduto);
+
+    @Inject
+    ResumoDiarioProdutoRepository resumoRepository;
+
+    /**
+     * Linhas do dia corrente que já existem, para não consultar o banco a cada simulação.
+     */
+    private final Set<ResumoDiarioProduto.Chave> linhasCriadas = ConcurrentHashMap.newKeySet();
+
+    private volatile LocalDate diaLinhasCriadas;
+
+    /**
+     * Garante a linha do dia e produto fora da transação da simulação. Uma falha aqui, inclusive
+     * a inserção concorrente da mesma linha, é inofensiva: {@link #registrar} cria a linha se
+     * ela ainda não existir.
+     */
+    public void prepararLinha(LocalDate dia, Integer coProduto) {
+        if (!dia.equals(diaLinhasCriadas)) {
+            linhasCriadas.clear();
+            diaLinhasCriadas = dia;
+        }
+        var chave = new ResumoDiarioProduto.Chave(dia, coProduto);
+        if (linhasCriadas.contains(chave)) {
+            return;
+        }
+        try {
+            resumoRepository.criarSeAusente(dia, coProduto);
+            linhasCriadas.add(chave);
+        } catch (RuntimeException e) {
+            log.debug("Linha do resumo diário {} não criada antecipadamente: {}", chave, e.getMessage());
+        }
+    }
+
+    /**
+     * Soma as simulações ao resumo na transação corrente. Simulações sem produto são ignoradas.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void registrar(List<Simulacao> simulacoes) {
+        Map<ResumoDiarioProduto.Chave, ResumoDiarioProduto> parciais = new TreeMap<>(ORDEM_CHAVES);
+        for (var simulacao : simulacoes) {
+            if (simulacao.getCoProduto() == null) {
+                continue;
+            }
+            var parcial = parciais.computeIfAbsent(
+                    new ResumoDiarioProduto.Chave(simulacao.getDataReferencia(), simulacao.getCoProduto()),
+                    chave -> new ResumoDiarioProduto(chave.getDataReferencia(), chave.getCoProduto()));
+            parcial.setQuantidade(parcial.getQuantidade() + 1);
+            parcial.setSomaTaxaJuros(somar(parcial.getSomaTaxaJuros(), simulacao.getTaxaMediaJuros()));
+            parcial.setSomaValorMedioPrestacao(somar(parcial.getSomaValorMedioPrestacao(), simulacao.getValorMedioPrestacao()));
+            parcial.setSomaValorDesejado(somar(parcial.getSomaValorDesejado(), simulacao.getValorDesejado()));
+            parcial.setSomaValorTotalCredito(somar(parcial.getSomaValorTotalCredito(), simulacao.getValorTotalCredito()));
+        }
+
+        for (var parcial : parciais.values()) {
+            if (resumoRepository.acumular(parcial) == 0) {
+                criarLinha(parcial.getDataReferencia(), parcial.getCoProduto());
+                if (resumoRepository.acumular(parcial) == 0) {
+                    throw new IllegalStateException("Linha do resumo diário ausente após a criação: "
+                            + parcial.getDataReferencia() + "/" + parcial.getCoProduto());
+                }
+            }
+        }
+    }
+
+    /**
+     * Cria a linha em transação própria; a falha por inserção concorrente da mesma chave é
+     * ignorada, porque a linha passa a existir de qualquer forma.
+     */
+    private void criarLinha(LocalDate dia, Integer coProduto) {
+        try {
+            resumoRepository.criarSeAusente(dia, coProduto);
+        } catch (RuntimeException e) {
+            log.debug("Linha do resumo diário {}/{} criada por outra transação: {}", dia, coProduto, e.getMessage());
+        }
+    }
+
+    /**
+     * Linhas de um dia com ao menos uma simulação, de todos os produtos ou de um só.
+     */
+    public List<ResumoDiarioProduto> listarPorData(LocalDate dia, Integer coProduto) {
+        return resumoRepository.listarPorData(dia, coProduto);
+    }
+
+    /**
+     * Recalcula o resumo do período a partir das simulações gravadas.
+     *
+     * @return Quantidade de linhas gravadas
+     */
+    @Transactional
+    public int reconstruir(LocalDate inicio, LocalDate fim) {
+        return resumoRepository.reconstruir(inicio, fim);
+    }
+
+    /**
+     * Recalcula, na transação corrente, os dias anteriores ao corrente entre os informados. O dia
+     * corrente é ignorado: suas linhas são mantidas pelas próprias simulações.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void reconstruirDias(Set<LocalDate> dias) {
+        var hoje = LocalDate.now();
+        new TreeSet<>(dias).stream()
+                .filter(dia -> dia.isBefore(hoje))
+                .forEach(dia -> resumoRepository.reconstruir(dia, dia));
+    }
+
+    /**
+     * Reconstrói o dia anterior, já encerrado; o dia corrente continua sendo mantido pelas
+     * próprias simulações.
+     */
+    @Scheduled(cron = "${emprestimos.simulacoes.resumo-diario.reconstrucao}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconstruirDiaAnterior() {
+        try {
+            var ontem = LocalDate.now().minusDays(1);
+            int linhas = reconstruir(ontem, ontem);
+            log.info("Resumo diário por produto de {} reconstruído: {} linhas", ontem, linhas);
+        } catch (Exception e) {
+            log.error("Erro na reconstrução do resumo diário por produto: ", e);
+        }
+    }
+
+    private static BigDecimal somar(BigDecimal soma, BigDecimal valor) {
+        return valor == null ? soma : soma.add(valor);
+    }
+}
@@ -1,12 +1,20 @@
 package emprestimos.v1.service;
 
+import emprestimos.v1.domain.dto.common.ErrorResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.buscar.response.SimulacaoDetalhesDTO;
 import emprestimos.v1.domain.dto.simulacao.create.request.SimulacaoCreateDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.PaginaSimulacaoSimplificadaDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.ResultadoSimulacaoDTO;
 import emprestimos.v1.domain.dto.simulacao.create.response.SimulacaoResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.grade.response.CelulaGradeSimulacaoDTO;
+import emprestimos.v1.domain.dto.simulacao.grade.response.GradeSimulacaoResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.grade.response.LinhaGradeSimulacaoDTO;
+import emprestimos.v1.domain.dto.simulacao.inversa.response.SimulacaoInversaResponseDTO;
+import emprestimos.v1.domain.dto.simulacao.list.request.CursorSimulacoes;
 import emprestimos.v1.domain.dto.simulacao.list.response.SimulacaoResumoSimplificadoDTO;
+import emprestimos.v1.domain.dto.simulacao.lote.response.ItemLoteSimulacaoDTO;
+import emprestimos.v1.domain.dto.simulacao.lote.response.LoteSimulacaoResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaDTO;
 import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaResponseDTO;
 import emprestimos.v1.domain.dto.simulacao.parcelas.response.ParcelasSimulacaoDTO;
@@ -16,53 +24,67 @@ import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
 import emprestimos.v1.domain.entity.local.Parcela;
 import emprestimos.v1.domain.entity.local.RegistroAuditoria;
 import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
 import emprestimos.v1.domain.enums.FinanceiroConstant;
+import emprestimos.v1.domain.enums.FonteDetalheSimulacao;
 import emprestimos.v1.domain.enums.MensagemErro;
 import emprestimos.v1.domain.enums.SystemConstant;
 import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.exception.BusinessException;
 import emprestimos.v1.domain.exception.ParametroInvalidoException;
 import emprestimos.v1.domain.exception.ProdutoException;
 import emprestimos.v1.domain.exception.SimulacaoException;
 import emprestimos.v1.domain.service.CalculadoraFinanceiraService;
+import emprestimos.v1.domain.service.CalculadoraInversaService;
+import emprestimos.v1.domain.service.IndiceElegibilidade;
+import emprestimos.v1.domain.service.CalculoGrade;
 import emprestimos.v1.domain.service.ErrorHandlingService;
 import emprestimos.v1.domain.service.ProdutoElegibilidadeService;
+import emprestimos.v1.domain.service.SimulacaoCalculada;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
 import io.quarkus.cache.CacheKey;
-import io.quarkus.hibernate.orm.PersistenceUnit;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
-import emprestimos.v1.repository.ProdutoRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import emprestimos.v1.repository.SimulacaoRepository;
-import emprestimos.v1.repository.AuditoriaRepository;
+import emprestimos.v1.repository.SimulacaoRepository.ResumoSimulacao;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
 import emprestimos.v1.repository.ResultadoSimulacaoRepository;
-import emprestimos.v1.repository.ParcelaRepository;
+import emprestimos.v1.repository.AuditoriaRepository;
 import emprestimos.v1.resource.SimulacaoMapper;
 import emprestimos.v1.mapper.ProdutoAggregationMapper;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @ApplicationScoped
 public class SimulacaoService {
 
     private static final int MAX_RETRY_ATTEMPTS = SystemConstant.MAX_RETRY_ATTEMPTS.getIntValue();
     private static final long RETRY_DELAY_MS = SystemConstant.RETRY_DELAY_MS.getLongValue();
-    private static final long CACHE_TIMEOUT = SystemConstant.CACHE_TIMEOUT_MS.getLongValue();
 
     // ExecutorService para execução assíncrona do EventHub
     private final ExecutorService eventHubExecutor = Executors.newFixedThreadPool(2);
 
     @Inject
-    @PersistenceUnit("produtos")
-    ProdutoRepository produtoRepository;
+    CatalogoProdutosService catalogoProdutos;
 
     @Inject
     SimulacaoRepository simulacaoRepository;
@@ -70,18 +92,15 @@ public class SimulacaoService {
     @Inject
     AuditoriaRepository auditoriaRepository;
 
-    @Inject
-    ResultadoSimulacaoRepository resultadoSimulacaoRepository;
-
-    @Inject
-    ParcelaRepository parcelaRepository;
-
     @Inject
     CalculadoraFinanceiraService calculadoraFinanceira;
 
     @Inject
     ProdutoElegibilidadeService produtoElegibilidade;
 
+    @Inject
+    CalculadoraInversaService calculadoraInversa;
+
     @Inject
     ErrorHandlingService errorHandling;
 
@@ -91,9 +110,46 @@ public class SimulacaoService {
     @Inject
     ProdutoAggregationMapper produtoAggregationMapper;
 
-    private final Map<Integer, Produto> produtoCache = new ConcurrentHashMap<>();
-    private List<Produto> produtosCache;
-    private long ultimaAtualizacaoProdutos = 0;
+    @Inject
+    ResumoDiarioProdutoService resumoDiario;
+
+    @Inject
+    ContagemSimulacoesService contagemSimulacoes;
+
+    @Inject
+    SimulacoesDiaCorrenteService simulacoesDiaCorrente;
+
+    @Inject
+    ResultadoSimulacaoRepository resultadoSimulacaoRepository;
+
+    @Inject
+    Validator validator;
+
+    @ConfigProperty(name = "emprestimos.simulacao.lote.tamanho-maximo", defaultValue = "1000")
+    int tamanhoMaximoLote;
+
+    @ConfigProperty(name = "emprestimos.simulacao.lote.paralelismo", defaultValue = "4")
+    int paralelismoLote;
+
+    @ConfigProperty(name = "emprestimos.simulacao.lote.tamanho-transacao", defaultValue = "100")
+    int tamanhoTransacaoLote;
+
+    @ConfigProperty(name = "emprestimos.simulacao.grade.maximo-celulas", defaultValue = "2000")
+    int maximoCelulasGrade;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.cronograma.armazenamento", defaultValue = "LINHAS")
+    ArmazenamentoCronograma armazenamentoCronograma;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.detalhe.fonte", defaultValue = "RECALCULADO")
+    FonteDetalheSimulacao fonteDetalhe;
+
+    // Pool dedicado ao cálculo dos lotes, limitado para não disputar o pool comum do ForkJoin
+    private ForkJoinPool poolLote;
+
+    @PostConstruct
+    void init() {
+        poolLote = new ForkJoinPool(Math.max(1, paralelismoLote));
+    }
 
     /**
      * Simula um empréstimo calculando as melhores opções de financiamento disponíveis.
@@ -102,22 +158,25 @@ public class SimulacaoService {
      */
     public SimulacaoResponseDTO simularEmprestimo(SimulacaoCreateDTO solicitacaoSimulacao, String requestId
     ) {
-        var todosProdutos = buscarTodosProdutos();
+        var indice = buscarIndiceElegibilidade();
         var valorDesejado = solicitacaoSimulacao.getValorDesejado();
         var prazoMeses = solicitacaoSimulacao.getPrazo();
 
-        var melhorProdutoOpt = produtoElegibilidade.encontrarMelhorProdutoOptional(todosProdutos, valorDesejado, prazoMeses);
+        var melhorProdutoOpt = produtoElegibilidade.encontrarMelhorProdutoOptional(indice, valorDesejado, prazoMeses);
 
         if (melhorProdutoOpt.isEmpty()) {
             throw ProdutoException.produtosNaoElegiveis(valorDesejado.doubleValue(), prazoMeses);
         }
 
         var melhorProduto = melhorProdutoOpt.get();
-        var resultadosCalculados = calcularResultadosSimulacao(solicitacaoSimulacao, melhorProduto);
-        var resultadoPrice = encontrarResultadoPorTipo(resultadosCalculados);
-        var simulacaoPersistida = persistirSimulacao(solicitacaoSimulacao, melhorProduto, resultadoPrice, valorDesejado);
+        // Cálculo único (SAC e PRICE com agregados) reaproveitado na persistência e na resposta
+        var simulacaoCalculada = calculadoraFinanceira.calcularSimulacaoCompleta(solicitacaoSimulacao, melhorProduto);
+        resumoDiario.prepararLinha(LocalDate.now(), melhorProduto.getCoProduto());
+        var simulacaoPersistida = persistirSimulacao(solicitacaoSimulacao, melhorProduto, simulacaoCalculada, valorDesejado);
+        contagemSimulacoes.registrar(1);
+        simulacoesDiaCorrente.registrar(List.of(simulacaoPersistida));
 
-        var resposta = construirRespostaSimulacao(simulacaoPersistida, melhorProduto, resultadosCalculados);
+        var resposta = construirRespostaSimulacao(simulacaoPersistida, melhorProduto, simulacaoCalculada.resultados());
 
         // Enviar mensagem ao EventHub de forma assíncrona para não bloquear a resposta
         enviarMensagemEventHubAsync(resposta, requestId);
@@ -126,16 +185,203 @@ public class SimulacaoService {
     }
 
     /**
-     * Lista as simulações com suporte a paginação, retornando apenas os campos essenciais.
+     * Simula vários empréstimos em uma única requisição, com um resultado ou erro por solicitação,
+     * na ordem de entrada.
+     *
+     * A elegibilidade de todos os itens é avaliada contra o mesmo catálogo de produtos, obtido uma
+     * única vez. Validação, escolha do produto e cálculo dos cronogramas rodam em paralelo no pool
+     * ForkJoin dedicado aos lotes; as simulações válidas são persistidas em blocos, cada um em sua
+     * própria transação, e publicadas no EventHub em lotes, de forma assíncrona. O erro de um item não
+     * interrompe os demais: uma falha ao gravar desfaz apenas o bloco em que ocorreu, e cada item do
+     * bloco é reportado com erro de processamento.
+     *
+     * @throws ParametroInvalidoException se o lote estiver vazio ou exceder o tamanho máximo
      */
-    public PaginaSimulacaoSimplificadaDTO listarSimulacoes(int numeroPagina, int quantidadePorPagina) {
-        var totalRegistros = simulacaoRepository.count();
-        var simulacoesPaginadas = buscarSimulacoesPaginadas(numeroPagina, quantidadePorPagina);
-        var resumosSimulacao = simulacoesPaginadas.stream()
+    public LoteSimulacaoResponseDTO simularEmprestimosEmLote(List<SimulacaoCreateDTO> solicitacoes, String requestId) {
+        validarTamanhoLote(solicitacoes, requestId);
+
+        var indiceProdutos = buscarIndiceElegibilidade();
+        var itens = poolLote.submit(() -> IntStream.range(0, solicitacoes.size())
+            .parallel()
+            .mapToObj(indice -> calcularItemLote(solicitacoes.get(indice), indiceProdutos, requestId))
+            .toList()
+        ).join();
+
+        var calculados = itens.stream().filter(ItemLote::calculado).toList();
+        var hoje = LocalDate.now();
+        calculados.stream()
+            .map(item -> item.produto().getCoProduto())
+            .distinct()
+            .forEach(codigoProduto -> resumoDiario.prepararLinha(hoje, codigoProduto));
+        var persistidas = persistirSimulacoesEmBlocos(calculados, requestId);
+        var simulacoesPersistidas = persistidas.stream().filter(Objects::nonNull).toList();
+        contagemSimulacoes.registrar(simulacoesPersistidas.size());
+        simulacoesDiaCorrente.registrar(simulacoesPersistidas);
+
+        var resultados = new ArrayList<ItemLoteSimulacaoDTO>(itens.size());
+        var respostas = new ArrayList<SimulacaoResponseDTO>(calculados.size());
+        var proximaPersistida = persistidas.iterator();
+        for (int indice = 0; indice < itens.size(); indice++) {
+            var item = itens.get(indice);
+            if (item.calculado()) {
+                var simulacao = proximaPersistida.next();
+                if (simulacao == null) {
+                    resultados.add(ItemLoteSimulacaoDTO.erro(indice, erroGravacaoLote()));
+                    continue;
+                }
+                var resposta = construirRespostaSimulacao(simulacao, item.produto(), item.simulacaoCalculada().resultados());
+                respostas.add(resposta);
+                resultados.add(ItemLoteSimulacaoDTO.sucesso(indice, resposta));
+            } else {
+                resultados.add(ItemLoteSimulacaoDTO.erro(indice, item.erro()));
+            }
+        }
+
+        enviarMensagensEventHubAsync(respostas, requestId);
+
+        var lote = new LoteSimulacaoResponseDTO();
+        lote.setQuantidadeTotal(itens.size());
+        lote.setQuantidadeSucesso(respostas.size());
+        lote.setQuantidadeErro(itens.size() - respostas.size());
+        lote.setItens(resultados);
+
+        errorHandling.logarInfo(requestId, String.format("Lote de simulações processado: %d recebidas, %d criadas, %d rejeitadas",
+            lote.getQuantidadeTotal(), lote.getQuantidadeSucesso(), lote.getQuantidadeErro()));
+        return lote;
+    }
+
+    /**
+     * Quantidade máxima de simulações aceita em um lote.
+     */
+    public int getTamanhoMaximoLote() {
+        return tamanhoMaximoLote;
+    }
+
+    /**
+     * Calcula uma grade de cotações valor × prazo (primeira prestação, prestação média e total,
+     * SAC e PRICE), sem persistir simulações nem publicar eventos.
+     *
+     * Cada célula usa o produto elegível de menor taxa para o seu valor e prazo, escolhido uma
+     * única vez e compartilhado pelos dois sistemas de amortização. Os coeficientes PRICE são
+     * calculados de forma incremental ao longo dos prazos e reaproveitados entre as linhas que
+     * usam a mesma taxa ({@link CalculoGrade}). Células sem produto elegível são marcadas como
+     * não elegíveis, sem interromper a grade.
+     *
+     * @throws ParametroInvalidoException se as faixas forem inconsistentes ou a grade exceder o máximo de células
+     * @throws ProdutoException se não houver produtos cadastrados
+     */
+    public GradeSimulacaoResponseDTO simularGrade(BigDecimal valorMinimo, BigDecimal valorMaximo, BigDecimal valorPasso,
+                                                 int prazoMinimo, int prazoMaximo, int prazoPasso, String requestId) {
+        var valores = gerarValoresGrade(valorMinimo, valorMaximo, valorPasso);
+        var prazos = gerarPrazosGrade(prazoMinimo, prazoMaximo, prazoPasso);
+        validarTamanhoGrade(valores.size(), prazos.length, requestId);
+
+        var indice = buscarIndiceElegibilidade();
+        if (indice.isEmpty()) {
+            throw ProdutoException.produtosNaoDisponiveis();
+        }
+
+        var calculo = calculadoraFinanceira.iniciarGrade(prazos);
+        var linhas = new ArrayList<LinhaGradeSimulacaoDTO>(valores.size());
+        for (var valor : valores) {
+            var celulas = new ArrayList<CelulaGradeSimulacaoDTO>(prazos.length);
+            for (int indicePrazo = 0; indicePrazo < prazos.length; indicePrazo++) {
+                celulas.add(calcularCelulaGrade(calculo, indice, valor, prazos, indicePrazo));
+            }
+            var linha = new LinhaGradeSimulacaoDTO();
+            linha.setValorDesejado(valor);
+            linha.setCelulas(celulas);
+            linhas.add(linha);
+        }
+
+        var grade = new GradeSimulacaoResponseDTO();
+        grade.setValores(valores);
+        grade.setPrazos(Arrays.stream(prazos).boxed().toList());
+        grade.setLinhas(linhas);
+
+        errorHandling.logarInfo(requestId, String.format("Grade de simulações calculada: %d valores x %d prazos",
+            valores.size(), prazos.length));
+        return grade;
+    }
+
+    /**
+     * Cálculo inverso sem persistência: com o prazo informado, retorna o maior valor cuja maior
+     * prestação não ultrapassa {@code prestacaoMaxima}; com o valor informado, o menor prazo.
+     * A solução usa o produto de menor taxa elegível, como na criação da simulação.
+     *
+     * @throws ParametroInvalidoException se nenhum ou ambos entre prazo e valor forem informados
+     * @throws ProdutoException se nenhum produto elegível atender à prestação máxima
+     */
+    public SimulacaoInversaResponseDTO calcularSimulacaoInversa(BigDecimal prestacaoMaxima, String tipoAmortizacao,
+                                                                Integer prazo, BigDecimal valorDesejado, String requestId) {
+        if ((prazo == null) == (valorDesejado == null)) {
+            throw ParametroInvalidoException.parametrosInvalidos("Informe exatamente um entre 'prazo' e 'valorDesejado'");
+        }
+        var tipo = validarTipoAmortizacao(tipoAmortizacao, requestId);
+
+        var todosProdutos = buscarTodosProdutos();
+        if (todosProdutos == null || todosProdutos.isEmpty()) {
+            throw ProdutoException.produtosNaoDisponiveis();
+        }
+
+        var resposta = new SimulacaoInversaResponseDTO();
+        CalculadoraInversaService.Solucao solucao;
+        if (prazo != null) {
+            resposta.setObjetivo(SimulacaoInversaResponseDTO.OBJETIVO_VALOR_MAXIMO);
+            solucao = calculadoraInversa.calcularValorMaximo(todosProdutos, tipo, prestacaoMaxima, prazo)
+                .orElseThrow(() -> ProdutoException.prestacaoNaoAtendida(prestacaoMaxima.doubleValue(),
+                    String.format("Prazo: %d meses", prazo)));
+        } else {
+            resposta.setObjetivo(SimulacaoInversaResponseDTO.OBJETIVO_PRAZO_MINIMO);
+            solucao = calculadoraInversa.calcularPrazoMinimo(todosProdutos, tipo, prestacaoMaxima, valorDesejado)
+                .orElseThrow(() -> ProdutoException.prestacaoNaoAtendida(prestacaoMaxima.doubleValue(),
+                    String.format("Valor: R$ %.2f", valorDesejado.doubleValue())));
+        }
+
+        resposta.setTipoAmortizacao(tipo.getCodigo());
+        resposta.setPrestacaoMaxima(prestacaoMaxima);
+        resposta.setValorDesejado(solucao.valorFinanciado());
+        resposta.setPrazo(solucao.prazoMeses());
+        resposta.setCodigoProduto(solucao.produto().getCoProduto());
+        resposta.setDescricaoProduto(solucao.produto().getNoProduto());
+        resposta.setTaxaJuros(solucao.produto().getPcTaxaJuros());
+        resposta.setMaiorPrestacao(solucao.maiorPrestacao());
+        resposta.setValorTotal(solucao.valorTotal());
+
+        errorHandling.logarInfo(requestId, String.format("Cálculo inverso %s concluído: valor=%s, prazo=%d, produto=%d",
+            resposta.getObjetivo(), resposta.getValorDesejado(), resposta.getPrazo(), resposta.getCodigoProduto()));
+        return resposta;
+    }
+
+    /**
+     * Lista as simulações com suporte a paginação, retornando apenas os campos essenciais, lidos por
+     * projeção da tabela de simulações na ordem de data e id.
+     *
+     * Com o cursor da página anterior, a página é lida a partir da última simulação já entregue, com
+     * o mesmo custo em qualquer profundidade; sem ele, pelo número da página. Páginas completas
+     * trazem o cursor da seguinte. O total de registros vem da contagem mantida em memória.
+     *
+     * @throws ParametroInvalidoException se o cursor for inválido
+     */
+    public PaginaSimulacaoSimplificadaDTO listarSimulacoes(int numeroPagina, int quantidadePorPagina, String cursor) {
+        List<ResumoSimulacao> resumos;
+        if (cursor == null || cursor.isBlank()) {
+            resumos = simulacaoRepository.listarResumos(numeroPagina - 1, quantidadePorPagina);
+        } else {
+            var posicao = CursorSimulacoes.decodificar(cursor);
+            numeroPagina = posicao.pagina();
+            resumos = simulacaoRepository.listarResumosApos(posicao.dataSimulacao(), posicao.id(), quantidadePorPagina);
+        }
+
+        var resumosSimulacao = resumos.stream()
             .map(SimulacaoMapper::toSimulacaoResumoSimplificadoDTO)
             .toList();
-
-        return construirPaginaSimulacaoSimplificada(numeroPagina, quantidadePorPagina, totalRegistros, resumosSimulacao);
+        var pagina = construirPaginaSimulacaoSimplificada(numeroPagina, quantidadePorPagina, contagemSimulacoes.total(), resumosSimulacao);
+        if (resumos.size() == quantidadePorPagina) {
+            var ultimo = resumos.get(resumos.size() - 1);
+            pagina.setCursorProximaPagina(new CursorSimulacoes(numeroPagina + 1, ultimo.dataSimulacao(), ultimo.id()).codificar());
+        }
+        return pagina;
     }
 
     /**
@@ -175,29 +421,70 @@ public class SimulacaoService {
 
         errorHandling.logarInfo(requestId, String.format("Busca de simulações por produto e data: dataFiltro=%s, produtoId=%s", dataFiltro, produtoId));
 
-        var context = processarFiltrosSimulacao(dataFiltro, produtoId);
-        var todosProdutos = buscarTodosProdutos();
-        var listaSimulacoes = context.simulacoesFiltradas.stream()
-            .map(simulacao -> construirSimulacaoIndividualDTO(simulacao, todosProdutos))
-            .filter(Objects::nonNull)
-            .toList();
+        var dataConsulta = validarFiltrosPorProdutoEData(dataFiltro, produtoId);
+        var listaSimulacoes = new ArrayList<SimulacaoPorProdutoDiaDTO>();
+        percorrerSimulacoesPorProdutoEData(dataConsulta, produtoId, listaSimulacoes::add);
 
         var resposta = new SimulacaoPorProdutoDiaResponseDTO();
-        resposta.setDataReferencia(context.dataConsulta.toString());
+        resposta.setDataReferencia(dataConsulta.toString());
         resposta.setSimulacoes(listaSimulacoes);
 
         errorHandling.logarInfo(requestId, String.format("Retornando %d simulações", listaSimulacoes.size()));
         return resposta;
     }
 
+    /**
+     * Valida os filtros da consulta por produto e data antes de qualquer leitura das simulações.
+     *
+     * @return a data consultada: a informada ou a data atual
+     * @throws ParametroInvalidoException se a data estiver em formato inválido
+     * @throws ProdutoException se o produtoId especificado não existir
+     */
+    public LocalDate validarFiltrosPorProdutoEData(String dataFiltro, Integer produtoId) {
+        var dataConsulta = determinarDataConsulta(dataFiltro);
+        if (produtoId != null) {
+            validarExistenciaProduto(produtoId);
+        }
+        return dataConsulta;
+    }
+
+    /**
+     * Entrega ao consumidor, uma a uma e na ordem de id, as simulações do dia, de todos os produtos
+     * ou de um só. O dia corrente é lido do segmento em memória; os demais, à medida que são lidos
+     * do cursor do banco. Nenhuma lista é montada aqui: quem escreve cada item na resposta percorre
+     * dias de qualquer volume com memória constante.
+     *
+     * @return quantidade de simulações entregues
+     */
+    @Transactional
+    public long percorrerSimulacoesPorProdutoEData(LocalDate dataConsulta, Integer produtoId,
+                                                   Consumer<SimulacaoPorProdutoDiaDTO> consumidor) {
+        var catalogo = catalogoProdutos.obter();
+        var quantidade = new AtomicLong();
+        Consumer<SimulacaoDoDia> entregar = simulacao -> {
+            var dto = construirSimulacaoIndividualDTO(simulacao, catalogo);
+            if (dto != null) {
+                consumidor.accept(dto);
+                quantidade.incrementAndGet();
+            }
+        };
+
+        var segmento = simulacoesDiaCorrente.segmento(dataConsulta);
+        if (segmento.isPresent()) {
+            segmento.get().percorrer(produtoId, entregar);
+        } else {
+            try (var simulacoes = simulacaoRepository.percorrerPorDataEProduto(dataConsulta, produtoId)) {
+                simulacoes.forEach(entregar);
+            }
+        }
+        return quantidade.get();
+    }
 
     /**
      * Constrói DTO para uma simulação individual usando mapper.
      */
-    private SimulacaoPorProdutoDiaDTO construirSimulacaoIndividualDTO(Simulacao simulacao, List<Produto> todosProdutos) {
-        var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(
-            todosProdutos, simulacao.getValorDesejado(), simulacao.getPrazo().intValue()
-        );
+    private SimulacaoPorProdutoDiaDTO construirSimulacaoIndividualDTO(SimulacaoDoDia simulacao, CatalogoProdutosService.Catalogo catalogo) {
+        var produtoOpt = buscarProdutoDaSimulacao(simulacao.coProduto(), simulacao.valorDesejado(), simulacao.prazo(), catalogo);
 
         if (produtoOpt.isEmpty()) {
             return null; // Simulação sem produto elegível identificado
@@ -207,26 +494,38 @@ public class SimulacaoService {
     }
 
     /**
-     * Constrói DTO agregado para um produto específico usando mapper.
+     * Totais e médias das simulações de cada produto em um dia, lidos do resumo diário: uma linha
+     * por produto, independentemente da quantidade de simulações do dia. O dia corrente é somado
+     * no segmento em memória, sem consultar o banco.
+     *
+     * @param dataFiltro Data no formato yyyy-MM-dd (opcional). Se null/vazio, usa data atual
+     * @param produtoId ID do produto (opcional). Se null, considera todos os produtos
+     * @param requestId ID da requisição para logging
+     * @return Um item agregado por produto com simulações no dia
+     * @throws ParametroInvalidoException se a data estiver em formato inválido
+     * @throws ProdutoException se o produtoId especificado não existir
      */
-    private SimulacaoPorProdutoDiaDTO construirSimulacaoPorProdutoDiaDTO(Map.Entry<Integer, List<Simulacao>> entry, List<Produto> todosProdutos) {
-        var codigoProduto = entry.getKey();
-        var simulacoesProduto = entry.getValue();
-
-        if (simulacoesProduto.isEmpty()) {
-            return null;
-        }
-
-        var produto = todosProdutos.stream()
-            .filter(p -> p.getCoProduto().equals(codigoProduto))
-            .findFirst()
-            .orElse(null);
+    public SimulacaoPorProdutoDiaResponseDTO buscarResumoPorProdutoEData(String dataFiltro, Integer produtoId, String requestId) {
+        errorHandling.logarInfo(requestId, String.format("Busca do resumo por produto e data: dataFiltro=%s, produtoId=%s", dataFiltro, produtoId));
+
+        var dataConsulta = validarFiltrosPorProdutoEData(dataFiltro, produtoId);
+        var catalogo = catalogoProdutos.obter();
+        var resumos = simulacoesDiaCorrente.segmento(dataConsulta)
+            .map(segmento -> segmento.resumir(produtoId))
+            .orElseGet(() -> resumoDiario.listarPorData(dataConsulta, produtoId));
+        var agregados = resumos.stream()
+            .map(resumo -> catalogo.buscarProduto(resumo.getCoProduto())
+                .map(produto -> produtoAggregationMapper.toAggregatedSimulacaoPorProdutoDiaDTO(produto, resumo))
+                .orElse(null))
+            .filter(Objects::nonNull)
+            .toList();
 
-        if (produto == null) {
-            return null;
-        }
+        var resposta = new SimulacaoPorProdutoDiaResponseDTO();
+        resposta.setDataReferencia(dataConsulta.toString());
+        resposta.setSimulacoes(agregados);
 
-        return produtoAggregationMapper.toAggregatedSimulacaoPorProdutoDiaDTO(produto, simulacoesProduto);
+        errorHandling.logarInfo(requestId, String.format("Retornando resumo de %d produtos", agregados.size()));
+        return resposta;
     }
 
     private SimulacaoResponseDTO construirRespostaSimulacao(Simulacao simulacao, Produto produto, List<ResultadoSimulacaoDTO> resultados) {
@@ -241,6 +540,11 @@ public class SimulacaoService {
     /**
      * Busca uma simulação específica pelo seu ID.
      *
+     * Os cronogramas vêm de uma só fonte, conforme {@code emprestimos.simulacoes.detalhe.fonte}: os
+     * resultados gravados, carregados com a simulação pelo grafo de resultados, ou o recálculo a
+     * partir do valor e do prazo gravados, sem ler resultados nem parcelas. Simulações sem
+     * resultados gravados são sempre recalculadas.
+     *
      * @param id ID da simulação a ser buscada
      * @param requestId ID da requisição para logging
      * @return Detalhes completos da simulação incluindo parcelas SAC e PRICE
@@ -249,11 +553,10 @@ public class SimulacaoService {
     public SimulacaoDetalhesDTO buscarSimulacaoPorId(Long id, String requestId) {
         errorHandling.logarInfo(requestId, String.format("Buscando simulação por ID: %d", id));
 
-        var simulacao = buscarSimulacaoOuLancarExcecao(id, requestId);
-        var todosProdutos = buscarTodosProdutos();
-        var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(
-            todosProdutos, simulacao.getValorDesejado(), simulacao.getPrazo().intValue()
-        );
+        var simulacao = fonteDetalhe == FonteDetalheSimulacao.GRAVADO
+            ? simulacaoRepository.buscarComResultados(id).orElseThrow(() -> simulacaoNaoEncontrada(id, requestId))
+            : buscarSimulacaoOuLancarExcecao(id, requestId);
+        var produtoOpt = buscarProdutoDaSimulacao(simulacao, catalogoProdutos.obter());
 
         var dto = construirSimulacaoDetalhesDTO(simulacao);
 
@@ -269,7 +572,8 @@ public class SimulacaoService {
     }
 
     /**
-     * Busca todas as parcelas de um tipo específico de amortização para uma simulação.
+     * Busca todas as parcelas de um tipo específico de amortização para uma simulação, do resultado
+     * gravado ou recalculadas, conforme {@code emprestimos.simulacoes.detalhe.fonte}.
      *
      * @param id ID da simulação
      * @param tipoAmortizacao Tipo de amortização (SAC ou PRICE)
@@ -285,11 +589,11 @@ public class SimulacaoService {
         var simulacao = buscarSimulacaoOuLancarExcecao(id, requestId);
         var produto = buscarProdutoElegivelOuLancarExcecao(simulacao, requestId);
 
-        var resultado = calcularParcelasParaTipo(simulacao, produto, tipo);
+        var resultado = obterResultadoParaTipo(simulacao, produto, tipo);
         var dto = construirParcelasSimulacaoDTO(simulacao, produto, tipo, resultado);
 
         errorHandling.logarInfo(requestId, String.format(
-            "Parcelas calculadas com sucesso - SimulacaoId: %d, Tipo: %s, Quantidade: %d",
+            "Parcelas obtidas com sucesso - SimulacaoId: %d, Tipo: %s, Quantidade: %d",
             id, tipo.getCodigo(), resultado.getParcelas().size()
         ));
 
@@ -317,10 +621,10 @@ public class SimulacaoService {
         var simulacao = buscarSimulacaoOuLancarExcecao(id, requestId);
         var produto = buscarProdutoElegivelOuLancarExcecao(simulacao, requestId);
 
-        var resultado = calcularParcelasParaTipo(simulacao, produto, tipo);
-        var parcelaEspecifica = buscarParcelaEspecificaOuLancarExcecao(resultado, parcelaId, requestId);
+        var solicitacaoSimulacao = criarSolicitacaoSimulacao(simulacao);
+        var parcelaEspecifica = calcularParcelaEspecificaOuLancarExcecao(solicitacaoSimulacao, produto, tipo, parcelaId, requestId);
 
-        var dto = construirParcelaEspecificaDTO(simulacao, produto, tipo, parcelaEspecifica, resultado);
+        var dto = construirParcelaEspecificaDTO(simulacao, produto, tipo, parcelaEspecifica, solicitacaoSimulacao);
 
         errorHandling.logarInfo(requestId, String.format(
             "Parcela específica encontrada com sucesso - SimulacaoId: %d, Tipo: %s, Parcela: %d",
@@ -330,6 +634,142 @@ public class SimulacaoService {
         return dto;
     }
 
+    private void validarTamanhoLote(List<SimulacaoCreateDTO> solicitacoes, String requestId) {
+        if (solicitacoes == null || solicitacoes.isEmpty()) {
+            errorHandling.logarInfo(requestId, "Lote de simulações vazio");
+            throw ParametroInvalidoException.parametrosInvalidos("O lote deve conter ao menos uma simulação");
+        }
+        if (solicitacoes.size() > tamanhoMaximoLote) {
+            errorHandling.logarInfo(requestId, String.format("Lote excede o máximo de %d simulações", tamanhoMaximoLote));
+            throw new ParametroInvalidoException(
+                MensagemErro.LIMITE_EXCEDIDO,
+                String.format("O lote possui mais de %d simulações", tamanhoMaximoLote)
+            );
+        }
+    }
+
+    private List<BigDecimal> gerarValoresGrade(BigDecimal valorMinimo, BigDecimal valorMaximo, BigDecimal valorPasso) {
+        if (valorMinimo.compareTo(valorMaximo) > 0) {
+            throw ParametroInvalidoException.parametrosInvalidos("valorMinimo deve ser menor ou igual a valorMaximo");
+        }
+        var quantidade = valorMaximo.subtract(valorMinimo).divideToIntegralValue(valorPasso).add(BigDecimal.ONE);
+        if (quantidade.compareTo(BigDecimal.valueOf(maximoCelulasGrade)) > 0) {
+            throw limiteGradeExcedido(quantidade.toPlainString() + " valores");
+        }
+
+        var valores = new ArrayList<BigDecimal>(quantidade.intValue());
+        for (var valor = valorMinimo; valor.compareTo(valorMaximo) <= 0; valor = valor.add(valorPasso)) {
+            valores.add(valor);
+        }
+        return valores;
+    }
+
+    private int[] gerarPrazosGrade(int prazoMinimo, int prazoMaximo, int prazoPasso) {
+        if (prazoMinimo > prazoMaximo) {
+            throw ParametroInvalidoException.parametrosInvalidos("prazoMinimo deve ser menor ou igual a prazoMaximo");
+        }
+        long quantidade = ((long) prazoMaximo - prazoMinimo) / prazoPasso + 1;
+        if (quantidade > maximoCelulasGrade) {
+            throw limiteGradeExcedido(quantidade + " prazos");
+        }
+
+        var prazos = new int[(int) quantidade];
+        for (int indice = 0; indice < prazos.length; indice++) {
+            prazos[indice] = (int) (prazoMinimo + (long) indice * prazoPasso);
+        }
+        return prazos;
+    }
+
+    private void validarTamanhoGrade(int quantidadeValores, int quantidadePrazos, String requestId) {
+        long celulas = (long) quantidadeValores * quantidadePrazos;
+        if (celulas > maximoCelulasGrade) {
+            errorHandling.logarInfo(requestId, String.format("Grade com %d células excede o máximo de %d", celulas, maximoCelulasGrade));
+            throw limiteGradeExcedido(celulas + " células");
+        }
+    }
+
+    private ParametroInvalidoException limiteGradeExcedido(String tamanho) {
+        return new ParametroInvalidoException(
+            MensagemErro.LIMITE_EXCEDIDO,
+            String.format("A grade possui %s. Máximo permitido: %d células", tamanho, maximoCelulasGrade)
+        );
+    }
+
+    private CelulaGradeSimulacaoDTO calcularCelulaGrade(CalculoGrade calculo, IndiceElegibilidade indice,
+                                                        BigDecimal valor, int[] prazos, int indicePrazo) {
+        var celula = new CelulaGradeSimulacaoDTO();
+        celula.setPrazo(prazos[indicePrazo]);
+
+        var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(indice, valor, prazos[indicePrazo]);
+        if (produtoOpt.isEmpty()) {
+            celula.setElegivel(false);
+            return celula;
+        }
+
+        var produto = produtoOpt.get();
+        celula.setElegivel(true);
+        celula.setCodigoProduto(produto.getCoProduto());
+        celula.setDescricaoProduto(produto.getNoProduto());
+        celula.setTaxaJuros(produto.getPcTaxaJuros());
+        celula.setSac(calculo.resumirSac(valor, produto, indicePrazo));
+        celula.setPrice(calculo.resumirPrice(valor, produto, indicePrazo));
+        return celula;
+    }
+
+    /**
+     * Valida, escolhe o produto e calcula uma solicitação do lote, convertendo falhas em erro do item.
+     */
+    private ItemLote calcularItemLote(SimulacaoCreateDTO solicitacao, IndiceElegibilidade indice, String requestId) {
+        if (solicitacao == null) {
+            return ItemLote.comErro(new ErrorResponseDTO(
+                MensagemErro.VALIDACAO_GENERICA.getCodigo(),
+                MensagemErro.VALIDACAO_GENERICA.getMensagem(),
+                "Item do lote ausente ou mal formatado",
+                MensagemErro.VALIDACAO_GENERICA.getHttpStatus()
+            ));
+        }
+
+        var violacoes = validator.validate(solicitacao);
+        if (!violacoes.isEmpty()) {
+            return ItemLote.comErro(criarErroValidacao(violacoes));
+        }
+
+        try {
+            var valorDesejado = solicitacao.getValorDesejado();
+            var prazoMeses = solicitacao.getPrazo();
+            var produto = produtoElegibilidade.encontrarMelhorProdutoOptional(indice, valorDesejado, prazoMeses)
+                .orElseThrow(() -> ProdutoException.produtosNaoElegiveis(valorDesejado.doubleValue(), prazoMeses));
+
+            return ItemLote.calculado(solicitacao, produto, calculadoraFinanceira.calcularSimulacaoCompleta(solicitacao, produto));
+        } catch (BusinessException e) {
+            return ItemLote.comErro(new ErrorResponseDTO(e.getCodigo(), e.getMensagemErro().getMensagem(), e.getDetalhe(), e.getHttpStatus()));
+        } catch (RuntimeException e) {
+            errorHandling.logarErro(requestId, "simularEmprestimosEmLote - item", e);
+            return ItemLote.comErro(new ErrorResponseDTO(
+                MensagemErro.ERRO_PROCESSAMENTO.getCodigo(),
+                MensagemErro.ERRO_PROCESSAMENTO.getMensagem(),
+                MensagemErro.ERRO_PROCESSAMENTO.getHttpStatus()
+            ));
+        }
+    }
+
+    private ErrorResponseDTO criarErroValidacao(Set<ConstraintViolation<SimulacaoCreateDTO>> violacoes) {
+        var errosCampos = violacoes.stream()
+            .map(violacao -> new ErrorResponseDTO.CampoErroDTO(
+                violacao.getPropertyPath().toString(), violacao.getMessage(), violacao.getInvalidValue()))
+            .sorted(Comparator.comparing(ErrorResponseDTO.CampoErroDTO::getCampo))
+            .toList();
+
+        var erro = new ErrorResponseDTO(
+            MensagemErro.VALIDACAO_GENERICA.getCodigo(),
+            errosCampos.stream().map(campo -> campo.getCampo() + ": " + campo.getMensagem()).collect(Collectors.joining("; ")),
+            "Um ou mais campos contêm valores inválidos",
+            MensagemErro.VALIDACAO_GENERICA.getHttpStatus()
+        );
+        erro.setErros(errosCampos);
+        return erro;
+    }
+
     // Métodos auxiliares para validação e busca
     private TipoAmortizacao validarTipoAmortizacao(String tipoAmortizacao, String requestId) {
         try {
@@ -354,22 +794,19 @@ public class SimulacaoService {
     }
 
     private Simulacao buscarSimulacaoOuLancarExcecao(Long id, String requestId) {
-        var simulacao = simulacaoRepository.findById(id);
-        if (simulacao == null) {
-            errorHandling.logarInfo(requestId, String.format("Simulação não encontrada para ID: %d", id));
-            throw new SimulacaoException(
-                "Simulação não encontrada",
-                String.format("Não foi encontrada simulação com ID: %d", id)
-            );
-        }
-        return simulacao;
+        return simulacaoRepository.findByIdOptional(id).orElseThrow(() -> simulacaoNaoEncontrada(id, requestId));
     }
 
-    private Produto buscarProdutoElegivelOuLancarExcecao(Simulacao simulacao, String requestId) {
-        var todosProdutos = buscarTodosProdutos();
-        var produtoOpt = produtoElegibilidade.encontrarProdutoPorSimulacao(
-            todosProdutos, simulacao.getValorDesejado(), simulacao.getPrazo().intValue()
+    private SimulacaoException simulacaoNaoEncontrada(Long id, String requestId) {
+        errorHandling.logarInfo(requestId, String.format("Simulação não encontrada para ID: %d", id));
+        return new SimulacaoException(
+            "Simulação não encontrada",
+            String.format("Não foi encontrada simulação com ID: %d", id)
         );
+    }
+
+    private Produto buscarProdutoElegivelOuLancarExcecao(Simulacao simulacao, String requestId) {
+        var produtoOpt = buscarProdutoDaSimulacao(simulacao, catalogoProdutos.obter());
 
         if (produtoOpt.isEmpty()) {
             errorHandling.logarInfo(requestId, String.format("Produto não encontrado para simulação ID: %d", simulacao.getId()));
@@ -382,28 +819,77 @@ public class SimulacaoService {
         return produtoOpt.get();
     }
 
+    /**
+     * Produto gravado na simulação; nas simulações ainda sem produto gravado, ou cujo produto
+     * saiu do catálogo, o produto elegível pela regra atual.
+     */
+    private Optional<Produto> buscarProdutoDaSimulacao(Simulacao simulacao, CatalogoProdutosService.Catalogo catalogo) {
+        return buscarProdutoDaSimulacao(simulacao.getCoProduto(), simulacao.getValorDesejado(), simulacao.getPrazo(), catalogo);
+    }
+
+    private Optional<Produto> buscarProdutoDaSimulacao(Integer coProduto, BigDecimal valorDesejado, Long prazo,
+                                                       CatalogoProdutosService.Catalogo catalogo) {
+        if (coProduto != null) {
+            var produtoGravado = catalogo.buscarProduto(coProduto);
+            if (produtoGravado.isPresent()) {
+                return produtoGravado;
+            }
+        }
+        return produtoElegibilidade.encontrarProdutoPorSimulacao(catalogo.indice(), valorDesejado, prazo.intValue());
+    }
+
+    /**
+     * Resultados de todos os tipos de amortização, gravados ou recalculados conforme a fonte
+     * configurada, na mesma ordem da criação.
+     */
+    private List<ResultadoSimulacaoDTO> obterResultadosSimulacao(Simulacao simulacao, Produto produto) {
+        var gravados = simulacao.getResultadosSimulacao();
+        if (fonteDetalhe == FonteDetalheSimulacao.GRAVADO && gravados != null
+                && gravados.size() == TipoAmortizacao.values().length) {
+            return gravados.stream()
+                .sorted(Comparator.comparing(ResultadoSimulacao::getTipo))
+                .map(simulacaoMapper::toResultadoSimulacaoDTO)
+                .toList();
+        }
+        return calcularResultadosSimulacao(criarSolicitacaoSimulacao(simulacao), produto);
+    }
+
+    private ResultadoSimulacaoDTO obterResultadoParaTipo(Simulacao simulacao, Produto produto, TipoAmortizacao tipo) {
+        if (fonteDetalhe == FonteDetalheSimulacao.GRAVADO) {
+            var gravado = resultadoSimulacaoRepository.buscarPorSimulacaoETipo(simulacao.getId(), tipo);
+            if (gravado.isPresent()) {
+                return simulacaoMapper.toResultadoSimulacaoDTO(gravado.get());
+            }
+        }
+        return calcularParcelasParaTipo(simulacao, produto, tipo);
+    }
+
     private ResultadoSimulacaoDTO calcularParcelasParaTipo(Simulacao simulacao, Produto produto, TipoAmortizacao tipo) {
+        // Parcelas geradas durante a serialização da resposta
+        return calculadoraFinanceira.calcularResultadoSobDemanda(criarSolicitacaoSimulacao(simulacao), produto, tipo.getCodigo());
+    }
+
+    private SimulacaoCreateDTO criarSolicitacaoSimulacao(Simulacao simulacao) {
         var solicitacaoSimulacao = new SimulacaoCreateDTO();
         solicitacaoSimulacao.setValorDesejado(simulacao.getValorDesejado());
         solicitacaoSimulacao.setPrazo(simulacao.getPrazo().intValue());
-
-        return calculadoraFinanceira.calcularResultado(solicitacaoSimulacao, produto, tipo.getCodigo());
+        return solicitacaoSimulacao;
     }
 
-    private ParcelaDTO buscarParcelaEspecificaOuLancarExcecao(ResultadoSimulacaoDTO resultado, Long parcelaId, String requestId) {
-        var parcelaOpt = resultado.getParcelas().stream()
-            .filter(parcela -> parcela.getNumero().equals(parcelaId))
-            .findFirst();
-
-        if (parcelaOpt.isEmpty()) {
+    /**
+     * Calcula diretamente a parcela solicitada, sem gerar o cronograma completo.
+     */
+    private ParcelaDTO calcularParcelaEspecificaOuLancarExcecao(SimulacaoCreateDTO solicitacaoSimulacao, Produto produto,
+                                                             TipoAmortizacao tipo, Long parcelaId, String requestId) {
+        if (parcelaId > solicitacaoSimulacao.getPrazo()) {
             errorHandling.logarInfo(requestId, String.format("Parcela %d não encontrada", parcelaId));
             throw new ParametroInvalidoException(
                 MensagemErro.PARAMETROS_INVALIDOS,
-                String.format("Parcela %d não encontrada. Total de parcelas disponíveis: %d", parcelaId, resultado.getParcelas().size())
+                String.format("Parcela %d não encontrada. Total de parcelas disponíveis: %d", parcelaId, solicitacaoSimulacao.getPrazo())
             );
         }
 
-        return parcelaOpt.get();
+        return calculadoraFinanceira.calcularParcela(solicitacaoSimulacao, produto, tipo.getCodigo(), parcelaId.intValue());
     }
 
     // Métodos auxiliares para construção de DTOs usando mappers
@@ -412,11 +898,7 @@ public class SimulacaoService {
     }
 
     private void preencherInformacoesProdutoEParcelas(SimulacaoDetalhesDTO dto, Simulacao simulacao, Produto produto, String requestId) {
-        var solicitacaoSimulacao = new SimulacaoCreateDTO();
-        solicitacaoSimulacao.setValorDesejado(simulacao.getValorDesejado());
-        solicitacaoSimulacao.setPrazo(simulacao.getPrazo().intValue());
-
-        var resultadosCalculados = calcularResultadosSimulacao(solicitacaoSimulacao, produto);
+        var resultadosCalculados = obterResultadosSimulacao(simulacao, produto);
         simulacaoMapper.enriqueceSimulacaoDetalhesDTO(dto, produto, resultadosCalculados);
 
         var contadorSAC = resultadosCalculados.stream()
@@ -429,7 +911,7 @@ public class SimulacaoService {
             .mapToInt(r -> r.getParcelas().size())
             .findFirst().orElse(0);
 
-        errorHandling.logarInfo(requestId, String.format("Parcelas calculadas para simulação ID: %d (SAC: %d parcelas, PRICE: %d parcelas)",
+        errorHandling.logarInfo(requestId, String.format("Parcelas obtidas para simulação ID: %d (SAC: %d parcelas, PRICE: %d parcelas)",
             simulacao.getId(), contadorSAC, contadorPRICE));
     }
 
@@ -438,17 +920,8 @@ public class SimulacaoService {
     }
 
     private ParcelaEspecificaDTO construirParcelaEspecificaDTO(Simulacao simulacao, Produto produto, TipoAmortizacao tipo,
-                                                              ParcelaDTO parcelaEspecifica, ResultadoSimulacaoDTO resultado) {
-        return simulacaoMapper.toParcelaEspecificaDTO(simulacao, produto, tipo, parcelaEspecifica, resultado);
-    }
-
-    /**
-     * Processa filtros comuns para evitar duplicação de código entre métodos de busca.
-     */
-    private FiltroSimulacaoContext processarFiltrosSimulacao(String dataFiltro, Integer produtoId) {
-        var dataConsulta = determinarDataConsulta(dataFiltro);
-        var simulacoesFiltradas = aplicarFiltrosSimulacao(dataConsulta, produtoId);
-        return new FiltroSimulacaoContext(dataConsulta, simulacoesFiltradas);
+                                                              ParcelaDTO parcelaEspecifica, SimulacaoCreateDTO solicitacaoSimulacao) {
+        return simulacaoMapper.toParcelaEspecificaDTO(simulacao, produto, tipo, parcelaEspecifica, solicitacaoSimulacao);
     }
 
     /**
@@ -497,78 +970,134 @@ public class SimulacaoService {
     }
 
     /**
-     * Valida a existência de um produto usando cache para otimizar consultas.
+     * Envia as respostas de um lote ao Event Hub de forma assíncrona, agrupadas em lotes de eventos.
      */
-    private void validarExistenciaProdutoComCache(Integer produtoId) {
-        if (produtoCache.containsKey(produtoId)) {
+    private void enviarMensagensEventHubAsync(List<SimulacaoResponseDTO> respostas, String requestId) {
+        if (respostas.isEmpty()) {
             return;
         }
+        CompletableFuture.runAsync(() -> {
+            try {
+                errorHandling.enviarMensagensEventHub(respostas);
+                errorHandling.logarInfo(requestId, String.format("%d mensagens enviadas ao Event Hub (assíncrono)", respostas.size()));
+            } catch (Exception e) {
+                errorHandling.logarErro(requestId, "Erro ao enviar mensagens do lote ao Event Hub (assíncrono)", e);
+            }
+        }, eventHubExecutor);
+    }
 
-        var produto = produtoRepository.findById(Long.valueOf(produtoId));
-        if (produto == null) {
+    /**
+     * Valida a existência de um produto no catálogo em memória.
+     */
+    private void validarExistenciaProduto(Integer produtoId) {
+        if (catalogoProdutos.obter().buscarProduto(produtoId).isEmpty()) {
             throw ProdutoException.produtoNaoEncontrado(produtoId);
         }
-
-        produtoCache.put(produtoId, produto);
     }
 
     private List<Produto> buscarTodosProdutos() {
-        var agora = System.currentTimeMillis();
-        if (produtosCache == null || (agora - ultimaAtualizacaoProdutos) > CACHE_TIMEOUT) {
-            produtosCache = produtoRepository.listAll();
-            ultimaAtualizacaoProdutos = agora;
-        }
-        return produtosCache;
+        return catalogoProdutos.obter().produtos();
     }
 
-    private List<ResultadoSimulacaoDTO> calcularResultadosSimulacao(SimulacaoCreateDTO simulacao, Produto produto) {
-        var resultadoSAC = calculadoraFinanceira.calcularResultado(simulacao, produto, TipoAmortizacao.SAC.getCodigo());
-        var resultadoPrice = calculadoraFinanceira.calcularResultado(simulacao, produto, TipoAmortizacao.PRICE.getCodigo());
-        return List.of(resultadoSAC, resultadoPrice);
+    private IndiceElegibilidade buscarIndiceElegibilidade() {
+        return catalogoProdutos.obter().indice();
     }
 
-    private ResultadoSimulacaoDTO encontrarResultadoPorTipo(List<ResultadoSimulacaoDTO> resultados) {
-        return resultados.stream()
-            .filter(resultado -> TipoAmortizacao.PRICE.getCodigo().equals(resultado.getTipo()))
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Resultado não encontrado para o tipo: " + TipoAmortizacao.PRICE.getCodigo()));
+    private List<ResultadoSimulacaoDTO> calcularResultadosSimulacao(SimulacaoCreateDTO simulacao, Produto produto) {
+        return calculadoraFinanceira.calcularSimulacaoCompleta(simulacao, produto).resultados();
     }
 
     @Transactional
     protected Simulacao persistirSimulacao(SimulacaoCreateDTO solicitacao, Produto produto,
-                                         ResultadoSimulacaoDTO resultadoPrice, BigDecimal valorDesejado) {
-        // Criar e persistir a simulação principal primeiro
-        var novaSimulacao = criarNovaSimulacao(solicitacao, produto, resultadoPrice, valorDesejado);
-        simulacaoRepository.persist(novaSimulacao);
+                                         SimulacaoCalculada simulacaoCalculada, BigDecimal valorDesejado) {
+        var simulacao = registrarSimulacao(solicitacao, produto, simulacaoCalculada, valorDesejado);
+        resumoDiario.registrar(List.of(simulacao));
+        return simulacao;
+    }
+
+    /**
+     * Persiste as simulações calculadas de um lote em blocos de {@code tamanhoTransacaoLote}, cada
+     * um em sua própria transação. Devolve uma simulação por item, na ordem recebida, ou nulo para
+     * os itens de um bloco cuja gravação falhou e foi desfeita.
+     */
+    private List<Simulacao> persistirSimulacoesEmBlocos(List<ItemLote> calculados, String requestId) {
+        var simulacoes = new ArrayList<Simulacao>(calculados.size());
+        for (int inicio = 0; inicio < calculados.size(); inicio += tamanhoTransacaoLote) {
+            var bloco = calculados.subList(inicio, Math.min(inicio + tamanhoTransacaoLote, calculados.size()));
+            try {
+                simulacoes.addAll(persistirSimulacoesEmLote(bloco));
+            } catch (RuntimeException e) {
+                errorHandling.logarErro(requestId, String.format(
+                    "simularEmprestimosEmLote - gravação dos itens %d a %d", inicio, inicio + bloco.size() - 1), e);
+                simulacoes.addAll(Collections.nCopies(bloco.size(), null));
+            }
+        }
+        return simulacoes;
+    }
+
+    private static ErrorResponseDTO erroGravacaoLote() {
+        return new ErrorResponseDTO(
+            MensagemErro.ERRO_PROCESSAMENTO.getCodigo(),
+            MensagemErro.ERRO_PROCESSAMENTO.getMensagem(),
+            "Falha ao gravar o bloco de simulações deste item; nenhuma simulação do bloco foi gravada",
+            MensagemErro.ERRO_PROCESSAMENTO.getHttpStatus()
+        );
+    }
 
-        // Calcular resultados para SAC e PRICE
-        var resultadosCalculados = calcularResultadosSimulacao(solicitacao, produto);
+    /**
+     * Persiste um bloco de simulações calculadas de um lote em uma transação própria, na ordem
+     * recebida, somando-as ao resumo diário por produto
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    protected List<Simulacao> persistirSimulacoesEmLote(List<ItemLote> itens) {
+        var simulacoes = new ArrayList<Simulacao>(itens.size());
+        for (ItemLote item : itens) {
+            simulacoes.add(registrarSimulacao(item.solicitacao(), item.produto(), item.simulacaoCalculada(),
+                item.solicitacao().getValorDesejado()));
+        }
+        resumoDiario.registrar(simulacoes);
+        return simulacoes;
+    }
 
-        // Persistir os resultados da simulação (SAC e PRICE) com suas parcelas
-        var resultadosEntity = new ArrayList<ResultadoSimulacao>();
-        for (ResultadoSimulacaoDTO resultadoDTO : resultadosCalculados) {
-            var resultadoEntity = criarResultadoSimulacao(resultadoDTO);
-            // Associar à simulação ANTES de persistir
+    /**
+     * Persiste a simulação, seus resultados, parcelas e o registro de auditoria na transação corrente.
+     *
+     * O grafo é montado completo e persistido de uma vez pelo cascade da simulação. Resultados e
+     * parcelas têm identificadores de sequência reservados em blocos, então seus INSERTs ficam para o
+     * flush e seguem em lotes JDBC ({@code quarkus.hibernate-orm.jdbc.statement-batch-size}),
+     * agrupados por tabela: uma simulação de 360 meses passa de cerca de 720 INSERTs a uma dezena
+     * de execuções. No armazenamento {@link ArmazenamentoCronograma#COMPACTADO}, cada resultado leva
+     * o cronograma codificado em uma coluna, sem linhas de parcela.
+     */
+    private Simulacao registrarSimulacao(SimulacaoCreateDTO solicitacao, Produto produto,
+                                         SimulacaoCalculada simulacaoCalculada, BigDecimal valorDesejado) {
+        var novaSimulacao = criarNovaSimulacao(solicitacao, produto, simulacaoCalculada.price(), valorDesejado);
+
+        // Resultados já calculados (SAC e PRICE) com suas parcelas
+        var resultadosEntity = new ArrayList<ResultadoSimulacao>(2);
+        for (SimulacaoCalculada.Amortizacao amortizacao : List.of(simulacaoCalculada.sac(), simulacaoCalculada.price())) {
+            var resultadoEntity = criarResultadoSimulacao(amortizacao);
             resultadoEntity.setSimulacao(novaSimulacao);
 
-            // Criar e associar parcelas ao resultado
-            var parcelasEntity = new ArrayList<Parcela>();
-            for (ParcelaDTO parcelaDTO : resultadoDTO.getParcelas()) {
-                var parcelaEntity = criarParcela(parcelaDTO, resultadoEntity);
-                parcelasEntity.add(parcelaEntity);
+            // Parcelas lidas diretamente do cronograma calculado, em linhas ou em uma coluna compactada
+            var parcelas = amortizacao.resultado().getParcelas();
+            if (armazenamentoCronograma == ArmazenamentoCronograma.COMPACTADO) {
+                resultadoEntity.setCronogramaCompactado(CronogramaCompactado.codificar(parcelas));
+                resultadoEntity.setParcelas(new ArrayList<>());
+            } else {
+                var parcelasEntity = new ArrayList<Parcela>(parcelas.size());
+                for (int indice = 0; indice < parcelas.size(); indice++) {
+                    parcelasEntity.add(criarParcela(parcelas, indice, resultadoEntity));
+                }
+                resultadoEntity.setParcelas(parcelasEntity);
             }
-            resultadoEntity.setParcelas(parcelasEntity);
-
-            // Persistir resultado (cascade irá salvar as parcelas automaticamente)
-            resultadoSimulacaoRepository.persist(resultadoEntity);
             resultadosEntity.add(resultadoEntity);
         }
-
-        // Associar resultados à simulação e atualizar
         novaSimulacao.setResultadosSimulacao(resultadosEntity);
+
+        // Cascade grava resultados e parcelas
         simulacaoRepository.persist(novaSimulacao);
 
-        // Persistir registro de auditoria
         var registroAuditoria = criarRegistroAuditoria(novaSimulacao, produto);
         auditoriaRepository.persist(registroAuditoria);
 
@@ -576,38 +1105,38 @@ public class SimulacaoService {
     }
 
     /**
-     * Cria uma entidade ResultadoSimulacao a partir do DTO
+     * Cria uma entidade ResultadoSimulacao a partir do cronograma calculado,
+     * com os agregados apurados no próprio cálculo
      */
-    private ResultadoSimulacao criarResultadoSimulacao(ResultadoSimulacaoDTO dto) {
+    private ResultadoSimulacao criarResultadoSimulacao(SimulacaoCalculada.Amortizacao amortizacao) {
         var resultado = new ResultadoSimulacao();
-        resultado.setTipo(TipoAmortizacao.porCodigo(dto.getTipo()));
-
-        // Calcular valores agregados das parcelas
-        var valorTotalParcelas = dto.getParcelas().stream()
-            .map(ParcelaDTO::getValorPrestacao)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        var valorMedioPrestacao = dto.getParcelas().isEmpty() ? BigDecimal.ZERO :
-            valorTotalParcelas.divide(BigDecimal.valueOf(dto.getParcelas().size()), RoundingMode.HALF_UP);
-
-        resultado.setValorTotalCredito(valorTotalParcelas);
-        resultado.setValorMedioPrestacao(valorMedioPrestacao);
-        resultado.setValorTotalDesejado(valorTotalParcelas);
+        resultado.setTipo(TipoAmortizacao.porCodigo(amortizacao.resultado().getTipo()));
+        resultado.setValorTotalCredito(amortizacao.valorTotal());
+        resultado.setValorMedioPrestacao(amortizacao.valorMedio());
+        resultado.setValorTotalDesejado(amortizacao.valorTotal());
 
         return resultado;
     }
 
     /**
-     * Cria uma entidade Parcela a partir do DTO
+     * Cria uma entidade Parcela a partir da parcela no índice informado. Cronogramas colunares
+     * são lidos direto dos vetores, sem criar o ParcelaDTO intermediário
      */
-    private Parcela criarParcela(ParcelaDTO dto, ResultadoSimulacao resultado) {
+    private Parcela criarParcela(List<ParcelaDTO> parcelas, int indice, ResultadoSimulacao resultado) {
         var parcela = new Parcela();
-        parcela.setNumero(dto.getNumero());
-        parcela.setValorAmortizacao(dto.getValorAmortizacao());
-        parcela.setValorJuros(dto.getValorJuros());
-        parcela.setValorPrestacao(dto.getValorPrestacao());
+        if (parcelas instanceof CronogramaColunar colunar) {
+            parcela.setNumero((long) indice + 1);
+            parcela.setValorAmortizacao(colunar.valorAmortizacao(indice));
+            parcela.setValorJuros(colunar.valorJuros(indice));
+            parcela.setValorPrestacao(colunar.valorPrestacao(indice));
+        } else {
+            var dto = parcelas.get(indice);
+            parcela.setNumero(dto.getNumero());
+            parcela.setValorAmortizacao(dto.getValorAmortizacao());
+            parcela.setValorJuros(dto.getValorJuros());
+            parcela.setValorPrestacao(dto.getValorPrestacao());
+        }
         parcela.setResultadoSimulacao(resultado);
-        parcelaRepository.persist(parcela);
         return parcela;
     }
 
@@ -630,49 +1159,44 @@ public class SimulacaoService {
 
 
     private Simulacao criarNovaSimulacao(SimulacaoCreateDTO solicitacao, Produto produto,
-                                         ResultadoSimulacaoDTO resultadoPrice, BigDecimal valorDesejado) {
+                                         SimulacaoCalculada.Amortizacao resultadoPrice, BigDecimal valorDesejado) {
         var simulacao = new Simulacao();
         simulacao.setValorDesejado(valorDesejado);
         simulacao.setPrazo(solicitacao.getPrazo().longValue());
         simulacao.setTaxaMediaJuros(produto.getPcTaxaJuros().setScale(FinanceiroConstant.TAXA_SCALE.getValor(), RoundingMode.HALF_UP));
         simulacao.setValorTotalDesejado(valorDesejado);
 
-        var valorTotalParcelas = calculadoraFinanceira.calcularValorTotalPrestacoes(resultadoPrice.getParcelas());
-        simulacao.setValorTotalCredito(valorTotalParcelas);
-
-        var valorMedioPrestacao = calculadoraFinanceira.calcularValorMedioPrestacao(resultadoPrice.getParcelas());
-        simulacao.setValorMedioPrestacao(valorMedioPrestacao);
+        simulacao.setValorTotalCredito(resultadoPrice.valorTotal());
+        simulacao.setValorMedioPrestacao(resultadoPrice.valorMedio());
 
+        var agora = LocalDateTime.now();
         simulacao.setProduto(null);
-        simulacao.setDataSimulacao(LocalDateTime.now());
+        simulacao.setCoProduto(produto.getCoProduto());
+        simulacao.setDataSimulacao(agora);
+        simulacao.setDataReferencia(agora.toLocalDate());
 
         return simulacao;
 
 
     }
 
-    private static class FiltroSimulacaoContext {
-        final LocalDate dataConsulta;
-        final List<Simulacao> simulacoesFiltradas;
+    /**
+     * Solicitação do lote já calculada, ou o erro que impediu o cálculo.
+     */
+    private record ItemLote(SimulacaoCreateDTO solicitacao, Produto produto,
+                            SimulacaoCalculada simulacaoCalculada, ErrorResponseDTO erro) {
 
-        FiltroSimulacaoContext(LocalDate dataConsulta, List<Simulacao> simulacoesFiltradas) {
-            this.dataConsulta = dataConsulta;
-            this.simulacoesFiltradas = simulacoesFiltradas;
+        static ItemLote calculado(SimulacaoCreateDTO solicitacao, Produto produto, SimulacaoCalculada simulacaoCalculada) {
+            return new ItemLote(solicitacao, produto, simulacaoCalculada, null);
         }
-    }
-    private List<Simulacao> filtrarSimulacoesPorProduto(List<Simulacao> simulacoes, Integer produtoId) {
-        var todosProdutos = buscarTodosProdutos();
 
-        return simulacoes.stream()
-                .filter(simulacao -> {
-                    var produtoAssociado = produtoElegibilidade.encontrarProdutoPorSimulacao(
-                            todosProdutos, simulacao.getValorDesejado(), simulacao.getPrazo().intValue()
-                    );
-                    return produtoAssociado
-                            .map(produto -> produto.getCoProduto().equals(produtoId))
-                            .orElse(false);
-                })
-                .toList();
+        static ItemLote comErro(ErrorResponseDTO erro) {
+            return new ItemLote(null, null, null, erro);
+        }
+
+        boolean calculado() {
+            return erro == null;
+        }
     }
 
     private LocalDate determinarDataConsulta(String dataFiltro) {
@@ -690,32 +1214,14 @@ public class SimulacaoService {
         }
     }
 
-    private List<Simulacao> aplicarFiltrosSimulacao(LocalDate dataConsulta, Integer produtoId) {
-        var todasSimulacoes = simulacaoRepository.listAll();
-
-        var simulacoesPorData = todasSimulacoes.stream()
-                .filter(simulacao -> simulacao.getDataSimulacao().toLocalDate().equals(dataConsulta))
-                .toList();
-
-        if (produtoId == null) {
-            return simulacoesPorData;
-        }
-
-        validarExistenciaProdutoComCache(produtoId);
-        return filtrarSimulacoesPorProduto(simulacoesPorData, produtoId);
-    }
-
-    private List<Simulacao> buscarSimulacoesPaginadas(int numeroPagina, int quantidadePorPagina) {
-        return simulacaoRepository.findAll()
-                .page(numeroPagina - 1, quantidadePorPagina)
-                .list();
-    }
-
     /**
      * Fecha o ExecutorService quando o serviço for destruído.
      */
     @PreDestroy
     void destroy() {
+        if (poolLote != null) {
+            poolLote.shutdown();
+        }
         if (eventHubExecutor != null && !eventHubExecutor.isShutdown()) {
             eventHubExecutor.shutdown();
             try {
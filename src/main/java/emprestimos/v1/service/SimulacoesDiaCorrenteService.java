@@ -0,0 +1,122 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.service.SegmentoSimulacoesDia;
+import emprestimos.v1.repository.SimulacaoRepository;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Simulações do dia corrente mantidas em memória ({@link SegmentoSimulacoesDia}), para que as
+ * consultas por produto e dia do dia corrente não leiam o banco.
+ *
+ * O segmento é carregado do banco na subida e recebe as simulações confirmadas por esta instância;
+ * a primeira simulação de um novo dia inicia um segmento vazio, e o do dia anterior passa a ser
+ * consultado no banco. Enquanto a carga não termina, se ela falhar ou se o dia passar do limite de
+ * linhas, as consultas seguem no banco. Simulações gravadas por outras instâncias não aparecem no
+ * segmento; por isso a memória vem desabilitada e só deve ser habilitada com uma única instância
+ * gravando simulações.
+ */
+@ApplicationScoped
+@Slf4j
+public class SimulacoesDiaCorrenteService {
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.dia-corrente.memoria", defaultValue = "false")
+    boolean habilitado;
+
+    @ConfigProperty(name = "emprestimos.simulacoes.dia-corrente.limite", defaultValue = "1000000")
+    int limite;
+
+    private final AtomicReference<SegmentoSimulacoesDia> atual = new AtomicReference<>();
+
+    void iniciar(@Observes StartupEvent evento) {
+        if (habilitado) {
+            reconstruir(LocalDate.now());
+        }
+    }
+
+    /**
+     * Substitui o segmento pelo do dia informado, lido do banco. O novo segmento já recebe as
+     * simulações criadas durante a leitura.
+     */
+    void reconstruir(LocalDate dia) {
+        var segmento = new SegmentoSimulacoesDia(dia, limite);
+        atual.set(segmento);
+        try {
+            carregar(segmento);
+            segmento.concluirCarga();
+            log.info("Simulações de {} carregadas em memória: {}", dia, segmento.tamanho());
+        } catch (Exception e) {
+            log.warn("Falha ao carregar as simulações de {} em memória; as consultas do dia seguem no banco: {}",
+                    dia, e.getMessage());
+        }
+    }
+
+    @Transactional
+    void carregar(SegmentoSimulacoesDia segmento) {
+        try (var simulacoes = simulacaoRepository.percorrerPorDataEProduto(segmento.dia(), null)) {
+            simulacoes.forEach(segmento::adicionar);
+        }
+    }
+
+    /**
+     * Adiciona ao segmento as simulações já confirmadas no banco.
+     */
+    public void registrar(List<Simulacao> simulacoes) {
+        if (!habilitado) {
+            return;
+        }
+        for (var simulacao : simulacoes) {
+            segmentoParaRegistro(simulacao.getDataReferencia())
+                    .ifPresent(segmento -> segmento.adicionar(paraSimulacaoDoDia(simulacao)));
+        }
+    }
+
+    /**
+     * Segmento que responde pelas consultas do dia, se o dia for o corrente e estiver completo.
+     */
+    public Optional<SegmentoSimulacoesDia> segmento(LocalDate dia) {
+        var segmento = atual.get();
+        if (!habilitado || segmento == null || !segmento.dia().equals(dia) || !segmento.disponivel()) {
+            return Optional.empty();
+        }
+        return Optional.of(segmento);
+    }
+
+    private Optional<SegmentoSimulacoesDia> segmentoParaRegistro(LocalDate dia) {
+        while (true) {
+            var segmento = atual.get();
+            if (segmento == null || dia.isBefore(segmento.dia())) {
+                return Optional.empty();
+            }
+            if (dia.equals(segmento.dia())) {
+                return Optional.of(segmento);
+            }
+            var novoDia = new SegmentoSimulacoesDia(dia, limite);
+            novoDia.concluirCarga();
+            if (atual.compareAndSet(segmento, novoDia)) {
+                log.info("Simulações em memória passam ao dia {}; {} seguem no banco", dia, segmento.dia());
+            }
+        }
+    }
+
+    private static SimulacaoDoDia paraSimulacaoDoDia(Simulacao simulacao) {
+        return new SimulacaoDoDia(simulacao.getId(), simulacao.getCoProduto(), simulacao.getValorDesejado(),
+                simulacao.getPrazo(), simulacao.getTaxaMediaJuros(), simulacao.getValorMedioPrestacao(),
+                simulacao.getValorTotalDesejado(), simulacao.getValorTotalCredito());
+    }
+}
@@ -14,6 +14,8 @@ public class ContentNegotiationFilter implements ContainerRequestFilter, Contain
 
     private static final String HEADER_ACCEPT = "Accept";
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
         String acceptHeader = requestContext.getHeaderString(HEADER_ACCEPT);
@@ -26,7 +28,11 @@ public class ContentNegotiationFilter implements ContainerRequestFilter, Contain
 
         String normalized = acceptHeader.toLowerCase();
 
-        if (normalized.contains(MediaType.APPLICATION_JSON)) {
+        if (normalized.contains(APPLICATION_NDJSON)) {
+            // JSON delimitado por linhas, nas consultas que escrevem a resposta em fluxo
+            requestContext.getHeaders().putSingle(HEADER_ACCEPT, APPLICATION_NDJSON);
+
+        } else if (normalized.contains(MediaType.APPLICATION_JSON)) {
             requestContext.getHeaders().putSingle(HEADER_ACCEPT, MediaType.APPLICATION_JSON);
 
         } else if (normalized.contains(MediaType.APPLICATION_XML) || normalized.contains(MediaType.TEXT_XML)) {
@@ -53,7 +59,10 @@ public class ContentNegotiationFilter implements ContainerRequestFilter, Contain
         // Garante que a resposta traga o Content-Type correto
         String acceptHeader = requestContext.getHeaderString(HEADER_ACCEPT);
 
-        if (acceptHeader != null) {
+        if (APPLICATION_NDJSON.equals(acceptHeader) && responseContext.getStatus() >= 400) {
+            // Erros não são escritos em fluxo: seguem como um documento JSON
+            responseContext.getHeaders().putSingle("Content-Type", MediaType.APPLICATION_JSON);
+        } else if (acceptHeader != null) {
             responseContext.getHeaders().putSingle("Content-Type", acceptHeader);
         }
     }
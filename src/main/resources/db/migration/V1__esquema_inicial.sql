@@ -0,0 +1,51 @@
+-- Esquema local (H2) das simulacoes, equivalente ao gerado pelo Hibernate antes das migracoes.
+-- Bancos ja existentes sao marcados nesta versao (baseline) e seguem a partir da V2.
+
+CREATE TABLE simulacao (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    valor_desejado        NUMERIC(18,2) NOT NULL,
+    prazo                 BIGINT        NOT NULL,
+    taxa_media_juros      NUMERIC(10,4),
+    valor_medio_prestacao NUMERIC(18,2),
+    valor_total_desejado  NUMERIC(18,2),
+    valor_total_credito   NUMERIC(18,2),
+    data_simulacao        TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE resultado_simulacao (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    tipo                  ENUM ('PRICE','SAC') NOT NULL,
+    simulacao_id          BIGINT,
+    taxa_media_juros      NUMERIC(10,4),
+    valor_medio_prestacao NUMERIC(18,2),
+    valor_total_desejado  NUMERIC(18,2),
+    valor_total_credito   NUMERIC(18,2),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resultado_simulacao_simulacao FOREIGN KEY (simulacao_id) REFERENCES simulacao
+);
+
+CREATE TABLE parcela (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    numero                 BIGINT        NOT NULL,
+    valor_amortizacao      NUMERIC(18,2) NOT NULL,
+    valor_juros            NUMERIC(18,2) NOT NULL,
+    valor_prestacao        NUMERIC(18,2) NOT NULL,
+    resultado_simulacao_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_parcela_resultado_simulacao FOREIGN KEY (resultado_simulacao_id) REFERENCES resultado_simulacao
+);
+
+CREATE TABLE registro_auditoria (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    usuario       VARCHAR(100) NOT NULL,
+    acao          VARCHAR(50)  NOT NULL,
+    recurso       VARCHAR(200) NOT NULL,
+    ip_origem     VARCHAR(45),
+    detalhes      TEXT,
+    dados_novos   TEXT,
+    status        VARCHAR(255) NOT NULL,
+    mensagem_erro TEXT,
+    data_hora     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,12 @@
+-- Produto escolhido e data da simulacao persistidos, para filtrar por produto e dia no banco.
+-- O produto das simulacoes anteriores e preenchido pela aplicacao (o catalogo fica no SQL Server).
+
+ALTER TABLE simulacao ADD COLUMN co_produto INTEGER;
+ALTER TABLE simulacao ADD COLUMN data_referencia DATE;
+
+UPDATE simulacao SET data_referencia = CAST(data_simulacao AS DATE);
+ALTER TABLE simulacao ALTER COLUMN data_referencia SET NOT NULL;
+
+-- Consultas por dia, com ou sem produto, e por produto ao longo dos dias
+CREATE INDEX idx_simulacao_data_produto ON simulacao (data_referencia, co_produto);
+CREATE INDEX idx_simulacao_produto_data ON simulacao (co_produto, data_referencia);
@@ -0,0 +1,22 @@
+-- Totais diarios por produto, atualizados na mesma transacao que grava cada simulacao.
+-- O historico com produto ja gravado e carregado aqui; o restante entra na reconstrucao agendada.
+
+CREATE TABLE resumo_diario_produto (
+    data_referencia            DATE          NOT NULL,
+    co_produto                 INTEGER       NOT NULL,
+    quantidade                 BIGINT        NOT NULL,
+    soma_taxa_juros            NUMERIC(22,4) NOT NULL,
+    soma_valor_medio_prestacao NUMERIC(22,2) NOT NULL,
+    soma_valor_desejado        NUMERIC(22,2) NOT NULL,
+    soma_valor_total_credito   NUMERIC(22,2) NOT NULL,
+    PRIMARY KEY (data_referencia, co_produto)
+);
+
+INSERT INTO resumo_diario_produto (data_referencia, co_produto, quantidade, soma_taxa_juros,
+                                   soma_valor_medio_prestacao, soma_valor_desejado, soma_valor_total_credito)
+SELECT data_referencia, co_produto, COUNT(*),
+       COALESCE(SUM(taxa_media_juros), 0), COALESCE(SUM(valor_medio_prestacao), 0),
+       COALESCE(SUM(valor_desejado), 0), COALESCE(SUM(valor_total_credito), 0)
+FROM simulacao
+WHERE co_produto IS NOT NULL
+GROUP BY data_referencia, co_produto;
@@ -0,0 +1,14 @@
+-- Identificadores de resultado_simulacao e parcela passam a vir de sequencias, reservados pelo
+-- Hibernate em blocos do tamanho do incremento; sem a insercao por identidade, as linhas de uma
+-- simulacao sao gravadas em lotes JDBC. O incremento deve ser igual ao allocationSize da entidade.
+--
+-- O otimizador "pooled" trata cada valor lido como o fim do bloco reservado (valor - incremento + 1
+-- ate valor), por isso a sequencia recomeca em MAX(id) + incremento.
+
+CREATE SEQUENCE resultado_simulacao_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE resultado_simulacao_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM resultado_simulacao);
+ALTER TABLE resultado_simulacao ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE parcela_seq START WITH 1000 INCREMENT BY 1000;
+ALTER SEQUENCE parcela_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1000 FROM parcela);
+ALTER TABLE parcela ALTER COLUMN id DROP IDENTITY;
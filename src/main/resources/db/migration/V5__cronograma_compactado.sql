@@ -0,0 +1,5 @@
+-- Cronograma de parcelas codificado em uma coluna binaria do resultado, alternativa as linhas de
+-- parcela (emprestimos.simulacoes.cronograma.armazenamento=COMPACTADO). Os resultados ja gravados
+-- sao convertidos pela aplicacao, em lotes, quando esse modo esta ativo.
+
+ALTER TABLE resultado_simulacao ADD COLUMN cronograma_compactado VARBINARY(1000000);
@@ -0,0 +1,4 @@
+-- Ordem da listagem de simulacoes (GET /v1/simulacoes): a paginacao por cursor continua a partir
+-- da ultima (data_simulacao, id) da pagina anterior, buscando direto neste indice.
+
+CREATE INDEX idx_simulacao_data_id ON simulacao (data_simulacao, id);
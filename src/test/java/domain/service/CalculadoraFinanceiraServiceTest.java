@@ -7,6 +7,7 @@ import emprestimos.v1.domain.entity.remote.Produto;
 import emprestimos.v1.domain.enums.TipoAmortizacao;
 import emprestimos.v1.domain.exception.SimulacaoException;
 import emprestimos.v1.domain.service.CalculadoraFinanceiraService;
+import emprestimos.v1.domain.service.SimulacaoCalculada;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
@@ -150,4 +151,46 @@ class CalculadoraFinanceiraServiceTest {
             assertTrue(parcela.getValorAmortizacao().compareTo(BigDecimal.ZERO) > 0, "Valor da amortização deve ser positivo");
         }
     }
+
+    @Test
+    @DisplayName("Deve reutilizar o cronograma memorizado para simulações idênticas")
+    void deveReutilizarCronogramaMemorizado() {
+        // Given
+        SimulacaoCreateDTO mesmaSimulacao = new SimulacaoCreateDTO();
+        mesmaSimulacao.setValorDesejado(new BigDecimal("10000.00"));
+        mesmaSimulacao.setPrazo(12);
+
+        // When
+        ResultadoSimulacaoDTO primeiro = calculadoraFinanceira.calcularResultado(
+            simulacaoTeste, produtoTeste, TipoAmortizacao.PRICE.getCodigo()
+        );
+        ResultadoSimulacaoDTO segundo = calculadoraFinanceira.calcularResultado(
+            mesmaSimulacao, produtoTeste, TipoAmortizacao.PRICE.getCodigo()
+        );
+
+        // Then
+        assertNotSame(primeiro, segundo);
+        assertSame(primeiro.getParcelas(), segundo.getParcelas());
+        assertTrue(calculadoraFinanceira.obterEstatisticasCache().orElseThrow().acertos() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve calcular SAC e PRICE com agregados em uma única chamada")
+    void deveCalcularSimulacaoCompleta() {
+        // When
+        SimulacaoCalculada calculada = calculadoraFinanceira.calcularSimulacaoCompleta(simulacaoTeste, produtoTeste);
+
+        // Then
+        assertEquals(List.of(TipoAmortizacao.SAC.getCodigo(), TipoAmortizacao.PRICE.getCodigo()),
+            calculada.resultados().stream().map(ResultadoSimulacaoDTO::getTipo).toList());
+
+        for (TipoAmortizacao tipo : TipoAmortizacao.values()) {
+            SimulacaoCalculada.Amortizacao amortizacao = calculada.porTipo(tipo);
+            ResultadoSimulacaoDTO separado = calculadoraFinanceira.calcularResultado(simulacaoTeste, produtoTeste, tipo.getCodigo());
+
+            assertEquals(separado.getParcelas(), amortizacao.resultado().getParcelas());
+            assertEquals(calculadoraFinanceira.calcularValorTotalPrestacoes(separado.getParcelas()), amortizacao.valorTotal());
+            assertEquals(calculadoraFinanceira.calcularValorMedioPrestacoes(separado.getParcelas()), amortizacao.valorMedio());
+        }
+    }
 }
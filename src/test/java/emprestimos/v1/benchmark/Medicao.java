@@ -0,0 +1,67 @@
+package emprestimos.v1.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Utilitário de medição de latência e alocação usado pelas classes *Benchmark.
+ *
+ * Os benchmarks não seguem o padrão *Test e por isso ficam fora do {@code mvn test};
+ * execute-os explicitamente, por exemplo: {@code mvn test -Dtest=CoeficientePriceBenchmark}.
+ */
+public final class Medicao {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Evita que o JIT elimine o trabalho medido.
+     */
+    private static volatile int sumidouro;
+
+    private Medicao() {
+
+    }
+
+    /**
+     * Resultado de uma medição: tempo médio e bytes alocados por operação.
+     */
+    public record Resultado(String nome, double nanosPorOperacao, double bytesPorOperacao) {
+
+        public double microsPorOperacao() {
+            return nanosPorOperacao / 1_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %12.2f us/op %14.0f B/op", nome, microsPorOperacao(), bytesPorOperacao);
+        }
+    }
+
+    /**
+     * Executa a operação {@code aquecimento} vezes sem medir e depois {@code iteracoes} vezes
+     * medindo tempo de parede e bytes alocados pela thread corrente.
+     */
+    public static Resultado medir(String nome, int aquecimento, int iteracoes, Supplier<?> operacao) {
+        for (int i = 0; i < aquecimento; i++) {
+            consumir(operacao.get());
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesAntes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long inicio = System.nanoTime();
+
+        for (int i = 0; i < iteracoes; i++) {
+            consumir(operacao.get());
+        }
+
+        long duracao = System.nanoTime() - inicio;
+        long bytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesAntes;
+
+        return new Resultado(nome, (double) duracao / iteracoes, (double) bytes / iteracoes);
+    }
+
+    private static void consumir(Object valor) {
+        sumidouro ^= System.identityHashCode(valor);
+    }
+}
@@ -0,0 +1,39 @@
+package emprestimos.v1.domain.dto.simulacao.list.request;
+
+import emprestimos.v1.domain.exception.ParametroInvalidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cursor da listagem de simulações")
+class CursorSimulacoesTest {
+
+    @Test
+    @DisplayName("Deve reconstruir a posição a partir do token")
+    void deveReconstruirPosicao() {
+        var cursor = new CursorSimulacoes(7, LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000), 2384L);
+
+        var token = cursor.codificar();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+        assertEquals(cursor, CursorSimulacoes.decodificar(token));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens que não foram gerados pela listagem")
+    void deveRejeitarTokensInvalidos() {
+        var dataSimulacao = LocalDateTime.of(2025, 3, 14, 9, 26);
+        for (var texto : new String[]{"", "1|2|" + dataSimulacao, "2|2|" + dataSimulacao + "|10",
+                                      "1|1|" + dataSimulacao + "|10", "1|dois|" + dataSimulacao + "|10",
+                                      "1|2|14/03/2025|10", "1|2|" + dataSimulacao + "|dez"}) {
+            var token = Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+            assertThrows(ParametroInvalidoException.class, () -> CursorSimulacoes.decodificar(token), texto);
+        }
+        assertThrows(ParametroInvalidoException.class, () -> CursorSimulacoes.decodificar("não é base64"));
+    }
+}
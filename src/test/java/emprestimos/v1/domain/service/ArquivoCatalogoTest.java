@@ -0,0 +1,90 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Arquivo local do catálogo de produtos")
+class ArquivoCatalogoTest {
+
+    private static final Instant CARREGADO_EM = Instant.parse("2024-10-17T12:00:00.123456789Z");
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve reler os produtos e um índice equivalente ao construído")
+    void deveRelerCatalogo() throws Exception {
+        Random random = new Random(20241017L);
+        for (int catalogo = 0; catalogo < 50; catalogo++) {
+            List<Produto> produtos = IndiceElegibilidadeTest.catalogoAleatorio(random, 1 + random.nextInt(40));
+            IndiceElegibilidade construido = IndiceElegibilidade.criar(produtos);
+            Path arquivo = diretorio.resolve("catalogo-" + catalogo + ".bin");
+
+            ArquivoCatalogo.gravar(arquivo, new ArquivoCatalogo.Conteudo(catalogo, CARREGADO_EM, "assinatura-" + catalogo, construido));
+            ArquivoCatalogo.Conteudo lido = ArquivoCatalogo.ler(arquivo).orElseThrow();
+
+            assertEquals(catalogo, lido.versao());
+            assertEquals(CARREGADO_EM, lido.carregadoEm());
+            assertEquals("assinatura-" + catalogo, lido.assinatura());
+            assertEquals(produtos, lido.indice().getProdutos());
+            for (BigDecimal valor : IndiceElegibilidadeTest.valoresDeConsulta(produtos, random)) {
+                for (int prazo = -1; prazo <= 130; prazo++) {
+                    assertEquals(construido.encontrarMelhorProduto(valor, prazo), lido.indice().encontrarMelhorProduto(valor, prazo),
+                        "catalogo=" + catalogo + " valor=" + valor + " prazo=" + prazo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve substituir o arquivo anterior e aceitar catálogo vazio")
+    void deveSubstituirArquivo() throws Exception {
+        Path arquivo = diretorio.resolve("dados").resolve("catalogo.bin");
+        Random random = new Random(1L);
+
+        ArquivoCatalogo.gravar(arquivo, new ArquivoCatalogo.Conteudo(1, CARREGADO_EM, "a",
+            IndiceElegibilidade.criar(IndiceElegibilidadeTest.catalogoAleatorio(random, 10))));
+        ArquivoCatalogo.gravar(arquivo, new ArquivoCatalogo.Conteudo(2, CARREGADO_EM, "b", IndiceElegibilidade.criar(List.of())));
+
+        ArquivoCatalogo.Conteudo lido = ArquivoCatalogo.ler(arquivo).orElseThrow();
+        assertEquals(2, lido.versao());
+        assertTrue(lido.indice().isEmpty());
+        try (var arquivos = Files.list(arquivo.getParent())) {
+            assertEquals(List.of(arquivo), arquivos.toList(), "Nenhum temporário deve restar");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo corrompido ou truncado e ignorar arquivo ausente")
+    void deveRejeitarArquivoInvalido() throws Exception {
+        Path arquivo = diretorio.resolve("catalogo.bin");
+        assertTrue(ArquivoCatalogo.ler(arquivo).isEmpty());
+
+        ArquivoCatalogo.gravar(arquivo, new ArquivoCatalogo.Conteudo(1, CARREGADO_EM, "a",
+            IndiceElegibilidade.criar(IndiceElegibilidadeTest.catalogoAleatorio(new Random(2L), 10))));
+        byte[] original = Files.readAllBytes(arquivo);
+
+        for (int posicao : new int[]{0, 5, original.length / 2, original.length - 1}) {
+            byte[] corrompido = original.clone();
+            corrompido[posicao] ^= 0x10;
+            Files.write(arquivo, corrompido);
+            assertThrows(IllegalArgumentException.class, () -> ArquivoCatalogo.ler(arquivo), "posicao=" + posicao);
+        }
+        for (int tamanho : new int[]{0, 3, original.length - 9}) {
+            Files.write(arquivo, Arrays.copyOf(original, tamanho));
+            assertThrows(IllegalArgumentException.class, () -> ArquivoCatalogo.ler(arquivo), "tamanho=" + tamanho);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do CacheCronograma")
+class CacheCronogramaTest {
+
+    private static final BigDecimal TAXA = new BigDecimal("0.0179");
+
+    @Test
+    @DisplayName("Deve calcular uma única vez e compartilhar o cronograma nas leituras seguintes")
+    void deveCompartilharCronogramaCalculado() {
+        CacheCronograma cache = new CacheCronograma(1000);
+        AtomicInteger calculos = new AtomicInteger();
+
+        List<ParcelaDTO> primeira = cache.obter(new BigDecimal("10000.00"), 12, TAXA, TipoAmortizacao.SAC,
+            () -> cronograma(12, calculos));
+        List<ParcelaDTO> segunda = cache.obter(new BigDecimal("10000.00"), 12, TAXA, TipoAmortizacao.SAC,
+            () -> cronograma(12, calculos));
+
+        assertSame(primeira, segunda);
+        assertEquals(1, calculos.get());
+        assertThrows(UnsupportedOperationException.class, () -> primeira.add(new ParcelaDTO()));
+
+        CacheCronograma.Estatisticas estatisticas = cache.estatisticas();
+        assertEquals(1, estatisticas.acertos());
+        assertEquals(1, estatisticas.falhas());
+        assertEquals(12, estatisticas.parcelas());
+    }
+
+    @Test
+    @DisplayName("Deve tratar valores numericamente iguais com escalas diferentes como a mesma chave")
+    void deveCanonizarChave() {
+        CacheCronograma cache = new CacheCronograma(1000);
+        AtomicInteger calculos = new AtomicInteger();
+
+        cache.obter(new BigDecimal("10000"), 12, new BigDecimal("0.0179"), TipoAmortizacao.PRICE, () -> cronograma(12, calculos));
+        cache.obter(new BigDecimal("10000.00"), 12, new BigDecimal("0.017900"), TipoAmortizacao.PRICE, () -> cronograma(12, calculos));
+        cache.obter(new BigDecimal("10000.00"), 12, TAXA, TipoAmortizacao.SAC, () -> cronograma(12, calculos));
+        cache.obter(new BigDecimal("10000.00"), 24, TAXA, TipoAmortizacao.PRICE, () -> cronograma(24, calculos));
+
+        assertEquals(3, calculos.get());
+    }
+
+    @Test
+    @DisplayName("Deve remover cronogramas quando o total de parcelas excede o limite")
+    void deveRemoverPorPesoEmParcelas() {
+        CacheCronograma cache = new CacheCronograma(500);
+        AtomicInteger calculos = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            cache.obter(BigDecimal.valueOf(1000L + i), 120, TAXA, TipoAmortizacao.SAC, () -> cronograma(120, calculos));
+        }
+
+        CacheCronograma.Estatisticas estatisticas = cache.estatisticas();
+        assertTrue(estatisticas.parcelas() <= 500, "peso=" + estatisticas.parcelas());
+        assertTrue(estatisticas.remocoes() >= 6, "remocoes=" + estatisticas.remocoes());
+        assertEquals(10, estatisticas.falhas());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar o resultado quando o cálculo falha")
+    void naoDeveArmazenarFalhas() {
+        CacheCronograma cache = new CacheCronograma(1000);
+
+        assertThrows(ArithmeticException.class, () -> cache.obter(BigDecimal.TEN, 0, TAXA, TipoAmortizacao.SAC,
+            () -> { throw new ArithmeticException("Division by zero"); }));
+        assertEquals(0, cache.estatisticas().entradas());
+    }
+
+    private static List<ParcelaDTO> cronograma(int prazo, AtomicInteger calculos) {
+        calculos.incrementAndGet();
+        List<ParcelaDTO> parcelas = new ArrayList<>();
+        for (int i = 1; i <= prazo; i++) {
+            ParcelaDTO parcela = new ParcelaDTO();
+            parcela.setNumero((long) i);
+            parcelas.add(parcela);
+        }
+        return parcelas;
+    }
+}
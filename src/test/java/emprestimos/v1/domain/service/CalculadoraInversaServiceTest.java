@@ -0,0 +1,199 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.strategy.AmortizacaoPontoFixo;
+import emprestimos.v1.domain.service.strategy.CalculadoraParcelasStrategy;
+import emprestimos.v1.domain.service.strategy.PriceCalculadoraStrategy;
+import emprestimos.v1.domain.service.strategy.SacCalculadoraStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cálculo inverso por prestação máxima")
+class CalculadoraInversaServiceTest {
+
+    private static final int PRAZO_MAXIMO = 600;
+
+    private static final BigDecimal CENTAVO = new BigDecimal("0.01");
+
+    /**
+     * Mesmos produtos do import.sql.
+     */
+    private static final List<Produto> PRODUTOS = List.of(
+        produto(1, "0.0179", 0, 24, "200.00", "10000.00"),
+        produto(2, "0.0175", 25, 48, "10001.00", "100000.00"),
+        produto(3, "0.0182", 49, 96, "100000.01", "1000000.00"),
+        produto(4, "0.0151", 96, null, "1000000.01", null)
+    );
+
+    private static final String[] PRESTACOES = {"10.00", "500.00", "3000.00", "15000.00", "60000.00"};
+
+    private static final int[] PRAZOS = {1, 6, 12, 24, 30, 48, 60, 96, 120, 360};
+
+    private static final String[] VALORES = {"200.00", "5000.00", "10000.00", "50000.00", "250000.00", "2000000.00"};
+
+    private final ProdutoElegibilidadeService elegibilidade = new ProdutoElegibilidadeService();
+
+    @Test
+    @DisplayName("Deve retornar o maior valor que atende e nenhum valor elegível acima dele")
+    void deveRetornarValorMaximo() {
+        for (KernelCalculo kernel : KernelCalculo.values()) {
+            CalculadoraInversaService calculadora = calculadora(kernel);
+            for (TipoAmortizacao tipo : TipoAmortizacao.values()) {
+                for (String prestacaoTexto : PRESTACOES) {
+                    BigDecimal prestacao = new BigDecimal(prestacaoTexto);
+                    for (int prazo : PRAZOS) {
+                        String contexto = String.format("kernel=%s tipo=%s prestacao=%s prazo=%d", kernel, tipo, prestacao, prazo);
+                        Optional<CalculadoraInversaService.Solucao> solucao =
+                            calculadora.calcularValorMaximo(PRODUTOS, tipo, prestacao, prazo);
+
+                        if (solucao.isPresent()) {
+                            BigDecimal valor = solucao.get().valorFinanciado();
+                            assertTrue(atende(kernel, tipo, prestacao, valor, prazo), contexto);
+                            assertEquals(prazo, solucao.get().prazoMeses(), contexto);
+                            assertTrue(solucao.get().maiorPrestacao().compareTo(prestacao) <= 0, contexto);
+                            assertFalse(atende(kernel, tipo, prestacao, valor.add(CENTAVO), prazo), contexto);
+                            for (Produto produto : PRODUTOS) {
+                                if (produto.getVrMinimo().compareTo(valor) > 0) {
+                                    assertFalse(atende(kernel, tipo, prestacao, produto.getVrMinimo(), prazo), contexto);
+                                }
+                            }
+                        } else {
+                            for (Produto produto : PRODUTOS) {
+                                assertFalse(atende(kernel, tipo, prestacao, produto.getVrMinimo(), prazo), contexto);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar o mesmo prazo mínimo de uma varredura mês a mês")
+    void deveRetornarPrazoMinimo() {
+        for (KernelCalculo kernel : KernelCalculo.values()) {
+            CalculadoraInversaService calculadora = calculadora(kernel);
+            for (TipoAmortizacao tipo : TipoAmortizacao.values()) {
+                for (String prestacaoTexto : PRESTACOES) {
+                    BigDecimal prestacao = new BigDecimal(prestacaoTexto);
+                    for (String valorTexto : VALORES) {
+                        BigDecimal valor = new BigDecimal(valorTexto);
+                        String contexto = String.format("kernel=%s tipo=%s prestacao=%s valor=%s", kernel, tipo, prestacao, valor);
+
+                        Integer esperado = null;
+                        for (int prazo = 1; prazo <= PRAZO_MAXIMO && esperado == null; prazo++) {
+                            if (atende(kernel, tipo, prestacao, valor, prazo)) {
+                                esperado = prazo;
+                            }
+                        }
+
+                        Optional<CalculadoraInversaService.Solucao> solucao =
+                            calculadora.calcularPrazoMinimo(PRODUTOS, tipo, prestacao, valor);
+                        assertEquals(Optional.ofNullable(esperado), solucao.map(CalculadoraInversaService.Solucao::prazoMeses), contexto);
+                        solucao.ifPresent(s -> assertEquals(0, valor.compareTo(s.valorFinanciado()), contexto));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar o produto de menor taxa e o total do cronograma completo")
+    void deveUsarProdutoDeMenorTaxa() {
+        CalculadoraInversaService calculadora = calculadora(KernelCalculo.PONTO_FIXO);
+
+        CalculadoraInversaService.Solucao solucao = calculadora
+            .calcularValorMaximo(PRODUTOS, TipoAmortizacao.PRICE, new BigDecimal("1000.00"), 36)
+            .orElseThrow();
+
+        assertEquals(2, solucao.produto().getCoProduto());
+        BigDecimal total = price(KernelCalculo.PONTO_FIXO)
+            .calcularParcelas(solucao.valorFinanciado(), new BigDecimal("0.0175"), 36).stream()
+            .map(parcela -> parcela.getValorPrestacao())
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .setScale(2, RoundingMode.HALF_UP);
+        assertEquals(total, solucao.valorTotal());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o valor máximo ao gravável e não aceitar prazo acima do máximo")
+    void deveLimitarValorEPrazo() {
+        CalculadoraInversaService calculadora = calculadora(KernelCalculo.PONTO_FIXO);
+
+        CalculadoraInversaService.Solucao solucao = calculadora
+            .calcularValorMaximo(PRODUTOS, TipoAmortizacao.PRICE, new BigDecimal("9999999999999999.99"), PRAZO_MAXIMO)
+            .orElseThrow();
+        assertEquals(new BigDecimal("9999999999999999.99"), solucao.valorFinanciado());
+        assertEquals(4, solucao.produto().getCoProduto());
+
+        assertTrue(calculadora.calcularValorMaximo(PRODUTOS, TipoAmortizacao.PRICE, new BigDecimal("1000.00"), PRAZO_MAXIMO + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve localizar a fronteira a partir de qualquer estimativa")
+    void deveLocalizarFronteiraAPartirDeQualquerEstimativa() {
+        for (long fronteira : new long[]{0, 1, 17, 999, 1000}) {
+            for (long estimativa : new long[]{-50, 0, 1, 16, 17, 18, 500, 1000, 5000}) {
+                assertEquals(fronteira, CalculadoraInversaService.maiorQueAtende(0, 1000, estimativa, x -> x <= fronteira),
+                    "fronteira=" + fronteira + " estimativa=" + estimativa);
+            }
+        }
+    }
+
+    private boolean atende(KernelCalculo kernel, TipoAmortizacao tipo, BigDecimal prestacao, BigDecimal valor, int prazo) {
+        Optional<Produto> produto = elegibilidade.encontrarProdutoPorSimulacao(PRODUTOS, valor, prazo);
+        if (produto.isEmpty()) {
+            return false;
+        }
+        BigDecimal taxa = produto.get().getPcTaxaJuros().setScale(4, RoundingMode.HALF_UP);
+        CalculadoraParcelasStrategy estrategia = tipo == TipoAmortizacao.SAC ? sac(kernel) : price(kernel);
+        return estrategia.calcularParcelas(valor, taxa, prazo).get(0).getValorPrestacao().compareTo(prestacao) <= 0;
+    }
+
+    private CalculadoraInversaService calculadora(KernelCalculo kernel) {
+        return new CalculadoraInversaService(sac(kernel), price(kernel), elegibilidade, PRAZO_MAXIMO);
+    }
+
+    /**
+     * As estratégias são criadas fora do CDI; o kernel configurado é reproduzido por {@code usaPontoFixo}.
+     */
+    private static CalculadoraParcelasStrategy sac(KernelCalculo kernel) {
+        return new SacCalculadoraStrategy() {
+            @Override
+            public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+                return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+            }
+        };
+    }
+
+    private static CalculadoraParcelasStrategy price(KernelCalculo kernel) {
+        return new PriceCalculadoraStrategy() {
+            @Override
+            public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+                return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+            }
+        };
+    }
+
+    private static Produto produto(int codigo, String taxa, int prazoMinimo, Integer prazoMaximo,
+                                   String valorMinimo, String valorMaximo) {
+        Produto produto = new Produto();
+        produto.setCoProduto(codigo);
+        produto.setNoProduto("Produto " + codigo);
+        produto.setPcTaxaJuros(new BigDecimal(taxa));
+        produto.setNuMinimoMeses((short) prazoMinimo);
+        produto.setNuMaximoMeses(prazoMaximo == null ? null : prazoMaximo.shortValue());
+        produto.setVrMinimo(new BigDecimal(valorMinimo));
+        produto.setVrMaximo(valorMaximo == null ? null : new BigDecimal(valorMaximo));
+        return produto;
+    }
+}
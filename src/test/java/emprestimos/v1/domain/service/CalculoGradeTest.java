@@ -0,0 +1,85 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.dto.simulacao.grade.response.ResumoPrestacoesDTO;
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import emprestimos.v1.domain.service.strategy.AmortizacaoPontoFixo;
+import emprestimos.v1.domain.service.strategy.CalculadoraParcelasStrategy;
+import emprestimos.v1.domain.service.strategy.PriceCalculadoraStrategy;
+import emprestimos.v1.domain.service.strategy.SacCalculadoraStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cálculo da grade valor × prazo")
+class CalculoGradeTest {
+
+    private static final String[] VALORES = {"200.00", "5000.00", "10000.005", "150000.00", "2500000.00"};
+
+    private static final String[] TAXAS = {"0.0179", "0.0175", "0.0182", "0.0151", "0.009999"};
+
+    private static final int[] PRAZOS = {1, 6, 12, 18, 24, 48, 96, 180, 360};
+
+    /**
+     * As estratégias são criadas fora do CDI; o kernel configurado é reproduzido por {@code usaPontoFixo}.
+     */
+    @Test
+    @DisplayName("Deve produzir primeira prestação, média e total iguais aos do cronograma completo")
+    void deveCoincidirComCronogramaCompleto() {
+        for (KernelCalculo kernel : KernelCalculo.values()) {
+            CalculadoraParcelasStrategy sac = sac(kernel);
+            CalculadoraParcelasStrategy price = price(kernel);
+            CalculoGrade calculo = new CalculoGrade(sac, PRAZOS);
+
+            for (String taxaTexto : TAXAS) {
+                Produto produto = new Produto();
+                produto.setPcTaxaJuros(new BigDecimal(taxaTexto));
+                BigDecimal taxa = produto.getPcTaxaJuros().setScale(4, RoundingMode.HALF_UP);
+
+                for (String valorTexto : VALORES) {
+                    BigDecimal valor = new BigDecimal(valorTexto);
+                    for (int k = 0; k < PRAZOS.length; k++) {
+                        String contexto = String.format("kernel=%s valor=%s taxa=%s prazo=%d", kernel, valor, taxa, PRAZOS[k]);
+                        comparar(sac.calcularParcelas(valor, taxa, PRAZOS[k]), calculo.resumirSac(valor, produto, k), contexto);
+                        comparar(price.calcularParcelas(valor, taxa, PRAZOS[k]), calculo.resumirPrice(valor, produto, k), contexto);
+                    }
+                }
+            }
+        }
+    }
+
+    private static CalculadoraParcelasStrategy sac(KernelCalculo kernel) {
+        return new SacCalculadoraStrategy() {
+            @Override
+            public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+                return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+            }
+        };
+    }
+
+    private static CalculadoraParcelasStrategy price(KernelCalculo kernel) {
+        return new PriceCalculadoraStrategy() {
+            @Override
+            public boolean usaPontoFixo(BigDecimal valorFinanciado, BigDecimal taxaMensal) {
+                return kernel == KernelCalculo.PONTO_FIXO && AmortizacaoPontoFixo.suporta(valorFinanciado, taxaMensal);
+            }
+        };
+    }
+
+    private static void comparar(List<ParcelaDTO> parcelas, ResumoPrestacoesDTO resumo, String contexto) {
+        BigDecimal total = parcelas.stream()
+            .map(ParcelaDTO::getValorPrestacao)
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .setScale(2, RoundingMode.HALF_UP);
+
+        assertEquals(parcelas.get(0).getValorPrestacao(), resumo.getPrimeiraPrestacao(), contexto);
+        assertEquals(total, resumo.getValorTotal(), contexto);
+        assertEquals(total.divide(BigDecimal.valueOf(parcelas.size()), 2, RoundingMode.HALF_UP), resumo.getPrestacaoMedia(), contexto);
+    }
+}
@@ -0,0 +1,70 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.entity.remote.Produto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark da escolha do produto elegível: varredura da lista contra o índice, em catálogos de
+ * 10 a 100 mil produtos. Executar com {@code mvn test -Dtest=IndiceElegibilidadeBenchmark}.
+ */
+@DisplayName("Benchmark do índice de elegibilidade")
+class IndiceElegibilidadeBenchmark {
+
+    private static final int[] CATALOGOS = {10, 100, 1_000, 10_000, 100_000};
+
+    private static final int CONSULTAS = 1_024;
+
+    @Test
+    @DisplayName("Latência por consulta: varredura versus índice")
+    void medirLatenciaPorConsulta() {
+        ProdutoElegibilidadeService elegibilidade = new ProdutoElegibilidadeService();
+
+        System.out.printf("%-10s %-14s %-16s %-16s%n", "produtos", "construção", "varredura", "índice");
+        for (int quantidade : CATALOGOS) {
+            Random random = new Random(quantidade);
+            List<Produto> produtos = IndiceElegibilidadeTest.catalogoAleatorio(random, quantidade);
+            BigDecimal[] valores = new BigDecimal[CONSULTAS];
+            int[] prazos = new int[CONSULTAS];
+            for (int i = 0; i < CONSULTAS; i++) {
+                valores[i] = BigDecimal.valueOf(10_000 + random.nextInt(40_000_000), 2);
+                prazos[i] = 1 + random.nextInt(150);
+            }
+
+            var construcao = Medicao.medir("construção", 2, 3, () -> IndiceElegibilidade.criar(produtos));
+            IndiceElegibilidade indice = IndiceElegibilidade.criar(produtos);
+            for (int i = 0; i < CONSULTAS; i++) {
+                assertEquals(elegibilidade.encontrarProdutoPorSimulacao(produtos, valores[i], prazos[i]),
+                    indice.encontrarMelhorProduto(valores[i], prazos[i]));
+            }
+
+            int iteracoes = Math.max(3, 2_000_000 / (quantidade * CONSULTAS));
+            var varredura = Medicao.medir("varredura", iteracoes, iteracoes, () -> {
+                Object ultimo = null;
+                for (int i = 0; i < CONSULTAS; i++) {
+                    ultimo = elegibilidade.encontrarProdutoPorSimulacao(produtos, valores[i], prazos[i]);
+                }
+                return ultimo;
+            });
+            var consultaIndice = Medicao.medir("índice", 200, 200, () -> {
+                Object ultimo = null;
+                for (int i = 0; i < CONSULTAS; i++) {
+                    ultimo = indice.encontrarMelhorProduto(valores[i], prazos[i]);
+                }
+                return ultimo;
+            });
+
+            System.out.printf("%-10d %10.2f ms %12.3f us/op %12.3f us/op%n", quantidade,
+                construcao.microsPorOperacao() / 1_000.0,
+                varredura.microsPorOperacao() / CONSULTAS,
+                consultaIndice.microsPorOperacao() / CONSULTAS);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.exception.ProdutoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Índice de elegibilidade de produtos")
+class IndiceElegibilidadeTest {
+
+    private final ProdutoElegibilidadeService elegibilidade = new ProdutoElegibilidadeService();
+
+    @Test
+    @DisplayName("Deve escolher o mesmo produto da varredura em catálogos aleatórios")
+    void deveCoincidirComVarredura() {
+        Random random = new Random(20241017L);
+        for (int catalogo = 0; catalogo < 200; catalogo++) {
+            List<Produto> produtos = catalogoAleatorio(random, 1 + random.nextInt(40));
+            IndiceElegibilidade indice = IndiceElegibilidade.criar(produtos);
+
+            for (BigDecimal valor : valoresDeConsulta(produtos, random)) {
+                for (int prazo = -1; prazo <= 130; prazo++) {
+                    Optional<Produto> esperado = elegibilidade.encontrarProdutoPorSimulacao(produtos, valor, prazo);
+                    Optional<Produto> obtido = indice.encontrarMelhorProduto(valor, prazo);
+                    assertSame(esperado.orElse(null), obtido.orElse(null),
+                        "catalogo=" + catalogo + " valor=" + valor + " prazo=" + prazo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preferir o primeiro produto do catálogo no empate de taxa")
+    void devePreferirPrimeiroNoEmpate() {
+        Produto primeiro = produto(1, "0.0150", 1, 24, "100.00", "5000.00");
+        Produto segundo = produto(2, "0.0150", 1, 24, "100.00", "5000.00");
+
+        assertSame(primeiro, IndiceElegibilidade.criar(List.of(primeiro, segundo))
+            .encontrarMelhorProduto(new BigDecimal("1000"), 12).orElseThrow());
+        assertSame(segundo, IndiceElegibilidade.criar(List.of(segundo, primeiro))
+            .encontrarMelhorProduto(new BigDecimal("1000"), 12).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve tratar limites nulos como abertos e os informados como fechados")
+    void deveTratarLimites() {
+        Produto semLimites = produto(1, "0.0300", null, null, null, null);
+        Produto faixa = produto(2, "0.0100", 12, 24, "1000.00", "2000.00");
+        IndiceElegibilidade indice = IndiceElegibilidade.criar(List.of(semLimites, faixa));
+
+        assertSame(faixa, indice.encontrarMelhorProduto(new BigDecimal("1000"), 12).orElseThrow());
+        assertSame(faixa, indice.encontrarMelhorProduto(new BigDecimal("2000.000"), 24).orElseThrow());
+        assertSame(semLimites, indice.encontrarMelhorProduto(new BigDecimal("2000.001"), 24).orElseThrow());
+        assertSame(semLimites, indice.encontrarMelhorProduto(new BigDecimal("999.99"), 12).orElseThrow());
+        assertSame(semLimites, indice.encontrarMelhorProduto(new BigDecimal("1500"), 25).orElseThrow());
+        assertSame(semLimites, indice.encontrarMelhorProduto(new BigDecimal("1E+12"), 10_000).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve manter as exceções da busca sobre a lista")
+    void deveManterExcecoes() {
+        Produto produto = produto(1, "0.0179", 0, 24, "200.00", "10000.00");
+
+        assertThrows(ProdutoException.class, () -> elegibilidade.encontrarMelhorProdutoOptional(
+            IndiceElegibilidade.criar(List.of()), new BigDecimal("1000"), 12));
+        assertThrows(ProdutoException.class, () -> elegibilidade.encontrarMelhorProdutoOptional(
+            IndiceElegibilidade.criar(List.of(produto)), new BigDecimal("20000"), 12));
+        assertTrue(elegibilidade.encontrarProdutoPorSimulacao(
+            IndiceElegibilidade.criar(null), new BigDecimal("1000"), 12).isEmpty());
+    }
+
+    static List<Produto> catalogoAleatorio(Random random, int quantidade) {
+        List<Produto> produtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int prazoMinimo = random.nextInt(100);
+            int prazoMaximo = prazoMinimo + random.nextInt(60);
+            long valorMinimo = 100 + random.nextInt(1_000_000);
+            long valorMaximo = valorMinimo + random.nextInt(2_000_000);
+            produtos.add(produto(i + 1,
+                BigDecimal.valueOf(100 + random.nextInt(50), 4).toPlainString(),
+                random.nextInt(10) == 0 ? null : prazoMinimo,
+                random.nextInt(10) == 0 ? null : prazoMaximo,
+                random.nextInt(10) == 0 ? null : BigDecimal.valueOf(valorMinimo, 2).toPlainString(),
+                random.nextInt(10) == 0 ? null : BigDecimal.valueOf(valorMaximo, 2).toPlainString()));
+        }
+        return produtos;
+    }
+
+    static List<BigDecimal> valoresDeConsulta(List<Produto> produtos, Random random) {
+        List<BigDecimal> valores = new ArrayList<>();
+        BigDecimal delta = new BigDecimal("0.001");
+        for (Produto produto : produtos) {
+            for (BigDecimal limite : new BigDecimal[]{produto.getVrMinimo(), produto.getVrMaximo()}) {
+                if (limite != null) {
+                    valores.add(limite);
+                    valores.add(limite.subtract(delta));
+                    valores.add(limite.add(delta));
+                }
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            valores.add(BigDecimal.valueOf(random.nextInt(40_000_000), 2));
+        }
+        return valores;
+    }
+
+    private static Produto produto(int codigo, String taxa, Integer prazoMinimo, Integer prazoMaximo,
+                                   String valorMinimo, String valorMaximo) {
+        Produto produto = new Produto();
+        produto.setCoProduto(codigo);
+        produto.setNoProduto("Produto " + codigo);
+        produto.setPcTaxaJuros(new BigDecimal(taxa));
+        produto.setNuMinimoMeses(prazoMinimo == null ? null : prazoMinimo.shortValue());
+        produto.setNuMaximoMeses(prazoMaximo == null ? null : prazoMaximo.shortValue());
+        produto.setVrMinimo(valorMinimo == null ? null : new BigDecimal(valorMinimo));
+        produto.setVrMaximo(valorMaximo == null ? null : new BigDecimal(valorMaximo));
+        return produto;
+    }
+}
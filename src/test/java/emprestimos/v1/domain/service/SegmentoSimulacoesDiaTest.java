@@ -0,0 +1,150 @@
+package emprestimos.v1.domain.service;
+
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Segmento das simulações do dia em memória")
+class SegmentoSimulacoesDiaTest {
+
+    private static final LocalDate DIA = LocalDate.of(2025, 8, 20);
+
+    @Test
+    @DisplayName("Deve devolver as simulações na ordem do id, com os valores gravados")
+    void deveDevolverNaOrdemDoId() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 10_000);
+        for (long id = 1; id <= 2_000; id++) {
+            segmento.adicionar(simulacao(id * 2, (int) (id % 3) + 1, "1000.5"));
+        }
+        segmento.adicionar(simulacao(3L, 1, "250.10"));
+        segmento.concluirCarga();
+
+        var todas = percorrer(segmento, null);
+        assertEquals(2_001, todas.size());
+        assertEquals(List.of(2L, 3L, 4L), todas.subList(0, 3).stream().map(SimulacaoDoDia::id).toList());
+
+        var terceira = todas.get(1);
+        assertEquals(1, terceira.coProduto());
+        assertEquals(new BigDecimal("250.10"), terceira.valorDesejado());
+        assertEquals(new BigDecimal("0.0179"), terceira.taxaMediaJuros());
+        assertNull(terceira.valorMedioPrestacao());
+        assertEquals(24L, terceira.prazo());
+    }
+
+    @Test
+    @DisplayName("Deve manter os índices na ordem do id com linhas fora de ordem, sem alterar uma consulta em curso")
+    void deveManterIndicesOrdenados() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 10_000);
+        var ids = new ArrayList<Long>();
+        for (long id = 1; id <= 500; id++) {
+            ids.add(id);
+        }
+        Collections.shuffle(ids, new Random(7));
+        ids.forEach(id -> segmento.adicionar(simulacao(id, (int) (id % 2) + 1, "100.00")));
+        segmento.concluirCarga();
+
+        var todas = percorrer(segmento, null).stream().map(SimulacaoDoDia::id).toList();
+        assertEquals(ids.stream().sorted().toList(), todas);
+        var doProduto = percorrer(segmento, 2).stream().map(SimulacaoDoDia::id).toList();
+        assertEquals(ids.stream().filter(id -> id % 2 == 1).sorted().toList(), doProduto);
+
+        var vistas = new ArrayList<Long>();
+        segmento.percorrer(2, simulacao -> {
+            if (vistas.isEmpty()) {
+                segmento.adicionar(simulacao(0L, 2, "100.00"));
+                segmento.adicionar(simulacao(1_001L, 2, "100.00"));
+            }
+            vistas.add(simulacao.id());
+        });
+        assertEquals(doProduto, vistas);
+        assertEquals(List.of(0L, 1L, 3L), percorrer(segmento, 2).subList(0, 3).stream().map(SimulacaoDoDia::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar pelo índice do produto")
+    void deveFiltrarPorProduto() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 100);
+        segmento.adicionar(simulacao(1L, 1, "100.00"));
+        segmento.adicionar(simulacao(2L, 2, "200.00"));
+        segmento.adicionar(simulacao(3L, null, "300.00"));
+        segmento.adicionar(simulacao(4L, 1, "400.00"));
+        segmento.concluirCarga();
+
+        assertEquals(List.of(1L, 4L), percorrer(segmento, 1).stream().map(SimulacaoDoDia::id).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L), percorrer(segmento, null).stream().map(SimulacaoDoDia::id).toList());
+        assertTrue(percorrer(segmento, 9).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve resumir por produto como o resumo diário gravado")
+    void deveResumirPorProduto() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 100);
+        segmento.adicionar(simulacao(1L, 2, "100.00"));
+        segmento.adicionar(simulacao(2L, 1, "200.00"));
+        segmento.adicionar(simulacao(3L, 2, "300.05"));
+        segmento.adicionar(simulacao(4L, null, "400.00"));
+        segmento.concluirCarga();
+
+        var resumos = segmento.resumir(null);
+        assertEquals(List.of(1, 2), resumos.stream().map(resumo -> resumo.getCoProduto()).toList());
+        var produto2 = resumos.get(1);
+        assertEquals(DIA, produto2.getDataReferencia());
+        assertEquals(2L, produto2.getQuantidade());
+        assertEquals(new BigDecimal("400.05"), produto2.getSomaValorDesejado());
+        assertEquals(new BigDecimal("0.0358"), produto2.getSomaTaxaJuros());
+        assertEquals(new BigDecimal("0.00"), produto2.getSomaValorMedioPrestacao());
+        assertEquals(new BigDecimal("800.10"), produto2.getSomaValorTotalCredito());
+
+        assertEquals(1, segmento.resumir(1).size());
+        assertTrue(segmento.resumir(9).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar na carga a simulação já registrada e ficar disponível só ao concluir")
+    void deveIgnorarRepetidasDuranteCarga() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 100);
+        assertTrue(segmento.adicionar(simulacao(7L, 1, "100.00")));
+        assertFalse(segmento.disponivel());
+
+        assertFalse(segmento.adicionar(simulacao(7L, 1, "100.00")));
+        assertTrue(segmento.adicionar(simulacao(5L, 1, "100.00")));
+        segmento.concluirCarga();
+
+        assertTrue(segmento.disponivel());
+        assertEquals(List.of(5L, 7L), percorrer(segmento, 1).stream().map(SimulacaoDoDia::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve deixar de estar disponível ao atingir o limite de linhas")
+    void deveEsgotarNoLimite() {
+        var segmento = new SegmentoSimulacoesDia(DIA, 2);
+        segmento.concluirCarga();
+        assertTrue(segmento.adicionar(simulacao(1L, 1, "100.00")));
+        assertTrue(segmento.adicionar(simulacao(2L, 1, "100.00")));
+        assertTrue(segmento.disponivel());
+
+        assertFalse(segmento.adicionar(simulacao(3L, 1, "100.00")));
+        assertFalse(segmento.disponivel());
+    }
+
+    private static List<SimulacaoDoDia> percorrer(SegmentoSimulacoesDia segmento, Integer coProduto) {
+        var simulacoes = new ArrayList<SimulacaoDoDia>();
+        segmento.percorrer(coProduto, simulacoes::add);
+        return simulacoes;
+    }
+
+    private static SimulacaoDoDia simulacao(Long id, Integer coProduto, String valor) {
+        var valorDesejado = new BigDecimal(valor);
+        return new SimulacaoDoDia(id, coProduto, valorDesejado, 24L, new BigDecimal("0.0179"), null,
+                valorDesejado, valorDesejado.multiply(BigDecimal.valueOf(2)));
+    }
+}
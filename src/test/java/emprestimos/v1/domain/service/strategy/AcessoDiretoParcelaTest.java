@@ -0,0 +1,134 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Acesso direto a parcela, saldo e total sem o cronograma completo")
+class AcessoDiretoParcelaTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.0179", "0.1200"};
+
+    private static final int[] PRAZOS = {1, 2, 3, 12, 24, 96, 360, 420, 600};
+
+    @Test
+    @DisplayName("Deve coincidir com o cronograma iterativo no kernel de ponto fixo")
+    void deveCoincidirComCronogramaEmPontoFixo() {
+        compararGrade(KernelCalculo.PONTO_FIXO);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com o cronograma iterativo no kernel BigDecimal")
+    void deveCoincidirComCronogramaEmBigDecimal() {
+        compararGrade(KernelCalculo.BIG_DECIMAL);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com o cronograma iterativo para combinações aleatórias")
+    void deveCoincidirParaCombinacoesAleatorias() {
+        CalculadoraParcelasStrategy sac = sac(KernelCalculo.PONTO_FIXO);
+        CalculadoraParcelasStrategy price = price(KernelCalculo.PONTO_FIXO);
+        Random random = new Random(20240901L);
+        for (int i = 0; i < 500; i++) {
+            BigDecimal valor = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000L), 2);
+            BigDecimal taxa = BigDecimal.valueOf(1 + random.nextInt(1500), 4);
+            int prazo = 1 + random.nextInt(600);
+            comparar(sac, valor, taxa, prazo);
+            comparar(price, valor, taxa, prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve somar os juros SAC pela soma de pisos igual à soma direta")
+    void deveSomarPisosComoSomaDireta() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 2000; i++) {
+            long n = 1 + random.nextInt(700);
+            long m = 1 + random.nextInt(50_000);
+            long a = random.nextInt(1_000_000);
+            long b = random.nextInt(1_000_000);
+            long esperado = 0;
+            for (long j = 0; j < n; j++) {
+                esperado += Math.floorDiv(a * j + b, m);
+            }
+            assertEquals(esperado, AmortizacaoPontoFixo.somarPisos(n, m, a, b));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar números de parcela fora do prazo")
+    void deveRejeitarParcelaForaDoPrazo() {
+        CalculadoraParcelasStrategy price = price(KernelCalculo.PONTO_FIXO);
+        BigDecimal valor = new BigDecimal("10000.00");
+        BigDecimal taxa = new BigDecimal("0.0179");
+
+        assertThrows(IllegalArgumentException.class, () -> price.calcularParcela(valor, taxa, 12, 0));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularParcela(valor, taxa, 12, 13));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularSaldoApos(valor, taxa, 12, -1));
+        assertEquals(valor, price.calcularSaldoApos(valor, taxa, 12, 0));
+    }
+
+    private void compararGrade(KernelCalculo kernel) {
+        CalculadoraParcelasStrategy sac = sac(kernel);
+        CalculadoraParcelasStrategy price = price(kernel);
+        for (String valorTexto : VALORES) {
+            for (String taxaTexto : TAXAS) {
+                for (int prazo : PRAZOS) {
+                    comparar(sac, new BigDecimal(valorTexto), new BigDecimal(taxaTexto), prazo);
+                    comparar(price, new BigDecimal(valorTexto), new BigDecimal(taxaTexto), prazo);
+                }
+            }
+        }
+    }
+
+    private void comparar(CalculadoraParcelasStrategy estrategia, BigDecimal valor, BigDecimal taxa, int prazo) {
+        String contexto = estrategia.getClass().getSimpleName() + " valor=" + valor + " taxa=" + taxa + " prazo=" + prazo;
+        List<ParcelaDTO> cronograma = estrategia.calcularParcelas(valor, taxa, prazo);
+
+        BigDecimal total = cronograma.stream()
+            .map(ParcelaDTO::getValorPrestacao)
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .setScale(2, RoundingMode.HALF_UP);
+        assertEquals(total, estrategia.calcularValorTotalPrestacoes(valor, taxa, prazo), contexto);
+
+        BigDecimal saldo = valor;
+        for (int k = 1; k <= prazo; k++) {
+            ParcelaDTO esperada = cronograma.get(k - 1);
+            assertEquals(esperada, estrategia.calcularParcela(valor, taxa, prazo, k), contexto + " k=" + k);
+
+            saldo = saldo.subtract(esperada.getValorAmortizacao());
+            assertEquals(saldo, estrategia.calcularSaldoApos(valor, taxa, prazo, k), contexto + " k=" + k);
+        }
+
+        BigDecimal residuoFinal = saldo;
+        saldo = valor;
+        for (int k = 0; k <= prazo; k++) {
+            if (k > 0) {
+                saldo = saldo.subtract(cronograma.get(k - 1).getValorAmortizacao());
+            }
+            assertEquals(saldo.subtract(residuoFinal), estrategia.calcularSaldoDevedor(valor, taxa, prazo, k), contexto + " k=" + k);
+        }
+    }
+
+    private static SacCalculadoraStrategy sac(KernelCalculo kernel) {
+        SacCalculadoraStrategy sac = new SacCalculadoraStrategy();
+        sac.kernel = kernel;
+        return sac;
+    }
+
+    private static PriceCalculadoraStrategy price(KernelCalculo kernel) {
+        PriceCalculadoraStrategy price = new PriceCalculadoraStrategy();
+        price.kernel = kernel;
+        return price;
+    }
+}
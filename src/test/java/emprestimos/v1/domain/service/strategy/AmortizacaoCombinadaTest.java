@@ -0,0 +1,66 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cálculo combinado SAC e PRICE em um único laço")
+class AmortizacaoCombinadaTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.0179", "0.1200"};
+
+    private final SacCalculadoraStrategy sac = new SacCalculadoraStrategy();
+    private final PriceCalculadoraStrategy price = new PriceCalculadoraStrategy();
+
+    @Test
+    @DisplayName("Deve produzir os mesmos cronogramas e totais das estratégias separadas")
+    void deveCoincidirComEstrategiasSeparadas() {
+        for (String valorTexto : VALORES) {
+            for (String taxaTexto : TAXAS) {
+                for (int prazo = 1; prazo <= 420; prazo += 7) {
+                    comparar(new BigDecimal(valorTexto), new BigDecimal(taxaTexto), prazo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com as estratégias separadas para combinações aleatórias")
+    void deveCoincidirParaCombinacoesAleatorias() {
+        Random random = new Random(20240905L);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal valor = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000L), 2);
+            BigDecimal taxa = BigDecimal.valueOf(1 + random.nextInt(1500), 4);
+            comparar(valor, taxa, 1 + random.nextInt(600));
+        }
+    }
+
+    private void comparar(BigDecimal valor, BigDecimal taxa, int prazo) {
+        String contexto = "valor=" + valor + " taxa=" + taxa + " prazo=" + prazo;
+        AmortizacaoCombinada.Resultado combinado = AmortizacaoCombinada.calcular(valor, taxa, prazo);
+
+        List<ParcelaDTO> parcelasSac = sac.calcularParcelasBigDecimal(valor, taxa, prazo);
+        List<ParcelaDTO> parcelasPrice = price.calcularParcelasBigDecimal(valor, taxa, prazo);
+
+        assertEquals(parcelasSac, combinado.parcelasSac(), contexto);
+        assertEquals(parcelasPrice, combinado.parcelasPrice(), contexto);
+        assertEquals(somar(parcelasSac), combinado.valorTotalSac(), contexto);
+        assertEquals(somar(parcelasPrice), combinado.valorTotalPrice(), contexto);
+    }
+
+    private static BigDecimal somar(List<ParcelaDTO> parcelas) {
+        return parcelas.stream()
+            .map(ParcelaDTO::getValorPrestacao)
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,155 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Equivalência entre o kernel de ponto fixo e o cálculo BigDecimal")
+class AmortizacaoPontoFixoEquivalenciaTest {
+
+    private static final String[] VALORES = {
+        "0.01", "1", "200.00", "999.99", "9999.99", "10000", "10001.00",
+        "123456.78", "1000000.01", "99999999.99"
+    };
+
+    private static final String[] TAXAS = {
+        "0.0001", "0.0050", "0.0151", "0.0175", "0.0179", "0.0182", "0.0500", "0.1200"
+    };
+
+    private static final int PRAZO_MAXIMO = 420;
+
+    private SacCalculadoraStrategy sac;
+    private PriceCalculadoraStrategy price;
+
+    @BeforeEach
+    void setup() {
+        sac = new SacCalculadoraStrategy();
+        price = new PriceCalculadoraStrategy();
+    }
+
+    @Test
+    @DisplayName("Deve produzir parcelas idênticas em toda a grade de valor, prazo e taxa")
+    void deveProduzirParcelasIdenticasNaGrade() {
+        for (String valorTexto : VALORES) {
+            BigDecimal valor = new BigDecimal(valorTexto);
+            for (String taxaTexto : TAXAS) {
+                BigDecimal taxa = new BigDecimal(taxaTexto);
+                assertTrue(AmortizacaoPontoFixo.suporta(valor, taxa));
+                for (int prazo = 1; prazo <= PRAZO_MAXIMO; prazo++) {
+                    compararSac(valor, taxa, prazo);
+                    compararPrice(valor, taxa, prazo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir parcelas idênticas para combinações aleatórias")
+    void deveProduzirParcelasIdenticasParaCombinacoesAleatorias() {
+        Random random = new Random(20240823L);
+        for (int i = 0; i < 3000; i++) {
+            BigDecimal valor = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000L), random.nextInt(3));
+            BigDecimal taxa = BigDecimal.valueOf(1 + random.nextInt(1500), 4);
+            int prazo = 1 + random.nextInt(600);
+            compararSac(valor, taxa, prazo);
+            compararPrice(valor, taxa, prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir o arredondamento HALF_UP do BigDecimal, inclusive para negativos")
+    void deveReproduzirArredondamentoHalfUp() {
+        long[] divisores = {1, 2, 3, 7, 10_000, 420};
+        for (long divisor : divisores) {
+            for (long dividendo = -50_000; dividendo <= 50_000; dividendo += 7) {
+                long esperado = BigDecimal.valueOf(dividendo)
+                        .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                        .longValueExact();
+                assertEquals(esperado, AmortizacaoPontoFixo.arredondarHalfUp(dividendo, divisor),
+                        dividendo + " / " + divisor);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recorrer ao BigDecimal quando os parâmetros não cabem em ponto fixo")
+    void deveRecorrerAoBigDecimalQuandoNaoSuportado() {
+        BigDecimal valorComTresCasas = new BigDecimal("10000.005");
+        BigDecimal taxaComCincoCasas = new BigDecimal("0.01795");
+
+        assertFalse(AmortizacaoPontoFixo.suporta(valorComTresCasas, new BigDecimal("0.0179")));
+        assertFalse(AmortizacaoPontoFixo.suporta(new BigDecimal("10000"), taxaComCincoCasas));
+
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price.kernel = KernelCalculo.PONTO_FIXO;
+
+        assertParcelasIdenticas(
+                sac.calcularParcelasBigDecimal(valorComTresCasas, taxaComCincoCasas, 36),
+                sac.calcularParcelas(valorComTresCasas, taxaComCincoCasas, 36));
+        assertParcelasIdenticas(
+                price.calcularParcelasBigDecimal(valorComTresCasas, taxaComCincoCasas, 36),
+                price.calcularParcelas(valorComTresCasas, taxaComCincoCasas, 36));
+    }
+
+    @Test
+    @DisplayName("Deve selecionar o kernel configurado em cada estratégia")
+    void deveSelecionarKernelConfigurado() {
+        BigDecimal valor = new BigDecimal("10000.00");
+        BigDecimal taxa = new BigDecimal("0.0179");
+
+        // O kernel de ponto fixo devolve o cronograma colunar; o BigDecimal, a lista de parcelas.
+        sac.kernel = KernelCalculo.BIG_DECIMAL;
+        price.kernel = KernelCalculo.PONTO_FIXO;
+
+        assertFalse(sac.usaPontoFixo(valor, taxa));
+        assertInstanceOf(ArrayList.class, sac.calcularParcelas(valor, taxa, 24));
+        assertTrue(price.usaPontoFixo(valor, taxa));
+        assertInstanceOf(CronogramaColunar.class, price.calcularParcelas(valor, taxa, 24));
+
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price.kernel = KernelCalculo.BIG_DECIMAL;
+
+        assertTrue(sac.usaPontoFixo(valor, taxa));
+        assertInstanceOf(CronogramaColunar.class, sac.calcularParcelas(valor, taxa, 24));
+        assertFalse(price.usaPontoFixo(valor, taxa));
+        assertInstanceOf(ArrayList.class, price.calcularParcelas(valor, taxa, 24));
+
+        assertParcelasIdenticas(sac.calcularParcelasBigDecimal(valor, taxa, 24), sac.calcularParcelas(valor, taxa, 24));
+        assertParcelasIdenticas(price.calcularParcelasPontoFixo(valor, taxa, 24), price.calcularParcelas(valor, taxa, 24));
+    }
+
+    private void compararSac(BigDecimal valor, BigDecimal taxa, int prazo) {
+        assertParcelasIdenticas(
+                sac.calcularParcelasBigDecimal(valor, taxa, prazo),
+                sac.calcularParcelasPontoFixo(valor, taxa, prazo));
+    }
+
+    private void compararPrice(BigDecimal valor, BigDecimal taxa, int prazo) {
+        assertParcelasIdenticas(
+                price.calcularParcelasBigDecimal(valor, taxa, prazo),
+                price.calcularParcelasPontoFixo(valor, taxa, prazo));
+    }
+
+    private void assertParcelasIdenticas(List<ParcelaDTO> esperadas, List<ParcelaDTO> obtidas) {
+        assertEquals(esperadas.size(), obtidas.size(), "Quantidade de parcelas divergente");
+        for (int i = 0; i < esperadas.size(); i++) {
+            ParcelaDTO esperada = esperadas.get(i);
+            ParcelaDTO obtida = obtidas.get(i);
+            // equals de BigDecimal compara valor e escala
+            assertEquals(esperada.getNumero(), obtida.getNumero());
+            assertEquals(esperada.getValorAmortizacao(), obtida.getValorAmortizacao(), "Amortização da parcela " + (i + 1));
+            assertEquals(esperada.getValorJuros(), obtida.getValorJuros(), "Juros da parcela " + (i + 1));
+            assertEquals(esperada.getValorPrestacao(), obtida.getValorPrestacao(), "Prestação da parcela " + (i + 1));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark do cálculo em lote contra o laço de {@code calcularParcelas} por simulação, em um
+ * único núcleo. Executar com {@code mvn test -Dtest=CalculoEmLoteBenchmark}.
+ */
+@DisplayName("Benchmark do cálculo em lote")
+class CalculoEmLoteBenchmark {
+
+    private static final int[] LOTES = {8, 64, 1_024};
+
+    private static final int[] PRAZOS = {12, 96, 360};
+
+    @Test
+    @DisplayName("Vazão por núcleo: laço por simulação versus lote")
+    void medirVazaoPorNucleo() {
+        SacCalculadoraStrategy sac = new SacCalculadoraStrategy();
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        PriceCalculadoraStrategy price = new PriceCalculadoraStrategy();
+        price.kernel = KernelCalculo.PONTO_FIXO;
+
+        System.out.printf("%-6s %-6s %-6s %-30s %-30s%n", "tipo", "lote", "prazo", "laço", "lote");
+        for (int quantidade : LOTES) {
+            List<BigDecimal> valores = new ArrayList<>();
+            List<BigDecimal> taxas = new ArrayList<>();
+            Random random = new Random(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                valores.add(BigDecimal.valueOf(20_000 + (long) (random.nextDouble() * 100_000_000L), 2));
+                taxas.add(BigDecimal.valueOf(100 + random.nextInt(200), 4));
+            }
+
+            for (int prazo : PRAZOS) {
+                medir("SAC", sac, valores, taxas, prazo);
+                medir("PRICE", price, valores, taxas, prazo);
+            }
+        }
+    }
+
+    private static void medir(String tipo, CalculadoraParcelasStrategy estrategia, List<BigDecimal> valores,
+                              List<BigDecimal> taxas, int prazo) {
+        int quantidade = valores.size();
+        int iteracoes = Math.max(50, 2_000_000 / (quantidade * prazo));
+
+        var laco = Medicao.medir("laço", iteracoes, iteracoes, () -> {
+            List<List<ParcelaDTO>> cronogramas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                cronogramas.add(estrategia.calcularParcelas(valores.get(i), taxas.get(i), prazo));
+            }
+            return cronogramas;
+        });
+        var lote = Medicao.medir("lote", iteracoes, iteracoes,
+            () -> estrategia.calcularParcelasEmLote(valores, taxas, prazo));
+        assertEquals(estrategia.calcularParcelas(valores.get(0), taxas.get(0), prazo),
+            estrategia.calcularParcelasEmLote(valores, taxas, prazo).get(0));
+
+        System.out.printf("%-6s %-6d %-6d %8.3f us/sim %10.0f sim/s   %8.3f us/sim %10.0f sim/s%n",
+            tipo, quantidade, prazo,
+            laco.microsPorOperacao() / quantidade, quantidade * 1e9 / laco.nanosPorOperacao(),
+            lote.microsPorOperacao() / quantidade, quantidade * 1e9 / lote.nanosPorOperacao());
+    }
+}
@@ -0,0 +1,101 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cálculo de cronogramas em lote")
+class CalculoEmLoteTest {
+
+    private static final int[] PRAZOS = {1, 2, 12, 96, 360, 600};
+
+    private SacCalculadoraStrategy sac;
+    private PriceCalculadoraStrategy price;
+
+    @BeforeEach
+    void setup() {
+        sac = new SacCalculadoraStrategy();
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price = new PriceCalculadoraStrategy();
+        price.kernel = KernelCalculo.PONTO_FIXO;
+    }
+
+    @Test
+    @DisplayName("Deve produzir os mesmos cronogramas do cálculo individual")
+    void deveCoincidirComCalculoIndividual() {
+        Random random = new Random(20240915L);
+        // 21 simulações: blocos completos e um bloco parcial de raias
+        List<BigDecimal> valores = new ArrayList<>();
+        List<BigDecimal> taxas = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            valores.add(BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000L), 2));
+            taxas.add(BigDecimal.valueOf(1 + random.nextInt(1500), 4));
+        }
+
+        for (int prazo : PRAZOS) {
+            comparar(sac, valores, taxas, prazo);
+            comparar(price, valores, taxas, prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve calcular individualmente as simulações fora do ponto fixo, preservando a ordem")
+    void deveMisturarPontoFixoECalculoIndividual() {
+        List<BigDecimal> valores = List.of(
+                new BigDecimal("10000.00"),
+                new BigDecimal("10000.005"),
+                new BigDecimal("99999999.99"),
+                new BigDecimal("5000.00"),
+                new BigDecimal("250000.00"));
+        List<BigDecimal> taxas = List.of(
+                new BigDecimal("0.0179"),
+                new BigDecimal("0.0179"),
+                new BigDecimal("0.0151"),
+                new BigDecimal("0.017999"),
+                new BigDecimal("0.0120"));
+
+        for (CalculadoraParcelasStrategy estrategia : List.of(sac, price)) {
+            List<List<ParcelaDTO>> lote = comparar(estrategia, valores, taxas, 120);
+            assertInstanceOf(CronogramaColunar.class, lote.get(0));
+            assertFalse(lote.get(1) instanceof CronogramaColunar);
+            assertFalse(lote.get(3) instanceof CronogramaColunar);
+        }
+
+        sac.kernel = KernelCalculo.BIG_DECIMAL;
+        price.kernel = KernelCalculo.BIG_DECIMAL;
+        comparar(sac, valores, taxas, 120);
+        comparar(price, valores, taxas, 120);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar listas de tamanhos diferentes e aceitar lote vazio")
+    void deveValidarEntradas() {
+        List<BigDecimal> valores = List.of(new BigDecimal("10000.00"));
+
+        assertThrows(IllegalArgumentException.class, () -> sac.calcularParcelasEmLote(valores, List.of(), 12));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularParcelasEmLote(valores, List.of(), 12));
+        assertTrue(sac.calcularParcelasEmLote(List.of(), List.of(), 12).isEmpty());
+        assertTrue(price.calcularParcelasEmLote(List.of(), List.of(), 12).isEmpty());
+    }
+
+    private static List<List<ParcelaDTO>> comparar(CalculadoraParcelasStrategy estrategia, List<BigDecimal> valores,
+                                                   List<BigDecimal> taxas, int prazo) {
+        List<List<ParcelaDTO>> lote = estrategia.calcularParcelasEmLote(valores, taxas, prazo);
+
+        assertEquals(valores.size(), lote.size());
+        for (int i = 0; i < valores.size(); i++) {
+            assertEquals(estrategia.calcularParcelas(valores.get(i), taxas.get(i), prazo), lote.get(i),
+                    "indice=" + i + " prazo=" + prazo);
+        }
+        return lote;
+    }
+}
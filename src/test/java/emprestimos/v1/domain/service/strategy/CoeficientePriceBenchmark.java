@@ -0,0 +1,41 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.benchmark.Medicao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark do coeficiente PRICE: potência exata versus potência por quadrados com precisão limitada.
+ * Executar com {@code mvn test -Dtest=CoeficientePriceBenchmark}.
+ */
+@DisplayName("Benchmark do CoeficientePrice")
+class CoeficientePriceBenchmark {
+
+    private static final int[] PRAZOS = {1, 12, 24, 60, 120, 240, 360, 420, 480, 600};
+
+    @Test
+    @DisplayName("Latência e alocação da prestação PRICE por prazo")
+    void medirPrestacaoPorPrazo() {
+        BigDecimal valor = new BigDecimal("250000.00");
+        BigDecimal taxa = new BigDecimal("0.0179");
+
+        System.out.printf("%-8s %-40s %-40s%n", "prazo", "exato", "precisão limitada");
+        for (int prazo : PRAZOS) {
+            final int n = prazo;
+            assertEquals(CoeficientePrice.calcularPrestacaoExata(valor, taxa, n), CoeficientePrice.calcularPrestacao(valor, taxa, n));
+
+            var exato = Medicao.medir("exato", 200, 2_000,
+                () -> CoeficientePrice.calcularPrestacaoExata(valor, taxa, n));
+            var limitado = Medicao.medir("limitado", 200, 2_000,
+                () -> CoeficientePrice.calcularPrestacao(valor, taxa, n));
+
+            System.out.printf("%-8d %10.2f us/op %12.0f B/op      %10.2f us/op %12.0f B/op%n",
+                n, exato.microsPorOperacao(), exato.bytesPorOperacao(),
+                limitado.microsPorOperacao(), limitado.bytesPorOperacao());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package emprestimos.v1.domain.service.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do CoeficientePrice")
+class CoeficientePriceTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99", "999999999999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.0179", "0.0500", "0.1200", "0.9999"};
+
+    @Test
+    @DisplayName("Deve produzir a mesma prestação do cálculo exato para prazos de 1 a 600 meses")
+    void deveProduzirMesmaPrestacaoDoCalculoExato() {
+        for (String valorTexto : VALORES) {
+            BigDecimal valor = new BigDecimal(valorTexto);
+            for (String taxaTexto : TAXAS) {
+                BigDecimal taxa = new BigDecimal(taxaTexto);
+                for (int prazo = 1; prazo <= 600; prazo++) {
+                    assertEquals(
+                        CoeficientePrice.calcularPrestacaoExata(valor, taxa, prazo),
+                        CoeficientePrice.calcularPrestacao(valor, taxa, prazo),
+                        String.format("valor=%s taxa=%s prazo=%d", valor, taxa, prazo));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir a mesma prestação do cálculo exato para combinações aleatórias")
+    void deveProduzirMesmaPrestacaoParaCombinacoesAleatorias() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal valor = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000_000L), random.nextInt(3));
+            BigDecimal taxa = BigDecimal.valueOf(1 + random.nextInt(2000), 4);
+            int prazo = 1 + random.nextInt(600);
+            assertEquals(
+                CoeficientePrice.calcularPrestacaoExata(valor, taxa, prazo),
+                CoeficientePrice.calcularPrestacao(valor, taxa, prazo),
+                String.format("valor=%s taxa=%s prazo=%d", valor, taxa, prazo));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o coeficiente dentro do limite de erro 2nu")
+    void deveManterCoeficienteDentroDoLimiteDeErro() {
+        BigDecimal base = new BigDecimal("1.0179");
+        for (MathContext precisao : CoeficientePrice.PRECISOES) {
+            for (int prazo = 1; prazo <= 600; prazo++) {
+                BigDecimal exato = base.pow(prazo);
+                BigDecimal aproximado = CoeficientePrice.potencia(base, prazo, precisao);
+                BigDecimal erroRelativo = aproximado.subtract(exato).abs().divide(exato, MathContext.DECIMAL64);
+                BigDecimal limite = BigDecimal.valueOf(5, precisao.getPrecision())
+                    .multiply(BigDecimal.valueOf(2L * prazo));
+                assertTrue(erroRelativo.compareTo(limite) <= 0,
+                    "precisao=" + precisao.getPrecision() + " prazo=" + prazo + " erro=" + erroRelativo);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preservar o comportamento do cálculo exato para taxa zero e prazo inválido")
+    void devePreservarComportamentoParaParametrosDegenerados() {
+        BigDecimal valor = new BigDecimal("10000.00");
+        assertThrows(ArithmeticException.class, () -> CoeficientePrice.calcularPrestacao(valor, BigDecimal.ZERO, 12));
+        assertThrows(ArithmeticException.class, () -> CoeficientePrice.calcularPrestacao(valor, new BigDecimal("0.0179"), 0));
+    }
+}
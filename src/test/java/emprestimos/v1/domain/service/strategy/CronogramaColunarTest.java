@@ -0,0 +1,116 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.CacheCronograma;
+import emprestimos.v1.mapper.FinanceiroMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cronograma colunar em vetores primitivos")
+class CronogramaColunarTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.1200"};
+
+    private static final int[] PRAZOS = {1, 2, 12, 360, 600};
+
+    private SacCalculadoraStrategy sac;
+    private PriceCalculadoraStrategy price;
+
+    @BeforeEach
+    void setup() {
+        sac = new SacCalculadoraStrategy();
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price = new PriceCalculadoraStrategy();
+        price.kernel = KernelCalculo.PONTO_FIXO;
+    }
+
+    @Test
+    @DisplayName("Deve expor as mesmas parcelas, total e saldo do cálculo de referência")
+    void deveCoincidirComCalculoDeReferencia() {
+        for (String valorTexto : VALORES) {
+            for (String taxaTexto : TAXAS) {
+                for (int prazo : PRAZOS) {
+                    BigDecimal valor = new BigDecimal(valorTexto);
+                    BigDecimal taxa = new BigDecimal(taxaTexto);
+                    comparar(sac.calcularParcelasBigDecimal(valor, taxa, prazo), sac.calcularParcelasPontoFixo(valor, taxa, prazo));
+                    comparar(price.calcularParcelasBigDecimal(valor, taxa, prazo), price.calcularParcelasPontoFixo(valor, taxa, prazo));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar uma parcela nova a cada acesso")
+    void deveCriarParcelaNovaACadaAcesso() {
+        CronogramaColunar cronograma = price.calcularParcelasPontoFixo(new BigDecimal("10000.00"), new BigDecimal("0.0179"), 12);
+
+        ParcelaDTO primeira = cronograma.get(0);
+        primeira.addLink("detalhe", "/1");
+        primeira.setValorJuros(BigDecimal.ZERO);
+
+        assertNotSame(primeira, cronograma.get(0));
+        assertTrue(cronograma.get(0).getLinks().isEmpty());
+        assertEquals(cronograma.valorJuros(0), cronograma.get(0).getValorJuros());
+        assertThrows(UnsupportedOperationException.class, () -> cronograma.add(new ParcelaDTO()));
+        assertThrows(IndexOutOfBoundsException.class, () -> cronograma.get(12));
+    }
+
+    @Test
+    @DisplayName("Deve ser armazenado no cache sem materializar as parcelas")
+    void deveSerArmazenadoNoCacheSemMaterializar() {
+        BigDecimal valor = new BigDecimal("50000.00");
+        BigDecimal taxa = new BigDecimal("0.0151");
+        CacheCronograma cache = new CacheCronograma(1_000);
+        CronogramaColunar cronograma = sac.calcularParcelasPontoFixo(valor, taxa, 120);
+
+        assertSame(cronograma, cache.armazenar(valor, 120, taxa, TipoAmortizacao.SAC, cronograma));
+        assertSame(cronograma, cache.buscar(valor, 120, taxa, TipoAmortizacao.SAC));
+    }
+
+    @Test
+    @DisplayName("Deve decorar parcelas geradas sem alterar o cronograma")
+    void deveDecorarSemAlterarCronograma() {
+        CronogramaColunar cronograma = sac.calcularParcelasPontoFixo(new BigDecimal("10000.00"), new BigDecimal("0.0179"), 12);
+
+        List<ParcelaDTO> decorada = CronogramaParcelas.decorar(cronograma, parcela -> parcela.addLink("detalhe", "/" + parcela.getNumero()));
+
+        assertEquals(12, decorada.size());
+        for (ParcelaDTO parcela : decorada) {
+            assertEquals("/" + parcela.getNumero(), parcela.getLinks().get("detalhe"));
+        }
+        assertTrue(cronograma.stream().allMatch(parcela -> parcela.getLinks().isEmpty()));
+    }
+
+    private static void comparar(List<ParcelaDTO> esperado, CronogramaColunar colunar) {
+        assertEquals(esperado, colunar);
+        assertEquals(esperado, new ArrayList<>(colunar));
+
+        BigDecimal total = esperado.stream()
+            .map(ParcelaDTO::getValorPrestacao)
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .setScale(2, RoundingMode.HALF_UP);
+        assertEquals(total, colunar.valorTotalPrestacoes());
+
+        for (int k = 0; k <= esperado.size(); k++) {
+            assertEquals(FinanceiroMapper.calcularSaldoDevedor(esperado, k), colunar.saldoDevedorApos(k), "k=" + k);
+        }
+        for (int i = 0; i < esperado.size(); i++) {
+            ParcelaDTO parcela = esperado.get(i);
+            assertEquals(parcela.getValorAmortizacao(), colunar.valorAmortizacao(i));
+            assertEquals(parcela.getValorJuros(), colunar.valorJuros(i));
+            assertEquals(parcela.getValorPrestacao(), colunar.valorPrestacao(i));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cronograma compactado em coluna binária")
+class CronogramaCompactadoTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "123456.78", "99999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.1200"};
+
+    private static final int[] PRAZOS = {1, 12, 360, 600};
+
+    private SacCalculadoraStrategy sac;
+    private PriceCalculadoraStrategy price;
+
+    @BeforeEach
+    void setup() {
+        sac = new SacCalculadoraStrategy();
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price = new PriceCalculadoraStrategy();
+        price.kernel = KernelCalculo.PONTO_FIXO;
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir exatamente os cronogramas calculados")
+    void deveReconstruirCronogramasCalculados() {
+        for (String valorTexto : VALORES) {
+            for (String taxaTexto : TAXAS) {
+                for (int prazo : PRAZOS) {
+                    var valor = new BigDecimal(valorTexto);
+                    var taxa = new BigDecimal(taxaTexto);
+                    for (var cronograma : List.of(sac.calcularParcelasPontoFixo(valor, taxa, prazo),
+                                                  price.calcularParcelasPontoFixo(valor, taxa, prazo))) {
+                        assertEquals(cronograma, CronogramaCompactado.decodificar(CronogramaCompactado.codificar(cronograma)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ocupar poucos bytes por parcela em cronogramas longos")
+    void deveOcuparPoucosBytesPorParcela() {
+        var valor = new BigDecimal("250000.00");
+        var taxa = new BigDecimal("0.0151");
+
+        var bytesSac = CronogramaCompactado.codificar(sac.calcularParcelasPontoFixo(valor, taxa, 360)).length;
+        var bytesPrice = CronogramaCompactado.codificar(price.calcularParcelasPontoFixo(valor, taxa, 360)).length;
+
+        // Três NUMERIC(18,2) ocupariam ao menos 24 bytes por parcela, antes do número e da chave
+        assertTrue(bytesSac < 360 * 3, "SAC: " + bytesSac + " bytes");
+        assertTrue(bytesPrice < 360 * 3, "PRICE: " + bytesPrice + " bytes");
+    }
+
+    @Test
+    @DisplayName("Deve manter a prestação gravada quando ela não é a soma de amortização e juros")
+    void deveManterPrestacaoNaoDerivada() {
+        var parcelas = new ArrayList<ParcelaDTO>();
+        parcelas.add(parcela(1, "100.00", "10.00", "110.01"));
+        parcelas.add(parcela(2, "-5.25", "0.00", "999999999.99"));
+
+        var decodificado = CronogramaCompactado.decodificar(CronogramaCompactado.codificar(parcelas));
+
+        assertEquals(parcelas, decodificado);
+        assertEquals(List.of(), CronogramaCompactado.decodificar(CronogramaCompactado.codificar(List.of())));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parcelas fora de ordem ou fora da escala monetária")
+    void deveRejeitarParcelasInvalidas() {
+        var foraDeOrdem = List.of(parcela(2, "1.00", "1.00", "2.00"));
+        var foraDeEscala = List.of(parcela(1, "1.001", "1.00", "2.001"));
+
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.codificar(foraDeOrdem));
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.codificar(foraDeEscala));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar conteúdo truncado, com sobra ou de outro formato")
+    void deveRejeitarConteudoInvalido() {
+        var dados = CronogramaCompactado.codificar(price.calcularParcelasPontoFixo(new BigDecimal("10000.00"), new BigDecimal("0.0179"), 24));
+
+        var truncado = Arrays.copyOf(dados, dados.length - 1);
+        var comSobra = Arrays.copyOf(dados, dados.length + 1);
+        var outroFormato = dados.clone();
+        outroFormato[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.decodificar(truncado));
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.decodificar(comSobra));
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.decodificar(outroFormato));
+        assertThrows(IllegalArgumentException.class, () -> CronogramaCompactado.decodificar(new byte[0]));
+    }
+
+    private static ParcelaDTO parcela(long numero, String amortizacao, String juros, String prestacao) {
+        var parcela = new ParcelaDTO();
+        parcela.setNumero(numero);
+        parcela.setValorAmortizacao(new BigDecimal(amortizacao));
+        parcela.setValorJuros(new BigDecimal(juros));
+        parcela.setValorPrestacao(new BigDecimal(prestacao));
+        return parcela;
+    }
+}
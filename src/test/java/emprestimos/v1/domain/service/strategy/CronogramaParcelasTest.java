@@ -0,0 +1,138 @@
+package emprestimos.v1.domain.service.strategy;
+
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.enums.KernelCalculo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cronograma de parcelas gerado sob demanda")
+class CronogramaParcelasTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.0179", "0.1200"};
+
+    private static final int[] PRAZOS = {1, 2, 12, 96, 360, 600};
+
+    private SacCalculadoraStrategy sac;
+    private PriceCalculadoraStrategy price;
+
+    @BeforeEach
+    void setup() {
+        sac = new SacCalculadoraStrategy();
+        sac.kernel = KernelCalculo.PONTO_FIXO;
+        price = new PriceCalculadoraStrategy();
+        price.kernel = KernelCalculo.PONTO_FIXO;
+    }
+
+    @Test
+    @DisplayName("Deve gerar as mesmas parcelas do cronograma materializado")
+    void deveGerarMesmasParcelas() {
+        for (String valorTexto : VALORES) {
+            for (String taxaTexto : TAXAS) {
+                for (int prazo : PRAZOS) {
+                    BigDecimal valor = new BigDecimal(valorTexto);
+                    BigDecimal taxa = new BigDecimal(taxaTexto);
+                    comparar(sac.calcularParcelasBigDecimal(valor, taxa, prazo), sac.calcularParcelasSobDemanda(valor, taxa, prazo));
+                    comparar(price.calcularParcelasBigDecimal(valor, taxa, prazo), price.calcularParcelasSobDemanda(valor, taxa, prazo));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve posicionar o iterador diretamente na parcela informada")
+    void devePosicionarIteradorNaParcela() {
+        BigDecimal valor = new BigDecimal("250000.00");
+        BigDecimal taxa = new BigDecimal("0.0179");
+        List<ParcelaDTO> esperado = price.calcularParcelasBigDecimal(valor, taxa, 360);
+        CronogramaParcelas cronograma = (CronogramaParcelas) price.calcularParcelasSobDemanda(valor, taxa, 360);
+
+        for (int k : new int[]{1, 2, 180, 359, 360}) {
+            Iterator<ParcelaDTO> iterador = cronograma.iteradorAPartirDe(k);
+            for (int numero = k; numero <= 360; numero++) {
+                assertEquals(esperado.get(numero - 1), iterador.next(), "k=" + k + " numero=" + numero);
+            }
+            assertFalse(iterador.hasNext());
+        }
+        assertFalse(cronograma.iteradorAPartirDe(361).hasNext());
+        assertThrows(IllegalArgumentException.class, () -> cronograma.iteradorAPartirDe(0));
+    }
+
+    @Test
+    @DisplayName("Deve permitir encerrar o percurso antes do fim")
+    void devePermitirEncerramentoAntecipado() {
+        List<ParcelaDTO> cronograma = price.calcularParcelasSobDemanda(new BigDecimal("50000.00"), new BigDecimal("0.0151"), 420);
+
+        List<ParcelaDTO> primeiras = cronograma.stream().limit(3).toList();
+        assertEquals(3, primeiras.size());
+        assertEquals(List.of(1L, 2L, 3L), primeiras.stream().map(ParcelaDTO::getNumero).toList());
+        assertEquals(420, cronograma.stream().count());
+    }
+
+    @Test
+    @DisplayName("Deve apurar o total das prestações sem gerar as parcelas")
+    void deveApurarTotalSemGerarParcelas() {
+        Random random = new Random(20240910L);
+        for (int i = 0; i < 300; i++) {
+            BigDecimal valor = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 1_000_000_000L), 2);
+            BigDecimal taxa = BigDecimal.valueOf(1 + random.nextInt(1500), 4);
+            int prazo = 1 + random.nextInt(600);
+            for (CalculadoraParcelasStrategy estrategia : List.of(sac, price)) {
+                CronogramaParcelas cronograma = (CronogramaParcelas) estrategia.calcularParcelasSobDemanda(valor, taxa, prazo);
+                BigDecimal somado = estrategia.calcularParcelas(valor, taxa, prazo).stream()
+                    .map(ParcelaDTO::getValorPrestacao)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)
+                    .setScale(2, RoundingMode.HALF_UP);
+                assertEquals(somado, cronograma.valorTotalPrestacoes());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve decorar cópias sem alterar a lista original")
+    void deveDecorarSemAlterarOriginal() {
+        BigDecimal valor = new BigDecimal("10000.00");
+        BigDecimal taxa = new BigDecimal("0.0179");
+        List<ParcelaDTO> materializada = List.copyOf(sac.calcularParcelas(valor, taxa, 12));
+        List<ParcelaDTO> sobDemanda = sac.calcularParcelasSobDemanda(valor, taxa, 12);
+
+        for (List<ParcelaDTO> origem : List.of(materializada, sobDemanda)) {
+            List<ParcelaDTO> decorada = CronogramaParcelas.decorar(origem, parcela -> parcela.addLink("detalhe", "/" + parcela.getNumero()));
+
+            assertEquals(12, decorada.size());
+            for (ParcelaDTO parcela : decorada) {
+                assertEquals("/" + parcela.getNumero(), parcela.getLinks().get("detalhe"));
+            }
+            for (ParcelaDTO parcela : origem) {
+                assertTrue(parcela.getLinks().isEmpty());
+            }
+        }
+    }
+
+    private static void comparar(List<ParcelaDTO> esperado, List<ParcelaDTO> sobDemanda) {
+        assertInstanceOf(CronogramaParcelas.class, sobDemanda);
+        assertEquals(esperado.size(), sobDemanda.size());
+
+        List<ParcelaDTO> percorridas = new ArrayList<>();
+        sobDemanda.forEach(percorridas::add);
+        assertEquals(esperado, percorridas);
+
+        for (int i = 0; i < esperado.size(); i++) {
+            assertEquals(esperado.get(i), sobDemanda.get(i), "indice=" + i);
+        }
+        int meio = esperado.size() / 2;
+        assertEquals(esperado.get(meio), sobDemanda.get(meio));
+        assertEquals(esperado.get(0), sobDemanda.get(0));
+    }
+}
@@ -0,0 +1,63 @@
+package emprestimos.v1.domain.service.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes da SequenciaCoeficientePrice")
+class SequenciaCoeficientePriceTest {
+
+    private static final String[] VALORES = {"0.01", "200.00", "10000", "123456.78", "99999999.99", "999999999999999.99"};
+
+    private static final String[] TAXAS = {"0.0001", "0.0151", "0.0179", "0.0500", "0.1200", "0.9999"};
+
+    @Test
+    @DisplayName("Deve produzir a mesma prestação do cálculo exato em todos os prazos de 1 a 600 meses")
+    void deveProduzirMesmaPrestacaoComPassoUnitario() {
+        int[] prazos = IntStream.rangeClosed(1, 600).toArray();
+        comparar(prazos);
+    }
+
+    @Test
+    @DisplayName("Deve produzir a mesma prestação do cálculo exato com passos irregulares")
+    void deveProduzirMesmaPrestacaoComPassosIrregulares() {
+        comparar(new int[]{3, 7, 12, 24, 36, 60, 61, 96, 180, 360, 420, 600});
+        comparar(IntStream.iterate(6, prazo -> prazo <= 600, prazo -> prazo + 6).toArray());
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao cálculo padrão com taxa zero e rejeitar prazos fora de ordem")
+    void deveTratarParametrosDegenerados() {
+        SequenciaCoeficientePrice sequencia = new SequenciaCoeficientePrice(BigDecimal.ZERO, new int[]{12});
+        BigDecimal valor = new BigDecimal("1200.00");
+        assertThrows(ArithmeticException.class, () -> CoeficientePrice.calcularPrestacao(valor, BigDecimal.ZERO, 12));
+        assertThrows(ArithmeticException.class, () -> sequencia.calcularPrestacao(valor, 0));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequenciaCoeficientePrice(new BigDecimal("0.0179"), new int[]{12, 12}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequenciaCoeficientePrice(new BigDecimal("0.0179"), new int[]{24, 12}));
+    }
+
+    private static void comparar(int[] prazos) {
+        for (String taxaTexto : TAXAS) {
+            BigDecimal taxa = new BigDecimal(taxaTexto);
+            SequenciaCoeficientePrice sequencia = new SequenciaCoeficientePrice(taxa, prazos);
+            assertEquals(prazos.length, sequencia.quantidadePrazos());
+
+            for (String valorTexto : VALORES) {
+                BigDecimal valor = new BigDecimal(valorTexto);
+                for (int k = 0; k < prazos.length; k++) {
+                    assertEquals(
+                        CoeficientePrice.calcularPrestacaoExata(valor, taxa, prazos[k]),
+                        sequencia.calcularPrestacao(valor, k),
+                        String.format("valor=%s taxa=%s prazo=%d", valor, taxa, prazos[k]));
+                }
+            }
+        }
+    }
+}
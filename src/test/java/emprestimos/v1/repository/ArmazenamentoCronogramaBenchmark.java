@@ -0,0 +1,177 @@
+package emprestimos.v1.repository;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.RegistroAuditoria;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
+import emprestimos.v1.domain.service.strategy.PriceCalculadoraStrategy;
+import emprestimos.v1.domain.service.strategy.SacCalculadoraStrategy;
+import emprestimos.v1.mapper.SimulacaoMapper;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark do armazenamento do cronograma: espaço ocupado por {@code parcela} e
+ * {@code resultado_simulacao} e latência para ler de volta as parcelas de um resultado, com uma
+ * linha por parcela e com o cronograma compactado. Usa o esquema das migrações em bancos H2 em
+ * arquivo, recriados em {@code target/benchmark}. Executar com
+ * {@code mvn test -Dtest=ArmazenamentoCronogramaBenchmark}.
+ */
+@DisplayName("Benchmark do armazenamento do cronograma")
+class ArmazenamentoCronogramaBenchmark {
+
+    private static final int SIMULACOES = 200;
+
+    private static final Path DIRETORIO = Path.of("target", "benchmark");
+
+    private static final int[] PRAZOS = {12, 96, 360};
+
+    private final SacCalculadoraStrategy sac = new SacCalculadoraStrategy();
+
+    private final PriceCalculadoraStrategy price = new PriceCalculadoraStrategy();
+
+    private final SimulacaoMapper mapper = new SimulacaoMapper();
+
+    @Test
+    @DisplayName("Espaço em disco e leitura das parcelas: linhas versus coluna compactada")
+    void medirArmazenamento() throws IOException {
+        System.out.printf("%-6s %-12s %14s %14s %14s%n", "prazo", "modo", "parcela (KB)", "resultado (KB)", "leitura");
+        for (int prazo : PRAZOS) {
+            long[] espaco = new long[ArmazenamentoCronograma.values().length];
+            for (var modo : ArmazenamentoCronograma.values()) {
+                var arquivo = DIRETORIO.resolve("cronograma-" + modo + "-" + prazo);
+                Files.deleteIfExists(Path.of(arquivo + ".mv.db"));
+                var url = "jdbc:h2:file:" + arquivo.toAbsolutePath();
+                Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+                try (var fabrica = criarFabrica(url)) {
+                    var ids = gravar(fabrica, modo, prazo);
+                    long parcela = espacoUsado(fabrica, "PARCELA");
+                    long resultado = espacoUsado(fabrica, "RESULTADO_SIMULACAO");
+                    espaco[modo.ordinal()] = parcela + resultado;
+
+                    var aleatorio = new Random(prazo);
+                    var leitura = Medicao.medir(modo.name(), 200, 2_000, () -> lerParcelas(fabrica, ids.get(aleatorio.nextInt(ids.size()))));
+
+                    System.out.printf("%-6d %-12s %14d %14d %11.1f us%n",
+                        prazo, modo, parcela / 1024, resultado / 1024, leitura.microsPorOperacao());
+                }
+            }
+            assertTrue(espaco[ArmazenamentoCronograma.COMPACTADO.ordinal()] < espaco[ArmazenamentoCronograma.LINHAS.ordinal()]);
+        }
+    }
+
+    /**
+     * Grava as simulações e retorna os ids dos resultados.
+     */
+    private List<Long> gravar(SessionFactory fabrica, ArmazenamentoCronograma modo, int prazo) {
+        var aleatorio = new Random(prazo);
+        var ids = new ArrayList<Long>(SIMULACOES * 2);
+        for (int i = 0; i < SIMULACOES; i++) {
+            var valor = BigDecimal.valueOf(1_000_000 + aleatorio.nextInt(50_000_000), 2);
+            var taxa = new BigDecimal("0.0175");
+            var simulacao = criarSimulacao(valor, prazo, modo, List.of(
+                sac.calcularParcelasPontoFixo(valor, taxa, prazo), price.calcularParcelasPontoFixo(valor, taxa, prazo)));
+            fabrica.inTransaction(sessao -> sessao.persist(simulacao));
+            simulacao.getResultadosSimulacao().forEach(resultado -> ids.add(resultado.getId()));
+        }
+        return ids;
+    }
+
+    private Simulacao criarSimulacao(BigDecimal valor, int prazo, ArmazenamentoCronograma modo, List<CronogramaColunar> cronogramas) {
+        var simulacao = new Simulacao();
+        simulacao.setValorDesejado(valor);
+        simulacao.setPrazo((long) prazo);
+        simulacao.setCoProduto(2);
+        simulacao.setDataSimulacao(LocalDateTime.now());
+        simulacao.setDataReferencia(LocalDate.now());
+
+        var resultados = new ArrayList<ResultadoSimulacao>(2);
+        for (var tipo : TipoAmortizacao.values()) {
+            var cronograma = cronogramas.get(tipo.ordinal());
+            var resultado = new ResultadoSimulacao();
+            resultado.setTipo(tipo);
+            resultado.setSimulacao(simulacao);
+            var parcelas = new ArrayList<Parcela>();
+            if (modo == ArmazenamentoCronograma.COMPACTADO) {
+                resultado.setCronogramaCompactado(CronogramaCompactado.codificar(cronograma));
+            } else {
+                for (int indice = 0; indice < cronograma.size(); indice++) {
+                    var parcela = new Parcela();
+                    parcela.setNumero((long) indice + 1);
+                    parcela.setValorAmortizacao(cronograma.valorAmortizacao(indice));
+                    parcela.setValorJuros(cronograma.valorJuros(indice));
+                    parcela.setValorPrestacao(cronograma.valorPrestacao(indice));
+                    parcela.setResultadoSimulacao(resultado);
+                    parcelas.add(parcela);
+                }
+            }
+            resultado.setParcelas(parcelas);
+            resultados.add(resultado);
+        }
+        simulacao.setResultadosSimulacao(resultados);
+        return simulacao;
+    }
+
+    /**
+     * Carrega o resultado e percorre todas as parcelas, como na montagem de uma resposta.
+     */
+    private BigDecimal lerParcelas(SessionFactory fabrica, Long id) {
+        return fabrica.fromTransaction(sessao -> {
+            var parcelas = mapper.toParcelasDTO(sessao.find(ResultadoSimulacao.class, id));
+            var total = BigDecimal.ZERO;
+            for (var parcela : parcelas) {
+                total = total.add(parcela.getValorPrestacao());
+            }
+            assertEquals(parcelas.size(), parcelas.get(parcelas.size() - 1).getNumero().intValue());
+            return total;
+        });
+    }
+
+    private static long espacoUsado(SessionFactory fabrica, String tabela) {
+        return fabrica.fromTransaction(sessao -> {
+            sessao.createNativeMutationQuery("checkpoint").executeUpdate();
+            return ((Number) sessao.createNativeQuery("select disk_space_used('" + tabela + "')", Object.class)
+                .getSingleResult()).longValue();
+        });
+    }
+
+    private static SessionFactory criarFabrica(String url) {
+        var registro = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+            .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+            .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 100)
+            .applySetting(AvailableSettings.ORDER_INSERTS, true)
+            .build();
+        return new MetadataSources(registro)
+            .addAnnotatedClasses(Simulacao.class, ResultadoSimulacao.class, Parcela.class,
+                RegistroAuditoria.class, ResumoDiarioProduto.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+}
@@ -0,0 +1,192 @@
+package emprestimos.v1.repository;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.dto.simulacao.create.response.ParcelaDTO;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.RegistroAuditoria;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
+import emprestimos.v1.domain.enums.FonteDetalheSimulacao;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.strategy.AmortizacaoCombinada;
+import emprestimos.v1.domain.service.strategy.CronogramaColunar;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
+import emprestimos.v1.mapper.SimulacaoMapper;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark das fontes do detalhe de uma simulação ({@link FonteDetalheSimulacao}): ler a
+ * simulação com os resultados gravados, em linhas ou compactados, ou ler só a simulação e
+ * recalcular os dois cronogramas. O recálculo medido é o do cache de cronogramas vazio, caso de
+ * uma simulação antiga consultada uma vez. Usa o esquema das migrações em bancos H2 em arquivo,
+ * recriados em {@code target/benchmark}. Executar com
+ * {@code mvn test -Dtest=FonteDetalheSimulacaoBenchmark}.
+ */
+@DisplayName("Benchmark da fonte do detalhe da simulação")
+class FonteDetalheSimulacaoBenchmark {
+
+    private static final int SIMULACOES = 200;
+
+    private static final Path DIRETORIO = Path.of("target", "benchmark");
+
+    private static final int[] PRAZOS = {12, 96, 360};
+
+    private static final BigDecimal TAXA = new BigDecimal("0.0175");
+
+    private final SimulacaoMapper mapper = new SimulacaoMapper();
+
+    @Test
+    @DisplayName("Latência do detalhe: resultados gravados versus recálculo")
+    void medirFontes() throws IOException {
+        System.out.printf("%-6s %-12s %-12s %11s%n", "prazo", "fonte", "cronograma", "detalhe");
+        for (int prazo : PRAZOS) {
+            for (var armazenamento : ArmazenamentoCronograma.values()) {
+                var arquivo = DIRETORIO.resolve("detalhe-" + armazenamento + "-" + prazo);
+                Files.deleteIfExists(Path.of(arquivo + ".mv.db"));
+                var url = "jdbc:h2:file:" + arquivo.toAbsolutePath();
+                Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+                try (var fabrica = criarFabrica(url)) {
+                    var ids = gravar(fabrica, armazenamento, prazo);
+                    assertEquals(lerGravado(fabrica, ids.get(0)), recalcular(fabrica, ids.get(0)));
+
+                    var aleatorio = new Random(prazo);
+                    var gravado = Medicao.medir(FonteDetalheSimulacao.GRAVADO.name(), 200, 2_000,
+                        () -> lerGravado(fabrica, ids.get(aleatorio.nextInt(ids.size()))));
+                    System.out.printf("%-6d %-12s %-12s %8.1f us%n",
+                        prazo, FonteDetalheSimulacao.GRAVADO, armazenamento, gravado.microsPorOperacao());
+
+                    if (armazenamento == ArmazenamentoCronograma.LINHAS) {
+                        var recalculado = Medicao.medir(FonteDetalheSimulacao.RECALCULADO.name(), 200, 2_000,
+                            () -> recalcular(fabrica, ids.get(aleatorio.nextInt(ids.size()))));
+                        System.out.printf("%-6d %-12s %-12s %8.1f us%n",
+                            prazo, FonteDetalheSimulacao.RECALCULADO, "-", recalculado.microsPorOperacao());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Simulação com os resultados pelo grafo e parcelas no primeiro acesso, como em
+     * {@link SimulacaoRepository#buscarComResultados}. Retorna o total das prestações.
+     */
+    private BigDecimal lerGravado(SessionFactory fabrica, Long id) {
+        return fabrica.fromTransaction(sessao -> {
+            var grafo = sessao.getEntityGraph(Simulacao.GRAFO_RESULTADOS);
+            var simulacao = sessao.find(Simulacao.class, id, Map.of("jakarta.persistence.fetchgraph", grafo));
+            var total = BigDecimal.ZERO;
+            for (var resultado : simulacao.getResultadosSimulacao()) {
+                total = total.add(somarPrestacoes(mapper.toParcelasDTO(resultado)));
+            }
+            return total;
+        });
+    }
+
+    /**
+     * Apenas a simulação, com os dois cronogramas recalculados do valor e do prazo gravados.
+     */
+    private BigDecimal recalcular(SessionFactory fabrica, Long id) {
+        return fabrica.fromTransaction(sessao -> {
+            var simulacao = sessao.find(Simulacao.class, id);
+            var calculado = AmortizacaoCombinada.calcular(simulacao.getValorDesejado(), TAXA, simulacao.getPrazo().intValue());
+            return somarPrestacoes(calculado.parcelasSac()).add(somarPrestacoes(calculado.parcelasPrice()));
+        });
+    }
+
+    private static BigDecimal somarPrestacoes(List<ParcelaDTO> parcelas) {
+        var total = BigDecimal.ZERO;
+        for (var parcela : parcelas) {
+            total = total.add(parcela.getValorPrestacao());
+        }
+        return total;
+    }
+
+    /**
+     * Grava as simulações e retorna os seus ids.
+     */
+    private List<Long> gravar(SessionFactory fabrica, ArmazenamentoCronograma armazenamento, int prazo) {
+        var aleatorio = new Random(prazo);
+        var ids = new ArrayList<Long>(SIMULACOES);
+        for (int i = 0; i < SIMULACOES; i++) {
+            var valor = BigDecimal.valueOf(1_000_000 + aleatorio.nextInt(50_000_000), 2);
+            var calculado = AmortizacaoCombinada.calcular(valor, TAXA, prazo);
+            var simulacao = criarSimulacao(valor, prazo, armazenamento, List.of(calculado.parcelasSac(), calculado.parcelasPrice()));
+            fabrica.inTransaction(sessao -> sessao.persist(simulacao));
+            ids.add(simulacao.getId());
+        }
+        return ids;
+    }
+
+    private Simulacao criarSimulacao(BigDecimal valor, int prazo, ArmazenamentoCronograma armazenamento,
+                                     List<CronogramaColunar> cronogramas) {
+        var simulacao = new Simulacao();
+        simulacao.setValorDesejado(valor);
+        simulacao.setPrazo((long) prazo);
+        simulacao.setCoProduto(2);
+        simulacao.setDataSimulacao(LocalDateTime.now());
+        simulacao.setDataReferencia(LocalDate.now());
+
+        var resultados = new ArrayList<ResultadoSimulacao>(2);
+        for (var tipo : TipoAmortizacao.values()) {
+            var cronograma = cronogramas.get(tipo.ordinal());
+            var resultado = new ResultadoSimulacao();
+            resultado.setTipo(tipo);
+            resultado.setSimulacao(simulacao);
+            var parcelas = new ArrayList<Parcela>();
+            if (armazenamento == ArmazenamentoCronograma.COMPACTADO) {
+                resultado.setCronogramaCompactado(CronogramaCompactado.codificar(cronograma));
+            } else {
+                for (int indice = 0; indice < cronograma.size(); indice++) {
+                    var parcela = new Parcela();
+                    parcela.setNumero((long) indice + 1);
+                    parcela.setValorAmortizacao(cronograma.valorAmortizacao(indice));
+                    parcela.setValorJuros(cronograma.valorJuros(indice));
+                    parcela.setValorPrestacao(cronograma.valorPrestacao(indice));
+                    parcela.setResultadoSimulacao(resultado);
+                    parcelas.add(parcela);
+                }
+            }
+            resultado.setParcelas(parcelas);
+            resultados.add(resultado);
+        }
+        simulacao.setResultadosSimulacao(resultados);
+        return simulacao;
+    }
+
+    private static SessionFactory criarFabrica(String url) {
+        var registro = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+            .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+            .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 100)
+            .applySetting(AvailableSettings.ORDER_INSERTS, true)
+            .build();
+        return new MetadataSources(registro)
+            .addAnnotatedClasses(Simulacao.class, ResultadoSimulacao.class, Parcela.class,
+                RegistroAuditoria.class, ResumoDiarioProduto.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+}
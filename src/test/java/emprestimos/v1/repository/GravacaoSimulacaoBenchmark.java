@@ -0,0 +1,215 @@
+package emprestimos.v1.repository;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.RegistroAuditoria;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark da gravação de simulações: idas ao banco (execuções JDBC) e latência até o commit,
+ * com as parcelas e resultados gravados um INSERT por linha, como antes das sequências, e em
+ * lotes JDBC agrupados por tabela. Usa o esquema das migrações em um H2 em memória, sem rede:
+ * em um banco remoto cada execução economizada é também uma ida e volta pela rede. Executar com
+ * {@code mvn test -Dtest=GravacaoSimulacaoBenchmark}.
+ */
+@DisplayName("Benchmark da gravação de simulações")
+class GravacaoSimulacaoBenchmark {
+
+    private static final int[] PRAZOS = {12, 96, 360};
+
+    private static final int[] SIMULACOES_POR_TRANSACAO = {1, 20};
+
+    @Test
+    @DisplayName("Execuções JDBC e latência de commit: um INSERT por linha versus lotes")
+    void medirGravacao() {
+        var url = "jdbc:h2:mem:gravacao-simulacao;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+
+        var semLote = new ConexoesContadas(url);
+        var emLote = new ConexoesContadas(url);
+        try (var fabricaSemLote = criarFabrica(semLote, 0);
+             var fabricaEmLote = criarFabrica(emLote, 100)) {
+
+            System.out.printf("%-6s %-6s %-32s %-32s%n", "prazo", "lote", "um INSERT por linha", "lotes JDBC");
+            for (int prazo : PRAZOS) {
+                for (int quantidade : SIMULACOES_POR_TRANSACAO) {
+                    int iteracoes = Math.max(20, 20_000 / (quantidade * prazo));
+                    var antes = medir(fabricaSemLote, semLote, prazo, quantidade, iteracoes);
+                    var depois = medir(fabricaEmLote, emLote, prazo, quantidade, iteracoes);
+
+                    System.out.printf("%-6d %-6d %8.1f exec/sim %10.1f us/sim   %8.1f exec/sim %10.1f us/sim%n",
+                        prazo, quantidade,
+                        antes.execucoesPorSimulacao(), antes.medicao().microsPorOperacao() / quantidade,
+                        depois.execucoesPorSimulacao(), depois.medicao().microsPorOperacao() / quantidade);
+                    assertTrue(depois.execucoesPorSimulacao() < antes.execucoesPorSimulacao());
+                }
+            }
+        }
+    }
+
+    private static Gravacao medir(SessionFactory fabrica, ConexoesContadas conexoes, int prazo, int quantidade, int iteracoes) {
+        // Aquecimento também deixa os blocos das sequências reservados
+        Medicao.medir("aquecimento", 0, iteracoes, () -> gravar(fabrica, prazo, quantidade));
+        long execucoesAntes = conexoes.execucoes.get();
+        var medicao = Medicao.medir("gravação", 0, iteracoes, () -> gravar(fabrica, prazo, quantidade));
+        double execucoes = conexoes.execucoes.get() - execucoesAntes;
+        return new Gravacao(medicao, execucoes / ((double) iteracoes * quantidade));
+    }
+
+    /**
+     * Grava as simulações em uma transação, como {@code SimulacaoService.registrarSimulacao}:
+     * simulação com resultados e parcelas pelo cascade, seguida do registro de auditoria.
+     */
+    private static List<Simulacao> gravar(SessionFactory fabrica, int prazo, int quantidade) {
+        return fabrica.fromTransaction(sessao -> {
+            var simulacoes = new ArrayList<Simulacao>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                var simulacao = criarSimulacao(prazo);
+                sessao.persist(simulacao);
+                sessao.persist(RegistroAuditoria.builder()
+                    .usuario("sistema").acao("SIMULACAO_CRIADA").recurso("simulacao")
+                    .status("SUCESSO").dataHora(LocalDateTime.now()).build());
+                simulacoes.add(simulacao);
+            }
+            return simulacoes;
+        });
+    }
+
+    private static Simulacao criarSimulacao(int prazo) {
+        var simulacao = new Simulacao();
+        simulacao.setValorDesejado(new BigDecimal("50000.00"));
+        simulacao.setPrazo((long) prazo);
+        simulacao.setCoProduto(2);
+        simulacao.setDataSimulacao(LocalDateTime.now());
+        simulacao.setDataReferencia(LocalDate.now());
+
+        var resultados = new ArrayList<ResultadoSimulacao>(2);
+        for (var tipo : TipoAmortizacao.values()) {
+            var resultado = new ResultadoSimulacao();
+            resultado.setTipo(tipo);
+            resultado.setSimulacao(simulacao);
+            var parcelas = new ArrayList<Parcela>(prazo);
+            for (int numero = 1; numero <= prazo; numero++) {
+                var parcela = new Parcela();
+                parcela.setNumero((long) numero);
+                parcela.setValorAmortizacao(new BigDecimal("138.89"));
+                parcela.setValorJuros(new BigDecimal("875.00"));
+                parcela.setValorPrestacao(new BigDecimal("1013.89"));
+                parcela.setResultadoSimulacao(resultado);
+                parcelas.add(parcela);
+            }
+            resultado.setParcelas(parcelas);
+            resultados.add(resultado);
+        }
+        simulacao.setResultadosSimulacao(resultados);
+        return simulacao;
+    }
+
+    private static SessionFactory criarFabrica(ConexoesContadas conexoes, int tamanhoLote) {
+        var registro = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.CONNECTION_PROVIDER, conexoes)
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+            .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, tamanhoLote)
+            .applySetting(AvailableSettings.ORDER_INSERTS, tamanhoLote > 0)
+            .build();
+        return new MetadataSources(registro)
+            .addAnnotatedClasses(Simulacao.class, ResultadoSimulacao.class, Parcela.class,
+                RegistroAuditoria.class, ResumoDiarioProduto.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+
+    private record Gravacao(Medicao.Resultado medicao, double execucoesPorSimulacao) {
+    }
+
+    /**
+     * Conexões do H2 que contam as execuções de comandos (cada {@code execute*}, inclusive
+     * {@code executeBatch}, é uma ida ao banco).
+     */
+    private static final class ConexoesContadas implements ConnectionProvider {
+
+        private final String url;
+
+        private final AtomicLong execucoes = new AtomicLong();
+
+        private ConexoesContadas(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            var conexao = DriverManager.getConnection(url, "sa", "");
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    var retorno = invocar(conexao, metodo, argumentos);
+                    return retorno instanceof Statement comando ? contar(comando, metodo.getReturnType()) : retorno;
+                });
+        }
+
+        private Object contar(Statement comando, Class<?> tipo) {
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{tipo},
+                (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().startsWith("execute")) {
+                        execucoes.incrementAndGet();
+                    }
+                    return invocar(comando, metodo, argumentos);
+                });
+        }
+
+        private static Object invocar(Object alvo, Method metodo, Object[] argumentos) throws Throwable {
+            try {
+                return metodo.invoke(alvo, argumentos);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public void closeConnection(Connection conexao) throws SQLException {
+            conexao.close();
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return false;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> tipo) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> tipo) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package emprestimos.v1.repository;
+
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.repository.SimulacaoRepository.ResumoSimulacao;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas de {@link SimulacaoRepository} sobre o H2 migrado pelo Flyway. As simulações gravadas
+ * ficam em um dia anterior às dos outros testes e são removidas ao final.
+ */
+@QuarkusTest
+@DisplayName("Consultas do repositório de simulações")
+class SimulacaoRepositoryTest {
+
+    private static final LocalDate DIA = LocalDate.of(2001, 6, 20);
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> simulacaoRepository.delete("dataReferencia", DIA));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer por cursor a mesma ordem da paginação, com datas repetidas e fora da ordem dos ids")
+    void devePaginarPorCursor() {
+        var random = new Random(11);
+        var gravadas = QuarkusTransaction.requiringNew().call(() -> {
+            var simulacoes = new ArrayList<Simulacao>();
+            for (int indice = 0; indice < 23; indice++) {
+                var simulacao = simulacao(DIA.atTime(10, 0).plusSeconds(random.nextInt(5)));
+                simulacaoRepository.persist(simulacao);
+                simulacoes.add(simulacao);
+            }
+            return simulacoes;
+        });
+        var esperados = gravadas.stream()
+            .sorted(Comparator.comparing(Simulacao::getDataSimulacao).thenComparing(Simulacao::getId))
+            .map(Simulacao::getId)
+            .toList();
+
+        var percorridos = new ArrayList<Long>();
+        LocalDateTime data = DIA.atStartOfDay();
+        Long id = 0L;
+        List<ResumoSimulacao> pagina;
+        do {
+            var cursorData = data;
+            var cursorId = id;
+            pagina = QuarkusTransaction.requiringNew().call(() -> simulacaoRepository.listarResumosApos(cursorData, cursorId, 4));
+            for (var resumo : pagina) {
+                if (resumo.dataSimulacao().toLocalDate().equals(DIA)) {
+                    percorridos.add(resumo.id());
+                }
+            }
+            if (!pagina.isEmpty()) {
+                data = pagina.get(pagina.size() - 1).dataSimulacao();
+                id = pagina.get(pagina.size() - 1).id();
+            }
+        } while (pagina.size() == 4 && data.toLocalDate().equals(DIA));
+
+        assertEquals(esperados, percorridos);
+        assertEquals(esperados.subList(0, 4), QuarkusTransaction.requiringNew().call(() -> simulacaoRepository
+            .listarResumosApos(DIA.atStartOfDay(), 0L, 4).stream().map(ResumoSimulacao::id).toList()));
+    }
+
+    @Test
+    @DisplayName("Deve criar o índice da ordem da listagem na migração")
+    void deveCriarIndiceDaListagem() {
+        List<?> indices = QuarkusTransaction.requiringNew().call(() -> simulacaoRepository.getEntityManager()
+            .createNativeQuery("select index_name from information_schema.indexes where table_name = 'SIMULACAO'")
+            .getResultList());
+
+        assertTrue(indices.contains("IDX_SIMULACAO_DATA_ID"), indices.toString());
+    }
+
+    private static Simulacao simulacao(LocalDateTime dataSimulacao) {
+        var simulacao = new Simulacao();
+        simulacao.setValorDesejado(new BigDecimal("1000.00"));
+        simulacao.setPrazo(12L);
+        simulacao.setValorTotalCredito(new BigDecimal("1100.00"));
+        simulacao.setDataSimulacao(dataSimulacao);
+        simulacao.setDataReferencia(dataSimulacao.toLocalDate());
+        return simulacao;
+    }
+}
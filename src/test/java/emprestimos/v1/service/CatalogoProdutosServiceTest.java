@@ -0,0 +1,317 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.enums.EstadoDisjuntor;
+import emprestimos.v1.domain.enums.MensagemErro;
+import emprestimos.v1.domain.exception.ProdutoException;
+import emprestimos.v1.repository.ProdutoRepository;
+import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lê o catálogo do SQL Server do Dev Services, com os produtos do {@code import.sql} e o
+ * repositório real; as alterações da tabela são feitas por um produto fora das faixas usadas nos
+ * outros testes, removido ao final. A indisponibilidade do banco é simulada por um repositório
+ * que sempre falha. A instância testada é criada aqui, com relógio fixo, para começar sem fotografia.
+ */
+@QuarkusTest
+@DisplayName("Catálogo de produtos em memória")
+class CatalogoProdutosServiceTest {
+
+    private static final int PRODUTO_NOVO = 99;
+
+    @Inject
+    @PersistenceUnit("produtos")
+    ProdutoRepository produtoRepository;
+
+    private CatalogoProdutosService catalogo;
+
+    @TempDir
+    Path diretorio;
+
+    @BeforeEach
+    void setup() {
+        catalogo = criarCatalogo(produtoRepository);
+    }
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            produtoRepository.delete("coProduto", PRODUTO_NOVO);
+            produtoRepository.update("noProduto = ?1 where coProduto = ?2", "Produto 1", 1);
+        });
+    }
+
+    private static CatalogoProdutosService criarCatalogo(ProdutoRepository repositorio) {
+        CatalogoProdutosService catalogo = new CatalogoProdutosService();
+        catalogo.produtoRepository = repositorio;
+        catalogo.relogio = Clock.fixed(Instant.parse("2024-10-17T12:00:00Z"), ZoneOffset.UTC);
+        catalogo.intervaloRecargaCompleta = Duration.ofHours(1);
+        catalogo.idadeMaxima = Duration.ofMinutes(15);
+        catalogo.limiteFalhas = 2;
+        catalogo.esperaDisjuntor = Duration.ofSeconds(30);
+        catalogo.arquivo = Optional.empty();
+        catalogo.init();
+        return catalogo;
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco uma única vez na primeira leitura concorrente")
+    void deveCarregarUmaUnicaVez() throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<CatalogoProdutosService.Catalogo>> leituras = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                leituras.add(executor.submit(() -> {
+                    largada.await();
+                    return obter();
+                }));
+            }
+            largada.countDown();
+
+            CatalogoProdutosService.Catalogo primeiro = leituras.get(0).get();
+            for (Future<CatalogoProdutosService.Catalogo> leitura : leituras) {
+                assertSame(primeiro, leitura.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1L, catalogo.versao().orElseThrow(), "Uma segunda leitura publicaria a versão 2");
+    }
+
+    @Test
+    @DisplayName("Deve publicar uma nova versão quando a assinatura da tabela muda")
+    void devePublicarNovaVersao() {
+        CatalogoProdutosService.Catalogo anterior = obter();
+        assertEquals(List.of(1, 2, 3, 4), codigos(anterior));
+
+        inserirProdutoNovo();
+        atualizar();
+
+        CatalogoProdutosService.Catalogo atual = obter();
+        assertEquals(2L, atual.versao());
+        assertEquals(List.of(1, 2, 3, 4, PRODUTO_NOVO), codigos(atual));
+        assertTrue(atual.buscarProduto(PRODUTO_NOVO).isPresent());
+        assertEquals(PRODUTO_NOVO, atual.indice().encontrarMelhorProduto(new BigDecimal("1000"), 550).orElseThrow().getCoProduto());
+        // A fotografia anterior permanece íntegra para quem ainda a usa
+        assertEquals(4, anterior.produtos().size());
+        assertTrue(anterior.buscarProduto(PRODUTO_NOVO).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar ao renomear um produto, mesmo com nome de mesmo tamanho")
+    void deveRecarregarAoRenomearProduto() {
+        obter();
+
+        QuarkusTransaction.requiringNew().run(() -> produtoRepository.update("noProduto = ?1 where coProduto = ?2", "Produto X", 1));
+        atualizar();
+
+        assertEquals(2L, catalogo.versao().orElseThrow());
+        assertEquals("Produto X", obter().buscarProduto(1).orElseThrow().getNoProduto());
+    }
+
+    @Test
+    @DisplayName("Deve apenas renovar a confirmação quando a tabela não muda")
+    void deveEvitarRecargaSemMudanca() {
+        CatalogoProdutosService.Catalogo carregado = obter();
+
+        avancar(Duration.ofMinutes(10));
+        atualizar();
+        atualizar();
+
+        assertEquals(1L, catalogo.versao().orElseThrow());
+        assertSame(carregado.indice(), obter().indice());
+        assertEquals(Duration.ZERO, catalogo.idade().orElseThrow());
+
+        avancar(Duration.ofMinutes(50));
+        atualizar();
+        assertEquals(2L, catalogo.versao().orElseThrow(), "Recarga completa no intervalo configurado");
+        assertNotSame(carregado.indice(), obter().indice());
+    }
+
+    @Test
+    @DisplayName("Deve manter a versão anterior quando a recarga falha")
+    void deveManterVersaoAnteriorNaFalha() {
+        CatalogoProdutosService.Catalogo anterior = obter();
+
+        catalogo.produtoRepository = indisponivel();
+        avancar(Duration.ofMinutes(5));
+        catalogo.atualizar();
+
+        assertSame(anterior, catalogo.obter());
+        assertEquals(1L, catalogo.versao().orElseThrow());
+        assertFalse(catalogo.isDesatualizado());
+
+        avancar(Duration.ofMinutes(11));
+        catalogo.atualizar();
+        assertSame(anterior, catalogo.obter());
+        assertTrue(catalogo.isDesatualizado());
+    }
+
+    @Test
+    @DisplayName("Deve deixar de consultar o banco com o disjuntor aberto e sondar após a espera")
+    void deveSondarAposEspera() {
+        obter();
+        catalogo.produtoRepository = indisponivel();
+
+        catalogo.atualizar();
+        catalogo.atualizar();
+        assertEquals(EstadoDisjuntor.ABERTO, catalogo.getEstadoDisjuntor());
+
+        // Banco de volta e tabela alterada: uma consulta agora recarregaria o catálogo
+        catalogo.produtoRepository = produtoRepository;
+        inserirProdutoNovo();
+        avancar(Duration.ofSeconds(29));
+        atualizar();
+        assertEquals(1L, catalogo.versao().orElseThrow(), "Nenhuma consulta com o disjuntor aberto");
+        assertEquals(Duration.ofSeconds(29), catalogo.idade().orElseThrow());
+
+        avancar(Duration.ofSeconds(1));
+        atualizar();
+        assertEquals(EstadoDisjuntor.FECHADO, catalogo.getEstadoDisjuntor(), "Sonda da assinatura seguida da recarga");
+        assertEquals(2L, catalogo.versao().orElseThrow());
+        assertTrue(obter().buscarProduto(PRODUTO_NOVO).isPresent());
+        assertFalse(catalogo.isDesatualizado());
+    }
+
+    @Test
+    @DisplayName("Deve falhar rapidamente sem catálogo carregado e com o banco indisponível")
+    void deveFalharSemCatalogo() {
+        catalogo.produtoRepository = indisponivel();
+
+        ProdutoException erro = assertThrows(ProdutoException.class, catalogo::obter);
+        assertEquals(MensagemErro.CATALOGO_INDISPONIVEL, erro.getMensagemErro());
+        assertThrows(ProdutoException.class, catalogo::obter);
+        assertEquals(EstadoDisjuntor.ABERTO, catalogo.getEstadoDisjuntor());
+        assertThrows(ProdutoException.class, catalogo::obter);
+        assertTrue(catalogo.versao().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve informar a idade da fotografia em uso")
+    void deveInformarIdade() {
+        assertTrue(catalogo.idade().isEmpty());
+        obter();
+
+        avancar(Duration.ofSeconds(90));
+        assertEquals(Duration.ofSeconds(90), catalogo.idade().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve responder na subida com o catálogo gravado, sem consultar o banco")
+    void deveRestaurarCatalogoGravado() throws Exception {
+        Path arquivo = diretorio.resolve("catalogo-produtos.bin");
+        catalogo.arquivo = Optional.of(arquivo.toString());
+        obter();
+        assertTrue(Files.exists(arquivo));
+
+        // Nova instância com o SQL Server indisponível: qualquer consulta falharia
+        CatalogoProdutosService reiniciado = criarCatalogo(indisponivel());
+        reiniciado.arquivo = Optional.of(arquivo.toString());
+        reiniciado.relogio = Clock.offset(catalogo.relogio, Duration.ofMinutes(20));
+        reiniciado.restaurar();
+
+        CatalogoProdutosService.Catalogo restaurado = reiniciado.obter();
+        assertEquals(1L, restaurado.versao());
+        assertEquals(List.of(1, 2, 3, 4), codigos(restaurado));
+        assertEquals(1, restaurado.indice().encontrarMelhorProduto(new BigDecimal("1000"), 12).orElseThrow().getCoProduto());
+        assertTrue(restaurado.buscarProduto(1).isPresent());
+        assertTrue(reiniciado.isDesatualizado(), "A idade conta desde a carga gravada");
+
+        // Com o banco de volta e a mesma assinatura, basta a sonda
+        reiniciado.produtoRepository = produtoRepository;
+        QuarkusTransaction.requiringNew().run(reiniciado::atualizar);
+        assertEquals(1L, reiniciado.versao().orElseThrow());
+        assertSame(restaurado.indice(), reiniciado.obter().indice());
+        assertFalse(reiniciado.isDesatualizado());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar arquivo corrompido e carregar do banco")
+    void deveIgnorarArquivoCorrompido() throws Exception {
+        Path arquivo = diretorio.resolve("catalogo-produtos.bin");
+        Files.write(arquivo, new byte[]{1, 2, 3});
+        catalogo.arquivo = Optional.of(arquivo.toString());
+
+        catalogo.restaurar();
+        assertTrue(catalogo.versao().isEmpty());
+
+        assertEquals(4, obter().produtos().size());
+        assertEquals(1L, catalogo.versao().orElseThrow());
+        assertTrue(Files.size(arquivo) > 3, "O arquivo corrompido é substituído na carga");
+    }
+
+    /**
+     * Fora do CDI as consultas não têm sessão própria; cada leitura roda em uma transação.
+     */
+    private CatalogoProdutosService.Catalogo obter() {
+        return QuarkusTransaction.requiringNew().call(catalogo::obter);
+    }
+
+    private void atualizar() {
+        QuarkusTransaction.requiringNew().run(catalogo::atualizar);
+    }
+
+    private void avancar(Duration duracao) {
+        catalogo.relogio = Clock.offset(catalogo.relogio, duracao);
+    }
+
+    /**
+     * Produto com prazos acima dos usados nos outros testes, para não mudar as simulações deles.
+     */
+    private void inserirProdutoNovo() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            Produto produto = new Produto();
+            produto.setCoProduto(PRODUTO_NOVO);
+            produto.setNoProduto("Produto " + PRODUTO_NOVO);
+            produto.setPcTaxaJuros(new BigDecimal("0.010000000"));
+            produto.setNuMinimoMeses((short) 500);
+            produto.setNuMaximoMeses((short) 600);
+            produto.setVrMinimo(new BigDecimal("200.00"));
+            produtoRepository.persist(produto);
+        });
+    }
+
+    private static List<Integer> codigos(CatalogoProdutosService.Catalogo catalogo) {
+        return catalogo.produtos().stream().map(Produto::getCoProduto).sorted().toList();
+    }
+
+    private static ProdutoRepository indisponivel() {
+        return new ProdutoRepository() {
+            @Override
+            public List<Produto> listAll() {
+                throw new IllegalStateException("SQL Server indisponível");
+            }
+
+            @Override
+            public String calcularAssinatura() {
+                throw new IllegalStateException("SQL Server indisponível");
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
+import emprestimos.v1.domain.enums.TipoAmortizacao;
+import emprestimos.v1.domain.service.strategy.CronogramaCompactado;
+import emprestimos.v1.repository.ParcelaRepository;
+import emprestimos.v1.repository.ResultadoSimulacaoRepository;
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a compactação sobre o H2 migrado pelo Flyway (sequências da V4 e coluna da V5), com os
+ * repositórios reais. A varredura não se limita aos resultados gravados aqui: os que outros testes
+ * deixaram em linhas também podem ser convertidos, o que a leitura do cronograma suporta, por isso
+ * as verificações olham apenas os resultados deste teste. A tarefa agendada está desligada no
+ * perfil de teste, e a instância testada é criada aqui para começar a varredura do zero.
+ */
+@QuarkusTest
+@DisplayName("Compactação dos cronogramas gravados em linhas")
+class CompactacaoCronogramaServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2001, 5, 20);
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @Inject
+    ResultadoSimulacaoRepository resultadoSimulacaoRepository;
+
+    @Inject
+    ParcelaRepository parcelaRepository;
+
+    /**
+     * Resultados gravados pelo teste; o último tem numeração com lacuna e não pode ser compactado.
+     */
+    private final List<Long> resultados = new ArrayList<>();
+
+    private CompactacaoCronogramaService compactacao;
+
+    @BeforeEach
+    void setup() {
+        for (long quantidade = 2; quantidade <= 6; quantidade++) {
+            resultados.add(gravarResultado(numeracao(quantidade)));
+        }
+        resultados.add(gravarResultado(List.of(1L, 3L)));
+
+        compactacao = new CompactacaoCronogramaService();
+        compactacao.resultadoSimulacaoRepository = resultadoSimulacaoRepository;
+        compactacao.parcelaRepository = parcelaRepository;
+        compactacao.armazenamento = ArmazenamentoCronograma.COMPACTADO;
+        compactacao.tamanhoLote = 2;
+    }
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            parcelaRepository.removerPorResultados(resultados);
+            resultadoSimulacaoRepository.delete("id in ?1", resultados);
+            simulacaoRepository.delete("dataReferencia", DIA);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve compactar em lotes e remover as linhas convertidas")
+    void deveCompactarEmLotes() {
+        compactar();
+
+        for (Long id : resultados.subList(0, 5)) {
+            assertNotNull(cronogramaCompactado(id), "Resultado " + id);
+            assertEquals(0L, parcelasEmLinhas(id), "Resultado " + id);
+        }
+        var cronograma = CronogramaCompactado.decodificar(cronogramaCompactado(resultados.get(2)));
+        assertEquals(4, cronograma.size());
+        assertEquals(new BigDecimal("101.04"), cronograma.get(3).getValorPrestacao());
+    }
+
+    @Test
+    @DisplayName("Deve manter em linhas o resultado que não pode ser compactado")
+    void deveManterResultadoInvalidoEmLinhas() {
+        compactar();
+
+        Long invalido = resultados.get(5);
+        assertNull(cronogramaCompactado(invalido));
+        assertEquals(2L, parcelasEmLinhas(invalido));
+    }
+
+    @Test
+    @DisplayName("Não deve converter no armazenamento em linhas nem após concluir a varredura")
+    void naoDeveConverterSemNecessidade() {
+        compactacao.armazenamento = ArmazenamentoCronograma.LINHAS;
+        compactar();
+        assertNull(cronogramaCompactado(resultados.get(0)));
+
+        compactacao.armazenamento = ArmazenamentoCronograma.COMPACTADO;
+        compactar();
+        Long gravadoDepois = gravarResultado(numeracao(3));
+        resultados.add(gravadoDepois);
+        compactar();
+
+        assertNotNull(cronogramaCompactado(resultados.get(0)));
+        assertNull(cronogramaCompactado(gravadoDepois), "Gravado após a varredura: fica para a próxima subida");
+    }
+
+    /**
+     * Fora do CDI o lote não abre a própria transação; a varredura roda em uma só.
+     */
+    private void compactar() {
+        QuarkusTransaction.requiringNew().run(compactacao::compactar);
+    }
+
+    private byte[] cronogramaCompactado(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> resultadoSimulacaoRepository.findById(id).getCronogramaCompactado());
+    }
+
+    private long parcelasEmLinhas(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> parcelaRepository.count("resultadoSimulacao.id", id));
+    }
+
+    private Long gravarResultado(List<Long> numeros) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            var simulacao = new Simulacao();
+            simulacao.setValorDesejado(new BigDecimal("1000.00"));
+            simulacao.setPrazo((long) numeros.size());
+            simulacao.setDataSimulacao(DIA.atTime(10, 0));
+            simulacao.setDataReferencia(DIA);
+            simulacaoRepository.persist(simulacao);
+
+            var resultado = new ResultadoSimulacao();
+            resultado.setTipo(TipoAmortizacao.PRICE);
+            resultado.setSimulacao(simulacao);
+            var parcelas = new ArrayList<Parcela>();
+            for (Long numero : numeros) {
+                var parcela = new Parcela();
+                parcela.setNumero(numero);
+                parcela.setValorAmortizacao(new BigDecimal("100.00"));
+                parcela.setValorJuros(new BigDecimal("1.0" + numero));
+                parcela.setValorPrestacao(new BigDecimal("101.0" + numero));
+                parcela.setResultadoSimulacao(resultado);
+                parcelas.add(parcela);
+            }
+            resultado.setParcelas(parcelas);
+            resultadoSimulacaoRepository.persist(resultado);
+            return resultado.getId();
+        });
+    }
+
+    private static List<Long> numeracao(long quantidade) {
+        var numeros = new ArrayList<Long>();
+        for (long numero = 1; numero <= quantidade; numero++) {
+            numeros.add(numero);
+        }
+        return numeros;
+    }
+}
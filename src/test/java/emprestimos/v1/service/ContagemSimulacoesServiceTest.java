@@ -0,0 +1,100 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Conta no H2 migrado pelo Flyway, com o repositório real; o total esperado é sempre lido do banco,
+ * porque outros testes também gravam simulações. A instância testada é criada aqui para começar
+ * sem total.
+ */
+@QuarkusTest
+@DisplayName("Contagem de simulações da listagem")
+class ContagemSimulacoesServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2001, 6, 5);
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    private ContagemSimulacoesService contagem;
+
+    @BeforeEach
+    void setup() {
+        contagem = new ContagemSimulacoesService();
+        contagem.simulacaoRepository = simulacaoRepository;
+    }
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> simulacaoRepository.delete("dataReferencia", DIA));
+    }
+
+    @Test
+    @DisplayName("Deve contar no banco apenas na primeira consulta e somar as simulações registradas")
+    void deveContarUmaVezESomarRegistradas() {
+        assertEquals(gravadas(), total());
+
+        gravar(3);
+        contagem.registrar(1);
+        contagem.registrar(2);
+        assertEquals(gravadas(), total());
+
+        gravar(1);
+        assertEquals(gravadas() - 1, total(), "Sem registro nem recontagem, a gravação não aparece");
+    }
+
+    @Test
+    @DisplayName("Deve corrigir o total na recontagem agendada e mantê-lo se o banco falhar")
+    void deveCorrigirNaRecontagem() {
+        contagem.registrar(5);
+        long antes = gravadas();
+        assertEquals(antes, total(), "Registros antes da primeira contagem são ignorados");
+
+        gravar(2);
+        QuarkusTransaction.requiringNew().run(contagem::atualizar);
+        assertEquals(gravadas(), total());
+
+        contagem.simulacaoRepository = new SimulacaoRepository() {
+            @Override
+            public long count() {
+                throw new IllegalStateException("banco indisponível");
+            }
+        };
+        contagem.atualizar();
+        assertEquals(antes + 2, contagem.total());
+    }
+
+    private long total() {
+        return QuarkusTransaction.requiringNew().call(contagem::total);
+    }
+
+    private long gravadas() {
+        return QuarkusTransaction.requiringNew().call(simulacaoRepository::count);
+    }
+
+    private void gravar(int quantidade) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (int indice = 0; indice < quantidade; indice++) {
+                var simulacao = new Simulacao();
+                simulacao.setValorDesejado(new BigDecimal("1000.00"));
+                simulacao.setPrazo(12L);
+                simulacao.setDataSimulacao(DIA.atTime(10, 0));
+                simulacao.setDataReferencia(DIA);
+                simulacaoRepository.persist(simulacao);
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.enums.EstadoDisjuntor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Disjuntor de chamadas remotas")
+class DisjuntorTest {
+
+    private static final Supplier<String> FALHA = () -> {
+        throw new IllegalStateException("indisponível");
+    };
+
+    private Instant agora;
+    private Disjuntor disjuntor;
+
+    @BeforeEach
+    void setup() {
+        agora = Instant.parse("2024-10-17T12:00:00Z");
+        disjuntor = new Disjuntor("teste", 3, Duration.ofSeconds(30), () -> agora);
+    }
+
+    @Test
+    @DisplayName("Deve abrir após falhas consecutivas e zerar a contagem no sucesso")
+    void deveAbrirAposFalhasConsecutivas() {
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertEquals("ok", disjuntor.executar(() -> "ok"));
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertEquals(EstadoDisjuntor.FECHADO, disjuntor.getEstado());
+
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertEquals(EstadoDisjuntor.ABERTO, disjuntor.getEstado());
+        assertThrows(Disjuntor.DisjuntorAbertoException.class, () -> disjuntor.executar(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando a sonda falha e fechar quando ela tem sucesso")
+    void deveDecidirPelaSonda() {
+        abrir();
+
+        agora = agora.plusSeconds(30);
+        assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        assertEquals(EstadoDisjuntor.ABERTO, disjuntor.getEstado());
+        assertThrows(Disjuntor.DisjuntorAbertoException.class, () -> disjuntor.executar(() -> "ok"));
+
+        agora = agora.plusSeconds(30);
+        assertEquals("ok", disjuntor.executar(() -> "ok"));
+        assertEquals(EstadoDisjuntor.FECHADO, disjuntor.getEstado());
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma única sonda enquanto está meio aberto")
+    void deveLiberarUmaUnicaSonda() throws Exception {
+        abrir();
+        agora = agora.plusSeconds(30);
+
+        CountDownLatch sondaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarSonda = new CountDownLatch(1);
+        AtomicInteger chamadas = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> sonda = executor.submit(() -> disjuntor.executar(() -> {
+                chamadas.incrementAndGet();
+                sondaIniciada.countDown();
+                try {
+                    liberarSonda.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "sonda";
+            }));
+            sondaIniciada.await();
+
+            assertEquals(EstadoDisjuntor.MEIO_ABERTO, disjuntor.getEstado());
+            assertThrows(Disjuntor.DisjuntorAbertoException.class, () -> disjuntor.executar(() -> "concorrente"));
+
+            liberarSonda.countDown();
+            assertEquals("sonda", sonda.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, chamadas.get());
+        assertEquals(EstadoDisjuntor.FECHADO, disjuntor.getEstado());
+    }
+
+    private void abrir() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> disjuntor.executar(FALHA));
+        }
+        assertEquals(EstadoDisjuntor.ABERTO, disjuntor.getEstado());
+    }
+}
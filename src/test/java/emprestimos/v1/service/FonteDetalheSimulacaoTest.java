@@ -0,0 +1,167 @@
+package emprestimos.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import emprestimos.v1.domain.dto.simulacao.create.request.SimulacaoCreateDTO;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.enums.ArmazenamentoCronograma;
+import emprestimos.v1.domain.enums.FonteDetalheSimulacao;
+import emprestimos.v1.domain.service.CalculadoraFinanceiraService;
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara as fontes do detalhe ({@link FonteDetalheSimulacao}) sobre o H2 migrado pelo Flyway. As
+ * simulações são gravadas pelo próprio serviço, com os resultados em linhas ou compactados, na data
+ * corrente como nos testes de recurso, e removidas ao final; o serviço volta à configuração do
+ * perfil de teste.
+ */
+@QuarkusTest
+@DisplayName("Fonte do detalhe da simulação")
+class FonteDetalheSimulacaoTest {
+
+    private static final String REQUEST_ID = "fonte-detalhe";
+
+    private static final int PRAZO = 24;
+
+    @Inject
+    SimulacaoService simulacaoService;
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @Inject
+    CatalogoProdutosService catalogoProdutos;
+
+    @Inject
+    CalculadoraFinanceiraService calculadoraFinanceira;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final List<Long> gravadas = new ArrayList<>();
+
+    private SimulacaoService servico;
+    private FonteDetalheSimulacao fonteOriginal;
+    private ArmazenamentoCronograma armazenamentoOriginal;
+
+    @BeforeEach
+    void setup() {
+        servico = ClientProxy.unwrap(simulacaoService);
+        fonteOriginal = servico.fonteDetalhe;
+        armazenamentoOriginal = servico.armazenamentoCronograma;
+    }
+
+    @AfterEach
+    void limpar() {
+        servico.fonteDetalhe = fonteOriginal;
+        servico.armazenamentoCronograma = armazenamentoOriginal;
+        QuarkusTransaction.requiringNew().run(() -> gravadas.forEach(id ->
+            simulacaoRepository.findByIdOptional(id).ifPresent(simulacaoRepository::delete)));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo detalhe e as mesmas parcelas com os resultados gravados em linhas")
+    void deveCoincidirComResultadosEmLinhas() {
+        assertFontesIdenticas(gravar(ArmazenamentoCronograma.LINHAS));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo detalhe e as mesmas parcelas com os resultados compactados")
+    void deveCoincidirComResultadosCompactados() {
+        assertFontesIdenticas(gravar(ArmazenamentoCronograma.COMPACTADO));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular a simulação sem resultados gravados também na fonte GRAVADO")
+    void deveRecalcularSemResultadosGravados() {
+        Long id = gravar(ArmazenamentoCronograma.LINHAS);
+        QuarkusTransaction.requiringNew().run(() -> simulacaoRepository.findById(id).getResultadosSimulacao().clear());
+
+        assertFontesIdenticas(id);
+        servico.fonteDetalhe = FonteDetalheSimulacao.GRAVADO;
+        var detalhe = QuarkusTransaction.requiringNew().call(() -> servico.buscarSimulacaoPorId(id, REQUEST_ID));
+        assertEquals(2, detalhe.getResultadosSimulacao().size());
+        detalhe.getResultadosSimulacao().forEach(resultado -> assertEquals(PRAZO, resultado.getParcelas().size()));
+    }
+
+    @Test
+    @DisplayName("Não deve carregar resultados nem parcelas na fonte RECALCULADO")
+    void naoDeveCarregarResultadosNoRecalculo() {
+        Long id = gravar(ArmazenamentoCronograma.LINHAS);
+
+        servico.fonteDetalhe = FonteDetalheSimulacao.RECALCULADO;
+        assertEquals(Set.of(Simulacao.class.getName()), entidadesCarregadas(id));
+
+        servico.fonteDetalhe = FonteDetalheSimulacao.GRAVADO;
+        assertTrue(entidadesCarregadas(id).containsAll(Set.of(ResultadoSimulacao.class.getName(), Parcela.class.getName())),
+            "Na fonte GRAVADO os resultados e as parcelas são lidos");
+    }
+
+    /**
+     * Respostas do detalhe e das parcelas de cada tipo, serializadas como na API, nas duas fontes.
+     */
+    private void assertFontesIdenticas(Long id) {
+        servico.fonteDetalhe = FonteDetalheSimulacao.GRAVADO;
+        var gravado = respostas(id);
+        servico.fonteDetalhe = FonteDetalheSimulacao.RECALCULADO;
+        var recalculado = respostas(id);
+
+        assertEquals(recalculado, gravado);
+    }
+
+    private List<String> respostas(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> List.of(
+            objectMapper.writeValueAsString(servico.buscarSimulacaoPorId(id, REQUEST_ID)),
+            objectMapper.writeValueAsString(servico.buscarParcelasPorTipoAmortizacao(id, "SAC", REQUEST_ID)),
+            objectMapper.writeValueAsString(servico.buscarParcelasPorTipoAmortizacao(id, "PRICE", REQUEST_ID))));
+    }
+
+    /**
+     * Entidades presentes no contexto de persistência depois do detalhe e das parcelas SAC.
+     */
+    private Set<String> entidadesCarregadas(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            servico.buscarSimulacaoPorId(id, REQUEST_ID);
+            servico.buscarParcelasPorTipoAmortizacao(id, "SAC", REQUEST_ID);
+            return simulacaoRepository.getEntityManager().unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .map(EntityKey.class::cast)
+                .map(EntityKey::getEntityName)
+                .collect(Collectors.toSet());
+        });
+    }
+
+    /**
+     * Grava pelo serviço, como na criação, no armazenamento informado.
+     */
+    private Long gravar(ArmazenamentoCronograma armazenamento) {
+        servico.armazenamentoCronograma = armazenamento;
+        var solicitacao = new SimulacaoCreateDTO();
+        solicitacao.setValorDesejado(new BigDecimal("5000.00"));
+        solicitacao.setPrazo(PRAZO);
+        var produto = catalogoProdutos.obter().buscarProduto(1).orElseThrow();
+        var calculada = calculadoraFinanceira.calcularSimulacaoCompleta(solicitacao, produto);
+
+        var simulacao = simulacaoService.persistirSimulacao(solicitacao, produto, calculada, solicitacao.getValorDesejado());
+        gravadas.add(simulacao.getId());
+        return simulacao.getId();
+    }
+}
@@ -0,0 +1,166 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.domain.service.IndiceElegibilidade;
+import emprestimos.v1.repository.ResumoDiarioProdutoRepository;
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a varredura sobre o H2 migrado pelo Flyway, com os repositórios reais. O catálogo fica
+ * no SQL Server e é substituído por um índice fixo; a tarefa agendada está desligada no perfil de
+ * teste, e a instância testada é criada aqui para começar a varredura do zero.
+ */
+@QuarkusTest
+@DisplayName("Preenchimento do produto das simulações anteriores")
+class PreenchimentoProdutoSimulacaoServiceTest {
+
+    /**
+     * Dia sem simulações de outros testes; as gravadas aqui são removidas ao final.
+     */
+    private static final LocalDate DIA = LocalDate.of(2001, 3, 15);
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @Inject
+    ResumoDiarioProdutoRepository resumoRepository;
+
+    @Inject
+    ResumoDiarioProdutoService resumoDiario;
+
+    private final IndiceElegibilidade indice = IndiceElegibilidade.criar(List.of(
+        produto(1, "0.0179", 0, 24, "200.00", "10000.00"),
+        produto(2, "0.0175", 25, 48, "10001.00", "100000.00")));
+
+    private PreenchimentoProdutoSimulacaoService preenchimento;
+
+    @BeforeEach
+    void setup() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (int numero = 1; numero <= 7; numero++) {
+                simulacaoRepository.persist(simulacao(numero % 2 == 0 ? "50000.00" : "5000.00", numero % 2 == 0 ? 36L : 12L));
+            }
+            // Fora de qualquer produto
+            simulacaoRepository.persist(simulacao("50.00", 12L));
+        });
+
+        preenchimento = new PreenchimentoProdutoSimulacaoService();
+        preenchimento.simulacaoRepository = simulacaoRepository;
+        preenchimento.resumoDiario = resumoDiario;
+        preenchimento.tamanhoLote = 3;
+        preenchimento.catalogoProdutos = catalogo(indice);
+    }
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            simulacaoRepository.delete("dataReferencia", DIA);
+            resumoRepository.delete("dataReferencia", DIA);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve gravar o produto elegível em lotes, pular as simulações sem produto e recalcular o resumo do dia")
+    void devePreencherEmLotes() {
+        preencher();
+
+        assertEquals(Arrays.asList(1, 2, 1, 2, 1, 2, 1, null), produtosGravados());
+
+        var resumos = QuarkusTransaction.requiringNew().call(() -> resumoDiario.listarPorData(DIA, null));
+        assertEquals(List.of(1, 2), resumos.stream().map(ResumoDiarioProduto::getCoProduto).toList());
+        assertEquals(4L, resumos.get(0).getQuantidade());
+        assertEquals(new BigDecimal("20000.00"), resumos.get(0).getSomaValorDesejado());
+        assertEquals(3L, resumos.get(1).getQuantidade());
+        assertEquals(new BigDecimal("150000.00"), resumos.get(1).getSomaValorDesejado());
+    }
+
+    @Test
+    @DisplayName("Deve parar de consultar o banco após concluir a varredura")
+    void deveConcluirVarredura() {
+        preencher();
+        QuarkusTransaction.requiringNew().run(() -> simulacaoRepository.persist(simulacao("5000.00", 12L)));
+        preencher();
+
+        assertNull(produtosGravados().get(8), "Gravada após a varredura: fica para a próxima subida");
+    }
+
+    @Test
+    @DisplayName("Deve retomar na execução seguinte quando o catálogo está indisponível")
+    void deveRetomarAposFalha() {
+        preenchimento.catalogoProdutos = new CatalogoProdutosService() {
+            @Override
+            public Catalogo obter() {
+                throw new IllegalStateException("SQL Server indisponível");
+            }
+        };
+        preencher();
+        assertTrue(produtosGravados().stream().allMatch(produto -> produto == null));
+
+        preenchimento.catalogoProdutos = catalogo(indice);
+        preencher();
+        assertEquals(7, produtosGravados().stream().filter(produto -> produto != null).count());
+    }
+
+    /**
+     * Fora do CDI o lote não abre a própria transação; a varredura roda em uma só.
+     */
+    private void preencher() {
+        QuarkusTransaction.requiringNew().run(preenchimento::preencher);
+    }
+
+    private List<Integer> produtosGravados() {
+        return QuarkusTransaction.requiringNew().call(() -> simulacaoRepository
+            .list("dataReferencia", Sort.by("id"), DIA).stream()
+            .map(Simulacao::getCoProduto)
+            .toList());
+    }
+
+    private static CatalogoProdutosService catalogo(IndiceElegibilidade indice) {
+        return new CatalogoProdutosService() {
+            @Override
+            public Catalogo obter() {
+                return new Catalogo(1L, null, null, "", indice, Map.of());
+            }
+        };
+    }
+
+    private static Simulacao simulacao(String valor, Long prazo) {
+        var simulacao = new Simulacao();
+        simulacao.setValorDesejado(new BigDecimal(valor));
+        simulacao.setPrazo(prazo);
+        simulacao.setDataSimulacao(DIA.atTime(10, 0));
+        simulacao.setDataReferencia(DIA);
+        return simulacao;
+    }
+
+    private static Produto produto(int codigo, String taxa, int prazoMinimo, int prazoMaximo,
+                                   String valorMinimo, String valorMaximo) {
+        Produto produto = new Produto();
+        produto.setCoProduto(codigo);
+        produto.setNoProduto("Produto " + codigo);
+        produto.setPcTaxaJuros(new BigDecimal(taxa));
+        produto.setNuMinimoMeses((short) prazoMinimo);
+        produto.setNuMaximoMeses((short) prazoMaximo);
+        produto.setVrMinimo(new BigDecimal(valorMinimo));
+        produto.setVrMaximo(new BigDecimal(valorMaximo));
+        return produto;
+    }
+}
@@ -0,0 +1,208 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.dto.simulacao.por_produto_dia.response.SimulacaoPorProdutoDiaDTO;
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.entity.remote.Produto;
+import emprestimos.v1.mapper.ProdutoAggregationMapper;
+import emprestimos.v1.repository.ResumoDiarioProdutoRepository;
+import emprestimos.v1.repository.SimulacaoRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa o resumo sobre o H2 migrado pelo Flyway, com o repositório real. Os dias usados não têm
+ * simulações de outros testes, e as linhas e simulações gravadas são removidas ao final; a
+ * reconstrução agendada está desligada no perfil de teste.
+ */
+@QuarkusTest
+@DisplayName("Resumo diário de simulações por produto")
+class ResumoDiarioProdutoServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2001, 4, 10);
+
+    private static final LocalDate ONTEM = LocalDate.now().minusDays(1);
+
+    @Inject
+    ResumoDiarioProdutoService resumo;
+
+    @Inject
+    ResumoDiarioProdutoRepository resumoRepository;
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (var dia : List.of(DIA, ONTEM)) {
+                simulacaoRepository.delete("dataReferencia", dia);
+                resumoRepository.delete("dataReferencia", dia);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Deve somar as simulações por dia e produto, criando a linha ausente")
+    void deveSomarSimulacoes() {
+        registrar(List.of(
+            simulacao(DIA, 2, "10000.00", "0.0175", "500.00", "12000.00"),
+            simulacao(DIA, 1, "5000.00", "0.0179", "450.00", "5400.00"),
+            simulacao(DIA, 2, "20000.00", "0.0175", "900.00", "23000.00"),
+            simulacao(DIA, null, "1.00", "0.0100", "1.00", "1.00")));
+        registrar(List.of(simulacao(DIA, 1, "3000.00", "0.0179", "270.00", "3240.00")));
+
+        var produto1 = linha(DIA, 1);
+        assertEquals(2L, produto1.getQuantidade());
+        assertEquals(new BigDecimal("0.0358"), produto1.getSomaTaxaJuros());
+        assertEquals(new BigDecimal("8000.00"), produto1.getSomaValorDesejado());
+        assertEquals(new BigDecimal("8640.00"), produto1.getSomaValorTotalCredito());
+
+        var produto2 = linha(DIA, 2);
+        assertEquals(2L, produto2.getQuantidade());
+        assertEquals(new BigDecimal("1400.00"), produto2.getSomaValorMedioPrestacao());
+        assertEquals(2, QuarkusTransaction.requiringNew().call(() -> resumo.listarPorData(DIA, null)).size(),
+            "Simulações sem produto não entram no resumo");
+    }
+
+    @Test
+    @DisplayName("Deve somar todas as simulações quando várias transações criam a mesma linha ao mesmo tempo")
+    void deveSomarCriacoesConcorrentes() throws Exception {
+        int transacoes = 8;
+        var largada = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(transacoes);
+        try {
+            var pendentes = new ArrayList<Future<?>>();
+            for (int indice = 0; indice < transacoes; indice++) {
+                pendentes.add(executor.submit(() -> {
+                    largada.await();
+                    registrar(List.of(simulacao(DIA, 3, "1000.00", "0.0182", "100.00", "1200.00")));
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (var pendente : pendentes) {
+                pendente.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        var linha = linha(DIA, 3);
+        assertEquals(transacoes, linha.getQuantidade());
+        assertEquals(new BigDecimal("8000.00"), linha.getSomaValorDesejado());
+    }
+
+    @Test
+    @DisplayName("Deve criar a linha do dia uma única vez e recriá-la no registro se ela sumir")
+    void devePrepararLinhaUmaVez() {
+        resumo.prepararLinha(DIA, 1);
+        var criada = linha(DIA, 1);
+        assertEquals(0L, criada.getQuantidade());
+
+        // Já preparada: a linha removida por fora não é recriada aqui, e sim pelo registro
+        QuarkusTransaction.requiringNew().run(() -> resumoRepository.delete("dataReferencia", DIA));
+        resumo.prepararLinha(DIA, 1);
+        assertNull(QuarkusTransaction.requiringNew().call(() -> resumoRepository.findById(new ResumoDiarioProduto.Chave(DIA, 1))));
+
+        registrar(List.of(simulacao(DIA, 1, "5000.00", "0.0179", "450.00", "5400.00")));
+        assertEquals(1L, linha(DIA, 1).getQuantidade());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir apenas os dias informados anteriores ao corrente")
+    void deveReconstruirDias() {
+        var hoje = LocalDate.now();
+        QuarkusTransaction.requiringNew().run(() -> {
+            simulacaoRepository.persist(simulacao(DIA, 1, "5000.00", "0.0179", "450.00", "5400.00"));
+            simulacaoRepository.persist(simulacao(DIA, 1, "3000.00", "0.0179", "270.00", "3240.00"));
+            simulacaoRepository.persist(simulacao(DIA, 2, "20000.00", "0.0175", "900.00", "23000.00"));
+        });
+        var antesHoje = QuarkusTransaction.requiringNew().call(() -> resumo.listarPorData(hoje, null));
+
+        QuarkusTransaction.requiringNew().run(() -> resumo.reconstruirDias(Set.of(DIA, hoje)));
+
+        assertEquals(2L, linha(DIA, 1).getQuantidade());
+        assertEquals(new BigDecimal("8000.00"), linha(DIA, 1).getSomaValorDesejado());
+        assertEquals(1L, linha(DIA, 2).getQuantidade());
+        var depoisHoje = QuarkusTransaction.requiringNew().call(() -> resumo.listarPorData(hoje, null));
+        assertEquals(antesHoje.stream().map(ResumoDiarioProduto::getQuantidade).toList(),
+            depoisHoje.stream().map(ResumoDiarioProduto::getQuantidade).toList(), "O dia corrente não é reconstruído");
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir na tarefa agendada somente o dia anterior")
+    void deveReconstruirSomenteDiaAnterior() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            simulacaoRepository.persist(simulacao(ONTEM, 2, "20000.00", "0.0175", "900.00", "23000.00"));
+            simulacaoRepository.persist(simulacao(DIA, 2, "20000.00", "0.0175", "900.00", "23000.00"));
+        });
+
+        resumo.reconstruirDiaAnterior();
+
+        assertEquals(1L, linha(ONTEM, 2).getQuantidade());
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> resumo.listarPorData(DIA, null)).isEmpty(),
+            "O histórico não é reconstruído pela tarefa diária");
+    }
+
+    @Test
+    @DisplayName("Deve calcular médias e totais a partir das somas")
+    void deveCalcularMedias() {
+        registrar(List.of(
+            simulacao(DIA, 1, "5000.00", "0.0179", "450.00", "5400.00"),
+            simulacao(DIA, 1, "3000.00", "0.0180", "270.01", "3240.00"),
+            simulacao(DIA, 1, "2000.00", "0.0179", "180.00", "2160.00")));
+        var produto = new Produto();
+        produto.setCoProduto(1);
+        produto.setNoProduto("Produto 1");
+
+        SimulacaoPorProdutoDiaDTO dto = new ProdutoAggregationMapper().toAggregatedSimulacaoPorProdutoDiaDTO(produto, linha(DIA, 1));
+
+        assertEquals(0.0179, dto.getTaxaMediaJuro());
+        assertEquals(300.0, dto.getValorMedioPrestacao());
+        assertEquals(10000.0, dto.getValorTotalDesejado());
+        assertEquals(10800.0, dto.getValorTotalCredito());
+        assertNull(new ProdutoAggregationMapper().toAggregatedSimulacaoPorProdutoDiaDTO(produto, new ResumoDiarioProduto(DIA, 1)));
+    }
+
+    /**
+     * Registra na transação da gravação, como a criação de simulações.
+     */
+    private void registrar(List<Simulacao> simulacoes) {
+        QuarkusTransaction.requiringNew().run(() -> resumo.registrar(simulacoes));
+    }
+
+    private ResumoDiarioProduto linha(LocalDate dia, Integer coProduto) {
+        var linha = QuarkusTransaction.requiringNew().call(() -> resumoRepository.findById(new ResumoDiarioProduto.Chave(dia, coProduto)));
+        assertNotNull(linha, "Linha " + dia + "/" + coProduto);
+        return linha;
+    }
+
+    private static Simulacao simulacao(LocalDate dia, Integer produto, String valor, String taxa, String prestacaoMedia, String credito) {
+        var simulacao = new Simulacao();
+        simulacao.setCoProduto(produto);
+        simulacao.setDataReferencia(dia);
+        simulacao.setDataSimulacao(dia.atTime(10, 0));
+        simulacao.setValorDesejado(new BigDecimal(valor));
+        simulacao.setPrazo(12L);
+        simulacao.setTaxaMediaJuros(new BigDecimal(taxa));
+        simulacao.setValorMedioPrestacao(new BigDecimal(prestacaoMedia));
+        simulacao.setValorTotalCredito(new BigDecimal(credito));
+        return simulacao;
+    }
+}
@@ -0,0 +1,150 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.benchmark.Medicao;
+import emprestimos.v1.domain.entity.local.Parcela;
+import emprestimos.v1.domain.entity.local.RegistroAuditoria;
+import emprestimos.v1.domain.entity.local.ResultadoSimulacao;
+import emprestimos.v1.domain.entity.local.ResumoDiarioProduto;
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.domain.service.SegmentoSimulacoesDia;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark da consulta por produto e dia no dia corrente: a projeção lida do cursor do banco,
+ * como em {@code SimulacaoRepository#percorrerPorDataEProduto}, contra o segmento em memória
+ * ({@link SegmentoSimulacoesDia}). Usa o esquema das migrações em um banco H2 em arquivo, recriado
+ * em {@code target/benchmark}. Executar com {@code mvn test -Dtest=SimulacoesDiaCorrenteBenchmark}.
+ */
+@DisplayName("Benchmark das simulações do dia corrente em memória")
+class SimulacoesDiaCorrenteBenchmark {
+
+    private static final int[] QUANTIDADES = {1_000, 20_000, 100_000};
+
+    private static final int PRODUTOS = 4;
+
+    private static final Path DIRETORIO = Path.of("target", "benchmark");
+
+    private static final String CONSULTA = "select s.id, s.coProduto, s.valorDesejado, s.prazo, s.taxaMediaJuros, "
+            + "s.valorMedioPrestacao, s.valorTotalDesejado, s.valorTotalCredito from Simulacao s "
+            + "where s.dataReferencia = :data and s.coProduto = :coProduto order by s.id";
+
+    @Test
+    @DisplayName("Latência da consulta de um produto no dia: banco versus memória")
+    void medirConsulta() throws IOException {
+        var hoje = LocalDate.now();
+        System.out.printf("%-9s %-8s %12s %14s%n", "simulações", "fonte", "consulta", "alocação");
+        for (int quantidade : QUANTIDADES) {
+            var arquivo = DIRETORIO.resolve("dia-corrente-" + quantidade);
+            Files.deleteIfExists(Path.of(arquivo + ".mv.db"));
+            var url = "jdbc:h2:file:" + arquivo.toAbsolutePath();
+            Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+            try (var fabrica = criarFabrica(url)) {
+                gravar(fabrica, hoje, quantidade);
+
+                var segmento = new SegmentoSimulacoesDia(hoje, quantidade);
+                fabrica.inTransaction(sessao -> sessao.createQuery(CONSULTA.replace("and s.coProduto = :coProduto ", ""), Object[].class)
+                        .setParameter("data", hoje)
+                        .getResultStream()
+                        .forEach(linha -> segmento.adicionar(paraSimulacao(linha))));
+                segmento.concluirCarga();
+                assertEquals(lerDoBanco(fabrica, hoje, 2), lerDaMemoria(segmento, 2));
+
+                int iteracoes = Math.max(20, 2_000_000 / quantidade);
+                var banco = Medicao.medir("banco", iteracoes / 10, iteracoes, () -> lerDoBanco(fabrica, hoje, 2));
+                var memoria = Medicao.medir("memória", iteracoes / 10, iteracoes, () -> lerDaMemoria(segmento, 2));
+                for (var resultado : new Medicao.Resultado[]{banco, memoria}) {
+                    System.out.printf("%-9d %-8s %9.1f us %11.0f KB%n", quantidade, resultado.nome(),
+                            resultado.microsPorOperacao(), resultado.bytesPorOperacao() / 1024);
+                }
+            }
+        }
+    }
+
+    private static BigDecimal lerDoBanco(SessionFactory fabrica, LocalDate dia, int coProduto) {
+        return fabrica.fromTransaction(sessao -> {
+            var soma = new Soma();
+            sessao.createQuery(CONSULTA, Object[].class)
+                    .setParameter("data", dia)
+                    .setParameter("coProduto", coProduto)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                    .getResultStream()
+                    .forEach(linha -> soma.accept(paraSimulacao(linha)));
+            return soma.total;
+        });
+    }
+
+    private static BigDecimal lerDaMemoria(SegmentoSimulacoesDia segmento, int coProduto) {
+        var soma = new Soma();
+        segmento.percorrer(coProduto, soma);
+        return soma.total;
+    }
+
+    private static SimulacaoDoDia paraSimulacao(Object[] linha) {
+        return new SimulacaoDoDia((Long) linha[0], (Integer) linha[1], (BigDecimal) linha[2], (Long) linha[3],
+                (BigDecimal) linha[4], (BigDecimal) linha[5], (BigDecimal) linha[6], (BigDecimal) linha[7]);
+    }
+
+    /**
+     * Consome cada simulação como a montagem da resposta, somando o valor total do crédito.
+     */
+    private static final class Soma implements Consumer<SimulacaoDoDia> {
+
+        BigDecimal total = BigDecimal.ZERO;
+
+        @Override
+        public void accept(SimulacaoDoDia simulacao) {
+            total = total.add(simulacao.valorTotalCredito());
+        }
+    }
+
+    /**
+     * Grava as simulações do dia, distribuídas entre os produtos, e um dia anterior de mesmo volume.
+     */
+    private static void gravar(SessionFactory fabrica, LocalDate dia, int quantidade) {
+        fabrica.inTransaction(sessao -> {
+            for (var data : new LocalDate[]{dia.minusDays(1), dia}) {
+                sessao.createNativeMutationQuery("insert into simulacao (valor_desejado, prazo, taxa_media_juros, "
+                                + "valor_medio_prestacao, valor_total_desejado, valor_total_credito, data_simulacao, "
+                                + "co_produto, data_referencia) "
+                                + "select 1000 + mod(x * 7919, 500000) / 100.0, 12 + mod(x, 348), 0.0179, "
+                                + "100 + mod(x, 9000) / 100.0, 1000 + mod(x * 7919, 500000) / 100.0, "
+                                + "1200 + mod(x * 7919, 600000) / 100.0, cast(:data as timestamp), "
+                                + "1 + mod(x, " + PRODUTOS + "), :data from system_range(1, :quantidade)")
+                        .setParameter("data", data)
+                        .setParameter("quantidade", quantidade)
+                        .executeUpdate();
+            }
+        });
+    }
+
+    private static SessionFactory criarFabrica(String url) {
+        var registro = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+            .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+            .build();
+        return new MetadataSources(registro)
+            .addAnnotatedClasses(Simulacao.class, ResultadoSimulacao.class, Parcela.class,
+                RegistroAuditoria.class, ResumoDiarioProduto.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+}
@@ -0,0 +1,168 @@
+package emprestimos.v1.service;
+
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.repository.SimulacaoRepository;
+import emprestimos.v1.repository.SimulacaoRepository.SimulacaoDoDia;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carrega o segmento do H2 migrado pelo Flyway, com o repositório real. O dia usado não tem
+ * simulações de outros testes, e as gravadas aqui são removidas ao final; a instância testada é
+ * criada aqui para começar sem segmento.
+ */
+@QuarkusTest
+@DisplayName("Simulações do dia corrente em memória")
+class SimulacoesDiaCorrenteServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2001, 7, 10);
+
+    @Inject
+    SimulacaoRepository simulacaoRepository;
+
+    private final List<Long> gravadas = new ArrayList<>();
+
+    private SimulacoesDiaCorrenteService diaCorrente;
+
+    @BeforeEach
+    void setup() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (Integer produto : new Integer[] {2, 1, 2, null, 1}) {
+                var simulacao = simulacao(DIA, produto);
+                simulacaoRepository.persist(simulacao);
+                gravadas.add(simulacao.getId());
+            }
+        });
+
+        diaCorrente = new SimulacoesDiaCorrenteService();
+        diaCorrente.simulacaoRepository = simulacaoRepository;
+        diaCorrente.habilitado = true;
+        diaCorrente.limite = 1_000;
+    }
+
+    @AfterEach
+    void limpar() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            simulacaoRepository.delete("dataReferencia", DIA);
+            simulacaoRepository.delete("dataReferencia", DIA.plusDays(1));
+        });
+    }
+
+    @Test
+    @DisplayName("Deve percorrer as simulações do dia em ordem de id, de todos os produtos ou de um só")
+    void devePercorrerPorDataEProduto() {
+        assertEquals(gravadas, percorrer(null));
+        assertEquals(List.of(gravadas.get(1), gravadas.get(4)), percorrer(1));
+        assertEquals(List.of(gravadas.get(0), gravadas.get(2)), percorrer(2));
+        assertTrue(percorrer(3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o dia do banco e somar as simulações registradas depois")
+    void deveCarregarESomarRegistradas() {
+        reconstruir();
+        var registrada = gravar(DIA, 1);
+        diaCorrente.registrar(List.of(registrada));
+
+        var esperados = new ArrayList<>(gravadas);
+        esperados.add(registrada.getId());
+        assertEquals(esperados, ids(DIA, null));
+        assertEquals(List.of(gravadas.get(1), gravadas.get(4), registrada.getId()), ids(DIA, 1));
+        assertTrue(diaCorrente.segmento(DIA.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve iniciar um segmento vazio com a primeira simulação do dia seguinte")
+    void deveVirarODia() {
+        reconstruir();
+        var amanha = gravar(DIA.plusDays(1), 1);
+        diaCorrente.registrar(List.of(amanha));
+        diaCorrente.registrar(List.of(gravar(DIA, 1)));
+
+        assertTrue(diaCorrente.segmento(DIA).isEmpty(), "O dia anterior passa a ser consultado no banco");
+        assertEquals(List.of(amanha.getId()), ids(DIA.plusDays(1), null));
+    }
+
+    @Test
+    @DisplayName("Deve deixar as consultas no banco se a memória estiver desabilitada")
+    void deveManterConsultasNoBancoDesabilitado() {
+        reconstruir();
+        diaCorrente.habilitado = false;
+        diaCorrente.registrar(List.of(gravar(DIA.plusDays(1), 1)));
+
+        assertTrue(diaCorrente.segmento(DIA).isEmpty());
+        diaCorrente.habilitado = true;
+        assertEquals(gravadas, ids(DIA, null), "Desabilitado, o registro não vira o dia");
+    }
+
+    @Test
+    @DisplayName("Deve deixar as consultas no banco se a carga falhar")
+    void deveManterConsultasNoBancoSemCarga() {
+        diaCorrente.simulacaoRepository = new SimulacaoRepository() {
+            @Override
+            public Stream<SimulacaoDoDia> percorrerPorDataEProduto(LocalDate data, Integer coProduto) {
+                throw new IllegalStateException("banco indisponível");
+            }
+        };
+        diaCorrente.reconstruir(DIA);
+        diaCorrente.registrar(List.of(gravar(DIA, 1)));
+        assertTrue(diaCorrente.segmento(DIA).isEmpty());
+
+        diaCorrente.simulacaoRepository = simulacaoRepository;
+        reconstruir();
+        assertEquals(gravadas.size() + 1, diaCorrente.segmento(DIA).orElseThrow().tamanho());
+    }
+
+    /**
+     * Fora do CDI a carga não abre a própria transação, e o cursor precisa de uma.
+     */
+    private void reconstruir() {
+        QuarkusTransaction.requiringNew().run(() -> diaCorrente.reconstruir(DIA));
+    }
+
+    private List<Long> percorrer(Integer coProduto) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            try (var simulacoes = simulacaoRepository.percorrerPorDataEProduto(DIA, coProduto)) {
+                return simulacoes.map(SimulacaoDoDia::id).toList();
+            }
+        });
+    }
+
+    private List<Long> ids(LocalDate dia, Integer coProduto) {
+        var ids = new ArrayList<Long>();
+        diaCorrente.segmento(dia).orElseThrow().percorrer(coProduto, simulacao -> ids.add(simulacao.id()));
+        return ids;
+    }
+
+    private Simulacao gravar(LocalDate dia, Integer produto) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            var simulacao = simulacao(dia, produto);
+            simulacaoRepository.persist(simulacao);
+            return simulacao;
+        });
+    }
+
+    private static Simulacao simulacao(LocalDate dia, Integer produto) {
+        var simulacao = new Simulacao();
+        simulacao.setCoProduto(produto);
+        simulacao.setValorDesejado(new BigDecimal("300.00"));
+        simulacao.setPrazo(24L);
+        simulacao.setValorTotalCredito(new BigDecimal("330.00"));
+        simulacao.setDataSimulacao(dia.atTime(10, 0));
+        simulacao.setDataReferencia(dia);
+        return simulacao;
+    }
+}
@@ -1,17 +1,31 @@
 package resource;
 
+import emprestimos.v1.domain.entity.local.Simulacao;
+import emprestimos.v1.service.ResumoDiarioProdutoService;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.junit.QuarkusMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 @DisplayName("Testes Unitários - SimulacaoResource")
 public class SimulacaoResourceTest {
 
+    @Inject
+    ResumoDiarioProdutoService resumoDiario;
+
     // TESTES PARA CRIAÇÃO DE SIMULAÇÃO
 
     @Test
@@ -37,6 +51,36 @@ public class SimulacaoResourceTest {
             .body("resultadoSimulacao.size()", greaterThan(0));
     }
 
+    @Test
+    @DisplayName("Deve manter um único link por parcela em consultas repetidas ao cronograma em cache")
+    void testBuscarParcelas_LinksNaoAcumulam() {
+        Integer id = given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 7000.00, \"prazo\": 6}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .extract().path("idSimulacao");
+
+        for (int i = 0; i < 3; i++) {
+            given()
+            .when()
+                .get("/v1/simulacoes/" + id + "/PRICE")
+            .then()
+                .statusCode(200)
+                .body("parcelas.size()", equalTo(6))
+                .body("parcelas[0].links.size()", equalTo(1));
+
+            given()
+            .when()
+                .get("/v1/simulacoes/" + id)
+            .then()
+                .statusCode(200)
+                .body("resultadosSimulacao[0].parcelas[0].links.size()", equalTo(1));
+        }
+    }
+
     @Test
     @DisplayName("Deve retornar erro 400 para campos obrigatórios ausentes")
     void testCriarSimulacao_MissingFields() {
@@ -426,4 +470,532 @@ public class SimulacaoResourceTest {
             .body("resultadoSimulacao", isA(java.util.List.class))
             .body("resultadoSimulacao.size()", greaterThan(0));
     }
+
+    // TESTES PARA CRIAÇÃO DE SIMULAÇÕES EM LOTE
+
+    @Test
+    @DisplayName("Deve criar simulações em lote com resultado ou erro por item, na ordem de entrada")
+    void testCriarSimulacoesEmLote_ResultadosPorItem() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" +
+                    "{\"valorDesejado\": 900.00, \"prazo\": 5}, " +
+                    "{\"valorDesejado\": -100, \"prazo\": 0}, " +
+                    "{\"valorDesejado\": 0.50, \"prazo\": 12}, " +
+                    "{\"valorDesejado\": 10000.00, \"prazo\": 12}" +
+                    "]")
+        .when()
+            .post("/v1/simulacoes/lote")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("quantidadeTotal", equalTo(4))
+            .body("quantidadeSucesso", equalTo(2))
+            .body("quantidadeErro", equalTo(2))
+            .body("itens.indice", contains(0, 1, 2, 3))
+            .body("itens.status", contains("SUCESSO", "ERRO", "ERRO", "SUCESSO"))
+            .body("itens[0].simulacao.idSimulacao", notNullValue())
+            .body("itens[0].simulacao.resultadoSimulacao.size()", equalTo(2))
+            .body("itens[1].erro.codigo", equalTo("VALIDATION_ERROR"))
+            .body("itens[2].erro.codigo", equalTo("PRODUCTS_NOT_ELIGIBLE"))
+            .body("itens[3].simulacao.idSimulacao", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar lote em NDJSON e reportar linhas mal formatadas como erro do item")
+    void testCriarSimulacoesEmLote_Ndjson() {
+        given()
+            .contentType("application/x-ndjson")
+            .accept(ContentType.JSON)
+            .body("{\"valorDesejado\": 900.00, \"prazo\": 5}\n" +
+                  "nao-e-json\n" +
+                  "\n" +
+                  "{\"valorDesejado\": 5000.00, \"prazo\": 10}\n")
+        .when()
+            .post("/v1/simulacoes/lote")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("quantidadeTotal", equalTo(3))
+            .body("itens.status", contains("SUCESSO", "ERRO", "SUCESSO"))
+            .body("itens[1].erro.codigo", equalTo("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote em NDJSON acima do tamanho máximo sem processar os itens")
+    void testCriarSimulacoesEmLote_NdjsonAcimaDoLimite() {
+        given()
+            .contentType("application/x-ndjson")
+            .accept(ContentType.JSON)
+            .body("{\"valorDesejado\": 900.00, \"prazo\": 5}\n".repeat(5_000))
+        .when()
+            .post("/v1/simulacoes/lote")
+        .then()
+            .statusCode(400)
+            .contentType(ContentType.JSON)
+            .body("codigo", equalTo("LIMIT_EXCEEDED"));
+    }
+
+    @Test
+    @DisplayName("Deve desfazer apenas o bloco cuja gravação falhou e reportar erro nos itens dele")
+    void testCriarSimulacoesEmLote_FalhaNaGravacaoDeUmBloco() {
+        // Blocos de 2 simulações no perfil de teste; o resumo diário falha no bloco do valor 777.77
+        var valorComFalha = new BigDecimal("777.77");
+        var resumoReal = ClientProxy.unwrap(resumoDiario);
+        QuarkusMock.installMockForType(new ResumoDiarioProdutoService() {
+            @Override
+            public void prepararLinha(LocalDate dia, Integer coProduto) {
+                resumoReal.prepararLinha(dia, coProduto);
+            }
+
+            @Override
+            public void registrar(List<Simulacao> simulacoes) {
+                if (simulacoes.stream().anyMatch(simulacao -> valorComFalha.compareTo(simulacao.getValorDesejado()) == 0)) {
+                    throw new IllegalStateException("Falha ao gravar o resumo diário");
+                }
+                resumoReal.registrar(simulacoes);
+            }
+        }, ResumoDiarioProdutoService.class);
+
+        Integer gravada = given()
+            .contentType(ContentType.JSON)
+            .body("[" +
+                    "{\"valorDesejado\": 900.00, \"prazo\": 5}, " +
+                    "{\"valorDesejado\": 10000.00, \"prazo\": 12}, " +
+                    "{\"valorDesejado\": 777.77, \"prazo\": 6}, " +
+                    "{\"valorDesejado\": 5000.00, \"prazo\": 10}" +
+                    "]")
+        .when()
+            .post("/v1/simulacoes/lote")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("quantidadeSucesso", equalTo(2))
+            .body("quantidadeErro", equalTo(2))
+            .body("itens.status", contains("SUCESSO", "SUCESSO", "ERRO", "ERRO"))
+            .body("itens[2].erro.codigo", equalTo("PROCESSING_ERROR"))
+            .body("itens[3].erro.codigo", equalTo("PROCESSING_ERROR"))
+            .extract().path("itens[1].simulacao.idSimulacao");
+
+        given()
+        .when()
+            .get("/v1/simulacoes/" + gravada)
+        .then()
+            .statusCode(200);
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 para lote vazio")
+    void testCriarSimulacoesEmLote_Vazio() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("[]")
+        .when()
+            .post("/v1/simulacoes/lote")
+        .then()
+            .statusCode(400)
+            .contentType(ContentType.JSON)
+            .body("codigo", equalTo("INVALID_PARAMETERS"));
+    }
+
+    // TESTES PARA GRADE DE COTAÇÕES
+
+    @Test
+    @DisplayName("Deve calcular a grade valor × prazo com produto e resumos SAC e PRICE por célula")
+    void testSimularGrade_Sucesso() {
+        given()
+            .queryParam("valorMinimo", "5000.00")
+            .queryParam("valorMaximo", "15000.00")
+            .queryParam("valorPasso", "5000.00")
+            .queryParam("prazoMinimo", "12")
+            .queryParam("prazoMaximo", "36")
+            .queryParam("prazoPasso", "12")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/grade")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("prazos", contains(12, 24, 36))
+            .body("linhas.size()", equalTo(3))
+            .body("linhas[0].celulas.size()", equalTo(3))
+            .body("linhas[0].celulas[0].elegivel", equalTo(true))
+            .body("linhas[0].celulas[0].codigoProduto", notNullValue())
+            .body("linhas[0].celulas[0].sac.primeiraPrestacao", notNullValue())
+            .body("linhas[0].celulas[0].price.valorTotal", notNullValue())
+            .body("linhas[2].celulas[0].elegivel", equalTo(false))
+            .body("linhas[2].celulas[0].sac", nullValue());
+    }
+
+    @Test
+    @DisplayName("Deve retornar os mesmos valores de uma simulação criada com os mesmos parâmetros")
+    void testSimularGrade_ConsistenteComSimulacao() {
+        float primeiraPrestacaoSac = given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 10000.00, \"prazo\": 24}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .extract().path("resultadoSimulacao.find { it.tipo == 'SAC' }.parcelas[0].valorPrestacao");
+
+        given()
+            .queryParam("valorMinimo", "10000.00")
+            .queryParam("valorMaximo", "10000.00")
+            .queryParam("valorPasso", "1000.00")
+            .queryParam("prazoMinimo", "24")
+            .queryParam("prazoMaximo", "24")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/grade")
+        .then()
+            .statusCode(200)
+            .body("linhas[0].celulas[0].sac.primeiraPrestacao", equalTo(primeiraPrestacaoSac));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 para faixa invertida ou grade acima do máximo de células")
+    void testSimularGrade_ParametrosInvalidos() {
+        given()
+            .queryParam("valorMinimo", "20000.00")
+            .queryParam("valorMaximo", "10000.00")
+            .queryParam("valorPasso", "1000.00")
+            .queryParam("prazoMinimo", "12")
+            .queryParam("prazoMaximo", "24")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/grade")
+        .then()
+            .statusCode(400)
+            .body("codigo", equalTo("INVALID_PARAMETERS"));
+
+        given()
+            .queryParam("valorMinimo", "200.00")
+            .queryParam("valorMaximo", "1000000.00")
+            .queryParam("valorPasso", "1.00")
+            .queryParam("prazoMinimo", "1")
+            .queryParam("prazoMaximo", "96")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/grade")
+        .then()
+            .statusCode(400)
+            .body("codigo", equalTo("LIMIT_EXCEEDED"));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o maior valor para a prestação máxima no prazo informado")
+    void testSimulacaoInversa_ValorMaximo() {
+        given()
+            .queryParam("prestacaoMaxima", "1000.00")
+            .queryParam("prazo", "36")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(200)
+            .body("objetivo", equalTo("VALOR_MAXIMO"))
+            .body("tipoAmortizacao", equalTo("PRICE"))
+            .body("prazo", equalTo(36))
+            .body("codigoProduto", equalTo(2))
+            .body("maiorPrestacao", lessThanOrEqualTo(1000.0f))
+            .body("valorDesejado", greaterThan(10000.0f))
+            .body("links.self", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o menor prazo para a prestação máxima e o valor informado")
+    void testSimulacaoInversa_PrazoMinimo() {
+        given()
+            .queryParam("prestacaoMaxima", "1000.00")
+            .queryParam("valorDesejado", "10000.00")
+            .queryParam("tipoAmortizacao", "price")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(200)
+            .body("objetivo", equalTo("PRAZO_MINIMO"))
+            .body("prazo", equalTo(12))
+            .body("codigoProduto", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 sem prazo nem valor ou quando nenhum produto atende")
+    void testSimulacaoInversa_Invalida() {
+        given()
+            .queryParam("prestacaoMaxima", "1000.00")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(400)
+            .body("codigo", equalTo("INVALID_PARAMETERS"));
+
+        given()
+            .queryParam("prestacaoMaxima", "1.00")
+            .queryParam("prazo", "12")
+            .queryParam("tipoAmortizacao", "SAC")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(400)
+            .body("codigo", equalTo("INSTALLMENT_NOT_ATTAINABLE"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 para prazo ou prestação acima do limite no cálculo inverso")
+    void testSimulacaoInversa_AcimaDoLimite() {
+        given()
+            .queryParam("prestacaoMaxima", "1000.00")
+            .queryParam("prazo", "601")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("prestacaoMaxima", "1e30")
+            .queryParam("prazo", "600")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/inversa")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Deve informar a versão e a idade do catálogo de produtos nos cabeçalhos")
+    void testSimularEmprestimo_CabecalhosCatalogo() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 10000.00, \"prazo\": 24}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .header("X-Catalogo-Versao", notNullValue())
+            .header("X-Catalogo-Idade", notNullValue())
+            .header("X-Catalogo-Desatualizado", equalTo("false"));
+    }
+
+    @Test
+    @DisplayName("Deve filtrar as simulações do dia pelo produto gravado na criação")
+    void testBuscarSimulacoesPorProdutoDia_ProdutoGravado() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 5000.00, \"prazo\": 12}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .body("codigoProduto", equalTo(1));
+
+        given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .body("dataReferencia", equalTo(java.time.LocalDate.now().toString()))
+            .body("simulacoes.size()", greaterThan(0))
+            .body("simulacoes.codigoProduto", everyItem(equalTo(1)));
+
+        given()
+            .queryParam("produtoId", 2)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .body("simulacoes.codigoProduto", everyItem(equalTo(2)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar um item agregado por produto no resumo do dia")
+    void testBuscarResumoPorProdutoDia() {
+        for (int i = 0; i < 2; i++) {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"valorDesejado\": 3000.00, \"prazo\": 10}")
+            .when()
+                .post("/v1/simulacoes")
+            .then()
+                .statusCode(200);
+        }
+
+        given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia/agregado")
+        .then()
+            .statusCode(200)
+            .body("dataReferencia", equalTo(java.time.LocalDate.now().toString()))
+            .body("simulacoes.size()", equalTo(1))
+            .body("simulacoes[0].codigoProduto", equalTo(1))
+            .body("simulacoes[0].valorTotalDesejado", greaterThanOrEqualTo(6000.0f))
+            .body("simulacoes[0].taxaMediaJuro", equalTo(0.0179f))
+            .body("links.simulacoes", containsString("/v1/simulacoes/por-produto-dia?produtoId=1"));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem pelo cursor do link proximaPagina")
+    void testListarSimulacoes_Cursor() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"valorDesejado\": 5000.00, \"prazo\": 10}")
+            .when()
+                .post("/v1/simulacoes")
+            .then()
+                .statusCode(200);
+        }
+
+        String proximaPagina = given()
+            .queryParam("qtdRegistrosPagina", 2)
+        .when()
+            .get("/v1/simulacoes")
+        .then()
+            .statusCode(206)
+            .body("registros.size()", equalTo(2))
+            .body("links.proximaPagina", containsString("cursor="))
+            .extract().path("links.proximaPagina");
+
+        java.util.List<Integer> idsPorPagina = given()
+            .queryParam("pagina", 2)
+            .queryParam("qtdRegistrosPagina", 2)
+        .when()
+            .get("/v1/simulacoes")
+        .then()
+            .statusCode(206)
+            .extract().path("registros.idSimulacao");
+
+        given()
+        .when()
+            .get(proximaPagina)
+        .then()
+            .statusCode(206)
+            .body("pagina", equalTo(2))
+            .body("qtdRegistrosPagina", equalTo(2))
+            .body("registros.idSimulacao", equalTo(idsPorPagina))
+            .body("links.paginaAnterior", containsString("pagina=1"));
+
+        given()
+            .queryParam("cursor", "invalido")
+        .when()
+            .get("/v1/simulacoes")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Deve devolver em NDJSON as mesmas simulações por produto e dia")
+    void testBuscarSimulacoesPorProdutoDia_Ndjson() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 5000.00, \"prazo\": 12}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200);
+
+        List<Integer> produtos = given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .extract().path("simulacoes.codigoProduto");
+
+        String corpo = given()
+            .accept("application/x-ndjson")
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .header("X-Data-Referencia", equalTo(LocalDate.now().toString()))
+            .extract().asString();
+
+        var linhas = corpo.lines().filter(linha -> !linha.isBlank()).toList();
+        assertEquals(produtos.size(), linhas.size());
+        linhas.forEach(linha -> assertTrue(
+            linha.startsWith("{") && linha.contains("\"codigoProduto\":1"), linha));
+
+        given()
+            .accept("application/x-ndjson")
+            .queryParam("produtoId", 999999)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Deve manter a lista e o resumo do dia corrente coerentes com as simulações criadas")
+    void testBuscarSimulacoesPorProdutoDia_DiaCorrenteEmMemoria() {
+        int antes = given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .extract().path("simulacoes.size()");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"valorDesejado\": 4000.00, \"prazo\": 10}")
+        .when()
+            .post("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .body("codigoProduto", equalTo(1));
+
+        java.util.List<Float> desejados = given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .body("simulacoes.size()", equalTo(antes + 1))
+            .extract().path("simulacoes.valorTotalDesejado");
+        double totalLista = desejados.stream().mapToDouble(Float::doubleValue).sum();
+
+        float totalResumo = given()
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia/agregado")
+        .then()
+            .statusCode(200)
+            .extract().path("simulacoes[0].valorTotalDesejado");
+        org.junit.jupiter.api.Assertions.assertEquals(totalLista, totalResumo, 1.0);
+
+        given()
+            .queryParam("data", java.time.LocalDate.now().minusDays(1).toString())
+            .queryParam("produtoId", 1)
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200)
+            .body("dataReferencia", equalTo(java.time.LocalDate.now().minusDays(1).toString()));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar prazos da grade acima do limite antes de gerar a grade")
+    void testSimularGrade_PrazoAcimaDoLimite() {
+        given()
+            .queryParam("valorMinimo", "10000.00")
+            .queryParam("valorMaximo", "10000.00")
+            .queryParam("valorPasso", "1000.00")
+            .queryParam("prazoMinimo", "1")
+            .queryParam("prazoMaximo", String.valueOf(Integer.MAX_VALUE))
+            .queryParam("prazoPasso", "1")
+            .accept(ContentType.JSON)
+        .when()
+            .get("/v1/simulacoes/grade")
+        .then()
+            .statusCode(400);
+    }
 }